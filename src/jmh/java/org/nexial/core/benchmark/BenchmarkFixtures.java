@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.benchmark;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+/**
+ * generators of realistic (and reproducible) benchmark data. All generators use a fixed seed so that the same
+ * data is produced across runs, which keeps the benchmark results comparable between builds.
+ */
+public final class BenchmarkFixtures {
+    public static final String[] STATES = {"AZ", "CA", "CO", "NV", "NY", "OR", "TX", "WA"};
+    public static final String[] CATEGORIES = {"Books", "Garden", "Home Improvement", "Music", "Outdoor", "Toys"};
+    private static final long SEED = 20121231L;
+
+    private BenchmarkFixtures() { }
+
+    /** CSV with header {@code ID,NAME,STATE,CATEGORY,QTY,AMOUNT}, sorted by {@code ID} */
+    public static String csv(int rows) { return csv(rows, 0); }
+
+    /**
+     * same as {@link #csv(int)}, but with {@code mismatchEvery}-th row altered (0 for no alteration), as to
+     * simulate the "actual" side of a comparison.
+     */
+    public static String csv(int rows, int mismatchEvery) {
+        Random random = new Random(SEED);
+        StringBuilder csv = new StringBuilder("ID,NAME,STATE,CATEGORY,QTY,AMOUNT\n");
+        for (int i = 1; i <= rows; i++) {
+            int qty = 1 + random.nextInt(50);
+            String amount = String.format("%.2f", random.nextDouble() * 1000);
+            if (mismatchEvery > 0 && i % mismatchEvery == 0) { qty++; }
+            csv.append(String.format("%08d", i)).append(",")
+               .append("Customer ").append(i).append(",")
+               .append(STATES[random.nextInt(STATES.length)]).append(",")
+               .append(CATEGORIES[random.nextInt(CATEGORIES.length)]).append(",")
+               .append(qty).append(",")
+               .append(amount).append("\n");
+        }
+        return csv.toString();
+    }
+
+    /** JSON document of {@code orders} orders, each with a customer, a shipping address and a few line items */
+    public static JSONObject json(int orders) {
+        Random random = new Random(SEED);
+        JSONArray orderArray = new JSONArray();
+        for (int i = 1; i <= orders; i++) {
+            JSONArray items = new JSONArray();
+            int itemCount = 1 + random.nextInt(5);
+            for (int j = 1; j <= itemCount; j++) {
+                items.put(new JSONObject().put("sku", "SKU-" + (1000 + random.nextInt(9000)))
+                                          .put("category", CATEGORIES[random.nextInt(CATEGORIES.length)])
+                                          .put("qty", 1 + random.nextInt(10))
+                                          .put("price", Math.round(random.nextDouble() * 10000) / 100.0));
+            }
+
+            orderArray.put(new JSONObject().put("id", i)
+                                           .put("customer", "Customer " + i)
+                                           .put("status", random.nextBoolean() ? "SHIPPED" : "PENDING")
+                                           .put("address", new JSONObject()
+                                               .put("street", i + " Main St.")
+                                               .put("state", STATES[random.nextInt(STATES.length)]))
+                                           .put("items", items));
+        }
+        return new JSONObject().put("store", "benchmark").put("orders", orderArray);
+    }
+
+    /** Excel file with a single worksheet ({@code Data}) of {@code rows} x {@code columns} text cells */
+    public static File excel(int rows, int columns) throws IOException {
+        Random random = new Random(SEED);
+        File file = File.createTempFile("nexial-benchmark-", ".xlsx");
+        file.deleteOnExit();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            XSSFSheet sheet = workbook.createSheet("Data");
+            for (int i = 0; i < rows; i++) {
+                XSSFRow row = sheet.createRow(i);
+                for (int j = 0; j < columns; j++) {
+                    row.createCell(j).setCellValue(i == 0 ? "Column " + (j + 1) : "R" + i + "C" + random.nextInt(1000));
+                }
+            }
+            workbook.write(out);
+        }
+
+        return file;
+    }
+}
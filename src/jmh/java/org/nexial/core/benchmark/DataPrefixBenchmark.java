@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.benchmark;
+
+import org.apache.commons.collections4.map.ListOrderedMap;
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.model.MockExecutionContext;
+import org.nexial.core.model.PrefixIndexedMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * prefix lookup over a data variable store the size of a large data file: a scan over
+ * {@link ListOrderedMap} (the previous store of {@link org.nexial.core.model.ExecutionContext}) versus
+ * {@link PrefixIndexedMap}, and {@link org.nexial.core.model.ExecutionContext#getDataByPrefix(String)} end to end.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataPrefixBenchmark {
+    private static final String PREFIX = "nexial.ws.";
+
+    @Param({"1000", "10000"})
+    private int variableCount;
+
+    private Map<String, Object> listOrdered;
+    private PrefixIndexedMap<Object> indexed;
+    private MockExecutionContext context;
+
+    @Setup
+    public void setup() {
+        listOrdered = new ListOrderedMap<>();
+        indexed = new PrefixIndexedMap<>();
+        context = new MockExecutionContext();
+
+        Random random = new Random(20121231L);
+        for (int i = 0; i < variableCount; i++) {
+            String name = BenchmarkFixtures.CATEGORIES[random.nextInt(BenchmarkFixtures.CATEGORIES.length)]
+                              .replace(" ", "") + "." + i;
+            listOrdered.put(name, "value" + i);
+            indexed.put(name, "value" + i);
+            context.setData(name, "value" + i);
+        }
+
+        // a dozen profile configurations, as typically found in a project
+        for (int i = 0; i < 12; i++) {
+            listOrdered.put(PREFIX + "config" + i, "true");
+            indexed.put(PREFIX + "config" + i, "true");
+            context.setData(PREFIX + "config" + i, "true");
+        }
+    }
+
+    @TearDown
+    public void tearDown() { context.cleanProject(); }
+
+    @Benchmark
+    public Map<String, Object> scanListOrderedMap() {
+        Map<String, Object> matches = new LinkedHashMap<>();
+        listOrdered.forEach((key, value) -> {
+            if (StringUtils.startsWith(key, PREFIX)) { matches.put(StringUtils.substringAfter(key, PREFIX), value); }
+        });
+        return matches;
+    }
+
+    @Benchmark
+    public Map<String, Object> prefixIndexedMap() {
+        Map<String, Object> matches = new LinkedHashMap<>();
+        indexed.forEachWithPrefix(PREFIX, (key, value) -> matches.put(StringUtils.substringAfter(key, PREFIX), value));
+        return matches;
+    }
+
+    @Benchmark
+    public Map<String, String> getDataByPrefix() { return context.getDataByPrefix(PREFIX); }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.benchmark;
+
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.nexial.core.excel.Excel;
+import org.nexial.core.excel.Excel.Worksheet;
+import org.nexial.core.excel.ExcelAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** {@link Worksheet#cells(ExcelAddress)} and {@link Worksheet#readRange(ExcelAddress)} over a generated worksheet */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelBenchmark {
+    private static final int COLUMNS = 20;
+
+    @Param({"500", "10000"})
+    public int rows;
+
+    private File file;
+    private Excel excel;
+    private Worksheet worksheet;
+    private ExcelAddress range;
+
+    @Setup
+    public void setup() throws IOException {
+        file = BenchmarkFixtures.excel(rows, COLUMNS);
+        excel = new Excel(file, false, false);
+        worksheet = excel.worksheet("Data");
+        range = new ExcelAddress("A1:T" + rows);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        excel.close();
+        file.delete();
+    }
+
+    @Benchmark
+    public List<List<XSSFCell>> cells() { return worksheet.cells(range); }
+
+    @Benchmark
+    public List<List<String>> readRange() { return worksheet.readRange(range); }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.benchmark;
+
+import org.nexial.core.model.MockExecutionContext;
+import org.nexial.core.variable.ExpressionException;
+import org.nexial.core.variable.ExpressionProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExpressionProcessor#process(String)} for simple expressions, and the CSV transformations commonly used in
+ * data-driven tests ({@code filter}, {@code groupSum}, {@code merge}) over CSV of realistic sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+    @Param({"100", "5000"})
+    public int rows;
+
+    private MockExecutionContext context;
+    private ExpressionProcessor processor;
+    private String csv;
+
+    @Setup
+    public void setup() {
+        context = new MockExecutionContext();
+        processor = new ExpressionProcessor(context);
+        csv = BenchmarkFixtures.csv(rows);
+        context.setData("csv1", csv);
+        context.setData("csv2", "[CSV(" + BenchmarkFixtures.csv(rows, 10) + ") => parse(header=true)]");
+    }
+
+    @TearDown
+    public void tearDown() { context.cleanProject(); }
+
+    @Benchmark
+    public String textExpression() throws ExpressionException {
+        return processor.process("[TEXT(hello world, what's up?) => upper replace(WORLD,there) length]");
+    }
+
+    @Benchmark
+    public String csvFilter() throws ExpressionException {
+        return processor.process("[CSV(" + csv + ") => parse(header=true) filter(STATE = CA) size]");
+    }
+
+    @Benchmark
+    public String csvGroupSum() throws ExpressionException {
+        return processor.process("[CSV(" + csv + ") => parse(header=true) groupSum(STATE,AMOUNT) text]");
+    }
+
+    @Benchmark
+    public String csvMerge() {
+        return context.replaceTokens("[CSV(${csv1}) => parse(header=true) merge(csv2,ID) size]");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.benchmark;
+
+import org.json.JSONObject;
+import org.nexial.core.plugins.json.JsonCache;
+import org.nexial.core.plugins.json.JsonCommand;
+import org.nexial.core.utils.JSONPath;
+import org.nexial.core.utils.JSONPath.Compiled;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JSONPath#find(JSONObject, String)} over a generated order document of realistic size, against the same
+ * paths in their {@link Compiled} form, and the parse-then-find cycle of each {@literal json.*} step with and without
+ * {@link JsonCache}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPathBenchmark {
+    @Param({"100", "2000"})
+    public int orders;
+
+    private JSONObject json;
+    private String jsonText;
+    private String indexedPathExpr;
+    private Compiled indexedPathCompiled;
+    private Compiled allValuesCompiled;
+    private Compiled filterAndCountCompiled;
+
+    @Setup
+    public void setup() {
+        json = BenchmarkFixtures.json(orders);
+        jsonText = json.toString();
+        indexedPathExpr = "orders[" + (orders / 2) + "].address.state";
+        indexedPathCompiled = JSONPath.compile(indexedPathExpr);
+        allValuesCompiled = JSONPath.compile("orders.customer");
+        filterAndCountCompiled = JSONPath.compile("orders[status=SHIPPED] => count");
+    }
+
+    @Benchmark
+    public String indexedPath() { return JSONPath.find(json, "orders[" + (orders / 2) + "].address.state"); }
+
+    @Benchmark
+    public String allValues() { return JSONPath.find(json, "orders.customer"); }
+
+    @Benchmark
+    public String filterAndCount() { return JSONPath.find(json, "orders[status=SHIPPED] => count"); }
+
+    @Benchmark
+    public String indexedPathCompiled() { return indexedPathCompiled.find(json); }
+
+    @Benchmark
+    public String allValuesCompiled() { return allValuesCompiled.find(json); }
+
+    @Benchmark
+    public String filterAndCountCompiled() { return filterAndCountCompiled.find(json); }
+
+    /** what each {@literal json.*} step used to do: parse payload, then parse and evaluate path */
+    @Benchmark
+    public String parseAndFind() {
+        return JSONPath.find((JSONObject) JsonCommand.resolveToJSONObject(jsonText), indexedPathExpr);
+    }
+
+    @Benchmark
+    public String parseAndFindCached() {
+        JsonCache cache = JsonCache.getInstance();
+        return cache.compile(indexedPathExpr).find(cache.parse(jsonText, JsonCommand::resolveToJSONObject));
+    }
+}
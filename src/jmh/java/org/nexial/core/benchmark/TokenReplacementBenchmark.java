@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.benchmark;
+
+import org.nexial.core.model.MockExecutionContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link org.nexial.core.model.ExecutionContext#replaceTokens(String)} over the typical shapes of step parameters:
+ * plain text, a handful of simple variables, list index references and a mix with built-in functions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenReplacementBenchmark {
+    private MockExecutionContext context;
+
+    @Setup
+    public void setup() {
+        context = new MockExecutionContext();
+        context.setData("firstName", "Johnny");
+        context.setData("lastName", "Doe");
+        context.setData("account", "000123456789");
+        context.setData("baseUrl", "https://localhost:8443/api/v2");
+        context.setData("states", String.join(",", BenchmarkFixtures.STATES));
+        context.setData("amounts", Arrays.asList("10.25", "11.50", "99.99", "1024.00"));
+    }
+
+    @TearDown
+    public void tearDown() { context.cleanProject(); }
+
+    @Benchmark
+    public String plainText() {
+        return context.replaceTokens("Verify that the account summary page is displayed with no error");
+    }
+
+    @Benchmark
+    public String simpleTokens() {
+        return context.replaceTokens("${baseUrl}/customers/${account}?first=${firstName}&last=${lastName}");
+    }
+
+    @Benchmark
+    public String indexReference() {
+        return context.replaceTokens("first state is ${states}[0], last state is ${states}[7]");
+    }
+
+    @Benchmark
+    public String collectionToken() { return context.replaceTokens("largest amount is ${amounts}[3]"); }
+
+    @Benchmark
+    public String builtinFunction() {
+        return context.replaceTokens("${firstName} logged in on $(sysdate|now|yyyy-MM-dd)");
+    }
+}
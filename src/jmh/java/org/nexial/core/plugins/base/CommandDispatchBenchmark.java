@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.base;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.model.MockExecutionContext;
+import org.nexial.core.model.StepResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.nexial.core.CommandConst.PARAM_DERIVED_COMMANDS;
+import static org.nexial.core.CommandConst.autoFillParamCommands;
+
+/**
+ * framework overhead of command dispatch: {@link BaseCommand#execute(String, String...)} (via pre-bound
+ * {@link CommandHandle}) against the reflective path it replaced - per-step method lookup by command name and
+ * parameter count, parameter resolution and {@link Method#invoke(Object, Object...)}. Located in the same package as
+ * {@link CommandHandle} since it is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandDispatchBenchmark {
+    private static final String COMMAND = "save(var,value)";
+    private static final String[] PARAMS = {"greeting", "Hello ${name}"};
+
+    private MockExecutionContext context;
+    private BaseCommand command;
+    // command methods by name, as collected by BaseCommand prior to the dispatch table
+    private final Map<String, Method> commandMethods = new HashMap<>();
+
+    @Setup
+    public void setup() {
+        context = new MockExecutionContext();
+        context.setData("name", "Johnny");
+        command = new BaseCommand();
+        command.init(context);
+        command.prepareDispatch();
+
+        for (Method m : command.getClass().getDeclaredMethods()) {
+            if (Modifier.isPublic(m.getModifiers()) &&
+                !Modifier.isStatic(m.getModifiers()) &&
+                StepResult.class.isAssignableFrom(m.getReturnType()) &&
+                !StringUtils.equals(m.getName(), "execute")) {
+                commandMethods.put(m.getName(), m);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() { context.cleanProject(); }
+
+    @Benchmark
+    public StepResult methodHandle() throws InvocationTargetException, IllegalAccessException {
+        return command.execute(COMMAND, PARAMS);
+    }
+
+    @Benchmark
+    public StepResult reflection() throws InvocationTargetException, IllegalAccessException {
+        Method m = lookupCommandMethod(COMMAND, PARAMS);
+        Object[] values = command.resolveParamValues(m, PARAMS);
+        StepResult result = (StepResult) m.invoke(command, values);
+        String methodName = StringUtils.substringBefore(StringUtils.substringBefore(COMMAND, "("), ".");
+        if (!PARAM_DERIVED_COMMANDS.contains(command.getTarget() + "." + methodName)) {
+            result.setParamValues(values);
+        }
+        return result;
+    }
+
+    /** method lookup of each step prior to {@link CommandHandle} */
+    private Method lookupCommandMethod(String cmd, String... params) {
+        String methodName = StringUtils.substringBefore(StringUtils.substringBefore(cmd, "("), ".");
+        if (!commandMethods.containsKey(methodName)) { throw new IllegalArgumentException("Unknown command " + cmd); }
+
+        Method m = commandMethods.get(methodName);
+        if (autoFillParamCommands.contains(command.getTarget() + "." + methodName)) { return m; }
+        if (ArrayUtils.getLength(params) == m.getParameterCount()) { return m; }
+        throw new IllegalArgumentException("MISMATCHED parameters - " + command.getTarget() + "." + methodName);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.io;
+
+import org.nexial.core.IntegrationConfigException;
+import org.nexial.core.benchmark.BenchmarkFixtures;
+import org.nexial.core.model.MockExecutionContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CsvExtendedComparison#compare()} of 2 generated CSV, where every 10th row of "actual" differs from
+ * "expected". Located in the same package as {@link CsvExtendedComparison} since it is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvExtendedComparisonBenchmark {
+    @Param({"1000", "20000"})
+    public int rows;
+
+    private MockExecutionContext context;
+    private String expected;
+    private String actual;
+
+    @Setup
+    public void setup() {
+        context = new MockExecutionContext();
+        expected = BenchmarkFixtures.csv(rows);
+        actual = BenchmarkFixtures.csv(rows, 10);
+    }
+
+    @TearDown
+    public void tearDown() { context.cleanProject(); }
+
+    @Benchmark
+    public CsvComparisonResult compare() throws IntegrationConfigException, IOException {
+        CsvExtendedComparison comparison = new CsvExtendedComparison();
+        comparison.setDelimiter(",");
+        comparison.setExpectedContent(expected);
+        comparison.setActualContent(actual);
+        comparison.setExpectedIdentityColumns(Collections.singletonList("ID"));
+        comparison.setActualIdentityColumns(Collections.singletonList("ID"));
+        comparison.setDisplayFields(Arrays.asList("ID", "NAME"));
+        comparison.setNumberFields(Arrays.asList("QTY", "AMOUNT"));
+        return comparison.compare();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.nexial.core.model.CompiledScript;
+import org.nexial.core.utils.ConsoleUtils;
+import org.nexial.core.utils.LruCache;
+
+import javax.validation.constraints.NotNull;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.nexial.core.NexialConst.Data.SHEET_SYSTEM;
+
+/**
+ * process-wide cache of {@link CompiledScript}, ie. the compiled form of a test script for a distinct scenario
+ * selection. A test script is pruned (all the worksheets not referenced by the execution removed) once, and its test
+ * steps compiled once, and then reused for every iteration. Hence
+ * {@link ExecutionInputPrep#prep(String, org.nexial.core.model.ExecutionDefinition, int)} no longer has to copy, open, prune, save and
+ * reopen the original script for each iteration, and {@link org.nexial.core.model.TestScenario} no longer has to
+ * read every step from the output file of each iteration.
+ * <p>
+ * Cache entries are validated against the script's last-modified timestamp and size, so that modification to the
+ * test script during execution (ie. interactive mode) would be picked up on the next iteration.
+ */
+public final class CompiledScriptCache {
+    private static final int MAX_ENTRIES = 32;
+    private static final long MAX_BUFFER = 64 * 1024 * 1024;
+    private static final CompiledScriptCache INSTANCE = new CompiledScriptCache();
+
+    private final LruCache<String, CompiledScript> scripts = new LruCache<>(MAX_ENTRIES);
+
+    private CompiledScriptCache() { }
+
+    @NotNull
+    public static CompiledScriptCache getInstance() { return INSTANCE; }
+
+    /**
+     * return the compiled form of {@code script}, whose content contains only the
+     * {@link NexialConst.Data#SHEET_SYSTEM} worksheet and the worksheets specified in {@code scenarios}.
+     */
+    @NotNull
+    public CompiledScript resolve(File script, List<String> scenarios) throws IOException {
+        String key = script.getAbsolutePath() + "|" + String.join("|", scenarios);
+
+        CompiledScript compiled = scripts.get(key);
+        if (compiled != null && compiled.isCurrent(script)) {
+            scripts.hit();
+            return compiled;
+        }
+
+        scripts.miss();
+        long lastModified = script.lastModified();
+        long length = script.length();
+        compiled = new CompiledScript(lastModified, length, prune(script, scenarios));
+        scripts.put(key, compiled);
+        return compiled;
+    }
+
+    public void clear() { scripts.clear(); }
+
+    public long getHits() { return scripts.getHits(); }
+
+    public long getMisses() { return scripts.getMisses(); }
+
+    public String summarize() { return scripts.summarize("compiled"); }
+
+    private static byte[] prune(File script, List<String> scenarios) throws IOException {
+        ConsoleUtils.log("pruning test script " + script);
+        try (InputStream in = new FileInputStream(script);
+             XSSFWorkbook workbook = new XSSFWorkbook(in);
+             ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(script.length() * 2, MAX_BUFFER))) {
+            // remove the latter ones first so that we don't need to deal with shift in positions
+            for (int i = workbook.getNumberOfSheets() - 1; i >= 0; i--) {
+                XSSFSheet sheet = workbook.getSheetAt(i);
+                String sheetName = sheet.getSheetName();
+                if (!StringUtils.equals(sheetName, SHEET_SYSTEM) && !scenarios.contains(sheetName)) {
+                    workbook.removeSheetAt(i);
+                }
+            }
+
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -17,16 +17,16 @@
 
 package org.nexial.core;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.xssf.usermodel.*;
 import org.nexial.commons.utils.FileUtil;
 import org.nexial.core.excel.Excel;
-import org.nexial.core.excel.Excel.Worksheet;
+import org.nexial.core.excel.ExcelStreamReader;
 import org.nexial.core.excel.ExcelStyleHelper;
 import org.nexial.core.excel.ext.CellTextReader;
+import org.nexial.core.model.CompiledScript;
 import org.nexial.core.model.ExecutionDefinition;
 import org.nexial.core.model.ExecutionVariableConsole;
 import org.nexial.core.model.IterationManager;
@@ -42,11 +42,9 @@ import java.util.*;
 import static java.io.File.separator;
 import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
 import static org.nexial.core.NexialConst.Data.SHEET_MERGED_DATA;
-import static org.nexial.core.NexialConst.Data.SHEET_SYSTEM;
 import static org.nexial.core.NexialConst.ExitStatus.OUTPUT_LOCATION;
 import static org.nexial.core.NexialConst.Iteration.*;
 import static org.nexial.core.NexialConst.NAMESPACE;
-import static org.nexial.core.NexialConst.OPT_INPUT_EXCEL_FILE;
 import static org.nexial.core.NexialConst.Project.appendCapture;
 import static org.nexial.core.NexialConst.Project.appendLog;
 import static org.nexial.core.excel.ExcelConfig.*;
@@ -65,6 +63,17 @@ public class ExecutionInputPrep {
 
     /** called from {@link ExecutionThread} for each iteration. */
     public static Excel prep(String runId, ExecutionDefinition execDef, int iterationIndex) throws IOException {
+        return prep(runId, execDef, iterationIndex, newOutputFile(runId, execDef, iterationIndex));
+    }
+
+    /**
+     * create the output directory structure of {@code runId} and determine the output file of the specified
+     * iteration. The output file is not published as System property, since iterations might be executed
+     * concurrently; it is made available to the execution via
+     * {@link org.nexial.core.model.ExecutionContext#useTestScript(Excel)}.
+     */
+    public static File newOutputFile(String runId, ExecutionDefinition execDef, int iterationIndex)
+        throws IOException {
         assert StringUtils.isNotBlank(runId);
         assert execDef != null;
 
@@ -97,30 +106,40 @@ public class ExecutionInputPrep {
         outputFileName = OutputFileUtils.addTestPlan(outputFileName, execDef);
         File outputFile = new File(outputFileName);
 
-        FileUtils.copyFile(testScript, outputFile);
-        System.setProperty(OPT_INPUT_EXCEL_FILE, outputFileName);
-
-        // 3. remove unused sheets
-        List<String> scenarios = execDef.getScenarios();
-        List<Integer> unusedWorksheetIndices = new ArrayList<>();
-        Excel outputExcel = new Excel(outputFile, false, true);
+        // 6. now copy tmp to final location
+        // ConsoleUtils.log(runId, "copying tmp file to output file " + outputFile);
+        // FileUtils.copyFile(tmpFile, outputFile);
+        // FileUtils.deleteQuietly(tmpFile.getParentFile());
 
-        // collect the index of all unused worksheets
-        for (Worksheet worksheet : outputExcel.getWorksheetsStartWith("")) {
-            if (!StringUtils.equals(worksheet.getName(), SHEET_SYSTEM) && !scenarios.contains(worksheet.getName())) {
-                unusedWorksheetIndices.add(outputExcel.getWorkbook().getSheetIndex(worksheet.getSheet()));
+        // copy any existing JIT batch  (from nexial.sh only)
+        String jitBatchSource = System.getProperty("nexial.script");
+        if (StringUtils.isNotBlank(jitBatchSource) && FileUtil.isFileReadable(jitBatchSource, 800)) {
+            String jitBatchTarget = StringUtils.appendIfMissing(outBase, separator) + "nexial.sh";
+            if (!FileUtil.isFileReadable(jitBatchTarget, 800)) {
+                // didn't copy the file yet... time to do so
+                ConsoleUtils.log(runId, "copying just-in-time batch script to output");
+                FileUtils.copyFile(new File(jitBatchSource), new File(jitBatchTarget));
             }
         }
 
-        // remove the latter ones first so that we don't need to deal with shift in positions
-        if (CollectionUtils.isNotEmpty(unusedWorksheetIndices)) {
-            Collections.reverse(unusedWorksheetIndices);
-            for (Integer index : unusedWorksheetIndices) { outputExcel.getWorkbook().removeSheetAt(index); }
-            outputExcel.save();
-            // (2018/12/16,automike): memory consumption precaution
-            outputExcel.close();
-            outputExcel = new Excel(outputFile, false, true);
-        }
+        return outputFile;
+    }
+
+    /**
+     * merge the pruned form of the test script associated with {@code execDef} and the test data of the specified
+     * iteration into {@code outputFile}. Also used in load test mode, where each virtual user works off its own
+     * output file.
+     */
+    public static Excel prep(String runId, ExecutionDefinition execDef, int iterationIndex, File outputFile)
+        throws IOException {
+        File testScript = new File(execDef.getTestScript());
+
+        // 3. write the pruned script (unused sheets already removed) as output file, then open it just once.
+        // the script is compiled once per script/scenario selection and reused across iterations
+        CompiledScript compiled = CompiledScriptCache.getInstance().resolve(testScript, execDef.getScenarios());
+        execDef.setCompiledScript(compiled);
+        FileUtils.writeByteArrayToFile(outputFile, compiled.getContent());
+        Excel outputExcel = new Excel(outputFile, false, true);
 
         // 4. merge expanded test data to output file
         // this is necessary since the output directory (and final output file) could be remote
@@ -138,28 +157,9 @@ public class ExecutionInputPrep {
         mergeTestData(outputExcel, testData, iterationIndex);
         ConsoleUtils.log(runId, "test script and test data merged to " + outputFile);
 
-        // 6. now copy tmp to final location
-        // ConsoleUtils.log(runId, "copying tmp file to output file " + outputFile);
-        // FileUtils.copyFile(tmpFile, outputFile);
-        // FileUtils.deleteQuietly(tmpFile.getParentFile());
-
-        // copy any existing JIT batch  (from nexial.sh only)
-        String jitBatchSource = System.getProperty("nexial.script");
-        if (StringUtils.isNotBlank(jitBatchSource) && FileUtil.isFileReadable(jitBatchSource, 800)) {
-            String jitBatchTarget = StringUtils.appendIfMissing(outBase, separator) + "nexial.sh";
-            if (!FileUtil.isFileReadable(jitBatchTarget, 800)) {
-                // didn't copy the file yet... time to do so
-                ConsoleUtils.log(runId, "copying just-in-time batch script to output");
-                FileUtils.copyFile(new File(jitBatchSource), new File(jitBatchTarget));
-            }
-        }
-
-        // save it before use it
+        // save it before use it. No need to reopen since workbook was loaded into memory (not bound to the file)
         outputExcel.save();
-        // (2018/12/16,automike): memory consumption precaution
-        outputExcel.close();
-
-        return new Excel(outputFile, false, true);
+        return outputExcel;
     }
 
     public static boolean isTestStepDisabled(List<XSSFCell> row) {
@@ -182,6 +182,12 @@ public class ExecutionInputPrep {
         return isCellStrikeOut(cell, "data name");
     }
 
+    public static boolean isDataStepDisabled(ExcelStreamReader.Cell cell) {
+        if (cell == null || !cell.isStrikeOut()) { return false; }
+        ConsoleUtils.log("skipping data name in ROW " + (cell.getRowIndex() + 1) + " since it's disabled");
+        return true;
+    }
+
     public static boolean isPlanStepDisabled(XSSFRow row) {
         return isCellStrikeOut(row.getCell(COL_IDX_PLAN_TEST_SCRIPT), "plan step");
     }
@@ -198,9 +204,7 @@ public class ExecutionInputPrep {
         if (cell == null) { return false; }
 
         XSSFCellStyle cellStyle = cell.getCellStyle();
-        if (cellStyle == null) { return false; }
-
-        XSSFFont font = cellStyle.getFont();
+        XSSFFont font = cellStyle == null ? null : cellStyle.getFont();
         if (font == null || !font.getStrikeout()) { return false; }
 
         int rowNum = cell.getRowIndex() + 1;
@@ -209,7 +213,8 @@ public class ExecutionInputPrep {
     }
 
     private static Excel mergeTestData(Excel excel, TestData testData, int iterationIndex) {
-        XSSFSheet dataSheet = excel.getWorkbook().createSheet(SHEET_MERGED_DATA);
+        // create via Excel (not workbook) so that the new sheet is visible to the same Excel instance
+        XSSFSheet dataSheet = excel.worksheet(SHEET_MERGED_DATA, true).getSheet();
 
         XSSFWorkbook workbook = dataSheet.getWorkbook();
         XSSFCellStyle styleSystemDataName = ExcelStyleHelper.generate(workbook, PREDEF_TEST_DATA_NAME);
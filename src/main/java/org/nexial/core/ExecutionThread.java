@@ -20,7 +20,6 @@ package org.nexial.core;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.nexial.commons.logging.LogbackUtils;
@@ -30,6 +29,7 @@ import org.nexial.core.aws.NexialS3Helper;
 import org.nexial.core.excel.Excel;
 import org.nexial.core.logs.ExecutionLogger;
 import org.nexial.core.model.*;
+import org.nexial.core.plugins.web.ClientPerformanceCollector;
 import org.nexial.core.plugins.web.CloudWebTestingPlatform;
 import org.nexial.core.reports.ExecutionMailConfig;
 import org.nexial.core.reports.ExecutionReporter;
@@ -44,6 +44,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.io.File.separator;
 import static org.nexial.core.NexialConst.*;
@@ -86,6 +95,32 @@ public final class ExecutionThread extends Thread {
 
     // capture the data after an execution run (all iteration, all scenarios within 1 file)
     private Map<String, Object> intraExecutionData = new HashMap<>();
+    // executes the independent scenarios of all iterations; released once the script is completed
+    private final IndependentScenarioRunner independentScenarios = new IndependentScenarioRunner();
+
+    /** result of one iteration, to be merged into the script summary in the order of iterations */
+    private static final class IterationOutcome {
+        private final int iterationIndex;
+        private final int iterationRef;
+        private final ExecutionSummary summary;
+        private File testScriptFile;
+        private boolean stopNow;
+        // data variables at the end of a forked iteration
+        private Map<String, Object> intraData;
+
+        private IterationOutcome(int iterationIndex, int iterationRef, ExecutionSummary summary) {
+            this.iterationIndex = iterationIndex;
+            this.iterationRef = iterationRef;
+            this.summary = summary;
+        }
+
+        /** outcome of a parallel iteration that was not executed */
+        private static IterationOutcome skipped(int iterationIndex) {
+            return new IterationOutcome(iterationIndex, 0, null);
+        }
+
+        private boolean isSkipped() { return summary == null; }
+    }
 
     public static ExecutionContext get() { return THREAD_LOCAL.get(); }
 
@@ -128,10 +163,13 @@ public final class ExecutionThread extends Thread {
             context.setData(OPT_INPUT_PLAN_FILE, execDef.getPlanFile());
         }
 
+        context.setIndependentScenarioRunner(independentScenarios);
         ExecutionThread.set(context);
 
         // in case there were fail-immediate condition from previous script... or end-immediate condition
-        if (shouldFailNow(context) || BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false"))) {
+        if (shouldFailNow(context) || context.isEndScriptImmediate()) {
+            // execution thread might be pooled; don't leave this context behind
+            ExecutionThread.unset();
             return;
         }
 
@@ -156,104 +194,289 @@ public final class ExecutionThread extends Thread {
         executionSummary.setPlanFile(execDef.getPlanFile());
         executionSummary.setPlanDescription(execDef.getDescription());
 
-        for (int iterationIndex = 1; iterationIndex <= totalIterations; iterationIndex++) {
-            // SINGLE THREAD EXECUTION WITHIN FOR LOOP!
-            if (BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false"))) { break; }
+        int parallelIterations = resolveParallelIterations(context, totalIterations);
+        if (parallelIterations > 1) {
+            executeParallelIterations(context, iterationManager, parallelIterations);
+        } else {
+            for (int iterationIndex = 1; iterationIndex <= totalIterations; iterationIndex++) {
+                // SINGLE THREAD EXECUTION WITHIN FOR LOOP!
+                if (context.isEndScriptImmediate()) { break; }
 
-            int iterationRef = iterationManager.getIterationRef(iterationIndex - 1);
-            Excel testScript = null;
-            boolean allPass = true;
+                // we need to infuse "between" #default and whatever data sheets is assigned for this test script
+                execDef.infuseIntraExecutionData(intraExecutionData);
 
-            // we need to infuse "between" #default and whatever data sheets is assigned for this test script
-            execDef.infuseIntraExecutionData(intraExecutionData);
+                IterationOutcome outcome =
+                    executeIteration(context, iterationManager, iterationIndex, intraExecutionData);
+                ExecutionMailConfig.configure(context);
+                onIterationMerged(outcome);
+                if (outcome.stopNow) { break; }
+            }
+        }
 
-            ExecutionSummary iterSummary = new ExecutionSummary();
-            iterSummary.setName(iterationIndex + " of " + totalIterations);
-            iterSummary.setExecutionLevel(ITERATION);
-            iterSummary.setStartTime(System.currentTimeMillis());
-            iterSummary.setScriptFile(scriptLocation);
-            iterSummary.setIterationIndex(iterationIndex);
-            iterSummary.setIterationTotal(totalIterations);
+        onScriptComplete(context, executionSummary, iterationManager, ticktock);
 
-            try {
-                testScript = ExecutionInputPrep.prep(runId, execDef, iterationIndex);
-                iterSummary.setTestScript(testScript.getOriginalFile());
-                context.useTestScript(testScript);
-
-                context.startIteration(iterationIndex, iterationRef, totalIterations, firstScript);
-
-                ExecutionLogger logger = context.getLogger();
-                logPlan(context, scriptLocation, iterationIndex);
-
-                logger.log(context, EXECUTING_ITERATION + iterationIndex + " of " + totalIterations +
-                                    "; Iteration Id " + iterationRef);
-                allPass = context.execute();
-
-                onIterationComplete(context, iterSummary, iterationIndex);
-                if (shouldStopNow(context, allPass)) { break; }
-            } catch (Throwable e) {
-                onIterationException(context, iterSummary, iterationIndex, e);
-                if (shouldStopNow(context, allPass)) { break; }
-            } finally {
-                context.setData(ITERATION_ENDED, true);
-                iterSummary.setEndTime(System.currentTimeMillis());
-                context.setCurrentActivity(null);
-
-                File testScriptFile = null;
-                if (testScript == null) {
-                    // possibly the script prep/parsing routine failed (ie ExecutionInputPrep.prep()), but the output
-                    // file might already be generated. If so then we should use the generated output file and generate
-                    // output (as much as possible).
-                    String scriptOutputFullPath = context.getStringData(OPT_INPUT_EXCEL_FILE);
-                    if (StringUtils.isNotBlank(scriptOutputFullPath)) {testScriptFile = new File(scriptOutputFullPath);}
+        ExecutionThread.unset();
+        MemManager.recordMemoryChanges(scriptName + " completed");
+    }
+
+    /**
+     * execute one iteration of the current script with {@code context}, and collect its data variables into
+     * {@code intraData} once completed. The iteration summary is not yet added to the script summary; see
+     * {@link #onIterationMerged(IterationOutcome)}.
+     */
+    private IterationOutcome executeIteration(ExecutionContext context,
+                                              IterationManager iterationManager,
+                                              int iterationIndex,
+                                              Map<String, Object> intraData) {
+        String runId = execDef.getRunId();
+        String scriptLocation = execDef.getTestScript();
+        int totalIterations = iterationManager.getIterationCount();
+        int iterationRef = iterationManager.getIterationRef(iterationIndex - 1);
+        Excel testScript = null;
+        boolean allPass = true;
+
+        ExecutionSummary iterSummary = new ExecutionSummary();
+        iterSummary.setName(iterationIndex + " of " + totalIterations);
+        iterSummary.setExecutionLevel(ITERATION);
+        iterSummary.setStartTime(System.currentTimeMillis());
+        iterSummary.setScriptFile(scriptLocation);
+        iterSummary.setIterationIndex(iterationIndex);
+        iterSummary.setIterationTotal(totalIterations);
+
+        IterationOutcome outcome = new IterationOutcome(iterationIndex, iterationRef, iterSummary);
+
+        try {
+            testScript = prepIteration(context, runId, iterationIndex);
+            iterSummary.setTestScript(testScript.getOriginalFile());
+            context.useTestScript(testScript);
+
+            context.startIteration(iterationIndex, iterationRef, totalIterations, firstScript);
+
+            ExecutionLogger logger = context.getLogger();
+            logPlan(context, scriptLocation, iterationIndex);
+
+            logger.log(context, EXECUTING_ITERATION + iterationIndex + " of " + totalIterations +
+                                "; Iteration Id " + iterationRef);
+            allPass = context.execute();
+
+            onIterationComplete(context, iterSummary, iterationIndex);
+            outcome.stopNow = shouldStopNow(context, allPass);
+        } catch (Throwable e) {
+            onIterationException(context, iterSummary, iterationIndex, e);
+            outcome.stopNow = shouldStopNow(context, allPass);
+        } finally {
+            context.setData(ITERATION_ENDED, true);
+            iterSummary.setEndTime(System.currentTimeMillis());
+            context.setCurrentActivity(null);
+
+            File testScriptFile = null;
+            if (testScript == null) {
+                // possibly the script prep/parsing routine failed (ie ExecutionInputPrep.prep()), but the output
+                // file might already be generated. If so then we should use the generated output file and generate
+                // output (as much as possible).
+                String scriptOutputFullPath = context.getStringData(OPT_INPUT_EXCEL_FILE);
+                if (StringUtils.isNotBlank(scriptOutputFullPath)) {testScriptFile = new File(scriptOutputFullPath);}
+            } else {
+                testScriptFile = testScript.getFile();
+                // sync #data sheet with context
+                ExecutionResultHelper.updateOutputDataSheet(context, testScript);
+            }
+
+            String testScriptFileName = "UNKNOWN TEST SCRIPT";
+
+            if (FileUtil.isFileReadable(testScriptFile)) {
+                testScriptFileName = testScriptFile.getName();
+
+                // now the execution for this iteration is done. We'll add new execution summary page to its output.
+                iterSummary.setFailedFast(context.isFailFast());
+                iterSummary.aggregatedNestedExecutions(context);
+
+                // report status at iteration level
+                CloudWebTestingPlatform.reportCloudBrowserStatus(context, iterSummary, IterationComplete);
+
+                if (testScript != null) {
+                    iterSummary.generateExcelReport(testScript);
                 } else {
-                    testScriptFile = testScript.getFile();
-                    // sync #data sheet with context
-                    ExecutionResultHelper.updateOutputDataSheet(context, testScript);
+                    iterSummary.generateExcelReport(testScriptFile);
                 }
 
-                String testScriptFileName = "UNKNOWN TEST SCRIPT";
+                outcome.testScriptFile = testScriptFile;
 
-                if (FileUtil.isFileReadable(testScriptFile)) {
-                    testScriptFileName = testScriptFile.getName();
+                ExecutionReporter.openExecutionResult(context, testScriptFile);
+            }
 
-                    // now the execution for this iteration is done. We'll add new execution summary page to its output.
-                    iterSummary.setFailedFast(context.isFailFast());
-                    iterSummary.aggregatedNestedExecutions(context);
+            collectIntraExecutionData(context, iterationRef, intraData);
 
-                    // report status at iteration level
-                    CloudWebTestingPlatform.reportCloudBrowserStatus(context, iterSummary, IterationComplete);
+            context.endIteration();
 
-                    if (testScript != null) {
-                        iterSummary.generateExcelReport(testScript);
-                    } else {
-                        iterSummary.generateExcelReport(testScriptFile);
-                    }
+            MemManager.recordMemoryChanges(testScriptFileName + " completed");
 
-                    NexialListenerFactory.fireEvent(NexialExecutionEvent.newIterationEndEvent(scriptLocation,
-                                                                                              iterationIndex,
-                                                                                              iterSummary));
-                    executionSummary.addNestSummary(iterSummary);
-                    completedTests.add(testScriptFile);
+            context.setData(ITERATION_ENDED, false);
+        }
 
-                    ExecutionReporter.openExecutionResult(context, testScriptFile);
+        return outcome;
+    }
+
+    /**
+     * prep the output file of an iteration. The test data of {@link ExecutionDefinition} is shared by all the
+     * iterations of the same script, hence concurrent iterations take turn to merge it into their output file.
+     */
+    private Excel prepIteration(ExecutionContext context, String runId, int iterationIndex) throws IOException {
+        synchronized (execDef) {
+            File outputFile = ExecutionInputPrep.newOutputFile(runId, execDef, iterationIndex);
+            // known to this iteration only, even if prep fails; iterations might be executed concurrently
+            context.setData(OPT_INPUT_EXCEL_FILE, outputFile.getAbsolutePath());
+            return ExecutionInputPrep.prep(runId, execDef, iterationIndex, outputFile);
+        }
+    }
+
+    /** add a completed iteration to the script summary; invoked in the order of iterations */
+    private void onIterationMerged(IterationOutcome outcome) {
+        if (outcome.testScriptFile == null) { return; }
+
+        NexialListenerFactory.fireEvent(NexialExecutionEvent.newIterationEndEvent(execDef.getTestScript(),
+                                                                                  outcome.iterationIndex,
+                                                                                  outcome.summary));
+        executionSummary.addNestSummary(outcome.summary);
+        completedTests.add(outcome.testScriptFile);
+    }
+
+    /**
+     * number of iterations to execute concurrently, as defined via {@link NexialConst.Iteration#PARALLEL_ITERATIONS}
+     * in the data file. Interactive, step-by-step or pause-on-error executions always execute iterations serially.
+     */
+    private int resolveParallelIterations(ExecutionContext context, int totalIterations) {
+        int parallelIterations = execDef.getTestData().getSettingAsInt(PARALLEL_ITERATIONS);
+        if (parallelIterations < 2 || totalIterations < 2) { return 1; }
+        if (context.isInteractiveMode() || context.isStepByStep() || context.isPauseOnError()) { return 1; }
+        return Math.min(parallelIterations, totalIterations);
+    }
+
+    /**
+     * execute the iterations of the current script over a pool of {@code workerCount} threads. Each iteration is
+     * executed with its own forked {@link ExecutionContext} (see {@link ExecutionContext#fork(ExecutionContext)}),
+     * which reuses the plugins of the previous iteration executed by the same thread. All iterations start off with
+     * the same data; no iteration sees the data variables of another.
+     * <p>
+     * The outcome of each iteration is merged as soon as all the preceding iterations are merged, in the order of
+     * iterations. As such, the data variables carried over to the next script are those of the last iteration, as if
+     * the iterations were executed serially; the data variables of the other iterations are dropped as soon as they
+     * are known to be superseded. Fail-fast, fail-immediate and end-immediate conditions prevent the remaining
+     * iterations from starting, while the iterations already in progress are completed. The iterations after the one
+     * that stopped the execution are not merged, so that the outcome is the same as that of a serial execution.
+     */
+    private void executeParallelIterations(ExecutionContext context,
+                                           IterationManager iterationManager,
+                                           int workerCount) {
+        String runId = execDef.getRunId();
+        int totalIterations = iterationManager.getIterationCount();
+        ConsoleUtils.log(runId, "executing " + totalIterations + " iteration(s) over " + workerCount + " thread(s)");
+
+        // we need to infuse "between" #default and whatever data sheets is assigned for this test script
+        execDef.infuseIntraExecutionData(intraExecutionData);
+
+        String threadPrefix = "nexial-iteration-" + execDef.getPlanSequence() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, threadFactory);
+        CompletionService<IterationOutcome> completion = new ExecutorCompletionService<>(executor);
+
+        // the last forked context of each thread, which holds the Spring context and plugins of that thread
+        Map<Thread, ExecutionContext> forks = new ConcurrentHashMap<>();
+        AtomicBoolean stopNow = new AtomicBoolean(false);
+        for (int iterationIndex = 1; iterationIndex <= totalIterations; iterationIndex++) {
+            int index = iterationIndex;
+            completion.submit(() -> {
+                if (stopNow.get()) { return IterationOutcome.skipped(index); }
+
+                try {
+                    ExecutionContext recycled = ExecutionThread.get();
+                    ExecutionContext fork = context.fork(recycled);
+                    ExecutionThread.set(fork);
+                    forks.put(Thread.currentThread(), fork);
+                    // the previous iteration of this thread is done; only its Spring context and plugins live on
+                    if (recycled != null) { recycled.endScript(); }
+
+                    if (fork.isEndScriptImmediate()) {
+                        stopNow.set(true);
+                        return IterationOutcome.skipped(index);
+                    }
+
+                    Map<String, Object> intraData = new HashMap<>();
+                    IterationOutcome outcome = executeIteration(fork, iterationManager, index, intraData);
+                    outcome.intraData = intraData;
+                    if (outcome.stopNow) { stopNow.set(true); }
+                    return outcome;
+                } catch (Throwable e) {
+                    ConsoleUtils.error(runId, "Unable to complete iteration " + index + ": " + e.getMessage());
+                    return IterationOutcome.skipped(index);
                 }
+            });
+        }
+        executor.shutdown();
+
+        // completed iterations waiting for a preceding iteration to be merged
+        Map<Integer, IterationOutcome> pending = new HashMap<>();
+        Map<String, Object> lastIntraData = null;
+        int lastIterationRef = 0;
+        int nextIndex = 1;
+        boolean stopped = false;
+        for (int i = 0; i < totalIterations; i++) {
+            IterationOutcome completed;
+            try {
+                completed = completion.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ConsoleUtils.error(runId, "Parallel iterations interrupted: " + e.getMessage());
+                executor.shutdownNow();
+                break;
+            } catch (ExecutionException e) {
+                // not expected, since each iteration handles its own errors
+                ConsoleUtils.error(runId, "Unable to complete iteration: " + e.getCause().getMessage());
+                continue;
+            }
 
-                collectIntraExecutionData(context, iterationRef);
-                ExecutionMailConfig.configure(context);
+            int index = completed.iterationIndex;
+            pending.put(index, completed);
 
-                context.endIteration();
+            // the data variables of an iteration that doesn't stop the execution are superseded by those of the
+            // next iteration, as long as the latter is executed
+            supersede(pending.get(index - 1), completed);
+            supersede(completed, pending.get(index + 1));
 
-                MemManager.recordMemoryChanges(testScriptFileName + " completed");
+            while (pending.containsKey(nextIndex)) {
+                IterationOutcome outcome = pending.remove(nextIndex++);
+                if (outcome.isSkipped()) { continue; }
 
-                context.setData(ITERATION_ENDED, false);
+                if (stopped) {
+                    ConsoleUtils.log(runId, "discarding iteration " + outcome.iterationIndex +
+                                            " since an earlier iteration has stopped the execution");
+                    continue;
+                }
+
+                onIterationMerged(outcome);
+                if (outcome.intraData != null) { lastIntraData = outcome.intraData; }
+                lastIterationRef = outcome.iterationRef;
+                stopped = outcome.stopNow;
             }
         }
 
-        onScriptComplete(context, executionSummary, iterationManager, ticktock);
+        // forked contexts are no longer needed
+        forks.values().forEach(ExecutionContext::releaseFork);
 
-        ExecutionThread.unset();
-        MemManager.recordMemoryChanges(scriptName + " completed");
+        context.join(lastIntraData);
+        collectIntraExecutionData(context, lastIterationRef);
+        ExecutionMailConfig.configure(context);
+    }
+
+    /** drop the data variables of {@code outcome} if {@code next}, the outcome of the next iteration, supersedes it */
+    private static void supersede(IterationOutcome outcome, IterationOutcome next) {
+        if (outcome == null || next == null || outcome.isSkipped() || next.isSkipped() || outcome.stopNow) { return; }
+        outcome.intraData = null;
     }
 
     private void logPlan(ExecutionContext context, String scriptLocation, int iterationIndex) {
@@ -323,12 +546,18 @@ public final class ExecutionThread extends Thread {
     }
 
     protected void collectIntraExecutionData(ExecutionContext context, int completeIteration) {
+        collectIntraExecutionData(context, completeIteration, intraExecutionData);
+    }
+
+    protected void collectIntraExecutionData(ExecutionContext context,
+                                             int completeIteration,
+                                             Map<String, Object> intraData) {
         if (context == null) { return; }
 
-        context.fillIntraExecutionData(intraExecutionData);
+        context.fillIntraExecutionData(intraData);
 
         // override, if found, previous "last completed iteration count"
-        intraExecutionData.put(LAST_ITERATION, completeIteration);
+        intraData.put(LAST_ITERATION, completeIteration);
 
         // for last iteration, finalize the execution summary's custom header and footer
         if (context.getBooleanData(IS_LAST_ITERATION)) {
@@ -422,6 +651,9 @@ public final class ExecutionThread extends Thread {
                                     IterationManager iterationManager,
                                     StopWatch ticktock) {
         ticktock.stop();
+        // all iterations are done; so are their independent scenarios
+        independentScenarios.release();
+
         summary.setEndTime(System.currentTimeMillis());
         summary.aggregatedNestedExecutions(context);
         NexialListenerFactory.fireEvent(NexialExecutionEvent.newScriptEndEvent(summary.getScriptFile(), summary));
@@ -466,6 +698,8 @@ public final class ExecutionThread extends Thread {
 
         if (MapUtils.isNotEmpty(intraExecutionData)) { intraExecutionData.remove(LAST_ITERATION); }
 
+        assembleBrowserMetrics(context);
+
         if (lastScript) {
             CloudWebTestingPlatform.reportCloudBrowserStatus(context, executionSummary, ExecutionComplete);
             context.getExecutionEventListener().onExecutionComplete();
@@ -479,6 +713,17 @@ public final class ExecutionThread extends Thread {
         MemManager.gc(execDef);
     }
 
+    /** assemble the browser metrics collected so far (if any) */
+    private void assembleBrowserMetrics(ExecutionContext context) {
+        if (context.isInteractiveMode()) { return; }
+
+        try {
+            ClientPerformanceCollector.assemble(new Syspath().out("fullpath") + separator + WEB_METRICS_JSON);
+        } catch (IOException e) {
+            ConsoleUtils.error(e.getMessage());
+        }
+    }
+
     /** handle browser metrics */
     private void handleBrowserMetrics(ExecutionContext context) {
         System.clearProperty(WEB_METRICS_GENERATED);
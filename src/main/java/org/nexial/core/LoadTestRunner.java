@@ -0,0 +1,222 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.commons.logging.LogbackUtils;
+import org.nexial.core.excel.Excel;
+import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.model.ExecutionDefinition;
+import org.nexial.core.model.ExecutionSummary;
+import org.nexial.core.model.IterationManager;
+import org.nexial.core.model.LoadTestMetrics;
+import org.nexial.core.utils.ConsoleUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.io.File.separator;
+import static org.nexial.core.NexialConst.Data.END_SCRIPT_IMMEDIATE;
+import static org.nexial.core.NexialConst.Project.appendLog;
+import static org.nexial.core.model.ExecutionSummary.ExecutionLevel.SCRIPT;
+
+/**
+ * execute a plan row in load test mode. Starting with {@link ExecutionDefinition#getMinimumLoad()} virtual users,
+ * more users are added evenly over {@link ExecutionDefinition#getRampUpSec()} seconds until
+ * {@link ExecutionDefinition#getMaximumLoad()} is reached; the full load is then held for
+ * {@link ExecutionDefinition#getHoldForSec()} seconds. Each virtual user has its own {@link ExecutionContext}, forked
+ * off the same context (see {@link ExecutionContext#fork()}), and repeatedly executes the target scenarios (cycling
+ * through the iterations of the associated data file) until the test duration expires, but at least once.
+ * <p>
+ * No per-iteration Excel output is generated. Instead, the elapsed time of every step is collected in
+ * {@link LoadTestMetrics}, and summarized as a load test report (CSV) in the log directory of this run.
+ */
+public class LoadTestRunner {
+    private static final String REPORT_FILE_SUFFIX = ".load-test.csv";
+    private static final long SHUTDOWN_POLL_MS = 5000;
+
+    private final ExecutionDefinition execDef;
+    private final LoadTestMetrics metrics = new LoadTestMetrics();
+    private final AtomicInteger loops = new AtomicInteger();
+    private volatile long deadline;
+
+    public LoadTestRunner(ExecutionDefinition execDef) {
+        assert execDef != null && execDef.isLoadTestMode();
+        this.execDef = execDef;
+    }
+
+    public LoadTestMetrics getMetrics() { return metrics; }
+
+    /** run the load test to completion and return the summary of this run */
+    public ExecutionSummary run() throws InterruptedException {
+        String runId = execDef.getRunId();
+        String script = execDef.getTestScript();
+        int minLoad = execDef.getMinimumLoad();
+        int maxLoad = execDef.getMaximumLoad();
+        long rampUpMs = TimeUnit.SECONDS.toMillis(execDef.getRampUpSec());
+        long holdForMs = TimeUnit.SECONDS.toMillis(execDef.getHoldForSec());
+
+        LogbackUtils.registerLogDirectory(appendLog(execDef));
+        ConsoleUtils.log(runId, "[" + script + "] starting load test: " + minLoad + " to " + maxLoad +
+                                " virtual user(s), ramp up " + execDef.getRampUpSec() + " sec, hold for " +
+                                execDef.getHoldForSec() + " sec");
+
+        ExecutionSummary summary = new ExecutionSummary();
+        summary.setName(StringUtils.substringBeforeLast(new File(script).getName(), ".") +
+                        " (load " + minLoad + "-" + maxLoad + ")");
+        summary.setExecutionLevel(SCRIPT);
+        summary.setScriptFile(script);
+        summary.setDataFile(execDef.getDataFile().getAbsolutePath());
+        summary.setPlanSequence(execDef.getPlanSequence());
+        summary.setPlanName(execDef.getPlanName());
+        summary.setPlanFile(execDef.getPlanFile());
+        summary.setPlanDescription(execDef.getDescription());
+        summary.setStartTime(System.currentTimeMillis());
+
+        metrics.markStart();
+        deadline = metrics.getStartTime() + rampUpMs + holdForMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "nexial-load-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(maxLoad, threadFactory);
+
+        // every virtual user is forked off the same context, so that the execution is started only once
+        ExecutionContext context = new ExecutionContext(execDef);
+        try {
+            // initial load starts immediately, the rest are spread evenly over the ramp-up period
+            int rampUsers = maxLoad - minLoad;
+            for (int user = 1; user <= maxLoad; user++) {
+                long delayMs = user <= minLoad || rampUsers == 0 ? 0 : rampUpMs * (user - minLoad) / rampUsers;
+                int virtualUser = user;
+                scheduler.schedule(() -> runVirtualUser(context, virtualUser), delayMs, TimeUnit.MILLISECONDS);
+            }
+
+            scheduler.shutdown();
+            while (!scheduler.awaitTermination(SHUTDOWN_POLL_MS, TimeUnit.MILLISECONDS)) {
+                ConsoleUtils.log(runId, "[" + script + "] load test in progress; " + metrics.getActiveUsers() +
+                                        " active virtual user(s), " + metrics.getTotalCount() + " step(s) executed");
+            }
+        } finally {
+            // no more virtual user to fork off
+            context.releaseFork();
+        }
+
+        metrics.markEnd();
+        summary.setEndTime(metrics.getEndTime());
+
+        int total = metrics.getTotalCount();
+        int failed = metrics.getTotalFailed();
+        summary.setIterationTotal(loops.get());
+        summary.setTotalSteps(total);
+        summary.setExecuted(total);
+        summary.setPassCount(total - failed);
+        summary.setFailCount(failed);
+
+        File report = new File(appendLog(execDef) + separator +
+                               StringUtils.substringBeforeLast(new File(script).getName(), ".") +
+                               "." + execDef.getPlanSequence() + REPORT_FILE_SUFFIX);
+        try {
+            metrics.writeReport(report);
+            summary.getLogs().put(report.getName(), report.getAbsolutePath());
+            ConsoleUtils.log(runId, "[" + script + "] load test completed; peak " + metrics.getPeakUsers() +
+                                    " virtual user(s), " + loops.get() + " loop(s), " + total + " step(s), " +
+                                    failed + " failed; report saved to " + report);
+        } catch (IOException e) {
+            ConsoleUtils.error(runId, "Unable to write load test report to " + report + ": " + e.getMessage());
+        }
+
+        return summary;
+    }
+
+    private boolean shouldStop() { return System.currentTimeMillis() >= deadline || isEndImmediate(); }
+
+    private static boolean isEndImmediate() {
+        return BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false"));
+    }
+
+    private void runVirtualUser(ExecutionContext base, int virtualUser) {
+        if (isEndImmediate()) { return; }
+
+        String runId = execDef.getRunId();
+        String logPrefix = "[" + execDef.getTestScript() + "][virtual user " + virtualUser + "] ";
+        File workFile = new File(appendLog(execDef) + separator + "load" + separator +
+                                 "vu" + virtualUser + "." + new File(execDef.getTestScript()).getName());
+
+        metrics.userStarted();
+        ExecutionContext context = null;
+        try {
+            context = base.fork();
+            context.setLoadTestMetrics(metrics);
+            ExecutionThread.set(context);
+
+            IterationManager iterationManager = execDef.getTestData().getIterationManager();
+            int totalIterations = iterationManager.getIterationCount();
+
+            // each virtual user starts on a different iteration, so that the data file is spread across users.
+            // every virtual user completes at least one loop, even if the test duration is already over
+            int loop = 0;
+            do {
+                int iterationIndex = ((virtualUser - 1 + loop) % totalIterations) + 1;
+                int iterationRef = iterationManager.getIterationRef(iterationIndex - 1);
+                loop++;
+
+                try {
+                    context.useTestScript(prepLoop(runId, iterationIndex, workFile));
+                    // script start is signaled only on the first loop of each virtual user
+                    context.startIteration(iterationIndex, iterationRef, totalIterations, false, loop == 1);
+                    context.execute();
+                } catch (Throwable e) {
+                    ConsoleUtils.error(runId, logPrefix + "error during loop " + loop + ": " + e.getMessage());
+                } finally {
+                    context.endIteration();
+                    loops.incrementAndGet();
+                }
+            } while (!shouldStop());
+        } catch (Throwable e) {
+            ConsoleUtils.error(runId, logPrefix + "unable to start: " + e.getMessage());
+        } finally {
+            if (context != null) {
+                ExecutionThread.unset();
+                // along with its plugins (and browsers) and Spring context
+                context.releaseFork();
+            }
+            FileUtils.deleteQuietly(workFile);
+            metrics.userStopped();
+        }
+    }
+
+    /**
+     * prep the work file of a virtual user. The test data of {@link ExecutionDefinition} is shared by all virtual
+     * users, hence they take turn to merge it into their work file (same as parallel iterations in
+     * {@link ExecutionThread}).
+     */
+    private Excel prepLoop(String runId, int iterationIndex, File workFile) throws IOException {
+        synchronized (execDef) { return ExecutionInputPrep.prep(runId, execDef, iterationIndex, workFile); }
+    }
+}
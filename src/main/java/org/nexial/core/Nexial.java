@@ -38,7 +38,15 @@ import org.nexial.core.interactive.NexialInteractive;
 import org.nexial.core.mail.NexialMailer;
 import org.nexial.core.model.ExecutionDefinition;
 import org.nexial.core.model.ExecutionSummary;
+import org.nexial.core.model.TestDataCache;
 import org.nexial.core.model.TestProject;
+import org.nexial.core.model.TokenTemplateCache;
+import org.nexial.core.plugins.jms.JmsConnectionPool;
+import org.nexial.core.plugins.json.JsonCache;
+import org.nexial.core.plugins.pdf.PdfCache;
+import org.nexial.core.plugins.ssh.SshSessionPool;
+import org.nexial.core.plugins.ws.WebServiceClientPool;
+import org.nexial.core.plugins.xml.XmlCache;
 import org.nexial.core.reports.ExecutionMailConfig;
 import org.nexial.core.reports.ExecutionNotifier;
 import org.nexial.core.reports.ExecutionReporter;
@@ -49,6 +57,7 @@ import org.nexial.core.utils.CheckUtils;
 import org.nexial.core.utils.ConsoleUtils;
 import org.nexial.core.utils.ExecUtils;
 import org.nexial.core.utils.InputFileUtils;
+import org.nexial.core.variable.ExpressionCache;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 
 import java.io.File;
@@ -56,6 +65,7 @@ import java.io.IOException;
 import java.security.Security;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
@@ -466,7 +476,13 @@ public class Nexial {
                     exec.setSerialMode(BooleanUtils.toBoolean(
                         StringUtils.defaultIfBlank(readCellValue(row, COL_IDX_PLAN_WAIT), DEF_PLAN_SERIAL_MODE)));
                     exec.setLoadTestMode(BooleanUtils.toBoolean(readCellValue(row, COL_IDX_PLAN_LOAD_TEST)));
-                    if (exec.isLoadTestMode()) { fail(RB.Tools.text("plan.noLoadTesting")); }
+                    if (exec.isLoadTestMode()) {
+                        try {
+                            exec.parseLoadTestSpec(readCellValue(row, COL_IDX_PLAN_LOAD_TEST_SPEC));
+                        } catch (IllegalArgumentException e) {
+                            fail(RB.Tools.text("plan.badLoadTestSpec", msgSuffix, e.getMessage()));
+                        }
+                    }
 
                     try {
                         // 3. for each row, parse script (and scenario) and data (and datasheet)
@@ -762,7 +778,8 @@ public class Nexial {
         summary.setExecutionLevel(EXECUTION);
         summary.setStartTime(System.currentTimeMillis());
 
-        List<ExecutionThread> executionThreads = new ArrayList<>();
+        // parallel executions are tracked in the order of completion, so that we can react as soon as one is done
+        PlanRowExecutor<ExecutionThread> launcher = newPlanExecutor(runId);
         Map<String, Object> intraExecution = null;
 
         int lastUse = executions.size() - 1;
@@ -782,57 +799,43 @@ public class Nexial {
                 String msgPrefix = "[" + exec.getTestScript() + "] ";
                 ConsoleUtils.log(runId, msgPrefix + RESOLVE_RUN_ID + runId);
 
+                if (exec.isLoadTestMode()) {
+                    // load test always runs to completion before moving on to the next plan row
+                    ConsoleUtils.log(runId, msgPrefix + "executing in load test mode");
+                    summary.addNestSummary(new LoadTestRunner(exec).run());
+                    ConsoleUtils.log(runId, msgPrefix + NOW_COMPLETED);
+                    executions.set(i, null);
+                    continue;
+                }
+
                 ExecutionThread launcherThread = ExecutionThread.newInstance(exec);
                 if (i == 0) { launcherThread.setFirstScript(true); }
                 if (i == lastUse) { launcherThread.setLastScript(true); }
                 if (MapUtils.isNotEmpty(intraExecution)) { launcherThread.setIntraExecutionData(intraExecution); }
 
-                ConsoleUtils.log(runId, msgPrefix + NEW_THREAD_STARTED);
-                launcherThread.start();
-
                 if (exec.isSerialMode()) {
-                    while (true) {
-                        if (launcherThread.isAlive()) {
-                            debugThread(runId, msgPrefix + "awaits execution thread to complete...");
-                            Thread.sleep(LAUNCHER_THREAD_COMPLETION_WAIT_MS);
-                        } else {
-                            ConsoleUtils.log(runId, msgPrefix + NOW_COMPLETED);
-                            // pass the post-execution state of data to the next execution
-                            intraExecution = launcherThread.getIntraExecutionData();
-                            summary.addNestSummary(launcherThread.getExecutionSummary());
-                            launcherThread = null;
-                            break;
-                        }
-                    }
+                    // a serial row is a dependency barrier: subsequent rows only start after this one completes.
+                    // parallel rows started earlier continue to run (subject to the max. parallel setting)
+                    ConsoleUtils.log(runId, msgPrefix + NEW_THREAD_STARTED);
+                    debugThread(runId, msgPrefix + "awaits execution thread to complete...");
+                    launcherThread = launcher.executeSerial(toPlanTask(runId, launcherThread));
+                    ConsoleUtils.log(runId, msgPrefix + NOW_COMPLETED);
+
+                    // pass the post-execution state of data to the next execution
+                    intraExecution = launcherThread.getIntraExecutionData();
+                    summary.addNestSummary(launcherThread.getExecutionSummary());
 
                     executions.set(i, null);
                     exec = null;
                 } else {
-                    executionThreads.add(launcherThread);
+                    launcher.executeParallel(toPlanTask(runId, launcherThread));
                     ConsoleUtils.log(runId, msgPrefix + "in progress, proceed to next execution");
                 }
             }
 
-            while (true) {
-                final boolean[] stillRunning = {false};
-                for (int i = 0; i < executionThreads.size(); i++) {
-                    ExecutionThread t = executionThreads.get(i);
-                    if (t != null) {
-                        if (t.isAlive()) {
-                            stillRunning[0] = true;
-                        } else {
-                            summary.addNestSummary(t.getExecutionSummary());
-                            // relinquish reference to completed/dead threads
-                            executionThreads.set(i, null);
-                        }
-                    }
-                }
-
-                if (!stillRunning[0]) { break; }
-
-                debugThread(runId, "waiting for execution thread(s) to complete...");
-                Thread.yield();
-                Thread.sleep(LAUNCHER_THREAD_COMPLETION_WAIT_MS);
+            while (launcher.getInProgress() > 0) {
+                debugThread(runId, "waiting for " + launcher.getInProgress() + " execution thread(s) to complete...");
+                summary.addNestSummary(launcher.awaitParallel().getExecutionSummary());
             }
 
             ConsoleUtils.log(runId, MSG_THREAD_TERMINATED);
@@ -841,12 +844,35 @@ public class Nexial {
             e.printStackTrace();
             summary.setError(e);
         } finally {
+            launcher.shutdown();
             onExecutionComplete(runId, summary);
         }
 
         return summary;
     }
 
+    /**
+     * executor to run the plan rows of this execution. The number of concurrent scripts is capped by
+     * {@link NexialConst.Exec#PLAN_MAX_PARALLEL}; 0 or less means no cap (one thread per parallel plan row).
+     */
+    PlanRowExecutor<ExecutionThread> newPlanExecutor(String runId) {
+        int maxParallel = NumberUtils.toInt(System.getProperty(PLAN_MAX_PARALLEL), getDefaultInt(PLAN_MAX_PARALLEL));
+        if (maxParallel > 0) { ConsoleUtils.log(runId, "executing up to " + maxParallel + " script(s) concurrently"); }
+        return new PlanRowExecutor<>(maxParallel);
+    }
+
+    /** wrap {@code launcherThread} as task, so that its summary is available even if it terminated abnormally */
+    private Callable<ExecutionThread> toPlanTask(String runId, ExecutionThread launcherThread) {
+        return () -> {
+            try {
+                launcherThread.run();
+            } catch (Throwable e) {
+                ConsoleUtils.error(runId, "Execution thread terminated abnormally: " + e.getMessage());
+            }
+            return launcherThread;
+        };
+    }
+
     protected static void updateLogLocation(NexialS3Helper otc, ExecutionSummary summary) {
         // push the latest logs to cloud...
         if (otc == null || !otc.isReadyForUse()) {
@@ -914,6 +940,7 @@ public class Nexial {
         long stopTimeMs = System.currentTimeMillis();
         long testSuiteElapsedTimeMs = stopTimeMs - startTimeMs;
         ConsoleUtils.log(runId, "test run completed in about " + (testSuiteElapsedTimeMs / 1000) + " seconds");
+        logResourceUsage(runId);
 
         summary.setEndTime(stopTimeMs);
         summary.aggregatedNestedExecutions(null);
@@ -1025,6 +1052,28 @@ public class Nexial {
         NexialListenerFactory.fireEvent(NexialExecutionEvent.newExecutionEndEvent(runId, summary));
     }
 
+    /**
+     * log the usage of the connection pools and caches shared by all the scripts of this run. These are not part of
+     * any script output since they span across scripts.
+     */
+    protected static void logResourceUsage(String runId) {
+        Map<String, String> usages = new LinkedHashMap<>();
+        usages.put("ws connection pool", WebServiceClientPool.getInstance().summarize());
+        usages.put("jms connection pool", JmsConnectionPool.getInstance().summarize());
+        usages.put("ssh session pool", SshSessionPool.getInstance().summarize());
+        usages.put("compiled script cache", CompiledScriptCache.getInstance().summarize());
+        usages.put("token template cache", TokenTemplateCache.getInstance().summarize());
+        usages.put("expression cache", ExpressionCache.getInstance().summarize());
+        usages.put("json cache", JsonCache.getInstance().summarize());
+        usages.put("xml cache", XmlCache.getInstance().summarize());
+        usages.put("pdf cache", PdfCache.getInstance().summarize());
+        usages.put("test data cache", TestDataCache.getInstance().summarize());
+        usages.put("listener events", NexialListenerFactory.summarize());
+        usages.forEach((name, usage) -> {
+            if (StringUtils.isNotBlank(usage)) { ConsoleUtils.log(runId, name + ": " + usage); }
+        });
+    }
+
     protected void initSpringContext() {
         if (springContext == null || !springContext.isActive()) {
             springContext = new ClassPathXmlApplicationContext(SPRING_CONTEXT);
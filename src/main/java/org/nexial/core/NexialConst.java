@@ -92,7 +92,6 @@ public final class NexialConst {
 
     public static final int DEF_SLEEP_MS = 250;
     public static final int MIN_STABILITY_WAIT_MS = 400;
-    public static final int LAUNCHER_THREAD_COMPLETION_WAIT_MS = 1000;
     public static final long ONEDAY = 24 * 60 * 60 * 1000;
     public static final long THIRTYDAYS = ONEDAY * 30;
     public static final long ONEYEAR = ONEDAY * 365;
@@ -585,6 +584,7 @@ public final class NexialConst {
                                                                                          ITERATION + "=1",
                                                                                          FALLBACK_TO_PREVIOUS + "=true",
                                                                                          REFETCH_DATA_FILE + "=true",
+                                                                                         PARALLEL_ITERATIONS + "=1",
                                                                                          POST_EXEC_MAIL_TO + "=");
         public static final String NULL = "(null)";
         public static final String EMPTY = "(empty)";
@@ -616,6 +616,7 @@ public final class NexialConst {
             public static final String DATA_IMAGE = registerSysVar(_NS + "data.image", ImageOptions.type.name());
             public static final String DATA_TRIM = registerSysVar(_NS + "data.trim", true);
             public static final String END_TRIM = registerSysVar(_NS + "end.trim", false);
+            public static final String FAST_EXTRACT = registerSysVar(_NS + "fastExtract", true);
 
             public enum InputOptions {
                 name, type, value, id, state;
@@ -724,6 +725,8 @@ public final class NexialConst {
         // read-only: reload data file between iteration or not
         public static final String REFETCH_DATA_FILE = SCOPE + "refetchDataFile";
         public static final String FALLBACK_TO_PREVIOUS = SCOPE + "fallbackToPrevious";
+        // number of iterations to execute concurrently, each on its own forked context; 1 to execute serially
+        public static final String PARALLEL_ITERATIONS = SCOPE + "parallelIterations";
         public static final String ITERATION_SEP = ",";
         public static final String ITERATION_RANGE_SEP = "-";
 
@@ -1169,6 +1172,23 @@ public final class NexialConst {
         public static final String EXEC_SYNOPSIS = registerSysVar(NAMESPACE + "executionSynopsis");
         public static final String MIN_EXEC_SUCCESS_RATE = registerSysVar(NAMESPACE + "minExecSuccessRate", 100);
 
+        // max. number of plan rows (scripts) to execute concurrently; 0 means no limit
+        public static final String PLAN_MAX_PARALLEL = registerSysVar(NAMESPACE + "plan.maxParallel", 0);
+
+        // names of the scenarios (separated by text delimiter) of a script that are independent of one another and of
+        // the rest of the script, hence can be executed concurrently, each on its own forked context
+        public static final String INDEPENDENT_SCENARIOS = registerSysVar(NAMESPACE + "independentScenarios");
+        // max. number of independent scenarios to execute concurrently
+        public static final String MAX_PARALLEL_SCENARIOS = registerSysVar(NAMESPACE + "maxParallelScenarios", 4);
+
+        // dispatching of execution events to listeners (SPI); see NexialEventBus
+        public static final String LISTENER_ASYNC = registerSysVar(NAMESPACE + "listener.async", true);
+        public static final String LISTENER_QUEUE_SIZE = registerSysVar(NAMESPACE + "listener.queueSize", 8192);
+        // block, drop or sample
+        public static final String LISTENER_OVERFLOW = registerSysVar(NAMESPACE + "listener.overflow", "block");
+        // under `sample` overflow policy, 1 out of every N high-frequency events is kept when queue is busy
+        public static final String LISTENER_SAMPLE_RATE = registerSysVar(NAMESPACE + "listener.sampleRate", 10);
+
         // system-wide enable/disable email notification
         public static final String ENABLE_EMAIL = registerSysVar(NAMESPACE + "enableEmail", false);
         public static final String POST_EXEC_MAIL_TO_OLD = SCOPE + "mailTo";
@@ -1525,12 +1545,37 @@ public final class NexialConst {
         public static final String SSH_KNOWN_HOSTS = "knownHosts";
         public static final String DEF_SSH_PORT = "22";
 
+        // session pooling (authenticated session shared per connection profile)
+        public static final String NS_SSH_POOL = SSH_CLIENT_PREFIX + "pool.";
+        public static final String SSH_POOL_ENABLED = registerSysVar(NS_SSH_POOL + "enabled", true);
+        public static final String SSH_POOL_KEEP_ALIVE_MS = registerSysVar(NS_SSH_POOL + "keepAliveMs", 30 * 1000);
+        public static final String SSH_POOL_IDLE_EVICT_MS = registerSysVar(NS_SSH_POOL + "idleEvictMs", 5 * 60 * 1000);
+        // number of sftp channels to spread a multi-file transfer over; 1 means sequential transfer
+        public static final String SFTP_PARALLEL_CHANNELS = registerSysVar(SSH_CLIENT_PREFIX + "sftp.parallelChannels",
+                                                                           1);
+
         private Ssh() { }
 
         // reference by enclosing class to force initialization (possibly prior to any reference at runtime)
         static void init() { }
     }
 
+    public static final class Jms {
+        // plugin:jms
+        public static final String NS_JMS = NAMESPACE + "jms.";
+        // connection pooling (shared connection per JMS profile)
+        public static final String NS_JMS_POOL = NS_JMS + "pool.";
+        public static final String JMS_POOL_ENABLED = registerSysVar(NS_JMS_POOL + "enabled", true);
+        public static final String JMS_POOL_MAX_IDLE_SESSIONS = registerSysVar(NS_JMS_POOL + "maxIdleSessions", 8);
+        // wait time for the next message of jms.receiveUntil(), when no wait time is specified
+        public static final String JMS_RECEIVE_UNTIL_WAIT_MS = registerSysVar(NS_JMS + "receiveUntilWaitMs", 30000);
+
+        private Jms() { }
+
+        // reference by enclosing class to force initialization (possibly prior to any reference at runtime)
+        static void init() { }
+    }
+
     public static final class Rdbms {
         // plugin:rdbms
         public static final String DAO_PREFIX = NAMESPACE + "dao.";
@@ -1551,6 +1596,10 @@ public final class NexialConst {
         public static final String CSV_ROW_SEP = "\n";
         public static final String CSV_FIELD_DEIM = ",";
         public static final String IMPORT_BUFFER_SIZE = registerSysVar(NAMESPACE + "rdbms.importBufferSize", 100);
+        // number of rows kept in memory while exporting query result to Excel
+        public static final int DEF_EXCEL_EXPORT_ROW_WINDOW = 500;
+        public static final String EXCEL_EXPORT_ROW_WINDOW = registerSysVar(NAMESPACE + "rdbms.excelExportRowWindow",
+                                                                            DEF_EXCEL_EXPORT_ROW_WINDOW);
         // to overcome unknown but valid JDBC drivers
         public static final String OPT_DB_CLASSNAME = ".JavaClassName";
         // for mongodb jdbc connection only
@@ -1606,6 +1655,14 @@ public final class NexialConst {
         public static final String WS_ENABLE_REDIRECTS = registerSysVar(NS_WS + "enableRedirects", true);
         public static final String WS_READ_TIMEOUT = registerSysVar(NS_WS + "readTimeout", 5 * 60 * 1000);
         public static final String WS_CONN_TIMEOUT = registerSysVar(NS_WS + "connectionTimeout", 5 * 60 * 1000);
+
+        // connection pooling (shared http client per host/auth/socket profile)
+        public static final String NS_WS_POOL = NS_WS + "pool.";
+        public static final String WS_POOL_ENABLED = registerSysVar(NS_WS_POOL + "enabled", true);
+        public static final String WS_POOL_MAX_TOTAL = registerSysVar(NS_WS_POOL + "maxTotal", 100);
+        public static final String WS_POOL_MAX_PER_ROUTE = registerSysVar(NS_WS_POOL + "maxPerRoute", 20);
+        public static final String WS_POOL_IDLE_EVICT_MS = registerSysVar(NS_WS_POOL + "idleEvictMs", 30 * 1000);
+
         public static final String WS_USER_AGENT = "User-Agent";
         public static final String WS_CONTENT_TYPE = "Content-Type";
         public static final String WS_CONTENT_LENGTH = "Content-Length";
@@ -1774,6 +1831,11 @@ public final class NexialConst {
     public static final class Pdf {
         /* pdf*/
         public static final String PDF_USE_ASCII = registerSysVar(NAMESPACE + "pdfUseAscii", true);
+        // reuse extracted text per pdf file (keyed by path, last modified and size) across pdf.* commands
+        public static final String PDF_CACHE_ENABLED = registerSysVar(NAMESPACE + "pdfCacheEnabled", true);
+        // pdf of at least this many pages is extracted in parallel, one chunk of pages per core; 0 to disable
+        public static final String PDF_PARALLEL_EXTRACT_PAGES = registerSysVar(NAMESPACE + "pdfParallelExtractPages",
+                                                                               40);
         public static final String PDFFORM_UNMATCHED_TEXT = "__UNMATCHED_TEXT";
         public static final String PDFFORM_PREFIX = registerSysVarGroup(NAMESPACE + "pdfFormStrategy.");
         public static final String PDFFORM_BASEDON = "basedOn";
@@ -2242,6 +2304,7 @@ public final class NexialConst {
         TMSSettings.init();
         TimeTrack.init();
         Ssh.init();
+        Jms.init();
         Rdbms.init();
         Ws.init();
         Web.init();
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * executor of the rows of a test plan (see {@link Nexial#execute()}). A serial row is a dependency barrier: it is
+ * executed to completion before the next row is submitted. Parallel rows are executed concurrently and collected in
+ * the order of completion. No more than {@code maxParallel} rows are executed at a time; 0 or less means no cap (one
+ * thread per parallel row).
+ */
+final class PlanRowExecutor<T> {
+    private final ExecutorService launcher;
+    private final CompletionService<T> completions;
+    private int inProgress;
+
+    PlanRowExecutor(int maxParallel) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> new Thread(runnable, "nexial-exec-" + threadCount.incrementAndGet());
+        launcher = maxParallel < 1 ?
+                   Executors.newCachedThreadPool(threadFactory) :
+                   Executors.newFixedThreadPool(maxParallel, threadFactory);
+        completions = new ExecutorCompletionService<>(launcher);
+    }
+
+    /** execute {@code row} and wait for its completion. Parallel rows started earlier continue to run */
+    T executeSerial(Callable<T> row) throws InterruptedException, ExecutionException {
+        return launcher.submit(row).get();
+    }
+
+    void executeParallel(Callable<T> row) {
+        completions.submit(row);
+        inProgress++;
+    }
+
+    /** number of parallel rows not yet collected via {@link #awaitParallel()} */
+    int getInProgress() { return inProgress; }
+
+    /** wait for the next parallel row to complete */
+    T awaitParallel() throws InterruptedException, ExecutionException {
+        T completed = completions.take().get();
+        inProgress--;
+        return completed;
+    }
+
+    void shutdown() { launcher.shutdown(); }
+}
@@ -213,6 +213,16 @@ public class Excel {
          */
         @NotNull
         public Worksheet writeAcross(ExcelAddress startCell, List<List<String>> rows) throws IOException {
+            return writeAcross(startCell, rows, true);
+        }
+
+        /**
+         * same as {@link #writeAcross(ExcelAddress, List)}, but with the option to defer {@link #save()}. This is
+         * useful when writing rows in multiple batches, in which case the file only needs to be saved once after the
+         * last batch.
+         */
+        @NotNull
+        public Worksheet writeAcross(ExcelAddress startCell, List<List<String>> rows, boolean save) throws IOException {
             if (startCell == null) { return this; }
             if (CollectionUtils.isEmpty(rows)) { return this; }
 
@@ -233,7 +243,7 @@ public class Excel {
                 startRowIndex[0]++;
             });
 
-            save();
+            if (save) { save(); }
             return this;
         }
 
@@ -1408,17 +1418,25 @@ public class Excel {
 
     @Nullable
     private static String escapeUtfDecode(Cell cell, boolean asRaw) {
-        String cellValue = cell.getStringCellValue();
+        String storedValue = cell instanceof XSSFCell ?
+                             ((XSSFCell) cell).getRichStringCellValue().getCTRst().getT() : null;
+        return escapeUtfDecode(cell.getStringCellValue(), storedValue, asRaw);
+    }
+
+    /**
+     * {@code cellValue} is the cell text as decoded by POI, and {@code storedValue} is the same text as stored in the
+     * Excel file (only available for cell without formatting runs). The stored text is favored should it contain any
+     * {@code _xHHHH_} sequence, so that such sequence is kept as is.
+     */
+    @Nullable
+    static String escapeUtfDecode(String cellValue, String storedValue, boolean asRaw) {
         if (StringUtils.isBlank(cellValue)) { return cellValue; }
         if (StringUtils.startsWith(cellValue, CRYPT_IND)) { return cellValue; }
 
         if (RegexUtils.match(cellValue, REGEX_UTF_DECODE)) { return cellValue; }
 
-        if (cell instanceof XSSFCell) {
-            String storedValue = ((XSSFCell) cell).getRichStringCellValue().getCTRst().getT();
-            if (StringUtils.isNotBlank(storedValue) && RegexUtils.match(storedValue, REGEX_UTF_DECODE)) {
-                cellValue = storedValue;
-            }
+        if (StringUtils.isNotBlank(storedValue) && RegexUtils.match(storedValue, REGEX_UTF_DECODE)) {
+            cellValue = storedValue;
         }
 
         return asRaw ? cellValue : CellTextReader.getText(cellValue);
@@ -1509,6 +1527,107 @@ public class Excel {
         });
     }
 
+    /**
+     * replace the content of {@code targetSheet} with that of {@code sourceSheet}, which may belong to another
+     * workbook: cell values, styles, comments and hyperlinks, as well as row heights, column widths and merged
+     * regions. Styles of another workbook are only added to the workbook of {@code targetSheet} if no equivalent style
+     * is found there.
+     */
+    public static void replaceSheetContent(XSSFSheet sourceSheet, XSSFSheet targetSheet) {
+        for (int i = targetSheet.getLastRowNum(); i >= 0; i--) {
+            XSSFRow row = targetSheet.getRow(i);
+            if (row == null) { continue; }
+            row.forEach(cell -> {
+                if (cell.getCellComment() != null) { cell.removeCellComment(); }
+                if (cell.getHyperlink() != null) { cell.removeHyperlink(); }
+            });
+            targetSheet.removeRow(row);
+        }
+        while (targetSheet.getNumMergedRegions() > 0) { targetSheet.removeMergedRegion(0); }
+
+        XSSFWorkbook targetWorkbook = targetSheet.getWorkbook();
+        Map<List<Object>, XSSFCellStyle> targetStyles = new HashMap<>();
+        for (int i = 0; i < targetWorkbook.getNumCellStyles(); i++) {
+            XSSFCellStyle style = targetWorkbook.getCellStyleAt(i);
+            targetStyles.putIfAbsent(describeStyle(style), style);
+        }
+
+        // resolved once per style of the source sheet
+        Map<Short, XSSFCellStyle> styles = new HashMap<>();
+        int lastColumn = 0;
+        for (int i = 0; i <= sourceSheet.getLastRowNum(); i++) {
+            XSSFRow sourceRow = sourceSheet.getRow(i);
+            if (sourceRow == null) { continue; }
+
+            XSSFRow targetRow = targetSheet.createRow(i);
+            targetRow.setHeight(sourceRow.getHeight());
+            lastColumn = Math.max(lastColumn, sourceRow.getLastCellNum());
+
+            for (Cell cell : sourceRow) {
+                XSSFCell sourceCell = (XSSFCell) cell;
+                XSSFCell targetCell = targetRow.createCell(sourceCell.getColumnIndex());
+
+                XSSFCellStyle style = sourceCell.getCellStyle();
+                if (style != null) {
+                    targetCell.setCellStyle(styles.computeIfAbsent(style.getIndex(), index -> {
+                        if (sourceSheet.getWorkbook() == targetWorkbook) { return style; }
+                        return targetStyles.computeIfAbsent(describeStyle(style), description -> {
+                            XSSFCellStyle clone = targetWorkbook.createCellStyle();
+                            clone.cloneStyleFrom(style);
+                            return clone;
+                        });
+                    }));
+                }
+
+                copyCellValue(sourceCell, targetCell);
+
+                XSSFComment comment = sourceCell.getCellComment();
+                if (comment != null) {
+                    createComment(targetCell, comment.getString().getString(), comment.getAuthor());
+                }
+
+                XSSFHyperlink link = sourceCell.getHyperlink();
+                if (link != null) {
+                    XSSFHyperlink copy = targetWorkbook.getCreationHelper().createHyperlink(link.getTypeEnum());
+                    copy.setAddress(link.getAddress());
+                    if (link.getLabel() != null) { copy.setLabel(link.getLabel()); }
+                    if (link.getTooltip() != null) { copy.setTooltip(link.getTooltip()); }
+                    targetCell.setHyperlink(copy);
+                }
+            }
+        }
+
+        for (int i = 0; i < lastColumn; i++) { targetSheet.setColumnWidth(i, sourceSheet.getColumnWidth(i)); }
+        addMergedRegions(sourceSheet, targetSheet);
+    }
+
+    /**
+     * the formatting of {@code style}, comparable across workbooks (unlike the indices of the fonts, fills and borders
+     * it refers to). Fonts and colors are compared by their definition.
+     */
+    private static List<Object> describeStyle(XSSFCellStyle style) {
+        return Arrays.asList(style.getDataFormatString(),
+                             style.getFont(),
+                             style.getAlignmentEnum(),
+                             style.getVerticalAlignmentEnum(),
+                             style.getWrapText(),
+                             style.getRotation(),
+                             style.getIndention(),
+                             style.getHidden(),
+                             style.getLocked(),
+                             style.getFillPatternEnum(),
+                             style.getFillForegroundXSSFColor(),
+                             style.getFillBackgroundXSSFColor(),
+                             style.getBorderTopEnum(),
+                             style.getBorderBottomEnum(),
+                             style.getBorderLeftEnum(),
+                             style.getBorderRightEnum(),
+                             style.getTopBorderXSSFColor(),
+                             style.getBottomBorderXSSFColor(),
+                             style.getLeftBorderXSSFColor(),
+                             style.getRightBorderXSSFColor());
+    }
+
     public static String readCellValue(XSSFRow row, int columnIndex) {
         if (row == null) { return ""; }
         return StringUtils.trim(Excel.getCellValue(row.getCell(columnIndex)));
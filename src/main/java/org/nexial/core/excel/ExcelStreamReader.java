@@ -0,0 +1,363 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.excel;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFReader.SheetIterator;
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.nexial.core.utils.ConsoleUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * read-only, streaming (SAX) reader of the cell text of an Excel file. Unlike {@link Excel}, no workbook object model
+ * is created; each worksheet of interest is read once, and only the formatted text and the strikethrough state of
+ * each cell are retained. Comments, hyperlinks and worksheets not of interest are never loaded; only the shared
+ * strings and the styles are loaded in full, since the text and the strikethrough state of a cell depend on them.
+ * <p>
+ * Formula are not evaluated; the cached formula results are used instead. Use {@link Sheet#hasFormula()} to determine
+ * if the full workbook should be loaded (via {@link Excel}) instead.
+ */
+public final class ExcelStreamReader {
+
+    private ExcelStreamReader() { }
+
+    /** a cell, as in {@link org.apache.poi.xssf.usermodel.XSSFCell} but only the text and strikethrough state */
+    public static final class Cell {
+        private final int rowIndex;
+        private final String value;
+        private final boolean blank;
+        private final boolean dataBlank;
+        private final boolean strikeOut;
+
+        private Cell(int rowIndex, String value, boolean blank, boolean dataBlank, boolean strikeOut) {
+            this.rowIndex = rowIndex;
+            this.value = value;
+            this.blank = blank;
+            this.dataBlank = dataBlank;
+            this.strikeOut = strikeOut;
+        }
+
+        public int getRowIndex() { return rowIndex; }
+
+        /** same as {@link Excel#getCellValue(org.apache.poi.xssf.usermodel.XSSFCell)} */
+        public String getValue() { return value; }
+
+        /** true if this cell is of {@link org.apache.poi.ss.usermodel.CellType#BLANK} type (no value) */
+        public boolean isBlank() { return blank; }
+
+        /** true if the string value (for text cell) or the raw value (for other cells) is blank */
+        public boolean isDataBlank() { return dataBlank; }
+
+        /** true if the font of the cell style is strikethrough; formatting runs of the cell text are not considered */
+        public boolean isStrikeOut() { return strikeOut; }
+    }
+
+    public static final class Row {
+        private final Cell[] cells;
+
+        private Row(List<Cell> cells) { this.cells = cells.toArray(new Cell[0]); }
+
+        /** same as {@link org.apache.poi.xssf.usermodel.XSSFRow#getLastCellNum()} */
+        public int getLastCellNum() { return cells.length == 0 ? -1 : cells.length; }
+
+        /** {@code null} if no such cell is found in the worksheet */
+        public Cell getCell(int columnIndex) {
+            return columnIndex < 0 || columnIndex >= cells.length ? null : cells[columnIndex];
+        }
+
+        /** text of the specified cell; empty string if no such cell is found in the worksheet */
+        @NotNull
+        public String getValue(int columnIndex) {
+            Cell cell = getCell(columnIndex);
+            return cell == null || cell.value == null ? "" : cell.value;
+        }
+    }
+
+    public static final class Sheet {
+        private final String name;
+        private final List<Row> rows = new ArrayList<>();
+        private boolean hasFormula;
+
+        private Sheet(String name) { this.name = name; }
+
+        public String getName() { return name; }
+
+        /** true if any cell of this worksheet contains formula, whose (cached) result might be stale */
+        public boolean hasFormula() { return hasFormula; }
+
+        /** same as {@link org.apache.poi.xssf.usermodel.XSSFSheet#getLastRowNum()} */
+        public int getLastRowNum() { return Math.max(rows.size() - 1, 0); }
+
+        /** {@code null} if no such row is found in the worksheet */
+        public Row getRow(int rowIndex) { return rowIndex < 0 || rowIndex >= rows.size() ? null : rows.get(rowIndex); }
+
+        /** same as {@link Excel.Worksheet#findLastDataRow(ExcelAddress)} */
+        public int findLastDataRow(int startRow, int column) {
+            for (int i = startRow; i < getLastRowNum() + 1; i++) {
+                Row row = getRow(i);
+                if (row == null) { return i; }
+                Cell cell = row.getCell(column);
+                if (cell == null || cell.isBlank() || cell.isDataBlank()) { return i; }
+            }
+
+            return getLastRowNum() + 1;
+        }
+
+        /** same as {@link Excel.Worksheet#findLastDataColumn(ExcelAddress)} */
+        public int findLastDataColumn(int rowIndex, int startColumn) {
+            Row row = getRow(rowIndex);
+            if (row == null) { return -1; }
+            for (int i = startColumn; i < row.getLastCellNum() + 1; i++) {
+                Cell cell = row.getCell(i);
+                if (cell == null || cell.isBlank()) { return i; }
+            }
+
+            return row.getLastCellNum() + 1;
+        }
+
+        private void addRow(int rowIndex, List<Cell> cells) {
+            while (rows.size() < rowIndex) { rows.add(null); }
+            rows.add(new Row(cells));
+        }
+    }
+
+    /**
+     * read all the worksheets of {@code file} with a name accepted by {@code sheetFilter}, in the order as found in
+     * {@code file}. Return {@code null} if {@code file} cannot be read as a (non-encrypted) Excel 2007+ file.
+     */
+    public static List<Sheet> read(File file, Predicate<String> sheetFilter) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            // possibly encrypted or not a xlsx file
+            ConsoleUtils.log("Unable to stream " + file + ": " + e.getMessage());
+            return null;
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            // shared strings as stored (not just their text) are needed to decode them the same way as Excel
+            SharedStringsTable sharedStrings = reader.getSharedStringsTable();
+            StylesTable styles = reader.getStylesTable();
+            XMLReader parser = SAXHelper.newXMLReader();
+
+            List<Sheet> sheets = new ArrayList<>();
+            SheetIterator iterator = (SheetIterator) reader.getSheetsData();
+            while (iterator.hasNext()) {
+                try (InputStream sheetData = iterator.next()) {
+                    String sheetName = iterator.getSheetName();
+                    if (!sheetFilter.test(sheetName)) { continue; }
+
+                    Sheet sheet = new Sheet(sheetName);
+                    parser.setContentHandler(new SheetHandler(sheet, sharedStrings, styles));
+                    parser.parse(new InputSource(sheetData));
+                    sheets.add(sheet);
+                }
+            }
+
+            return sheets;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Unable to read " + file + ": " + e.getMessage(), e);
+        } finally {
+            // read-only; nothing to save
+            pkg.revert();
+        }
+    }
+
+    private static final class SheetHandler extends DefaultHandler {
+        private final Sheet sheet;
+        private final SharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final DataFormatter formatter = new DataFormatter();
+        private final Map<Integer, Boolean> strikeOutStyles = new HashMap<>();
+        private final StringBuilder text = new StringBuilder();
+
+        private List<Cell> cells;
+        private int rowIndex = -1;
+        private int columnIndex;
+
+        // state of current cell
+        private String cellType;
+        private int styleIndex;
+        private boolean hasValue;
+        private boolean inValue;
+        private boolean inInlineString;
+        private boolean inInlineText;
+        private boolean inPhonetic;
+        private int runs;
+
+        private SheetHandler(Sheet sheet, SharedStringsTable sharedStrings, StylesTable styles) {
+            this.sheet = sheet;
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (elementName(localName, qName)) {
+                case "row" -> {
+                    String ref = attributes.getValue("r");
+                    rowIndex = ref == null ? rowIndex + 1 : NumberUtils.toInt(ref) - 1;
+                    columnIndex = -1;
+                    cells = new ArrayList<>();
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    columnIndex = ref == null ? columnIndex + 1 : new CellReference(ref).getCol();
+                    cellType = attributes.getValue("t");
+                    styleIndex = NumberUtils.toInt(attributes.getValue("s"), 0);
+                    hasValue = false;
+                    runs = 0;
+                    text.setLength(0);
+                }
+                case "f" -> sheet.hasFormula = true;
+                case "v" -> {
+                    inValue = true;
+                    hasValue = true;
+                }
+                case "is" -> {
+                    inInlineString = true;
+                    hasValue = true;
+                }
+                case "t" -> inInlineText = inInlineString;
+                case "rPh" -> inPhonetic = true;
+                case "r" -> {
+                    if (inInlineString) { runs++; }
+                }
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || inInlineText && !inPhonetic) { text.append(ch, start, length); }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (elementName(localName, qName)) {
+                case "v" -> inValue = false;
+                case "t" -> inInlineText = false;
+                case "is" -> inInlineString = false;
+                case "rPh" -> inPhonetic = false;
+                case "c" -> {
+                    while (cells.size() < columnIndex) { cells.add(null); }
+                    cells.add(toCell());
+                }
+                case "row" -> sheet.addRow(rowIndex, cells);
+                default -> { }
+            }
+        }
+
+        private Cell toCell() {
+            boolean strikeOut = isStrikeOut(styleIndex);
+            if (!hasValue) { return new Cell(rowIndex, "", true, true, strikeOut); }
+
+            String raw = text.toString();
+            return switch (StringUtils.defaultString(cellType, "n")) {
+                case "s" -> {
+                    XSSFRichTextString value = sharedStrings == null ?
+                                               new XSSFRichTextString("") :
+                                               new XSSFRichTextString(sharedStrings.getEntryAt(NumberUtils.toInt(raw)));
+                    yield toTextCell(value, strikeOut);
+                }
+                case "inlineStr" -> {
+                    // the concatenated text of all runs; stored text (as in CTRst) only applies without runs
+                    XSSFRichTextString value = new XSSFRichTextString(raw);
+                    yield toTextCell(value, runs > 0 ? null : raw, strikeOut);
+                }
+                case "str" -> new Cell(rowIndex, raw, false, StringUtils.isBlank(raw), strikeOut);
+                case "b" -> new Cell(rowIndex, "1".equals(raw) ? "TRUE" : "FALSE", false, false, strikeOut);
+                case "e" -> new Cell(rowIndex, raw, false, StringUtils.isBlank(raw), strikeOut);
+                default -> new Cell(rowIndex, formatNumber(raw), false, StringUtils.isBlank(raw), strikeOut);
+            };
+        }
+
+        private Cell toTextCell(XSSFRichTextString value, boolean strikeOut) {
+            return toTextCell(value, value.getCTRst().getT(), strikeOut);
+        }
+
+        /** same as how {@link Excel#getCellValue(org.apache.poi.xssf.usermodel.XSSFCell)} treats text cell */
+        private Cell toTextCell(XSSFRichTextString value, String storedValue, boolean strikeOut) {
+            String cellValue = value.getString();
+            return new Cell(rowIndex,
+                            Excel.escapeUtfDecode(cellValue, storedValue, false),
+                            false,
+                            StringUtils.isBlank(cellValue),
+                            strikeOut);
+        }
+
+        private String formatNumber(String raw) {
+            if (StringUtils.isBlank(raw)) { return ""; }
+
+            double number;
+            try {
+                number = Double.parseDouble(raw);
+            } catch (NumberFormatException e) {
+                return raw;
+            }
+
+            XSSFCellStyle style = styles == null || styleIndex >= styles.getNumCellStyles() ?
+                                  null : styles.getStyleAt(styleIndex);
+            if (style == null) { return formatter.formatRawCellContents(number, 0, "General"); }
+            return formatter.formatRawCellContents(number, style.getDataFormat(), style.getDataFormatString());
+        }
+
+        private boolean isStrikeOut(int styleIndex) {
+            if (styles == null || styleIndex >= styles.getNumCellStyles()) { return false; }
+            return strikeOutStyles.computeIfAbsent(styleIndex, index -> {
+                XSSFCellStyle style = styles.getStyleAt(index);
+                if (style == null) { return false; }
+                XSSFFont font = style.getFont();
+                return font != null && font.getStrikeout();
+            });
+        }
+
+        private static String elementName(String localName, String qName) {
+            return StringUtils.isNotEmpty(localName) ? localName : StringUtils.substringAfterLast(":" + qName, ":");
+        }
+    }
+}
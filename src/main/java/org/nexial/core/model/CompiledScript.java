@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.nexial.core.ExecutionInputPrep;
+import org.nexial.core.excel.Excel;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.nexial.core.excel.ExcelConfig.COL_IDX_FLOW_CONTROLS;
+
+/**
+ * compiled form of a test script, built once per script (per distinct scenario selection) and shared by all the
+ * iterations of an execution via {@link ExecutionDefinition#getCompiledScript()}. It consists of:
+ * <ul>
+ * <li>the pruned workbook, ie. the test script with all the worksheets not referenced by the execution removed. The
+ * output file of each iteration is created from it.</li>
+ * <li>the test steps of each scenario, as read and validated by the first iteration that parsed the scenario. The
+ * following iterations bind these steps to the cells of their own output file (where the step results are written)
+ * instead of reading every cell again.</li>
+ * </ul>
+ * Scenarios are compiled only once and never change afterwards. Flow controls are parsed, and repeat-until/section
+ * blocks are grouped, per iteration since they might reference data variables.
+ */
+public final class CompiledScript {
+    private final long lastModified;
+    private final long length;
+    private final byte[] content;
+    private final Map<String, Scenario> scenarios = new ConcurrentHashMap<>();
+
+    /** the test steps of a scenario, by their row index */
+    public static final class Scenario {
+        private final int lastCommandRow;
+        private final Map<Integer, Step> steps;
+
+        Scenario(int lastCommandRow, Map<Integer, Step> steps) {
+            this.lastCommandRow = lastCommandRow;
+            this.steps = Collections.unmodifiableMap(new HashMap<>(steps));
+        }
+
+        public int getLastCommandRow() { return lastCommandRow; }
+
+        @Nullable
+        public Step getStep(int rowIndex) { return steps.get(rowIndex); }
+    }
+
+    /** the content of a test step, as read from its row */
+    public static final class Step {
+        private final String description;
+        private final String target;
+        private final String command;
+        private final List<String> params;
+        private final String flowControls;
+        private final boolean disabled;
+        private final boolean captureScreen;
+
+        private Step(TestStep step) {
+            List<XSSFCell> row = step.getRow();
+            description = step.getDescription();
+            target = step.getTarget();
+            command = step.getCommand();
+            params = Collections.unmodifiableList(new ArrayList<>(step.getParams()));
+            flowControls = defaultString(Excel.getCellValue(row.get(COL_IDX_FLOW_CONTROLS)), "");
+            disabled = ExecutionInputPrep.isTestStepDisabled(row);
+            captureScreen = step.isCaptureScreen();
+        }
+
+        static Step of(TestStep step) { return new Step(step); }
+
+        public String getDescription() { return description; }
+
+        public String getTarget() { return target; }
+
+        public String getCommand() { return command; }
+
+        public List<String> getParams() { return params; }
+
+        public String getFlowControls() { return flowControls; }
+
+        public boolean isDisabled() { return disabled; }
+
+        public boolean isCaptureScreen() { return captureScreen; }
+    }
+
+    public CompiledScript(long lastModified, long length, byte[] content) {
+        this.lastModified = lastModified;
+        this.length = length;
+        this.content = content;
+    }
+
+    /** true if {@code script} has not changed since it was compiled */
+    public boolean isCurrent(File script) {
+        return script.lastModified() == lastModified && script.length() == length;
+    }
+
+    /** the pruned workbook; must be treated as read-only */
+    public byte[] getContent() { return content; }
+
+    @Nullable
+    public Scenario getScenario(String name) { return scenarios.get(name); }
+
+    /** first one wins, in case the same scenario is compiled by concurrent iterations */
+    void addScenario(String name, int lastCommandRow, Map<Integer, Step> steps) {
+        scenarios.putIfAbsent(name, new Scenario(lastCommandRow, steps));
+    }
+}
@@ -23,7 +23,6 @@ import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.collections4.map.ListOrderedMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -114,6 +113,8 @@ public class ExecutionContext {
     private static final String NAME_PLUGIN_MANAGER = "nexialInternal.pluginManager";
     private static final String NAME_TRACK_TIME_LOGS = "nexialInternal.trackTimeLogs";
     private static final String NAME_CURRENT_COMMAND_PROFILES = "nexialInternal.currentCommandProfiles";
+    private static final String NAME_VARIABLE_SCOPE = "nexialInternal.variableScope";
+    private static final int MAX_FLAG_DEPENDENCIES = 16;
 
     // function parsing
     private static final String ESCAPED_DOLLAR = "\\$";
@@ -161,7 +162,11 @@ public class ExecutionContext {
     protected List<String> referenceDataForExecution = new ArrayList<>();
     protected ClassPathXmlApplicationContext springContext;
     protected PluginManager plugins;
-    protected Map<String, Object> data = new ListOrderedMap<>();
+    // memoized flags read on every step; invalidated on write of the variables they are resolved from
+    protected final ExecutionFlags flags = new ExecutionFlags();
+    protected PrefixIndexedMap<Object> data = new PrefixIndexedMap<>(flags::invalidate);
+    // script-level overrides of System properties; see VariableScope
+    protected final VariableScope scope = new VariableScope(flags::invalidate);
     protected ExpressionProcessor expression;
     protected ExecutionEventListener executionEventListener;
     protected CanTakeScreenshot screenshotAgent;
@@ -177,6 +182,16 @@ public class ExecutionContext {
 
     protected boolean isInMacro = false;
 
+    // last resolved nexial.var.ignored, so that we don't re-split it on every token replacement
+    private String ignoredVarsText;
+    private String ignoredVarsDelim;
+    private List<String> ignoredVars;
+
+    // only set when running as a virtual user in load test mode
+    protected LoadTestMetrics loadTestMetrics;
+    // shared by all the iterations of the current script, including their forks
+    protected IndependentScenarioRunner independentScenarioRunner;
+
     static final String KEY_COMPLEX = "__lAIxEn__";
     static final String DOT_LITERAL_REPLACER = "__53n7ry_4h34d__";
 
@@ -252,6 +267,14 @@ public class ExecutionContext {
     public ExecutionContext(ExecutionDefinition execDef) { this(execDef, null); }
 
     public ExecutionContext(ExecutionDefinition execDef, Map<String, Object> intraExecutionData) {
+        this(execDef, intraExecutionData, false);
+    }
+
+    /**
+     * a {@code forked} context (see {@link #fork()}) is part of an execution already started; hence neither the
+     * execution start event nor On-Demand Inspection detection is repeated for it.
+     */
+    private ExecutionContext(ExecutionDefinition execDef, Map<String, Object> intraExecutionData, boolean forked) {
         this.execDef = execDef;
         this.project = adjustPath(execDef);
         this.hostname = StringUtils.upperCase(EnvUtils.getHostName());
@@ -262,14 +285,19 @@ public class ExecutionContext {
         setData(ITERATION_ENDED, false);
 
         if (MapUtils.isNotEmpty(intraExecutionData)) {
-            // reuse existing spring context
+            // reuse existing spring context, except for forked context (see fork())
             springContext = (ClassPathXmlApplicationContext) intraExecutionData.remove(NAME_SPRING_CONTEXT);
-            initSpringBeans();
-
-            plugins = (PluginManager) intraExecutionData.remove(NAME_PLUGIN_MANAGER);
-            plugins.setContext(this);
+            PluginManager pluginManager = (PluginManager) intraExecutionData.remove(NAME_PLUGIN_MANAGER);
+            if (springContext == null) {
+                initSpringContext();
+            } else {
+                initSpringBeans();
+                plugins = pluginManager;
+                plugins.setContext(this);
+            }
 
             currentCommandProfiles = (Map<String, String>) intraExecutionData.remove(NAME_CURRENT_COMMAND_PROFILES);
+            scope.inherit((Map<String, String>) intraExecutionData.remove(NAME_VARIABLE_SCOPE));
 
             data.putAll(intraExecutionData);
             data.remove(BREAK_CURRENT_ITERATION);
@@ -281,15 +309,7 @@ public class ExecutionContext {
             data.remove(OPT_LAST_OUTPUT_LINK);
             data.remove(OPT_LAST_OUTPUT_PATH);
         } else {
-            // init spring
-            springContext = new ClassPathXmlApplicationContext("classpath:" +
-                                                               System.getProperty(OPT_SPRING_XML, DEF_SPRING_XML));
-            initSpringBeans();
-
-            // init plugins
-            plugins = springContext.getBean("pluginManager", PluginManager.class);
-            plugins.setContext(this);
-            plugins.init();
+            initSpringContext();
         }
 
         // some data can be overridden by System property
@@ -308,6 +328,8 @@ public class ExecutionContext {
         executionLogger = new ExecutionLogger(this);
         // profileHelper = new ProfileHelper(this);
 
+        if (forked) { return; }
+
         if (!ExecUtils.isRunningInZeroTouchEnv() && getBooleanData(OPT_ODI_ENABLED, getDefaultBool(OPT_ODI_ENABLED))) {
             OnDemandInspectionDetector.getInstance(this);
             ConsoleUtils.log("On-Demand Inspection detection enabled");
@@ -319,6 +341,8 @@ public class ExecutionContext {
     public void useTestScript(Excel testScript) throws IOException {
         this.testScript = testScript;
         setData(OPT_INPUT_EXCEL_FILE, testScript.getFile().getAbsoluteFile());
+        // test data might be re-fetched per iteration
+        if (execDef != null && execDef.getTestData() != null) { execDef.getTestData().exposeDataReference(this); }
 
         MDC.put(TEST_SUITE_NAME, getRunId());
         MDC.put(TEST_NAME, getId());
@@ -328,6 +352,31 @@ public class ExecutionContext {
         parse();
     }
 
+    /**
+     * prepare this context, forked to execute an independent scenario (see {@link IndependentScenarioRunner}), to
+     * execute only {@code scenario} of {@code testScript} - its own copy of the iteration-bound test script.
+     */
+    TestScenario useScenario(Excel testScript, String scenario) throws IOException {
+        this.testScript = testScript;
+        removeTrackTimeLogs();
+
+        MDC.put(TEST_SUITE_NAME, getRunId());
+        MDC.put(TEST_NAME, getId());
+
+        Worksheet worksheet = testScript.worksheet(scenario);
+        if (worksheet == null) { throw new IOException("Specified scenario '" + scenario + "' not found"); }
+
+        TestScenario testScenario = new TestScenario(this, worksheet);
+        testScenarios = new ArrayList<>(Collections.singletonList(testScenario));
+        return testScenario;
+    }
+
+    /** replace {@code original} with {@code executed}, as executed via {@link IndependentScenarioRunner} */
+    void replaceTestScenario(TestScenario original, TestScenario executed) {
+        int index = testScenarios.indexOf(original);
+        if (index != -1) { testScenarios.set(index, executed); }
+    }
+
     public ExecutionLogger getLogger() { return executionLogger; }
 
     public void logCurrentStep(String message) {
@@ -423,7 +472,7 @@ public class ExecutionContext {
 
         // browser is all about web commands...
         Map<String, String> config = getProfileConfig("web", currentCommandProfiles.get("web"));
-        String systemBrowser = System.getProperty(BROWSER, getStringData(BROWSER, getDefault(BROWSER)));
+        String systemBrowser = scope.get(BROWSER, getStringData(BROWSER, getDefault(BROWSER)));
         return StringUtils.remove(
             MapUtils.isEmpty(config) ? systemBrowser : config.getOrDefault(BROWSER, systemBrowser), ".");
     }
@@ -457,8 +506,8 @@ public class ExecutionContext {
     public ExecutionEventListener getExecutionEventListener() { return executionEventListener; }
 
     public boolean isScreenshotOnError() {
-        return getBooleanData(OPT_SCREENSHOT_ON_ERROR, getDefaultBool(OPT_SCREENSHOT_ON_ERROR)) &&
-               getBooleanData(OPT_SCREENSHOT_ENABLED, getDefaultBool(OPT_SCREENSHOT_ENABLED));
+        return getBooleanFlag(OPT_SCREENSHOT_ON_ERROR, getDefaultBool(OPT_SCREENSHOT_ON_ERROR)) &&
+               getBooleanFlag(OPT_SCREENSHOT_ENABLED, getDefaultBool(OPT_SCREENSHOT_ENABLED));
     }
 
     public void registerScreenshotAgent(CanTakeScreenshot agent) { screenshotAgent = agent; }
@@ -468,13 +517,13 @@ public class ExecutionContext {
     public CanTakeScreenshot findCurrentScreenshotAgent() { return screenshotAgent; }
 
     public boolean isInteractiveMode() {
-        return getBooleanData(OPT_INTERACTIVE, false) && !ExecUtils.isRunningInZeroTouchEnv();
+        return getBooleanFlag(OPT_INTERACTIVE, false) && !ExecUtils.isRunningInZeroTouchEnv();
     }
 
     /**
      * "fail-fast" is stifled for Nexial Interactive so that we can uncover more issues during interactive mode.
      */
-    public boolean isFailFast() { return getBooleanData(FAIL_FAST, getDefaultBool(FAIL_FAST)) && !isInteractiveMode(); }
+    public boolean isFailFast() { return getBooleanFlag(FAIL_FAST, getDefaultBool(FAIL_FAST)) && !isInteractiveMode(); }
 
     public boolean isResolveTextAsURL() {
         return hasData(RESOLVE_TEXT_AS_URL) ? getBooleanData(RESOLVE_TEXT_AS_URL) :
@@ -533,9 +582,9 @@ public class ExecutionContext {
 
     public int getFailAfter() { return getIntData(FAIL_AFTER, getDefaultInt(FAIL_AFTER)); }
 
-    public boolean isStepByStep() { return getBooleanData(OPT_STEP_BY_STEP); }
+    public boolean isStepByStep() { return getBooleanFlag(OPT_STEP_BY_STEP, false); }
 
-    public boolean isVerbose() { return getBooleanData(VERBOSE); }
+    public boolean isVerbose() { return getBooleanFlag(VERBOSE, false); }
 
     public boolean isTextMatchLeniently() {
         return getBooleanData(OPT_TEXT_MATCH_LENIENT, getDefaultBool(OPT_TEXT_MATCH_LENIENT));
@@ -558,22 +607,39 @@ public class ExecutionContext {
     public boolean isOutputToCloud() { return getBooleanData(OUTPUT_TO_CLOUD, getDefaultBool(OUTPUT_TO_CLOUD)); }
 
     public boolean isPauseOnError() {
-        return getBooleanData(OPT_PAUSE_ON_ERROR, getDefaultBool(OPT_PAUSE_ON_ERROR)) &&
+        return getBooleanFlag(OPT_PAUSE_ON_ERROR, getDefaultBool(OPT_PAUSE_ON_ERROR)) &&
                !ExecUtils.isRunningInZeroTouchEnv();
     }
 
     @NotNull
-    public String getTextDelim() { return getRawStringData(TEXT_DELIM, ","); }
+    public String getTextDelim() {
+        return flags.resolve(TEXT_DELIM, ",", () -> Collections.singleton(TEXT_DELIM),
+                             () -> getRawStringData(TEXT_DELIM, ","));
+    }
 
     @NotNull
-    public String getNullValueToken() { return getRawStringData(NULL_VALUE, NULL); }
+    public String getNullValueToken() {
+        return flags.resolve(NULL_VALUE, NULL, () -> Collections.singleton(NULL_VALUE),
+                             () -> getRawStringData(NULL_VALUE, NULL));
+    }
 
     public long getPollWaitMs() { return getIntConfig("web", currentCommandProfiles.get("web"), POLL_WAIT_MS); }
 
     public long getSLAElapsedTimeMs() { return getIntData(OPT_ELAPSED_TIME_SLA); }
 
     public long getDelayBetweenStep() {
-        return getIntData(DELAY_BETWEEN_STEPS_MS, getDefaultInt(DELAY_BETWEEN_STEPS_MS));
+        return getIntFlag(DELAY_BETWEEN_STEPS_MS, getDefaultInt(DELAY_BETWEEN_STEPS_MS));
+    }
+
+    public boolean isDescriptionAsToast() {
+        return getBooleanFlag(DESCRIPTION_AS_TOAST, getDefaultBool(DESCRIPTION_AS_TOAST));
+    }
+
+    /** true if the execution is to end immediately (ie. via {@literal EndIf()}), as signaled by any script */
+    public boolean isEndScriptImmediate() {
+        // execution-wide; only ever written as System property
+        return flags.resolve(END_SCRIPT_IMMEDIATE, false, Collections::emptySet,
+                             () -> BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false")));
     }
 
     public boolean useExplicitWait(String profile) {
@@ -591,7 +657,7 @@ public class ExecutionContext {
         if (StringUtils.isBlank(name)) { return null; }
 
         name = adjustForMacroFlex(name);
-        String sysProp = System.getProperty(name);
+        String sysProp = scope.get(name);
         if (StringUtils.isNotEmpty(sysProp)) { return sysProp; }
         return MapUtils.getObject(data, name);
     }
@@ -694,36 +760,20 @@ public class ExecutionContext {
         if (isInMacro()) {
             // if we are in macro, then the preference is to find macro-aware data variables
             String prefix1 = macroAwarePrefix(prefix);
-            data.forEach((key, value) -> {
-                if (StringUtils.startsWith(key, prefix1)) {
-                    props.put(StringUtils.substringAfter(key, prefix1), replaceTokens(Objects.toString(value)));
-                }
-            });
+            data.forEachWithPrefix(prefix1, (key, value) -> props.put(StringUtils.substringAfter(key, prefix1),
+                                                                      replaceTokens(Objects.toString(value))));
 
             // scan system properties _later_ so that they can override those also found in `data`
-            System.getProperties().forEach((key, value) -> {
-                String sKey = key.toString();
-                if (StringUtils.startsWith(sKey, prefix1)) {
-                    props.put(StringUtils.substringAfter(sKey, prefix1), replaceTokens(Objects.toString(value)));
-                }
-            });
+            scope.getByPrefix(prefix1).forEach((key, value) -> props.put(key, replaceTokens(value)));
         }
 
         if (MapUtils.isEmpty(props)) {
             // if no macro-aware variable is found, or if we are nto currently in macro...
-            data.forEach((key, value) -> {
-                if (StringUtils.startsWith(key, prefix)) {
-                    props.put(StringUtils.substringAfter(key, prefix), replaceTokens(Objects.toString(value)));
-                }
-            });
+            data.forEachWithPrefix(prefix, (key, value) -> props.put(StringUtils.substringAfter(key, prefix),
+                                                                     replaceTokens(Objects.toString(value))));
 
             // scan system properties _later_ so that they can override those also found in `data`
-            System.getProperties().forEach((key, value) -> {
-                String sKey = key.toString();
-                if (StringUtils.startsWith(sKey, prefix)) {
-                    props.put(StringUtils.substringAfter(sKey, prefix), replaceTokens(Objects.toString(value)));
-                }
-            });
+            scope.getByPrefix(prefix).forEach((key, value) -> props.put(key, replaceTokens(value)));
         }
 
         return props;
@@ -734,15 +784,11 @@ public class ExecutionContext {
         // ordered data names during collection; we have no way to predetermine the right order
         Set<String> names = new TreeSet<>();
 
-        names.addAll(data.keySet()
-                         .stream()
-                         .filter(name -> StringUtils.isEmpty(prefix) || StringUtils.startsWith(name, prefix))
-                         .collect(Collectors.toList()));
-        names.addAll(System.getProperties()
-                           .stringPropertyNames()
-                           .stream()
-                           .filter(name -> StringUtils.isEmpty(prefix) || StringUtils.startsWith(name, prefix))
-                           .collect(Collectors.toList()));
+        names.addAll(data.keysWithPrefix(StringUtils.defaultString(prefix)));
+        names.addAll(scope.names()
+                          .stream()
+                          .filter(name -> StringUtils.isEmpty(prefix) || StringUtils.startsWith(name, prefix))
+                          .collect(Collectors.toList()));
 
         return names;
     }
@@ -756,11 +802,10 @@ public class ExecutionContext {
                          .stream()
                          .filter(name -> StringUtils.isEmpty(regex) || RegexUtils.match(name, regex))
                          .collect(Collectors.toList()));
-        names.addAll(System.getProperties()
-                           .stringPropertyNames()
-                           .stream()
-                           .filter(name -> StringUtils.isEmpty(regex) || RegexUtils.match(name, regex))
-                           .collect(Collectors.toList()));
+        names.addAll(scope.names()
+                          .stream()
+                          .filter(name -> StringUtils.isEmpty(regex) || RegexUtils.match(name, regex))
+                          .collect(Collectors.toList()));
 
         return names;
     }
@@ -772,10 +817,8 @@ public class ExecutionContext {
      */
     @NotNull
     public Map<String, Object> getObjectByPrefix(String prefix) {
-        Map<String, Object> props = new LinkedHashMap<>(EnvUtils.getSysPropsByPrefix(prefix));
-        data.forEach((key, value) -> {
-            if (StringUtils.startsWith(key, prefix)) { props.put(StringUtils.substringAfter(key, prefix), value); }
-        });
+        Map<String, Object> props = new LinkedHashMap<>(scope.getByPrefix(prefix));
+        data.forEachWithPrefix(prefix, (key, value) -> props.put(StringUtils.substringAfter(key, prefix), value));
         return props;
     }
 
@@ -811,7 +854,7 @@ public class ExecutionContext {
         if (StringUtils.isBlank(name)) {
             return removed;
         } else {
-            String removedFromSys = System.clearProperty(name);
+            String removedFromSys = scope.remove(name);
             return StringUtils.isEmpty(removed) ? removedFromSys : removed;
         }
     }
@@ -821,16 +864,12 @@ public class ExecutionContext {
         if (isInMacro()) {
             // for macro, we would prefer macro-aware data variable names first
             String prefix1 = macroAwarePrefix(prefix);
-            matches = data.keySet().stream()
-                          .filter(key -> StringUtils.startsWith(key, prefix1))
-                          .collect(Collectors.toList());
+            matches = data.keysWithPrefix(prefix1);
         }
 
         if (CollectionUtils.isEmpty(matches)) {
             // if we can't find matching macro-aware data variables or if we are not using macro...
-            matches = data.keySet().stream()
-                          .filter(key -> StringUtils.startsWith(key, prefix))
-                          .collect(Collectors.toList());
+            matches = data.keysWithPrefix(prefix);
         }
 
         matches.forEach(this::removeData);
@@ -854,7 +893,12 @@ public class ExecutionContext {
 
             // logic updated; see below
             // if (updateSysProps || referenceDataForExecution.contains(name)) { System.setProperty(name, value); }
-            if (updateSysProps) { System.setProperty(name, value); }
+            if (updateSysProps) {
+                scope.setGlobal(name, value);
+            } else if (scope.contains(name)) {
+                // same as setDataOrSysProp(): override in script scope only, else the System property would prevail
+                scope.set(name, value);
+            }
         }
     }
 
@@ -915,9 +959,10 @@ public class ExecutionContext {
         // second pass: simple value ONLY
         Map<String, Object> collectionValues = new HashMap<>();
         Map<String, Object> complexValues = new HashMap<>();
-        Set<String> tokens = findTokens(text);
+        TokenTemplateCache.Template template = TokenTemplateCache.getInstance().resolve(text);
+        Set<String> tokens = new HashSet<>(template.getTokens());
 
-        List<String> ignoredVars = TextUtils.toList(getRawStringData(OPT_VAR_EXCLUDE_LIST), getTextDelim(), false);
+        List<String> ignoredVars = resolveIgnoredVars();
         if (CollectionUtils.isNotEmpty(ignoredVars)) { ignoredVars.forEach(tokens::remove); }
 
         boolean allTokenResolvedToNull = CollectionUtils.isNotEmpty(tokens);
@@ -927,6 +972,19 @@ public class ExecutionContext {
             if (config != null) { unresolvedAsIs = BooleanUtils.toBoolean(config.toString()); }
         }
 
+        // fast path: all tokens resolved to simple values, so substitute in a single pass over the parsed template
+        Map<String, String> simpleValues = template.isSimple() ? resolveSimpleTokens(tokens, retainCrypt) : null;
+        if (simpleValues != null) {
+            if (template.isSingleToken() && tokens.size() == 1 && simpleValues.get(template.getSegment(1)) == null) {
+                // if data contains a key (token) with value `null`, then we should just return null as is.
+                // otherwise, this token is not defined in context nor system prop.
+                if (data.containsKey(template.getSegment(1))) { return null; }
+                return unresolvedAsIs ? text : "";
+            }
+            text = substituteTokens(template, tokens, simpleValues, unresolvedAsIs);
+            tokens.clear();
+        }
+
         for (String token : tokens) {
             Object value = getObjectData(token);
             String tokenized = TOKEN_START + token + TOKEN_END;
@@ -1059,6 +1117,79 @@ public class ExecutionContext {
         return enforceUnixEOL(text);
     }
 
+    /**
+     * resolve {@code tokens} to their respective string value, or {@code null} for null/undefined token. Return
+     * {@code null} if any of the tokens cannot be substituted as simple text (such as collection or complex object),
+     * or if its value could form new tokens upon substitution. In such case the token-by-token replacement applies.
+     */
+    private Map<String, String> resolveSimpleTokens(Set<String> tokens, boolean retainCrypt) {
+        Map<String, String> values = new HashMap<>();
+        for (String token : tokens) {
+            Object value = getObjectData(token);
+            if (value == null || value.equals(NULL)) {
+                values.put(token, null);
+                continue;
+            }
+
+            String stringValue;
+            if (NON_PRINTABLE_REPLACEMENTS.containsKey(value.toString())) {
+                stringValue = NON_PRINTABLE_REPLACEMENTS.get(value.toString());
+            } else {
+                Class valueType = value.getClass();
+                if (!valueType.isPrimitive() && !SIMPLE_VALUES.contains(valueType)) { return null; }
+
+                stringValue = StringUtils.defaultString(getStringData(token));
+                if (retainCrypt && CellTextReader.isCrypt(stringValue)) { return null; }
+            }
+
+            if (StringUtils.contains(stringValue, TOKEN_START) ||
+                StringUtils.endsWith(stringValue, "$") ||
+                StringUtils.startsWith(stringValue, "{")) { return null; }
+
+            values.put(token, stringValue);
+        }
+        return values;
+    }
+
+    private String substituteTokens(TokenTemplateCache.Template template,
+                                    Set<String> tokens,
+                                    Map<String, String> values,
+                                    boolean unresolvedAsIs) {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < template.getSegmentCount(); i++) {
+            String segment = template.getSegment(i);
+            if (!TokenTemplateCache.Template.isToken(i)) {
+                buffer.append(segment);
+                continue;
+            }
+
+            if (!tokens.contains(segment)) {
+                // ignored token remains as is
+                buffer.append(TOKEN_START).append(segment).append(TOKEN_END);
+                continue;
+            }
+
+            String value = values.get(segment);
+            if (value != null) {
+                buffer.append(value);
+            } else if (unresolvedAsIs && !data.containsKey(segment)) {
+                buffer.append(TOKEN_START).append(segment).append(TOKEN_END);
+            }
+        }
+        return buffer.toString();
+    }
+
+    private List<String> resolveIgnoredVars() {
+        String ignored = getRawStringData(OPT_VAR_EXCLUDE_LIST);
+        String delim = getTextDelim();
+        if (!StringUtils.equals(ignored, ignoredVarsText) || !StringUtils.equals(delim, ignoredVarsDelim)) {
+            ignoredVars = TextUtils.toList(ignored, delim, false);
+            ignoredVarsText = ignored;
+            ignoredVarsDelim = delim;
+        }
+        return ignoredVars;
+    }
+
     public String handleExpression(String text) {
         if (StringUtils.isBlank(text)) { return text; }
         if (expression == null) { expression = new ExpressionProcessor(this); }
@@ -1204,10 +1335,85 @@ public class ExecutionContext {
         intraExecutionData.put(NAME_PLUGIN_MANAGER, plugins);
         intraExecutionData.put(NAME_SPRING_CONTEXT, springContext);
         intraExecutionData.put(NAME_CURRENT_COMMAND_PROFILES, currentCommandProfiles);
+        intraExecutionData.put(NAME_VARIABLE_SCOPE, scope.export());
         intraExecutionData.remove(IS_FIRST_ITERATION);
         intraExecutionData.remove(IS_LAST_ITERATION);
     }
 
+    /**
+     * create a new context for the same script, starting off with a copy of the data variables and script scope of this
+     * context, but with its own Spring context and plugins. This allows for iterations to be executed concurrently
+     * (see {@link org.nexial.core.ExecutionThread}). Must not be invoked while this context is being modified.
+     */
+    public ExecutionContext fork() { return fork(null); }
+
+    /**
+     * same as {@link #fork()}, but reuse the Spring context and plugins of {@code recycled} (if specified) - a context
+     * previously forked from this one and no longer in use.
+     */
+    public ExecutionContext fork(ExecutionContext recycled) { return fork(forkData(), recycled); }
+
+    /**
+     * copy of the data variables, script scope and command profiles of this context, from which contexts can be forked
+     * later on via {@link #fork(Map, ExecutionContext)}, even while this context is being modified.
+     * <p>
+     * This is a shallow copy: internal objects bound to this context (such as its track-time logs) are left out, so
+     * that each fork creates its own. Any other non-String data variable is shared among this context and its forks,
+     * and must not be modified by either of them.
+     */
+    Map<String, Object> forkData() {
+        Map<String, Object> forkData = new HashMap<>();
+        fillIntraExecutionData(forkData);
+        forkData.remove(NAME_SPRING_CONTEXT);
+        forkData.remove(NAME_PLUGIN_MANAGER);
+        forkData.remove(NAME_TRACK_TIME_LOGS);
+        forkData.put(NAME_CURRENT_COMMAND_PROFILES, new HashMap<>(currentCommandProfiles));
+        return forkData;
+    }
+
+    /** same as {@link #fork(ExecutionContext)}, but starting off with {@code forkData} from {@link #forkData()} */
+    ExecutionContext fork(Map<String, Object> forkData, ExecutionContext recycled) {
+        Map<String, Object> intraData = new HashMap<>(forkData);
+        intraData.put(NAME_CURRENT_COMMAND_PROFILES,
+                      new HashMap<>((Map<String, String>) forkData.get(NAME_CURRENT_COMMAND_PROFILES)));
+        if (recycled != null) {
+            intraData.put(NAME_SPRING_CONTEXT, recycled.springContext);
+            intraData.put(NAME_PLUGIN_MANAGER, recycled.plugins);
+        }
+        ExecutionContext fork = new ExecutionContext(execDef, intraData, true);
+        fork.independentScenarioRunner = independentScenarioRunner;
+        return fork;
+    }
+
+    /** runner of the independent scenarios of the current script; owned by {@link org.nexial.core.ExecutionThread} */
+    public void setIndependentScenarioRunner(IndependentScenarioRunner runner) { independentScenarioRunner = runner; }
+
+    /**
+     * adopt the data variables and script scope of a forked context, as collected via
+     * {@link #fillIntraExecutionData(Map)}. The Spring context, plugins and command profiles of this context are
+     * retained.
+     */
+    public void join(Map<String, Object> forkData) {
+        if (MapUtils.isEmpty(forkData)) { return; }
+
+        Map<String, Object> joined = new HashMap<>(forkData);
+        joined.remove(NAME_SPRING_CONTEXT);
+        joined.remove(NAME_PLUGIN_MANAGER);
+        joined.remove(NAME_CURRENT_COMMAND_PROFILES);
+        scope.inherit((Map<String, String>) joined.remove(NAME_VARIABLE_SCOPE));
+        data.putAll(joined);
+    }
+
+    /**
+     * release the plugins (along with the browsers they use) and the Spring context of a context created via
+     * {@link #fork()}, or of a context only used to fork others from
+     */
+    public void releaseFork() {
+        endScript();
+        if (plugins != null) { plugins.destroyPlugins(); }
+        if (springContext != null) { springContext.close(); }
+    }
+
     public Map<String, String> gatherScenarioReferenceData() { return gatherReferenceData(SCENARIO_REF_PREFIX); }
 
     public Map<String, String> gatherScriptReferenceData() { return gatherReferenceData(SCRIPT_REF_PREFIX); }
@@ -1223,10 +1429,22 @@ public class ExecutionContext {
     public void clearScriptRefData() { clearReferenceData(SCRIPT_REF_PREFIX); }
 
     public void startIteration(int iterationIndex, int iterationRef, int totalIterationCount, boolean firstUse) {
+        startIteration(iterationIndex, iterationRef, totalIterationCount, firstUse, iterationIndex == 1);
+    }
+
+    /**
+     * same as {@link #startIteration(int, int, int, boolean)}, but with the script start event signaled only if
+     * {@code scriptStart} is true, such as for the first loop of a virtual user in load test mode.
+     */
+    public void startIteration(int iterationIndex,
+                               int iterationRef,
+                               int totalIterationCount,
+                               boolean firstUse,
+                               boolean scriptStart) {
         getTrackTimeLogs();
 
         // remember whether we want to track execution completion as a time-track event or not
-        System.setProperty(TRACK_EXECUTION, getStringData(TRACK_EXECUTION, getDefault(TRACK_EXECUTION)));
+        scope.set(TRACK_EXECUTION, getStringData(TRACK_EXECUTION, getDefault(TRACK_EXECUTION)));
 
         setData(CURR_ITERATION, iterationIndex);
         if (iterationRef != -1) { setData(CURR_ITERATION_ID, iterationRef); }
@@ -1236,7 +1454,7 @@ public class ExecutionContext {
         // handling events
         ExecutionEventListener eventListener = getExecutionEventListener();
         if (firstUse) { eventListener.onExecutionStart(); }
-        if (iterationIndex == 1) { eventListener.onScriptStart(); }
+        if (scriptStart) { eventListener.onScriptStart(); }
         eventListener.onIterationStart();
     }
 
@@ -1316,7 +1534,9 @@ public class ExecutionContext {
 
     public void setEndImmediate(boolean endImmediate) {
         data.put(END_IMMEDIATE, endImmediate);
-        if (!ExecUtils.IS_RUNNING_IN_JUNIT) { System.setProperty(END_SCRIPT_IMMEDIATE, endImmediate + ""); }
+        if (!ExecUtils.IS_RUNNING_IN_JUNIT) {
+            VariableScope.setSystemProperty(END_SCRIPT_IMMEDIATE, endImmediate + "");
+        }
     }
 
     // support flow controls - EndIf()
@@ -1340,6 +1560,10 @@ public class ExecutionContext {
 
     public boolean isInMacro() { return isInMacro; }
 
+    public LoadTestMetrics getLoadTestMetrics() { return loadTestMetrics; }
+
+    public void setLoadTestMetrics(LoadTestMetrics loadTestMetrics) { this.loadTestMetrics = loadTestMetrics; }
+
     @NotNull
     public TrackTimeLogs getTrackTimeLogs() {
         TrackTimeLogs trackTimeLogs = null;
@@ -1366,8 +1590,13 @@ public class ExecutionContext {
         // set back to its pre-execution state
         Map<String, String> ref = gatherScenarioReferenceData();
 
+        // independent scenarios, if any, are executed concurrently with the rest
+        IndependentScenarioRunner.Batch independentScenarios =
+            independentScenarioRunner == null ? null : independentScenarioRunner.start(this, ref);
+
         for (TestScenario testScenario : testScenarios) {
-            if (BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false"))) {
+            if (independentScenarios != null && independentScenarios.isIndependent(testScenario)) { continue; }
+            if (isEndScriptImmediate()) {
                 executionLogger.log(this, RB.Abort.text("exec.endIf"));
                 break;
             }
@@ -1400,6 +1629,8 @@ public class ExecutionContext {
             }
         }
 
+        if (independentScenarios != null && !independentScenarios.complete()) { allPass = false; }
+
         markExecutionEnd();
 
         MemManager.gc(this);
@@ -1444,23 +1675,27 @@ public class ExecutionContext {
     }
 
     public static boolean getSystemThenContextBooleanData(String name, ExecutionContext context, boolean def) {
-        return BooleanUtils.toBoolean(
-            System.getProperty(name, (context == null ? def : context.getBooleanData(name, def)) + ""));
+        if (context == null) { return BooleanUtils.toBoolean(System.getProperty(name, def + "")); }
+        return BooleanUtils.toBoolean(context.scope.get(name, context.getBooleanData(name, def) + ""));
     }
 
     public static int getSystemThenContextIntData(String name, ExecutionContext context, int def) {
-        return NumberUtils.toInt(
-            System.getProperty(name, (context == null ? def : context.getIntData(name, def)) + ""));
+        if (context == null) { return NumberUtils.toInt(System.getProperty(name, def + "")); }
+        return NumberUtils.toInt(context.scope.get(name, context.getIntData(name, def) + ""));
     }
 
     public static String getSystemThenContextStringData(String name, ExecutionContext context, String def) {
-        if (System.getProperty(name) == null) {
-            String value = context == null ? def : context.getStringData(name, def);
-            System.setProperty(name, value);
-            return value;
-        } else {
+        if (context == null) {
+            if (System.getProperty(name) == null) { System.setProperty(name, def); }
             return System.getProperty(name, def);
         }
+
+        String value = context.scope.get(name);
+        if (value == null) {
+            value = context.getStringData(name, def);
+            context.scope.set(name, value);
+        }
+        return value;
     }
 
     public static String unescapeToken(String text) {
@@ -1672,11 +1907,11 @@ public class ExecutionContext {
         if (remove) {
             data.remove(MACRO_FLEX_PREFIX + name);
             data.remove(name);
-            System.clearProperty(name);
+            scope.remove(name);
             return;
         }
 
-        if (StringUtils.isEmpty(System.getProperty(name))) {
+        if (StringUtils.isEmpty(scope.get(name))) {
             if (prefixedForMacroFlex(name)) {
                 data.put(MACRO_FLEX_PREFIX + name, value);
             } else {
@@ -1685,19 +1920,60 @@ public class ExecutionContext {
 
             // some reference data are considered "special" and should be elevated to "execution" level so that they
             // can be used as such for Execution Dashboard
-            if (referenceDataForExecution.contains(name)) { System.setProperty(name, Objects.toString(value)); }
+            if (referenceDataForExecution.contains(name)) { scope.setGlobal(name, Objects.toString(value)); }
         } else {
-            System.setProperty(name, Objects.toString(value));
+            // override in script scope only, so that other scripts running in parallel are not affected
+            scope.set(name, Objects.toString(value));
         }
     }
 
+    /** memoized {@link #getBooleanData(String, boolean)}, for flags read on every step */
+    protected boolean getBooleanFlag(String name, boolean def) {
+        // variable names are resolved differently in macro
+        if (isInMacro()) { return getBooleanData(name, def); }
+        return flags.resolve(name, def, () -> collectFlagDependencies(name), () -> getBooleanData(name, def));
+    }
+
+    /** memoized {@link #getIntData(String, int)}, for flags read on every step */
+    protected int getIntFlag(String name, int def) {
+        if (isInMacro()) { return getIntData(name, def); }
+        return flags.resolve(name, def, () -> collectFlagDependencies(name), () -> getIntData(name, def));
+    }
+
+    /**
+     * names of the variables that the value of {@code name} is resolved from: {@code name} itself and the variables
+     * it references, directly or indirectly. {@code null} if the value cannot be memoized, such as one that contains
+     * built-in function, expression or crypt.
+     */
+    protected Set<String> collectFlagDependencies(String name) {
+        Set<String> dependencies = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(name);
+        while (!pending.isEmpty()) {
+            String var = pending.pop();
+            if (!dependencies.add(var)) { continue; }
+            if (dependencies.size() > MAX_FLAG_DEPENDENCIES) { return null; }
+
+            String raw = getRawStringData(var);
+            if (StringUtils.isBlank(raw)) { continue; }
+            if (StringUtils.containsAny(raw, "$(", "[", CRYPT_IND)) { return null; }
+            if (!StringUtils.contains(raw, TOKEN_START)) { continue; }
+
+            TokenTemplateCache.Template template = TokenTemplateCache.getInstance().resolve(raw);
+            if (!template.isSimple()) { return null; }
+            pending.addAll(template.getTokens());
+        }
+
+        return dependencies;
+    }
+
     /**
      * perhaps it's a system property? first check System property, then internal map
      */
-    protected String getRawStringData(String name) { return System.getProperty(name, flattenAsString(data.get(name))); }
+    protected String getRawStringData(String name) { return scope.get(name, flattenAsString(data.get(name))); }
 
     protected String getRawStringData(String name, String def) {
-        return StringUtils.defaultString(System.getProperty(name),
+        return StringUtils.defaultString(scope.get(name),
                                          data.containsKey(name) ? flattenAsString(data.get(name)) : def);
     }
 
@@ -1717,14 +1993,9 @@ public class ExecutionContext {
     }
 
     protected void clearReferenceData(String prefix) {
-        Object[] deleteCandidates = data.keySet().stream().filter(key -> StringUtils.startsWith(key, prefix)).toArray();
-        for (Object deleteCandidate : deleteCandidates) { data.remove(Objects.toString(deleteCandidate)); }
+        data.removeByPrefix(prefix);
 
-        Object[] sysProps = System.getProperties().keySet().toArray();
-        for (Object key : sysProps) {
-            String sKey = Objects.toString(key);
-            if (StringUtils.startsWith(sKey, prefix)) { System.clearProperty(sKey); }
-        }
+        scope.removeByPrefix(prefix);
     }
 
     protected Map<String, String> gatherReferenceData(String prefix) { return getDataByPrefix(prefix); }
@@ -2176,7 +2447,7 @@ public class ExecutionContext {
         defaultContextProps.forEach((name, def) -> {
             if (StringUtils.isBlank(System.getProperty(name))) {
                 String value = hasData(name) ? getStringData(name) : def;
-                if (StringUtils.isNotEmpty(value)) { System.setProperty(name, value); }
+                if (StringUtils.isNotEmpty(value)) { VariableScope.setSystemProperty(name, value); }
             }
         });
 
@@ -2188,18 +2459,31 @@ public class ExecutionContext {
 
         if (StringUtils.isBlank(System.getProperty(OPT_OPEN_RESULT))) {
             boolean openResult = MapUtils.getBoolean(data, OPT_OPEN_RESULT, getDefaultBool(OPT_OPEN_RESULT));
-            System.setProperty(OPT_OPEN_RESULT, openResult + "");
+            VariableScope.setSystemProperty(OPT_OPEN_RESULT, openResult + "");
         }
 
         // DO NOT SET BROWSER TYPE TO SYSTEM PROPS, SINCE THIS WILL PREVENT ITERATION-LEVEL OVERRIDES
         // System.setProperty(SPREADSHEET_PROGRAM, spreadsheetProgram);
 
         // system-wide impact, so this spot is as good as any...
-        System.setProperty(TARGET_DISPLAY, MapUtils.getString(data, TARGET_DISPLAY, getDefault(TARGET_DISPLAY)));
+        VariableScope.setSystemProperty(TARGET_DISPLAY,
+                                        MapUtils.getString(data, TARGET_DISPLAY, getDefault(TARGET_DISPLAY)));
 
         ExecutionMailConfig.configure(this);
     }
 
+    private void initSpringContext() {
+        // init spring
+        springContext = new ClassPathXmlApplicationContext("classpath:" +
+                                                           System.getProperty(OPT_SPRING_XML, DEF_SPRING_XML));
+        initSpringBeans();
+
+        // init plugins
+        plugins = springContext.getBean("pluginManager", PluginManager.class);
+        plugins.setContext(this);
+        plugins.init();
+    }
+
     private void initSpringBeans() {
         failfastCommands = springContext.getBean("failfastCommands", new ArrayList<String>().getClass());
 
@@ -2257,7 +2541,7 @@ public class ExecutionContext {
     private Map<String, Object> getDataMap() { return data; }
 
     private void overrideIfSysPropFound(String propName) {
-        if (StringUtils.isNotBlank(System.getProperty(propName))) { setData(propName, System.getProperty(propName)); }
+        if (StringUtils.isNotBlank(scope.get(propName))) { setData(propName, scope.get(propName)); }
     }
 
     private String flattenAsString(Object value) {
@@ -2423,7 +2707,7 @@ public class ExecutionContext {
     private String adjustForMacroFlex(String name) {
         if (StringUtils.startsWith(name, NAMESPACE)) { return name; }
         if (!isInMacro) { return name; }
-        if (System.getProperties().containsKey(MACRO_FLEX_PREFIX + name)) { return MACRO_FLEX_PREFIX + name; }
+        if (scope.contains(MACRO_FLEX_PREFIX + name)) { return MACRO_FLEX_PREFIX + name; }
         if (data.containsKey(MACRO_FLEX_PREFIX + name)) { return MACRO_FLEX_PREFIX + name; }
         return name;
     }
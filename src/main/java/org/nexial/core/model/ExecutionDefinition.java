@@ -17,8 +17,11 @@
 
 package org.nexial.core.model;
 
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.nexial.commons.utils.FileUtil;
-import org.nexial.core.excel.Excel;
+import org.nexial.commons.utils.TextUtils;
 import org.nexial.core.utils.ConsoleUtils;
 
 import java.io.File;
@@ -27,7 +30,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.nexial.core.NexialConst.Data.DEF_OPEN_EXCEL_AS_DUP;
 import static org.nexial.core.excel.Excel.MIN_EXCEL_FILE_SIZE;
 
 public class ExecutionDefinition {
@@ -52,6 +54,8 @@ public class ExecutionDefinition {
     private String planFilename;
     private String planName;
     private int planSequence;
+    // shared by all iterations, possibly concurrent ones
+    private volatile CompiledScript compiledScript;
 
     public ExecutionDefinition() { }
 
@@ -103,6 +107,41 @@ public class ExecutionDefinition {
 
     public void setHoldForSec(int holdForSec) { this.holdForSec = holdForSec; }
 
+    /**
+     * parse load test specification in the form of {@code min, max, ramp up sec, hold for sec}. {@code min} must be at
+     * least 1, {@code max} no less than {@code min}; ramp up and hold for may be omitted (default to 0).
+     */
+    public void parseLoadTestSpec(String spec) {
+        List<String> parts = TextUtils.toList(StringUtils.trim(spec), ",", true);
+        if (CollectionUtils.isEmpty(parts) || parts.size() < 2 || parts.size() > 4) {
+            throw new IllegalArgumentException("Invalid load test specification '" + spec + "'; " +
+                                               "expects 'min, max, ramp up sec, hold for sec'");
+        }
+
+        int[] values = new int[]{0, 0, 0, 0};
+        for (int i = 0; i < parts.size(); i++) {
+            if (!NumberUtils.isDigits(parts.get(i))) {
+                throw new IllegalArgumentException("Invalid load test specification '" + spec + "'; " +
+                                                   "'" + parts.get(i) + "' is not a non-negative integer");
+            }
+            values[i] = NumberUtils.toInt(parts.get(i));
+        }
+
+        if (values[0] < 1) {
+            throw new IllegalArgumentException("Invalid load test specification '" + spec + "'; " +
+                                               "minimum load must be at least 1");
+        }
+        if (values[1] < values[0]) {
+            throw new IllegalArgumentException("Invalid load test specification '" + spec + "'; " +
+                                               "maximum load must not be less than minimum load");
+        }
+
+        minimumLoad = values[0];
+        maximumLoad = values[1];
+        rampUpSec = values[2];
+        holdForSec = values[3];
+    }
+
     public TestProject getProject() { return project; }
 
     public void setProject(TestProject project) { this.project = project; }
@@ -146,6 +185,11 @@ public class ExecutionDefinition {
 
     public void setPlanSequence(int planSequence) { this.planSequence = planSequence; }
 
+    /** the compiled form of {@link #testScript}, as last prepared by {@link org.nexial.core.ExecutionInputPrep} */
+    public CompiledScript getCompiledScript() { return compiledScript; }
+
+    public void setCompiledScript(CompiledScript compiledScript) { this.compiledScript = compiledScript; }
+
     public void parse() throws IOException {
         if (this.dataFile == null) {
             throw new IllegalArgumentException("data file not specified for this script: " + this.testScript);
@@ -155,15 +199,12 @@ public class ExecutionDefinition {
             throw new IllegalArgumentException("specified data file is not readable or valid: " + this.dataFile);
         }
 
-        Excel dataFile = new Excel(this.dataFile, DEF_OPEN_EXCEL_AS_DUP, false);
         Map<String, List<String>> runtimeDataMap = testData == null ? new HashMap<>() : testData.getRuntimeDataMap();
 
-        // parse and collect all relevant test data, so we can merge then into iteration-bound test script
-        testData = new TestData(dataFile, dataSheets);
+        // parse and collect all relevant test data, so we can merge then into iteration-bound test script.
+        // unchanged data file is parsed only once per run; each execution gets its own copy
+        testData = TestDataCache.getInstance().resolve(this.dataFile, dataSheets);
         testData.addExistingRuntimeData(runtimeDataMap);
-
-        // (2018/12/16,automike): memory consumption precaution
-        dataFile.close();
     }
 
     public void infuseIntraExecutionData(Map<String, Object> intraExecutionData) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.nexial.core.NexialConst.MACRO_FLEX_PREFIX;
+
+/**
+ * memoized, typed values of the execution flags read on every step (such as fail-fast, verbose or delay between
+ * steps), as used by {@link ExecutionContext}. Each value is resolved once and kept along with the names of the
+ * variables it was resolved from (the flag itself and any variable it references). It is discarded when any of
+ * these variables is written in {@link ExecutionContext}, or when any System property is written via
+ * {@link VariableScope}.
+ * <p>
+ * System properties written directly (ie. not via {@link VariableScope}) are not tracked.
+ */
+final class ExecutionFlags {
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private static final class Snapshot {
+        private final Object value;
+        private final Object def;
+        private final Set<String> dependencies;
+        private final long globalVersion;
+
+        private Snapshot(Object value, Object def, Set<String> dependencies, long globalVersion) {
+            this.value = value;
+            this.def = def;
+            this.dependencies = dependencies;
+            this.globalVersion = globalVersion;
+        }
+
+        private boolean dependsOn(String name) {
+            if (dependencies.contains(name)) { return true; }
+            // ie. ${order.amount} is resolved from `order`
+            for (String dependency : dependencies) {
+                if (StringUtils.startsWith(dependency, name + ".")) { return true; }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * memoized value of flag {@code name} (with default {@code def}), or else the value resolved via
+     * {@code resolver}. {@code dependencies} is consulted on resolution only; {@code null} (not eligible for
+     * memoization) means the resolved value is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T resolve(String name, T def, Supplier<Set<String>> dependencies, Supplier<T> resolver) {
+        Snapshot snapshot = snapshots.get(name);
+        long globalVersion = VariableScope.getGlobalVersion();
+        if (snapshot != null && snapshot.globalVersion == globalVersion && Objects.equals(snapshot.def, def)) {
+            return (T) snapshot.value;
+        }
+
+        Set<String> names = dependencies.get();
+        T value = resolver.get();
+        if (names == null || value == null) {
+            snapshots.remove(name);
+        } else {
+            snapshots.put(name, new Snapshot(value, def, names, globalVersion));
+        }
+        return value;
+    }
+
+    /** discard the flags resolved from variable {@code name} */
+    void invalidate(String name) {
+        if (name == null || snapshots.isEmpty()) { return; }
+
+        String unprefixed = StringUtils.removeStart(name, MACRO_FLEX_PREFIX);
+        snapshots.values().removeIf(snapshot -> snapshot.dependsOn(name) || snapshot.dependsOn(unprefixed));
+    }
+
+    void clear() { snapshots.clear(); }
+
+    int size() { return snapshots.size(); }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.io.FileUtils;
+import org.nexial.commons.utils.TextUtils;
+import org.nexial.core.ExecutionThread;
+import org.nexial.core.excel.Excel;
+import org.nexial.core.excel.Excel.Worksheet;
+import org.nexial.core.utils.ConsoleUtils;
+import org.nexial.core.utils.OutputFileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.nexial.core.NexialConst.Exec.INDEPENDENT_SCENARIOS;
+import static org.nexial.core.NexialConst.Exec.MAX_PARALLEL_SCENARIOS;
+import static org.nexial.core.NexialConst.Iteration.IS_FIRST_ITERATION;
+import static org.nexial.core.NexialConst.Iteration.IS_LAST_ITERATION;
+import static org.nexial.core.SystemVariables.getDefaultInt;
+
+/**
+ * execute the scenarios of each iteration that are marked as independent (see
+ * {@link org.nexial.core.NexialConst.Exec#INDEPENDENT_SCENARIOS}) concurrently, while the remaining scenarios are
+ * executed by {@link ExecutionContext#execute()} as usual. Each independent scenario is executed with its own forked
+ * context (see {@link ExecutionContext#fork(Map, ExecutionContext)}) against its own copy of the output file of the
+ * current iteration.
+ * <p>
+ * One runner is used for all the iterations of a script (see {@link org.nexial.core.ExecutionThread}). Its threads,
+ * along with the Spring context and plugins of the contexts forked by each thread, are retained from one iteration
+ * to the next, and only released via {@link #release()} once the script is completed.
+ * <p>
+ * Once all scenarios of an iteration are completed, the worksheet and the summary of each independent scenario are
+ * merged into the output file of that iteration, in the order of scenarios. Fail-immediate and end-immediate
+ * conditions raised by an independent scenario are carried over to the rest of the script, but its data variables are
+ * not.
+ */
+public final class IndependentScenarioRunner {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    // created on first use, since most scripts have no independent scenario
+    private ExecutorService executor;
+    // the last forked context of each thread, which holds the Spring context and plugins of that thread
+    private final Map<Thread, ExecutionContext> forks = new ConcurrentHashMap<>();
+
+    /** the independent scenarios of one iteration */
+    final class Batch {
+        private final ExecutionContext context;
+        private final Map<String, String> scenarioRefs;
+        // gathered up front, since `context` is modified by the scenarios executed alongside
+        private final Map<String, Object> forkData;
+        private final boolean firstIteration;
+        private final boolean lastIteration;
+        private final File snapshot;
+        private final Map<TestScenario, Future<Outcome>> outcomes = new LinkedHashMap<>();
+
+        private Batch(ExecutionContext context, Map<String, String> scenarioRefs) throws IOException {
+            this.context = context;
+            this.scenarioRefs = scenarioRefs;
+            this.forkData = context.forkData();
+            this.firstIteration = context.getBooleanData(IS_FIRST_ITERATION, false);
+            this.lastIteration = context.getBooleanData(IS_LAST_ITERATION, false);
+
+            // the output file is saved after each scenario, hence each independent scenario starts off a snapshot
+            Excel testScript = context.getTestScript();
+            snapshot = OutputFileUtils.prependRandomizedTempDirectory(testScript.getFile().getName());
+            Excel.save(snapshot, testScript.getWorkbook());
+        }
+
+        boolean isIndependent(TestScenario scenario) { return outcomes.containsKey(scenario); }
+
+        /**
+         * wait for all independent scenarios of this iteration to complete, then merge their worksheets and summaries
+         * in the order of scenarios. Return {@code false} if any of them failed.
+         */
+        boolean complete() {
+            String runId = context.getRunId();
+            boolean allPass = true;
+
+            for (Map.Entry<TestScenario, Future<Outcome>> entry : outcomes.entrySet()) {
+                TestScenario original = entry.getKey();
+                try {
+                    Outcome outcome = entry.getValue().get();
+                    try {
+                        merge(original, outcome);
+                    } finally {
+                        // done with the copy of the output file of this scenario; its plugins live on
+                        outcome.fork.endScript();
+                    }
+
+                    if (!outcome.pass) { allPass = false; }
+                    if (outcome.failImmediate) { context.setFailImmediate(true); }
+                    if (outcome.endImmediate) { context.setEndImmediate(true); }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ConsoleUtils.error(runId, "Independent scenarios interrupted: " + e.getMessage());
+                    // the threads are shared by other iterations; only cancel the scenarios of this one
+                    outcomes.values().forEach(future -> future.cancel(true));
+                    allPass = false;
+                    break;
+                } catch (ExecutionException | IOException e) {
+                    Throwable error = e instanceof ExecutionException ? e.getCause() : e;
+                    ConsoleUtils.error(runId, "Unable to complete scenario " + original.getName() + ": " +
+                                              error.getMessage());
+                    allPass = false;
+                }
+            }
+
+            FileUtils.deleteQuietly(snapshot);
+            return allPass;
+        }
+
+        private Outcome execute(String scenario) throws IOException {
+            // reuse the Spring context and plugins of the previous fork of this thread, if any. The previous fork
+            // itself is released by the iteration that owns it, once its scenario is merged
+            ExecutionContext fork = context.fork(forkData, ExecutionThread.get());
+            ExecutionThread.set(fork);
+            forks.put(Thread.currentThread(), fork);
+
+            fork.setData(IS_FIRST_ITERATION, firstIteration);
+            fork.setData(IS_LAST_ITERATION, lastIteration);
+
+            try {
+                TestScenario testScenario = fork.useScenario(new Excel(snapshot, true, true), scenario);
+
+                fork.markExecutionStart();
+                fork.clearScenarioRefData();
+                scenarioRefs.forEach((name, value) -> fork.addScenarioReferenceData(name,
+                                                                                    fork.replaceTokens(value)));
+                boolean pass = testScenario.execute();
+                fork.markExecutionEnd();
+
+                return new Outcome(testScenario, pass, fork);
+            } catch (IOException | RuntimeException e) {
+                // nothing to merge, hence its copy of the output file is closed here
+                fork.endScript();
+                throw e;
+            }
+        }
+
+        private void merge(TestScenario original, Outcome outcome) throws IOException {
+            TestScenario executed = outcome.scenario;
+            Worksheet target = original.getWorksheet();
+            Worksheet source = executed.getWorksheet();
+            Excel.replaceSheetContent(source.getSheet(), target.getSheet());
+            target.save();
+            FileUtils.deleteQuietly(source.getFile());
+
+            executed.getExecutionSummary().setTestScript(target.excel().getOriginalFile());
+            context.replaceTestScenario(original, executed);
+            // now owned by `context`, which closes it along with the other scenarios of the current iteration
+            outcome.fork.getTestScenarios().remove(executed);
+        }
+    }
+
+    private static final class Outcome {
+        private final ExecutionContext fork;
+        private final TestScenario scenario;
+        private final boolean pass;
+        private final boolean failImmediate;
+        private final boolean endImmediate;
+
+        private Outcome(TestScenario scenario, boolean pass, ExecutionContext fork) {
+            this.fork = fork;
+            this.scenario = scenario;
+            this.pass = pass;
+            this.failImmediate = fork.isFailImmediate();
+            this.endImmediate = fork.isEndImmediate();
+        }
+    }
+
+    /**
+     * start executing the independent scenarios of the current iteration of {@code context}, if any. {@code null} is
+     * returned if no scenario is marked as independent, or if the current execution is interactive, step-by-step or
+     * pause-on-error.
+     */
+    Batch start(ExecutionContext context, Map<String, String> scenarioRefs) throws IOException {
+        if (!context.hasData(INDEPENDENT_SCENARIOS)) { return null; }
+        if (context.isInteractiveMode() || context.isStepByStep() || context.isPauseOnError()) { return null; }
+
+        List<String> names = TextUtils.toList(context.getStringData(INDEPENDENT_SCENARIOS),
+                                              context.getTextDelim(),
+                                              true);
+        if (CollectionUtils.isEmpty(names)) { return null; }
+
+        List<TestScenario> independents = context.getTestScenarios().stream()
+                                                 .filter(scenario -> names.contains(scenario.getName()))
+                                                 .collect(Collectors.toList());
+        if (independents.isEmpty()) { return null; }
+
+        ExecutorService executor = resolveExecutor(context, independents.size());
+        ConsoleUtils.log(context.getRunId(), "executing " + independents.size() + " independent scenario(s)");
+
+        Batch batch = new Batch(context, scenarioRefs);
+        independents.forEach(scenario -> batch.outcomes.put(scenario, executor.submit(
+            () -> batch.execute(scenario.getName()))));
+        return batch;
+    }
+
+    /**
+     * shut down the threads of this runner and release the contexts they forked (along with their Spring context and
+     * plugins). Invoked once the script is completed.
+     */
+    public void release() {
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+
+        forks.values().forEach(ExecutionContext::releaseFork);
+        forks.clear();
+    }
+
+    private synchronized ExecutorService resolveExecutor(ExecutionContext context, int scenarioCount) {
+        if (executor != null) { return executor; }
+
+        // the same independent scenarios are found in every iteration
+        int threads = Math.min(scenarioCount,
+                               Math.max(context.getIntData(MAX_PARALLEL_SCENARIOS,
+                                                           getDefaultInt(MAX_PARALLEL_SCENARIOS)), 1));
+        ConsoleUtils.log(context.getRunId(), "executing independent scenarios over " + threads + " thread(s)");
+
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "nexial-scenario-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = Executors.newFixedThreadPool(threads, threadFactory);
+        return executor;
+    }
+}
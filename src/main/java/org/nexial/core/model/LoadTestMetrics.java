@@ -0,0 +1,213 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.nexial.core.NexialConst.NL;
+
+/**
+ * latency and throughput collector for a load test run. Each virtual user (each with its own
+ * {@link ExecutionContext}) reports the elapsed time of every executed step here; at the end of the run the
+ * collected latencies are summarized per step as count, failures, min/avg/max, p50/p95/p99 and throughput.
+ */
+public class LoadTestMetrics {
+    private static final String REPORT_HEADER =
+        "scenario,activity,row,command,count,failed,min ms,avg ms,p50 ms,p95 ms,p99 ms,max ms,throughput/sec";
+
+    private final Map<String, StepLatency> steps = new LinkedHashMap<>();
+    private final AtomicInteger activeUsers = new AtomicInteger();
+    private final AtomicInteger peakUsers = new AtomicInteger();
+    private long startTime;
+    private long endTime;
+
+    /**
+     * latency of a single step (same scenario, activity and row) across all virtual users. Latencies are counted in a
+     * fixed set of buckets, so that memory use does not grow with the duration of the load test: under 64 ms each
+     * bucket holds a single value, above that each power-of-2 range is split into 32 buckets (about 3% precision).
+     * Min, max and average are exact.
+     */
+    public static class StepLatency {
+        private static final int EXACT_BUCKETS = 64;
+        private static final int SUB_BUCKET_BITS = 5;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        // power-of-2 ranges from 2^6 (EXACT_BUCKETS) to 2^30, since latencies are capped at Integer.MAX_VALUE ms
+        private static final int BUCKETS = EXACT_BUCKETS + (31 - 6) * SUB_BUCKETS;
+
+        private final String scenario;
+        private final String activity;
+        private final int row;
+        private final String command;
+        private final int[] buckets = new int[BUCKETS];
+        private int count;
+        private int failed;
+        private long min;
+        private long max;
+        private long total;
+
+        StepLatency(String scenario, String activity, int row, String command) {
+            this.scenario = scenario;
+            this.activity = activity;
+            this.row = row;
+            this.command = command;
+        }
+
+        synchronized void add(long elapsedMs, boolean success) {
+            long latency = Math.max(0, Math.min(elapsedMs, Integer.MAX_VALUE));
+            buckets[bucketIndex(latency)]++;
+            min = count == 0 ? latency : Math.min(min, latency);
+            max = Math.max(max, latency);
+            total += latency;
+            count++;
+            if (!success) { failed++; }
+        }
+
+        public synchronized int getCount() { return count; }
+
+        public synchronized int getFailed() { return failed; }
+
+        public String getScenario() { return scenario; }
+
+        public String getActivity() { return activity; }
+
+        public int getRow() { return row; }
+
+        public String getCommand() { return command; }
+
+        /**
+         * nearest-rank percentile, {@code percentile} being 1 to 100. Reported as the highest latency of the bucket
+         * holding that rank (but no more than {@link #max()}).
+         */
+        public synchronized long percentile(int percentile) {
+            if (count == 0) { return 0; }
+
+            int rank = Math.max(1, Math.min(count, (int) Math.ceil(percentile / 100.0 * count)));
+            int cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulative += buckets[i];
+                if (cumulative >= rank) { return Math.max(min, Math.min(max, bucketUpperBound(i))); }
+            }
+            return max;
+        }
+
+        public synchronized long min() { return min; }
+
+        public synchronized long max() { return max; }
+
+        public synchronized double average() { return count == 0 ? 0 : (double) total / count; }
+
+        static int bucketIndex(long latency) {
+            if (latency < EXACT_BUCKETS) { return (int) latency; }
+            int power = 63 - Long.numberOfLeadingZeros(latency);
+            int subBucket = (int) (latency >> (power - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+            return EXACT_BUCKETS + (power - 6) * SUB_BUCKETS + subBucket;
+        }
+
+        static long bucketUpperBound(int index) {
+            if (index < EXACT_BUCKETS) { return index; }
+            int power = 6 + (index - EXACT_BUCKETS) / SUB_BUCKETS;
+            int subBucket = (index - EXACT_BUCKETS) % SUB_BUCKETS;
+            long width = 1L << (power - SUB_BUCKET_BITS);
+            return (SUB_BUCKETS + subBucket) * width + width - 1;
+        }
+    }
+
+    public void markStart() { startTime = System.currentTimeMillis(); }
+
+    public void markEnd() { endTime = System.currentTimeMillis(); }
+
+    public long getStartTime() { return startTime; }
+
+    public long getEndTime() { return endTime; }
+
+    public long getElapsedTime() { return (endTime > 0 ? endTime : System.currentTimeMillis()) - startTime; }
+
+    public void userStarted() { peakUsers.accumulateAndGet(activeUsers.incrementAndGet(), Math::max); }
+
+    public void userStopped() { activeUsers.decrementAndGet(); }
+
+    public int getActiveUsers() { return activeUsers.get(); }
+
+    public int getPeakUsers() { return peakUsers.get(); }
+
+    public void record(TestStep testStep, long elapsedMs, boolean success) {
+        if (testStep == null) { return; }
+
+        TestCase testCase = testStep.getTestCase();
+        String scenario = testCase.getTestScenario().getName();
+        String activity = testCase.getName();
+        int row = testStep.getRowIndex() + 1;
+        record(scenario, activity, row, testStep.getCommandFQN(), elapsedMs, success);
+    }
+
+    public void record(String scenario, String activity, int row, String command, long elapsedMs, boolean success) {
+        String key = scenario + "|" + activity + "|" + row;
+        StepLatency latency;
+        synchronized (steps) {
+            latency = steps.computeIfAbsent(key, k -> new StepLatency(scenario, activity, row, command));
+        }
+        latency.add(elapsedMs, success);
+    }
+
+    public List<StepLatency> getSteps() {
+        synchronized (steps) { return new ArrayList<>(steps.values()); }
+    }
+
+    public int getTotalCount() { return getSteps().stream().mapToInt(StepLatency::getCount).sum(); }
+
+    public int getTotalFailed() { return getSteps().stream().mapToInt(StepLatency::getFailed).sum(); }
+
+    /** write the per-step summary as CSV to {@code report} */
+    public File writeReport(File report) throws IOException {
+        double elapsedSec = Math.max(getElapsedTime(), 1) / 1000.0;
+
+        StringBuilder csv = new StringBuilder(REPORT_HEADER).append(NL);
+        getSteps().forEach(step -> csv.append(csvValue(step.getScenario())).append(",")
+                                      .append(csvValue(step.getActivity())).append(",")
+                                      .append(step.getRow()).append(",")
+                                      .append(csvValue(step.getCommand())).append(",")
+                                      .append(step.getCount()).append(",")
+                                      .append(step.getFailed()).append(",")
+                                      .append(step.min()).append(",")
+                                      .append(String.format("%.1f", step.average())).append(",")
+                                      .append(step.percentile(50)).append(",")
+                                      .append(step.percentile(95)).append(",")
+                                      .append(step.percentile(99)).append(",")
+                                      .append(step.max()).append(",")
+                                      .append(String.format("%.2f", step.getCount() / elapsedSec))
+                                      .append(NL));
+
+        FileUtils.writeStringToFile(report, csv.toString(), UTF_8);
+        return report;
+    }
+
+    private static String csvValue(String value) {
+        if (StringUtils.containsAny(value, ",\"\r\n")) { return "\"" + StringUtils.replace(value, "\"", "\"\"") + "\""; }
+        return StringUtils.defaultString(value);
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.nexial.core.plugins.NexialCommand;
 import org.nexial.core.plugins.RequireBrowser;
+import org.nexial.core.plugins.base.BaseCommand;
 import org.nexial.core.plugins.web.Browser;
 import org.nexial.core.utils.ConsoleUtils;
 import org.springframework.beans.BeansException;
@@ -109,6 +110,8 @@ public class PluginManager implements ApplicationContextAware {
 
         if (!isInitialized) {
             nexialCommand.init(context);
+            // resolve command dispatch upfront, rather than on the first step
+            if (nexialCommand instanceof BaseCommand) { ((BaseCommand) nexialCommand).prepareDispatch(); }
             if (StringUtils.equals(profile, CMD_PROFILE_DEFAULT)) {
                 initialized.put(target, nexialCommand);
             } else {
@@ -140,4 +143,25 @@ public class PluginManager implements ApplicationContextAware {
     }
 
     public void clearBrowser(String profile) { profileBrowsers.remove(profile); }
+
+    /**
+     * destroy all the plugins initialized so far and shut down the browsers they use. Only meant for the plugins of a
+     * context that is discarded before the end of the execution (ie. a forked context).
+     */
+    public void destroyPlugins() {
+        // the same plugin instance could be registered under multiple profiles
+        initialized.values().stream().distinct().forEach(plugin -> {
+            try {
+                plugin.destroy();
+            } catch (Throwable e) {
+                ConsoleUtils.error("Unable to destroy command " + plugin.getTarget() + ": " + e.getMessage());
+            }
+        });
+        initialized.clear();
+
+        profileBrowsers.values().forEach(browser -> {
+            if (browser.mustForcefullyTerminate()) { browser.forcefulTerminate(); }
+        });
+        profileBrowsers.clear();
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import javax.validation.constraints.NotNull;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * insertion-ordered map (same ordering semantics as {@link org.apache.commons.collections4.map.ListOrderedMap}:
+ * updating an existing key keeps its position) with a sorted index over its keys, so that looking up all the entries
+ * of a given prefix costs {@code O(log n + k)} instead of a scan over all {@code n} entries. Used as the data
+ * variable store of {@link ExecutionContext}, where prefix lookups (such as profile configurations) are frequent.
+ * <p>
+ * Like {@link LinkedHashMap}, this map is not thread-safe. {@code null} key is permitted, but never matches any
+ * prefix. An optional change listener is notified of the key of each entry added, updated or removed (but not of
+ * values updated via {@link Map.Entry#setValue(Object)}).
+ */
+public class PrefixIndexedMap<V> extends AbstractMap<String, V> {
+    private final Map<String, V> entries = new LinkedHashMap<>();
+    // key -> insertion sequence, to restore insertion order of prefix matches
+    private final NavigableMap<String, Long> index = new TreeMap<>();
+    private long sequence;
+    private final Consumer<String> changeListener;
+    private transient Set<Entry<String, V>> entrySet;
+
+    public PrefixIndexedMap() { this((Consumer<String>) null); }
+
+    public PrefixIndexedMap(Consumer<String> changeListener) { this.changeListener = changeListener; }
+
+    public PrefixIndexedMap(Map<String, ? extends V> map) {
+        this((Consumer<String>) null);
+        if (map != null) { putAll(map); }
+    }
+
+    @Override
+    public int size() { return entries.size(); }
+
+    @Override
+    public boolean containsKey(Object key) { return entries.containsKey(key); }
+
+    @Override
+    public boolean containsValue(Object value) { return entries.containsValue(value); }
+
+    @Override
+    public V get(Object key) { return entries.get(key); }
+
+    @Override
+    public V put(String key, V value) {
+        boolean exists = entries.containsKey(key);
+        V previous = entries.put(key, value);
+        if (!exists && key != null) { index.put(key, sequence++); }
+        notifyChange(key);
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!entries.containsKey(key)) { return null; }
+        if (key != null) { index.remove(key); }
+        V removed = entries.remove(key);
+        notifyChange((String) key);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        List<String> keys = changeListener == null ? null : new ArrayList<>(entries.keySet());
+        entries.clear();
+        index.clear();
+        if (keys != null) { keys.forEach(this::notifyChange); }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super V> action) { entries.forEach(action); }
+
+    @Override
+    @NotNull
+    public Set<Entry<String, V>> entrySet() {
+        if (entrySet == null) { entrySet = new EntrySet(); }
+        return entrySet;
+    }
+
+    /**
+     * keys that start with {@code prefix}, in insertion order. Empty {@code prefix} matches all (non-null) keys, while
+     * {@code null} matches none.
+     */
+    @NotNull
+    public List<String> keysWithPrefix(String prefix) {
+        if (prefix == null) { return new ArrayList<>(); }
+
+        List<Entry<String, Long>> matches = new ArrayList<>();
+        if (prefix.isEmpty()) {
+            matches.addAll(index.entrySet());
+        } else {
+            for (Entry<String, Long> entry : index.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) { break; }
+                matches.add(entry);
+            }
+        }
+
+        if (matches.size() > 1) { matches.sort(Entry.comparingByValue()); }
+
+        List<String> keys = new ArrayList<>(matches.size());
+        matches.forEach(entry -> keys.add(entry.getKey()));
+        return keys;
+    }
+
+    /** invoke {@code action} on each entry whose key starts with {@code prefix}, in insertion order */
+    public void forEachWithPrefix(String prefix, BiConsumer<String, ? super V> action) {
+        keysWithPrefix(prefix).forEach(key -> action.accept(key, entries.get(key)));
+    }
+
+    /** remove all entries whose key starts with {@code prefix}; return the removed keys */
+    @NotNull
+    public List<String> removeByPrefix(String prefix) {
+        List<String> keys = keysWithPrefix(prefix);
+        keys.forEach(this::remove);
+        return keys;
+    }
+
+    private void notifyChange(String key) { if (changeListener != null) { changeListener.accept(key); } }
+
+    private final class EntrySet extends AbstractSet<Entry<String, V>> {
+        @Override
+        public int size() { return entries.size(); }
+
+        @Override
+        public boolean contains(Object o) { return entries.entrySet().contains(o); }
+
+        @Override
+        public void clear() { PrefixIndexedMap.this.clear(); }
+
+        @Override
+        @NotNull
+        public Iterator<Entry<String, V>> iterator() {
+            Iterator<Entry<String, V>> iterator = entries.entrySet().iterator();
+            return new Iterator<Entry<String, V>>() {
+                private Entry<String, V> current;
+
+                @Override
+                public boolean hasNext() { return iterator.hasNext(); }
+
+                @Override
+                public Entry<String, V> next() {
+                    current = iterator.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) { throw new IllegalStateException(); }
+                    String key = current.getKey();
+                    iterator.remove();
+                    if (key != null) { index.remove(key); }
+                    notifyChange(key);
+                    current = null;
+                }
+            };
+        }
+    }
+}
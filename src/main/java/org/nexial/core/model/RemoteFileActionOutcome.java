@@ -20,8 +20,11 @@ package org.nexial.core.model;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.collections4.list.TreeList;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +38,8 @@ import static org.nexial.core.NexialConst.DATE_FORMAT_NOW;
 public class RemoteFileActionOutcome implements Serializable {
     private List<String> affected = new TreeList<>();
     private List<String> failed = new TreeList<>();
+    // sha-256 checksum of the content transferred, keyed by the remote path
+    private Map<String, String> checksums = new TreeMap<>();
     private String errors;
     private long startTime;
     private long elapsedTime;
@@ -72,7 +77,7 @@ public class RemoteFileActionOutcome implements Serializable {
         return this;
     }
 
-    public RemoteFileActionOutcome addAffected(String... affected) {
+    public synchronized RemoteFileActionOutcome addAffected(String... affected) {
         if (ArrayUtils.isNotEmpty(affected)) { this.affected.addAll(Arrays.asList(affected)); }
         return this;
     }
@@ -84,11 +89,25 @@ public class RemoteFileActionOutcome implements Serializable {
         return this;
     }
 
-    public RemoteFileActionOutcome addFailed(String... failed) {
+    public synchronized RemoteFileActionOutcome addFailed(String... failed) {
         if (ArrayUtils.isNotEmpty(failed)) { this.failed.addAll(Arrays.asList(failed)); }
         return this;
     }
 
+    public Map<String, String> getChecksums() { return checksums; }
+
+    public RemoteFileActionOutcome setChecksums(Map<String, String> checksums) {
+        this.checksums = checksums;
+        return this;
+    }
+
+    public synchronized RemoteFileActionOutcome addChecksum(String remoteFile, String checksum) {
+        if (StringUtils.isNotBlank(remoteFile) && StringUtils.isNotBlank(checksum)) {
+            checksums.put(remoteFile, checksum);
+        }
+        return this;
+    }
+
     public String getErrors() { return errors; }
 
     public RemoteFileActionOutcome setErrors(String errors) {
@@ -96,7 +115,7 @@ public class RemoteFileActionOutcome implements Serializable {
         return this;
     }
 
-    public RemoteFileActionOutcome appendError(String... errors) {
+    public synchronized RemoteFileActionOutcome appendError(String... errors) {
         if (ArrayUtils.isNotEmpty(errors)) {
             if (this.errors == null) {
                 this.errors = "";
@@ -180,6 +199,7 @@ public class RemoteFileActionOutcome implements Serializable {
             "localPath=" + StringUtils.defaultString(localPath),
             (CollectionUtils.isNotEmpty(affected) ? "affected=" + affected : ""),
             (CollectionUtils.isNotEmpty(failed) ? "failed=" + failed : ""),
+            (MapUtils.isNotEmpty(checksums) ? "checksums=" + checksums : ""),
             (StringUtils.isNotBlank(errors) ? "errors=" + StringUtils.defaultString(errors) : ""));
     }
 }
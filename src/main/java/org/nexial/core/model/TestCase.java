@@ -18,7 +18,6 @@
 package org.nexial.core.model;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.nexial.core.excel.Excel.Worksheet;
@@ -29,7 +28,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.nexial.core.CommandConst.*;
-import static org.nexial.core.NexialConst.Data.END_SCRIPT_IMMEDIATE;
 import static org.nexial.core.NexialConst.LogMessage.ENDING_ACTIVITY;
 import static org.nexial.core.NexialConst.LogMessage.EXECUTING_ACTIVITY;
 import static org.nexial.core.NexialConst.*;
@@ -91,7 +89,7 @@ public class TestCase {
         logger.log(this, EXECUTING_ACTIVITY);
 
         for (int i = 0; i < testSteps.size(); i++) {
-            if (BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false"))) {
+            if (context.isEndScriptImmediate()) {
                 trackTimeLogs.trackingDetails("Execution Interrupted");
                 break;
             }
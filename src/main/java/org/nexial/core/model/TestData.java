@@ -28,11 +28,14 @@ import org.nexial.core.ExecutionInputPrep;
 import org.nexial.core.excel.Excel;
 import org.nexial.core.excel.Excel.Worksheet;
 import org.nexial.core.excel.ExcelAddress;
+import org.nexial.core.excel.ExcelStreamReader;
 import org.nexial.core.utils.ConsoleUtils;
 import org.nexial.core.utils.InputFileUtils;
 
 import java.io.File;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.nexial.core.CommandConst.isNonIterableVariable;
@@ -91,6 +94,7 @@ public class TestData {
     private final Map<String, List<String>> dataMap = new HashMap<>();
     private final Map<String, List<String>> defaultDataMap = new HashMap<>();
     private final Map<String, List<String>> runtimeDataMap = new HashMap<>();
+    private String dataSheetsInUse;
 
     public TestData(Excel excel, List<String> dataSheetNames) {
         assert excel != null && excel.getFile() != null && CollectionUtils.isNotEmpty(dataSheetNames);
@@ -99,33 +103,40 @@ public class TestData {
         this.dataSheetNames = dataSheetNames;
 
         List<Worksheet> validDataSheets = InputFileUtils.filterValidDataSheets(excel);
-        if (CollectionUtils.isEmpty(validDataSheets)) { return; }
-
-        // #default is always the first one; default data sheet IS ALWAYS overridden by other data sheets
-        validDataSheets.forEach(validDataSheet -> {
-            if (StringUtils.equals(validDataSheet.getName(), SHEET_DEFAULT_DATA)) { collectData(validDataSheet); }
-        });
+        collectDataSheets(validDataSheets, Worksheet::getName, this::collectData);
+    }
 
-        packUnusedIterationData();
+    /**
+     * same as {@link #TestData(Excel, List)}, but with the data sheets read via {@link ExcelStreamReader}. The data
+     * sheets should not contain any formula since no formula evaluation is done via {@link ExcelStreamReader}.
+     */
+    public TestData(File dataFile, List<String> dataSheetNames, List<ExcelStreamReader.Sheet> sheets) {
+        assert dataFile != null && CollectionUtils.isNotEmpty(dataSheetNames) && sheets != null;
 
-        this.dataSheetNames.forEach(targetSheetName -> validDataSheets.forEach(validDataSheet -> {
-            if (!StringUtils.equals(targetSheetName, SHEET_DEFAULT_DATA) &&
-                StringUtils.equals(validDataSheet.getName(), targetSheetName)) {
-                collectData(validDataSheet);
-            }
-        }));
+        this.dataFile = dataFile;
+        this.dataSheetNames = dataSheetNames;
 
-        packUnusedIterationData();
+        List<ExcelStreamReader.Sheet> validDataSheets =
+            sheets.stream().filter(InputFileUtils::isValidDataSheet).collect(Collectors.toList());
+        collectDataSheets(validDataSheets, ExcelStreamReader.Sheet::getName, this::collectData);
+    }
 
-        // to be added/displayed in execution output #summary
-        System.setProperty(SCRIPT_REF_PREFIX + DATA_SHEETS,
-                           validDataSheets.stream()
-                                          .filter(validSheet -> validSheet.getName().equals(SHEET_DEFAULT_DATA) ||
-                                                                dataSheetNames.contains(validSheet.getName()))
-                                          .map(Worksheet::getName)
-                                          .distinct()
-                                          .collect(Collectors.joining(", ")));
-        System.setProperty(SCRIPT_REF_PREFIX + DATA_FILE, dataFile.getName());
+    /**
+     * create a deep copy of {@code source}, so that the copy can be modified during execution (i.e. runtime data,
+     * intra-execution data) without affecting {@code source}.
+     *
+     * @see TestDataCache
+     */
+    TestData(TestData source) {
+        assert source != null;
+
+        dataFile = source.dataFile;
+        dataSheetNames = new ArrayList<>(source.dataSheetNames);
+        dataSheetsInUse = source.dataSheetsInUse;
+        scopeSettings.putAll(source.scopeSettings);
+        copyDataMap(source.dataMap, dataMap);
+        copyDataMap(source.defaultDataMap, defaultDataMap);
+        copyDataMap(source.runtimeDataMap, runtimeDataMap);
     }
 
     public String getMailTo() { return getSetting(POST_EXEC_MAIL_TO); }
@@ -158,19 +169,22 @@ public class TestData {
      * <code>nexial.dataBase</code>, <code>nexial.planBase</code>)</li>
      * <li>default scope settings ({@link Data#SCOPE_SETTING_DEFAULTS})</li>
      * </ol>
+     * <p>
+     * The System property override is not kept in the scope settings, since this instance might be the pristine copy
+     * of {@link TestDataCache}.
      */
     public String getSetting(String name) {
         String value = System.getProperty(name);
-        if (value == null) {
-            value = scopeSettings.computeIfAbsent(name, k -> SCOPE_SETTING_DEFAULTS.get(name));
-        } else {
-            scopeSettings.put(name, value);
-        }
-
-        return value;
+        if (value != null) { return value; }
+        return scopeSettings.computeIfAbsent(name, k -> SCOPE_SETTING_DEFAULTS.get(name));
     }
 
-    public Map<String, String> getAllSettings() { return scopeSettings; }
+    /** all scope settings, with System property overrides applied. */
+    public Map<String, String> getAllSettings() {
+        Map<String, String> settings = new HashMap<>(scopeSettings);
+        settings.replaceAll(System::getProperty);
+        return settings;
+    }
 
     public Map<String, String> getAllValue(int iteration) {
         Map<String, String> data = new HashMap<>();
@@ -301,6 +315,48 @@ public class TestData {
         runtimeDataMap.put(name, data);
     }
 
+    private <T> void collectDataSheets(List<T> validDataSheets, Function<T, String> nameOf, Consumer<T> collector) {
+        if (CollectionUtils.isEmpty(validDataSheets)) { return; }
+
+        // #default is always the first one; default data sheet IS ALWAYS overridden by other data sheets
+        validDataSheets.forEach(validDataSheet -> {
+            if (StringUtils.equals(nameOf.apply(validDataSheet), SHEET_DEFAULT_DATA)) { collector.accept(validDataSheet); }
+        });
+
+        packUnusedIterationData();
+
+        this.dataSheetNames.forEach(targetSheetName -> validDataSheets.forEach(validDataSheet -> {
+            if (!StringUtils.equals(targetSheetName, SHEET_DEFAULT_DATA) &&
+                StringUtils.equals(nameOf.apply(validDataSheet), targetSheetName)) {
+                collector.accept(validDataSheet);
+            }
+        }));
+
+        packUnusedIterationData();
+
+        dataSheetsInUse = validDataSheets.stream()
+                                         .map(nameOf)
+                                         .filter(name -> name.equals(SHEET_DEFAULT_DATA) ||
+                                                         dataSheetNames.contains(name))
+                                         .distinct()
+                                         .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * add the data file and the data sheets in use as script reference data of {@code context}, to be displayed in
+     * the execution summary. Not kept as System properties since this instance might be the pristine copy of
+     * {@link TestDataCache}, and would otherwise affect all the executions in progress.
+     */
+    public void exposeDataReference(ExecutionContext context) {
+        if (dataSheetsInUse == null || context == null) { return; }
+        context.addScriptReferenceData(DATA_SHEETS, dataSheetsInUse);
+        context.addScriptReferenceData(DATA_FILE, dataFile.getName());
+    }
+
+    private static void copyDataMap(Map<String, List<String>> from, Map<String, List<String>> to) {
+        from.forEach((name, values) -> to.put(name, values == null ? null : new ArrayList<>(values)));
+    }
+
     protected void collectData(Worksheet sheet) {
         String sheetName = sheet.getName();
         boolean isDefault = StringUtils.equals(sheetName, SHEET_DEFAULT_DATA);
@@ -390,6 +446,71 @@ public class TestData {
         }
     }
 
+    /** same as {@link #collectData(Worksheet)}, but with data sheet read via {@link ExcelStreamReader} */
+    protected void collectData(ExcelStreamReader.Sheet sheet) {
+        String sheetName = sheet.getName();
+        boolean isDefault = StringUtils.equals(sheetName, SHEET_DEFAULT_DATA);
+        String errPrefix = "File (" + dataFile + "), Worksheet (" + sheetName + "): ";
+
+        // make sure we have data def. in A1, since that's where we start
+        ExcelStreamReader.Row firstRow = sheet.getRow(0);
+        if (firstRow == null || StringUtils.isBlank(firstRow.getValue(0))) {
+            throw new IllegalArgumentException(errPrefix + "test data must be defined at A1");
+        }
+
+        // find the last row
+        int endRowIndex = sheet.findLastDataRow(0, 0);
+
+        // first pass: read all nexial scope settings
+        for (int i = 0; i < endRowIndex; i++) {
+            ExcelStreamReader.Row row = sheet.getRow(i);
+            int endColumnIndex = sheet.findLastDataColumn(i, 0);
+            if (row == null || endColumnIndex < 1) {
+                throw new IllegalArgumentException(errPrefix + "no data or no wrong format found at row " + (i + 1));
+            }
+
+            if (endColumnIndex < 2) { continue; }
+
+            // column A must be defined with data name
+            if (ExecutionInputPrep.isDataStepDisabled(row.getCell(0))) { continue; }
+
+            String name = row.getValue(0);
+            if (StringUtils.isBlank(name)) {
+                throw new IllegalArgumentException(errPrefix + "no data name defined at A" + (i + 1));
+            }
+
+            if (isNonIterableVariable(name)) {
+                String dataCellValue = row.getValue(1);
+                if (StringUtils.isBlank(dataCellValue)) { continue; }
+                scopeSettings.put(name, dataCellValue);
+            }
+        }
+
+        IterationManager iterationManager = getIterationManager();
+        int lastIteration = iterationManager.getHighestIteration();
+
+        // second pass: read all non "nexial scope" data, up to specified iteration
+        for (int i = 0; i < endRowIndex; i++) {
+            ExcelStreamReader.Row row = sheet.getRow(i);
+            if (ExecutionInputPrep.isDataStepDisabled(row.getCell(0))) { continue; }
+
+            String name = row.getValue(0);
+            if (!isNonIterableVariable(name)) {
+                // same as collectData(Worksheet), capture all iteration data (not just up to lastIteration)
+                int lastColumn = Math.max(row.getLastCellNum(), lastIteration);
+                List<String> values = new ArrayList<>(lastColumn);
+                for (int j = 1; j < lastColumn; j++) { values.add(row.getValue(j)); }
+
+                collectIterationData(values, name, dataMap);
+                if (isDefault) {
+                    collectIterationData(values, name, defaultDataMap);
+                } else {
+                    eliminateFromDefaultDataMap(name);
+                }
+            }
+        }
+    }
+
     /**
      * collect data designated for the specified <code>iteration</code>.
      */
@@ -429,6 +550,19 @@ public class TestData {
         }
     }
 
+    /** same as {@link #collectIterationData(List, int, String, Map)}, but with the cell text already read */
+    private static void collectIterationData(List<String> values, String dataKey, Map<String, List<String>> dataMap) {
+        List<String> data = dataMap.computeIfAbsent(dataKey, s -> new ArrayList<>(values.size()));
+        for (int i = 0; i < values.size(); i++) {
+            // overwrite with any value to retain the integrity of each data sheet
+            if (data.size() > i) {
+                data.set(i, values.get(i));
+            } else {
+                data.add(i, values.get(i));
+            }
+        }
+    }
+
     /**
      * since this {@code dataKey} is found in a non-default data sheet (not #default), we should not track such
      * data as part of the {@link #defaultDataMap}.
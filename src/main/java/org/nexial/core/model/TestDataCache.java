@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.nexial.core.excel.Excel;
+import org.nexial.core.excel.ExcelStreamReader;
+import org.nexial.core.utils.ConsoleUtils;
+import org.nexial.core.utils.LruCache;
+
+import javax.validation.constraints.NotNull;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.nexial.core.NexialConst.Data.DEF_OPEN_EXCEL_AS_DUP;
+import static org.nexial.core.NexialConst.Data.SHEET_DEFAULT_DATA;
+import static org.nexial.core.NexialConst.Iteration.ITERATION;
+
+/**
+ * process-wide cache of parsed test data. A data file is parsed once per distinct data sheet selection, and the parsed
+ * {@link TestData} is kept as a pristine copy. Each {@link #resolve(File, List)} returns a separate (deep) copy of it,
+ * so that the runtime changes made by one execution (i.e. one plan row, one {@link org.nexial.core.ExecutionThread})
+ * are never visible to another.
+ * <p>
+ * Data sheets are read via {@link ExcelStreamReader} (bounded memory, no workbook object model), unless formula
+ * evaluation is required.
+ * <p>
+ * Cache entries are validated against the data file's size and last-modified timestamp. Should either of these differ,
+ * the content hash of the data file is compared, so that a data file that was saved again without real changes does
+ * not need to be parsed again.
+ */
+public final class TestDataCache {
+    private static final int MAX_ENTRIES = 32;
+    private static final TestDataCache INSTANCE = new TestDataCache();
+
+    private final LruCache<String, Entry> entries = new LruCache<>(MAX_ENTRIES);
+
+    private static final class Entry {
+        private volatile long lastModified;
+        private volatile long length;
+        private final String hash;
+        private final TestData testData;
+
+        private Entry(long lastModified, long length, String hash, TestData testData) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.hash = hash;
+            this.testData = testData;
+        }
+
+        private boolean isCurrent(File dataFile) {
+            return dataFile.lastModified() == lastModified && dataFile.length() == length;
+        }
+    }
+
+    private TestDataCache() { }
+
+    @NotNull
+    public static TestDataCache getInstance() { return INSTANCE; }
+
+    /**
+     * return the test data parsed from the {@code dataSheets} of {@code dataFile}. The returned instance is not shared
+     * and thus can be freely modified by the caller.
+     */
+    @NotNull
+    public TestData resolve(File dataFile, List<String> dataSheets) throws IOException {
+        // iteration override (via System property) affects how iteration data is collected
+        String key = dataFile.getAbsolutePath() + "|" + String.join("|", dataSheets) + "|" +
+                     System.getProperty(ITERATION, "");
+
+        long lastModified = dataFile.lastModified();
+        long length = dataFile.length();
+        String hash = null;
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.isCurrent(dataFile)) {
+                hash = hash(dataFile);
+                if (hash.equals(entry.hash)) {
+                    // same content, just touched
+                    entry.lastModified = lastModified;
+                    entry.length = length;
+                } else {
+                    entry = null;
+                }
+            }
+
+            if (entry != null) {
+                entries.hit();
+                return new TestData(entry.testData);
+            }
+        }
+
+        entries.miss();
+        if (hash == null) { hash = hash(dataFile); }
+        TestData testData = parse(dataFile, dataSheets);
+        entries.put(key, new Entry(lastModified, length, hash, testData));
+        return new TestData(testData);
+    }
+
+    public void clear() { entries.clear(); }
+
+    public long getHits() { return entries.getHits(); }
+
+    public long getMisses() { return entries.getMisses(); }
+
+    public String summarize() { return entries.summarize("parsed"); }
+
+    private static TestData parse(File dataFile, List<String> dataSheets) throws IOException {
+        ConsoleUtils.log("parsing data file " + dataFile);
+
+        // stream only the data sheets in use, unless formula evaluation is needed
+        List<ExcelStreamReader.Sheet> sheets =
+            ExcelStreamReader.read(dataFile, name -> SHEET_DEFAULT_DATA.equals(name) || dataSheets.contains(name));
+        if (sheets != null) {
+            if (sheets.stream().noneMatch(ExcelStreamReader.Sheet::hasFormula)) {
+                return new TestData(dataFile, dataSheets, sheets);
+            }
+            ConsoleUtils.log("formula found in data file " + dataFile + "; loading full workbook for evaluation");
+        }
+
+        Excel excel = new Excel(dataFile, DEF_OPEN_EXCEL_AS_DUP, false);
+        try {
+            return new TestData(excel, dataSheets);
+        } finally {
+            // (2018/12/16,automike): memory consumption precaution
+            excel.close();
+        }
+    }
+
+    private static String hash(File dataFile) throws IOException {
+        try (InputStream in = new FileInputStream(dataFile)) { return DigestUtils.sha256Hex(in); }
+    }
+}
@@ -19,7 +19,6 @@ package org.nexial.core.model;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.poi.xssf.usermodel.XSSFCell;
@@ -43,7 +42,6 @@ import java.util.Map;
 
 import static org.nexial.core.CommandConst.CMD_REPEAT_UNTIL;
 import static org.nexial.core.CommandConst.CMD_SECTION;
-import static org.nexial.core.NexialConst.Data.END_SCRIPT_IMMEDIATE;
 import static org.nexial.core.NexialConst.LogMessage.EXECUTING_TEST_SCENARIO;
 import static org.nexial.core.NexialConst.RB;
 import static org.nexial.core.NexialConst.OPT_INPUT_EXCEL_FILE;
@@ -62,6 +60,10 @@ public class TestScenario {
     private List<TestStep> allSteps;
     private Map<Integer, TestStep> testStepsByRow;
 
+    // only used while parsing
+    private CompiledScript.Scenario compiled;
+    private Map<Integer, CompiledScript.Step> compiling;
+
     public TestScenario(ExecutionContext context, Worksheet worksheet) {
         assert context != null && StringUtils.isNotBlank(context.getId());
         assert worksheet != null && worksheet.getSheet() != null;
@@ -115,7 +117,7 @@ public class TestScenario {
         for (TestCase testCase : testCases) {
             context.setCurrentActivity(testCase);
 
-            if (BooleanUtils.toBoolean(System.getProperty(END_SCRIPT_IMMEDIATE, "false"))) {
+            if (context.isEndScriptImmediate()) {
                 logger.log(testCase, RB.Abort.text("activity.endIf"));
                 break;
             }
@@ -228,7 +230,14 @@ public class TestScenario {
         meta = TestScenarioMeta.newInstance(worksheet);
 
         // 2. find last command
-        int lastCommandRow = worksheet.findLastDataRow(ADDR_COMMAND_START);
+        // the steps of this scenario might have been compiled by an earlier iteration, in which case they are bound
+        // to the rows of this worksheet. Otherwise they are read here and compiled for the subsequent iterations
+        ExecutionDefinition execDef = context.getExecDef();
+        CompiledScript compiledScript = execDef == null ? null : execDef.getCompiledScript();
+        compiled = compiledScript == null ? null : compiledScript.getScenario(name);
+        compiling = compiledScript != null && compiled == null ? new HashMap<>() : null;
+        int lastCommandRow = compiled != null ?
+                             compiled.getLastCommandRow() : worksheet.findLastDataRow(ADDR_COMMAND_START);
 
         // the section with the corresponding worksheet that has test steps
         ExcelArea area = new ExcelArea(worksheet,
@@ -251,7 +260,8 @@ public class TestScenario {
 
             validateActivity(activity,
                              CollectionUtil.toList(testCaseMap.keySet()),
-                             scenarioRef + "[" + cellActivity.getReference() + "]:");
+                             scenarioRef + "[" + cellActivity.getReference() + "]:",
+                             context.getStringData(OPT_INPUT_EXCEL_FILE));
             if (StringUtils.isNotBlank(activity)) {
                 currentActivity = new TestCase();
                 currentActivity.setName(TextUtils.toOneLine(activity, true));
@@ -261,16 +271,36 @@ public class TestScenario {
             }
 
             if (currentActivity != null) {
-                TestStep testStep = new TestStep(currentActivity, row, worksheet);
+                TestStep testStep = newTestStep(currentActivity, row, worksheet);
                 if (testStep.isCommandRepeater()) { i += collectRepeatingCommandSet(testStep, area, i + 1); }
                 currentActivity.addTestStep(testStep);
                 allSteps.add(testStep);
                 testStepsByRow.put(row.get(0).getRowIndex() + 1, testStep);
             }
         }
+
+        if (compiling != null) { compiledScript.addScenario(name, lastCommandRow, compiling); }
+        compiled = null;
+        compiling = null;
+    }
+
+    private TestStep newTestStep(TestCase testCase, List<XSSFCell> row, Worksheet worksheet) {
+        int rowIndex = row.get(0).getRowIndex();
+        CompiledScript.Step compiledStep = compiled == null ? null : compiled.getStep(rowIndex);
+        TestStep testStep = new TestStep(testCase, row, worksheet, compiledStep);
+        if (compiling != null) { compiling.put(rowIndex, CompiledScript.Step.of(testStep)); }
+        return testStep;
     }
 
     public static void validateActivity(String activity, List<String> existingActivities, String errorPrefix) {
+        validateActivity(activity, existingActivities, errorPrefix, null);
+    }
+
+    /** {@code currentExcelScript} is the script being parsed, if known */
+    public static void validateActivity(String activity,
+                                        List<String> existingActivities,
+                                        String errorPrefix,
+                                        String currentExcelScript) {
         // detect space only activity name
         if (StringUtils.isNotEmpty(activity) && StringUtils.isAllBlank(activity)) {
             throw new RuntimeException(RB.Fatal.text("activity.bad", errorPrefix));
@@ -291,7 +321,6 @@ public class TestScenario {
         if (hasActivity && existingActivities.contains(activity)) {
             // found duplicate activity name!
             String error = RB.Fatal.text("activity.dup", errorPrefix, activity);
-            String currentExcelScript = System.getProperty(OPT_INPUT_EXCEL_FILE);
             if (StringUtils.isNotBlank(currentExcelScript)) {
                 throw new InvalidInputRuntimeException(error, currentExcelScript);
             } else {
@@ -342,7 +371,7 @@ public class TestScenario {
         TestCase currentTestCase = testStep.getTestCase();
         for (int i = startFrom; i < (startFrom + numOfStepsIncluded); i++) {
             List<XSSFCell> row = wholeArea.get(i);
-            TestStep nextStep = new TestStep(currentTestCase, row, testStep.getWorksheet());
+            TestStep nextStep = newTestStep(currentTestCase, row, testStep.getWorksheet());
             if (nextStep.isMacroExpander()) { nextStep.macroPartOfRepeatUntil = true; }
 
                 /*// To nested repeatuntil command
@@ -395,7 +424,7 @@ public class TestScenario {
 
         for (int i = startFrom + 1; i <= (startFrom + numOfStepsIncluded); i++) {
             List<XSSFCell> row = wholeArea.get(i);
-            TestStep nextStep = new TestStep(currentTestCase, row, testStep.getWorksheet());
+            TestStep nextStep = newTestStep(currentTestCase, row, testStep.getWorksheet());
             if (nextStep.isMacroExpander()) { nextStep.macroPartOfRepeatUntil = true; }
             commandRepeater.addStep(nextStep);
             if (StringUtils.equals(nextStep.getCommandFQN(), CMD_SECTION)) {
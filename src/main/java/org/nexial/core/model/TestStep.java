@@ -116,6 +116,14 @@ public class TestStep extends TestStepManifest {
     protected TestStep() { }
 
     public TestStep(TestCase testCase, List<XSSFCell> row, Worksheet worksheet) {
+        this(testCase, row, worksheet, null);
+    }
+
+    /**
+     * create test step off {@code row}. If {@code compiled} is specified (ie. the same step as read by an earlier
+     * iteration), its content is bound to {@code row} instead of being read from the cells again.
+     */
+    public TestStep(TestCase testCase, List<XSSFCell> row, Worksheet worksheet, CompiledScript.Step compiled) {
         assert testCase != null;
         assert CollectionUtils.isNotEmpty(row);
 
@@ -130,12 +138,16 @@ public class TestStep extends TestStepManifest {
         int rowIndex = row.get(0).getRowIndex();
         setRowIndex(rowIndex);
         scriptRowIndex = rowIndex;
-        readDescriptionCell(row);
-        readTargetCell(row);
-        readCommandCell(row);
-        readParamCells(row);
-        readFlowControlsCell(row);
-        readCaptureScreenCell(row);
+        if (compiled == null) {
+            readDescriptionCell(row);
+            readTargetCell(row);
+            readCommandCell(row);
+            readParamCells(row);
+            readFlowControlsCell(row);
+            readCaptureScreenCell(row);
+        } else {
+            bind(compiled);
+        }
 
         setMessageId(String.format("[%s][%s][%s][STEP %s][%s][%s]",
                                    worksheet.getFile().getName(),
@@ -253,6 +265,12 @@ public class TestStep extends TestStepManifest {
             trackTimeLogs.checkEndTracking(context, this);
             if (this.isCommandRepeater()) { context.setCurrentTestStep(this); }
             postExecCommand(result, tickTock.getTime());
+
+            LoadTestMetrics loadTestMetrics = context.getLoadTestMetrics();
+            if (loadTestMetrics != null && !result.isSkipped()) {
+                loadTestMetrics.record(this, tickTock.getTime(), result.isSuccess());
+            }
+
             FlowControlUtils.checkPauseAfter(context, this);
 
             if (!isRunningInZeroTouchEnv() && getInstance(context).detectedPause()) {
@@ -431,7 +449,7 @@ public class TestStep extends TestStepManifest {
 
             String toastMsg = context.replaceTokens(this.description);
             if (isNotBlank(toastMsg) &&
-                context.getBooleanData(DESCRIPTION_AS_TOAST, getDefaultBool(DESCRIPTION_AS_TOAST)) &&
+                context.isDescriptionAsToast() &&
                 context.getBooleanData(BROWSER_OPENED)) {
                 WebCommand web = (WebCommand) context.findPlugin("web");
                 // `readyToTakeScreenshot` checks for browser readiness
@@ -580,6 +598,23 @@ public class TestStep extends TestStepManifest {
         for (int i = 0; i < this.params.size(); i++) { linkableParams.add(i, null); }
     }
 
+    protected void bind(CompiledScript.Step compiled) {
+        setDescription(compiled.getDescription());
+        setTarget(compiled.getTarget());
+        setCommand(compiled.getCommand());
+
+        // params are modifiable per step
+        this.params = new ArrayList<>(compiled.getParams());
+        linkableParams = new ArrayList<>(this.params.size());
+        for (int i = 0; i < this.params.size(); i++) { linkableParams.add(i, null); }
+
+        // disabled step is marked as such in the output file as well
+        if (compiled.isDisabled()) { row.get(COL_IDX_FLOW_CONTROLS).setCellValue(CONDITION_DISABLE); }
+        setFlowControls(FlowControl.parse(compiled.getFlowControls()));
+
+        setCaptureScreen(compiled.isCaptureScreen());
+    }
+
     protected void postExecCommand(StepResult result, long elapsedMs) {
         // also include screenshot-on-error handling
         updateResult(result, elapsedMs);
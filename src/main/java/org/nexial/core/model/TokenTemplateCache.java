@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.utils.LruCache;
+
+import javax.validation.constraints.NotNull;
+import java.util.*;
+
+import static org.nexial.core.NexialConst.*;
+
+/**
+ * process-wide cache of tokenized text, as used by {@link ExecutionContext#replaceTokens(String, boolean)}. Each
+ * distinct text is parsed once into a sequence of literal and token segments ({@code ${...}}), so that subsequent
+ * substitution can be done in a single pass over these segments, instead of repeated scan-and-replace over the
+ * entire text.
+ * <p>
+ * Cache is bounded (least recently used text is evicted first), and text longer than {@link #MAX_TEXT_LENGTH} is
+ * parsed but not cached.
+ */
+public final class TokenTemplateCache {
+    private static final int MAX_ENTRIES = 4096;
+    private static final int MAX_TEXT_LENGTH = 8 * 1024;
+    private static final TokenTemplateCache INSTANCE = new TokenTemplateCache();
+
+    private final LruCache<String, Template> templates = new LruCache<>(MAX_ENTRIES);
+
+    /**
+     * tokenized form of a text. {@code segments} alternates between literal (even index) and token name (odd
+     * index), always starting and ending with a literal (possibly empty).
+     */
+    public static final class Template {
+        private final String[] segments;
+        private final Set<String> tokens;
+        private final boolean simple;
+
+        private Template(String[] segments, Set<String> tokens, boolean simple) {
+            this.segments = segments;
+            this.tokens = Collections.unmodifiableSet(tokens);
+            this.simple = simple;
+        }
+
+        @NotNull
+        public Set<String> getTokens() { return tokens; }
+
+        /**
+         * true if no token contains nested token or is followed by an index reference (ie. {@code ${var}[0]}). Only
+         * simple template can be substituted segment-by-segment.
+         */
+        public boolean isSimple() { return simple; }
+
+        /** true if this template consists of exactly one token and nothing else */
+        public boolean isSingleToken() {
+            return segments.length == 3 && segments[0].isEmpty() && segments[2].isEmpty();
+        }
+
+        public int getSegmentCount() { return segments.length; }
+
+        public String getSegment(int index) { return segments[index]; }
+
+        public static boolean isToken(int index) { return index % 2 == 1; }
+    }
+
+    private TokenTemplateCache() { }
+
+    @NotNull
+    public static TokenTemplateCache getInstance() { return INSTANCE; }
+
+    @NotNull
+    public Template resolve(String text) {
+        if (StringUtils.length(text) > MAX_TEXT_LENGTH) {
+            templates.miss();
+            return parse(text);
+        }
+
+        return templates.resolve(text, () -> parse(text));
+    }
+
+    public void clear() { templates.clear(); }
+
+    public long getHits() { return templates.getHits(); }
+
+    public long getMisses() { return templates.getMisses(); }
+
+    public String summarize() { return templates.summarize("parsed"); }
+
+    /** same tokenization as {@link StringUtils#substringsBetween(String, String, String)} on {@code ${...}} */
+    static Template parse(String text) {
+        List<String> segments = new ArrayList<>();
+        Set<String> tokens = new HashSet<>();
+        boolean simple = true;
+
+        int length = StringUtils.length(text);
+        int pos = 0;
+        int literalStart = 0;
+        while (pos < length - TOKEN_END.length()) {
+            int start = text.indexOf(TOKEN_START, pos);
+            if (start < 0) { break; }
+            int tokenStart = start + TOKEN_START.length();
+            int end = text.indexOf(TOKEN_END, tokenStart);
+            if (end < 0) { break; }
+
+            String token = text.substring(tokenStart, end);
+            segments.add(text.substring(literalStart, start));
+            segments.add(token);
+            tokens.add(token);
+
+            pos = end + TOKEN_END.length();
+            literalStart = pos;
+
+            if (token.contains(TOKEN_START) || text.startsWith(TOKEN_ARRAY_START, pos)) { simple = false; }
+        }
+        segments.add(length == 0 ? "" : text.substring(literalStart));
+
+        return new Template(segments.toArray(new String[0]), tokens, simple);
+    }
+}
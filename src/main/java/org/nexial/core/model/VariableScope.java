@@ -0,0 +1,167 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.lang3.StringUtils;
+
+import javax.validation.constraints.NotNull;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * the layers of variables visible to one script execution, from the broadest:
+ * <ol>
+ * <li>JVM/run - System properties; shared by all scripts of the same run. Only written for values meant to be
+ * execution-wide, such as project directories or reference data elevated for the Execution Dashboard.</li>
+ * <li>script - private to one script and all its iterations. Setting a variable already defined as System property
+ * overrides it here, and removing one hides it here, without affecting other scripts running in parallel.</li>
+ * <li>iteration and macro - the data variables of {@link ExecutionContext}; macro-flex variables are prefixed.</li>
+ * </ol>
+ * Each {@link ExecutionContext} owns one script scope, hence it is bound to the thread of its
+ * {@link org.nexial.core.ExecutionThread}. Reads are lock-free: the script scope is a {@link ConcurrentHashMap}, as is
+ * the backing store of System properties (since Java 9).
+ */
+public final class VariableScope {
+    // marks a System property removed from the script scope; compared by identity
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String REMOVED = new String("");
+
+    // incremented on every System property written via this class
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+
+    private final Map<String, String> script = new ConcurrentHashMap<>();
+    private final Consumer<String> changeListener;
+
+    public VariableScope() { this(null); }
+
+    /** {@code changeListener} is notified of the name of each variable written to the script scope */
+    public VariableScope(Consumer<String> changeListener) { this.changeListener = changeListener; }
+
+    public static long getGlobalVersion() { return GLOBAL_VERSION.get(); }
+
+    /** same as {@link System#setProperty(String, String)}, but tracked via {@link #getGlobalVersion()} */
+    public static void setSystemProperty(String name, String value) {
+        if (value == null) {
+            System.clearProperty(name);
+        } else {
+            System.setProperty(name, value);
+        }
+        GLOBAL_VERSION.incrementAndGet();
+    }
+
+    /** value of {@code name} in the script scope, or else in the JVM/run scope */
+    public String get(String name) {
+        if (name == null) { return null; }
+        String value = script.get(name);
+        if (value == null) { return System.getProperty(name); }
+        return value == REMOVED ? null : value;
+    }
+
+    public String get(String name, String def) {
+        String value = get(name);
+        return value == null ? def : value;
+    }
+
+    public boolean contains(String name) { return get(name) != null; }
+
+    /** set {@code name} in the script scope; {@code null} value is the same as {@link #remove(String)} */
+    public void set(String name, String value) {
+        if (name == null) { return; }
+        if (value == null) {
+            remove(name);
+        } else {
+            script.put(name, value);
+            notifyChange(name);
+        }
+    }
+
+    /** set {@code name} in the JVM/run scope, so that it is visible to all scripts of this run */
+    public void setGlobal(String name, String value) {
+        if (name == null) { return; }
+        if (script.remove(name) != null) { notifyChange(name); }
+        setSystemProperty(name, value);
+    }
+
+    /**
+     * remove {@code name} from the script scope, hiding the System property of the same name (if any) from this
+     * script. Return the value in effect prior to removal.
+     */
+    public String remove(String name) {
+        if (name == null) { return null; }
+        String current = get(name);
+        if (System.getProperty(name) == null) {
+            script.remove(name);
+        } else {
+            script.put(name, REMOVED);
+        }
+        notifyChange(name);
+        return current;
+    }
+
+    /** invoke {@code action} on each variable in effect, JVM/run scope first, then the script scope */
+    public void forEach(BiConsumer<String, String> action) {
+        System.getProperties().forEach((key, value) -> {
+            String name = Objects.toString(key);
+            if (!script.containsKey(name)) { action.accept(name, Objects.toString(value)); }
+        });
+        script.forEach((name, value) -> { if (value != REMOVED) { action.accept(name, value); } });
+    }
+
+    /** names of all the variables in effect */
+    @NotNull
+    public Set<String> names() {
+        Set<String> names = new TreeSet<>();
+        forEach((name, value) -> names.add(name));
+        return names;
+    }
+
+    /** variables in effect whose names start with {@code prefix}; the returned names are without {@code prefix} */
+    @NotNull
+    public Map<String, String> getByPrefix(String prefix) {
+        Map<String, String> props = new LinkedHashMap<>();
+        forEach((name, value) -> {
+            if (StringUtils.startsWith(name, prefix)) { props.put(StringUtils.substringAfter(name, prefix), value); }
+        });
+        return props;
+    }
+
+    /** remove all variables whose names start with {@code prefix} from the script scope */
+    public void removeByPrefix(String prefix) {
+        getByPrefix(prefix).keySet().forEach(name -> remove(prefix + name));
+    }
+
+    /** copy of the script scope, to carry over to the next script executed in the same thread */
+    @NotNull
+    public Map<String, String> export() { return new LinkedHashMap<>(script); }
+
+    /** restore a script scope previously exported via {@link #export()} */
+    public void inherit(Map<String, String> exported) {
+        if (exported == null) { return; }
+        script.putAll(exported);
+        exported.keySet().forEach(this::notifyChange);
+    }
+
+    private void notifyChange(String name) { if (changeListener != null) { changeListener.accept(name); } }
+}
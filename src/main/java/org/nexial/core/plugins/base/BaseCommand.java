@@ -80,6 +80,9 @@ public class BaseCommand implements NexialCommand {
     protected static final IncrementStrategy STRATEGY_DEFAULT = ALPHANUM;
 
     protected transient Map<String, Method> commandMethods = new HashMap<>();
+    // dispatch table, built from `commandMethods` once the target of this command is settled. Never modified once
+    // assigned, hence safely published to other threads via volatile
+    protected transient volatile Map<String, CommandHandle> commandHandles;
     protected transient ExecutionContext context;
 
     protected long pauseMs;
@@ -121,14 +124,14 @@ public class BaseCommand implements NexialCommand {
     public StepResult execute(String command, String... params)
         throws InvocationTargetException, IllegalAccessException {
 
-        Method m = getCommandMethod(command, params);
-        if (m == null) {
+        CommandHandle handle = getCommandHandle(command, params);
+        if (handle == null) {
             return StepResult.fail("Unknown/unsupported command " + getTarget() + "." + command +
                                    " OR mismatched parameters");
         }
 
         // resolve more values, but not for logging
-        Object[] values = resolveParamValues(m, params);
+        Object[] values = resolveParamValues(handle, params);
 
         if (context.isVerbose() && (this instanceof CanLogExternally)) {
             StringBuilder displayValues = new StringBuilder(command + " (");
@@ -148,12 +151,25 @@ public class BaseCommand implements NexialCommand {
                                                     StringUtils.removeEnd(displayValues.toString(), ",") + ")");
         }
 
-        StepResult result = (StepResult) m.invoke(this, values);
-        String methodName = StringUtils.substringBefore(StringUtils.substringBefore(command, "("), ".");
-        if (!PARAM_DERIVED_COMMANDS.contains(getTarget() + "." + methodName)) { result.setParamValues(values); }
+        StepResult result = handle.invoke(values);
+        if (!handle.isParamDerived()) { result.setParamValues(values); }
         return result;
     }
 
+    /**
+     * build the dispatch table of this command (one {@link CommandHandle} per command method). Invoked when this
+     * command is first initialized via {@link PluginManager#getPlugin(String)}; otherwise the dispatch table is
+     * built on first use.
+     */
+    public void prepareDispatch() {
+        if (commandHandles != null) { return; }
+
+        Map<String, CommandHandle> handles = new HashMap<>();
+        commandMethods.forEach((name, method) -> handles.put(name, new CommandHandle(this, method)));
+        // fully built before being assigned; a concurrent first use at worst builds an equivalent table
+        commandHandles = Collections.unmodifiableMap(handles);
+    }
+
     public StepResult startRecording() {
         if (!ContextScreenRecorder.isRecordingEnabled(context)) {
             return StepResult.success("desktop recording is currently disabled.");
@@ -1078,11 +1094,9 @@ public class BaseCommand implements NexialCommand {
         if (context.containsCrypt(TOKEN_START + var + TOKEN_END)) {
             throw new TokenReplacementException("Tampering with encrypted data is NOT permissible");
         }
-        // add `var` to context... also update sys prop if `var` already exists in system and is not a read-only variable
-        // - if sys prop exists means the same var was already declared either in cmdline or in setup.properties
-        // - if same var is a read-only variable, then we don't want to override it
-        // context.setData(var, value, StringUtils.isNotBlank(System.getProperty(var)) && !context.isReadOnlyData(var));
-        context.setData(var, value, StringUtils.isNotBlank(System.getProperty(var)));
+        // add `var` to context... if `var` already exists as sys prop (i.e. declared either in cmdline or in
+        // setup.properties), it is overridden for the current script only
+        context.setData(var, value);
     }
 
     @NotNull
@@ -1281,25 +1295,31 @@ public class BaseCommand implements NexialCommand {
     }
 
     protected Method getCommandMethod(String command, String... params) {
+        CommandHandle handle = getCommandHandle(command, params);
+        return handle == null ? null : handle.getMethod();
+    }
+
+    protected CommandHandle getCommandHandle(String command, String... params) {
         if (StringUtils.isBlank(command)) {
             fail("Unknown command " + command);
             return null;
         }
 
-        String methodName = StringUtils.substringBefore(StringUtils.substringBefore(command, "("), ".");
+        prepareDispatch();
 
-        if (!commandMethods.containsKey(methodName)) {
+        String methodName = StringUtils.substringBefore(StringUtils.substringBefore(command, "("), ".");
+        CommandHandle handle = commandHandles.get(methodName);
+        if (handle == null) {
             fail("Unknown command " + command);
             return null;
         }
 
-        Method m = commandMethods.get(methodName);
         // fill in null for missing params later
-        if (autoFillParamCommands.contains(getTarget() + "." + methodName)) { return m; }
+        if (handle.isAutoFillParams()) { return handle; }
 
         int actualParamCount = ArrayUtils.getLength(params);
-        int expectedParamCount = m.getParameterCount();
-        if (actualParamCount == expectedParamCount) { return m; }
+        int expectedParamCount = handle.getParamCount();
+        if (actualParamCount == expectedParamCount) { return handle; }
 
         fail("MISMATCHED parameters - " + getTarget() + "." + methodName +
              " EXPECTS " + expectedParamCount + " but found " + actualParamCount);
@@ -1562,10 +1582,15 @@ public class BaseCommand implements NexialCommand {
     }
 
     protected Object[] resolveParamValues(Method m, String... params) {
-        int numOfParamSpecified = ArrayUtils.getLength(params);
-        int numOfParamExpected = ArrayUtils.getLength(m.getParameterTypes());
+        return resolveParamValues(ArrayUtils.getLength(m.getParameterTypes()), isCryptRestricted(m), params);
+    }
 
-        boolean cryptRestricted = isCryptRestricted(m);
+    protected Object[] resolveParamValues(CommandHandle handle, String... params) {
+        return resolveParamValues(handle.getParamCount(), handle.isCryptRestricted(), params);
+    }
+
+    private Object[] resolveParamValues(int numOfParamExpected, boolean cryptRestricted, String... params) {
+        int numOfParamSpecified = ArrayUtils.getLength(params);
 
         Object[] args = new Object[numOfParamExpected];
         for (int i = 0; i < args.length; i++) {
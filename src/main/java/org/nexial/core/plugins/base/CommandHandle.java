@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.base;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.nexial.core.model.StepResult;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.nexial.core.CommandConst.*;
+
+/**
+ * pre-resolved dispatch entry of a command, as in an entry of the dispatch table of a {@link BaseCommand} instance.
+ * The command method is bound to its plugin instance as {@link MethodHandle} (spread over an {@code Object[]} of
+ * parameter values), and the command-specific traits (auto-fill parameters, crypt restriction, parameter-derived
+ * result) are determined once so that no lookup or string concatenation is needed per step.
+ */
+final class CommandHandle {
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(StepResult.class, Object[].class);
+
+    private final BaseCommand plugin;
+    private final Method method;
+    private final MethodHandle handle;
+    private final int paramCount;
+    // parameter types, with primitives as their wrapper types
+    private final Class<?>[] paramTypes;
+    private final boolean[] primitiveParams;
+    private final boolean autoFillParams;
+    private final boolean cryptRestricted;
+    private final boolean paramDerived;
+
+    CommandHandle(BaseCommand plugin, Method method) {
+        this.plugin = plugin;
+        this.method = method;
+        this.paramCount = method.getParameterCount();
+        Class<?>[] types = method.getParameterTypes();
+        this.paramTypes = ClassUtils.primitivesToWrappers(types);
+        this.primitiveParams = new boolean[paramCount];
+        for (int i = 0; i < paramCount; i++) { primitiveParams[i] = types[i].isPrimitive(); }
+
+        String command = plugin.getTarget() + "." + method.getName();
+        this.autoFillParams = autoFillParamCommands.contains(command);
+        this.cryptRestricted = CRYPT_RESTRICTED_COMMANDS.contains(command);
+        this.paramDerived = PARAM_DERIVED_COMMANDS.contains(command);
+
+        MethodHandle mh;
+        try {
+            mh = MethodHandles.publicLookup()
+                              .unreflect(method)
+                              .bindTo(plugin)
+                              .asSpreader(Object[].class, paramCount)
+                              .asType(DISPATCH_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // not accessible as method handle; fall back to reflection
+            mh = null;
+        }
+        this.handle = mh;
+    }
+
+    Method getMethod() { return method; }
+
+    int getParamCount() { return paramCount; }
+
+    boolean isAutoFillParams() { return autoFillParams; }
+
+    boolean isCryptRestricted() { return cryptRestricted; }
+
+    boolean isParamDerived() { return paramDerived; }
+
+    /**
+     * invoke the underlying command method with {@code values}, on the plugin instance this handle is bound to. Same
+     * as {@link Method#invoke(Object, Object...)}, any exception thrown by the command method is wrapped as
+     * {@link InvocationTargetException}, while {@code values} not matching the parameters of the command method is
+     * reported as {@link IllegalArgumentException}.
+     */
+    StepResult invoke(Object[] values) throws InvocationTargetException, IllegalAccessException {
+        if (handle == null) { return (StepResult) method.invoke(plugin, values); }
+
+        checkArguments(values);
+        try {
+            return (StepResult) handle.invokeExact(values);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private void checkArguments(Object[] values) {
+        int count = values == null ? 0 : values.length;
+        if (count != paramCount) {
+            throw new IllegalArgumentException("wrong number of arguments: " + count + " expected: " + paramCount);
+        }
+
+        for (int i = 0; i < paramCount; i++) {
+            Object value = values[i];
+            if (value == null ? primitiveParams[i] : !paramTypes[i].isInstance(value)) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+    }
+}
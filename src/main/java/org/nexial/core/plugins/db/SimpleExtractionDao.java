@@ -37,6 +37,7 @@ import org.springframework.jdbc.core.support.JdbcDaoSupport;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.math.BigDecimal;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
@@ -363,52 +364,164 @@ public class SimpleExtractionDao extends JdbcDaoSupport {
                 return -1;
             }
 
-            // 2. generate DML to import data to target
-            int rowCount = 0;
-            int rowsAffected = 0;
-            int importBufferSize = context.getIntData(IMPORT_BUFFER_SIZE, getDefaultInt(IMPORT_BUFFER_SIZE));
-            StringBuilder error = new StringBuilder();
-            StringBuilder inserts = new StringBuilder();
-            int numOfColumn = metaData.getColumnCount();
+            // 2. import data to target via prepared statement, in batches and as a single transaction
+            int importBufferSize = context == null ?
+                                   getDefaultInt(IMPORT_BUFFER_SIZE) :
+                                   context.getIntData(IMPORT_BUFFER_SIZE, getDefaultInt(IMPORT_BUFFER_SIZE));
+            return importRows(rs, dao, tableGenerator, Math.max(importBufferSize, 1), result);
+        });
 
-            do {
-                inserts.append("INSERT INTO ").append(tableGenerator.getTable()).append(" VALUES (");
-                for (int i = 1; i <= numOfColumn; i++) {
-                    String data = rs.getString(i);
-                    if (rs.wasNull()) {
-                        data = "NULL";
-                    } else if (tableGenerator.isTextColumnType(metaData.getColumnType(i))) {
-                        data = "'" + StringUtils.replace(data, "'", "''") + "'";
-                    }
-                    inserts.append(data);
-                    if (i < numOfColumn) { inserts.append(","); }
-                }
+        result.setRowCount(rowsImported == null ? -1 : rowsImported);
+        result.setTiming(startTime);
 
-                inserts.append(");").append(NL);
+        return result;
+    }
 
-                rowCount++;
+    /**
+     * import all rows of {@code rs} (already positioned at the first row) into the table of {@code tableGenerator}
+     * via a single {@link PreparedStatement}. Rows are sent as JDBC batch of {@code batchSize} rows, and all batches
+     * are committed (or rolled back) as one transaction. Values are copied via the standard JDBC getter/setter of
+     * their column type (see {@link #copyValue(ResultSet, PreparedStatement, int, int)}), so that no driver-specific
+     * object of the source database is passed to the target database.
+     */
+    protected int importRows(ResultSet rs,
+                             SimpleExtractionDao dao,
+                             TableSqlGenerator tableGenerator,
+                             int batchSize,
+                             JdbcResult result) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int numOfColumn = metaData.getColumnCount();
+        int[] columnTypes = new int[numOfColumn + 1];
+        for (int i = 1; i <= numOfColumn; i++) {
+            int columnType = metaData.getColumnType(i);
+            // text columns of the target are always copied as string
+            columnTypes[i] = tableGenerator.isTextColumnType(columnType) ? VARCHAR : columnType;
+        }
 
-                if (rowCount % importBufferSize == 0) {
-                    JdbcOutcome insertResults = dao.executeSqls(SqlComponent.toList(inserts.toString()));
-                    rowsAffected += insertResults.getRowsAffected();
-                    if (result.hasError()) { error.append(result.getError()).append(NL); }
-                    inserts = new StringBuilder();
-                }
-            } while (rs.next());
+        String insert = "INSERT INTO " + tableGenerator.getTable() + " VALUES (" +
+                        StringUtils.repeat("?", ",", numOfColumn) + ")";
+
+        JdbcTemplate targetJdbc = dao.getJdbcTemplate();
+        if (targetJdbc == null || targetJdbc.getDataSource() == null) { throw new RuntimeException(MSG_NULL_JDBC); }
 
-            JdbcOutcome insertResults = dao.executeSqls(SqlComponent.toList(inserts.toString()));
-            rowsAffected += insertResults.getRowsAffected();
-            if (result.hasError()) { error.append(result.getError()).append(NL); }
+        Connection connection = targetJdbc.getDataSource().getConnection();
+        if (connection == null) {
+            result.setError("Unable to obtain database connection for import; no data was imported");
+            return -1;
+        }
+
+        boolean originalAutoCommit = connection.getAutoCommit();
+        int rowCount = 0;
+        int rowsAffected = 0;
+        try (PreparedStatement statement = connection.prepareStatement(insert)) {
+            if (originalAutoCommit) { connection.setAutoCommit(false); }
+
+            do {
+                for (int i = 1; i <= numOfColumn; i++) { copyValue(rs, statement, i, columnTypes[i]); }
+                statement.addBatch();
+
+                rowCount++;
+                if (rowCount % batchSize == 0) { rowsAffected += sumUpdateCounts(statement.executeBatch()); }
+            } while (rs.next());
 
-            if (error.length() > 0) { result.setError(error.toString()); }
+            if (rowCount % batchSize != 0) { rowsAffected += sumUpdateCounts(statement.executeBatch()); }
 
+            connection.commit();
             return rowsAffected;
-        });
+        } catch (SQLException e) {
+            try { connection.rollback(); } catch (SQLException e1) { }
+            result.setError("Failed to import data via '" + insert + "' (row " + rowCount + "); " +
+                            "all imported rows are rolled back: " + e.getErrorCode() + " " + e.getMessage());
+            return -1;
+        } finally {
+            try { if (originalAutoCommit) { connection.setAutoCommit(true); } } catch (SQLException e) { }
+            try { connection.close(); } catch (SQLException e) { }
+        }
+    }
 
-        result.setRowCount(rowsImported == null ? -1 : rowsImported);
-        result.setTiming(startTime);
+    /**
+     * copy the value of column {@code index} of the current row of {@code rs} to parameter {@code index} of
+     * {@code statement}, via the standard JDBC getter/setter pair of {@code type}. Column types without a specific
+     * mapping (including vendor-specific types) are copied as string.
+     */
+    protected static void copyValue(ResultSet rs, PreparedStatement statement, int index, int type)
+        throws SQLException {
+        switch (type) {
+            case BIT:
+            case BOOLEAN: {
+                boolean value = rs.getBoolean(index);
+                if (rs.wasNull()) { statement.setNull(index, type); } else { statement.setBoolean(index, value); }
+                return;
+            }
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER: {
+                int value = rs.getInt(index);
+                if (rs.wasNull()) { statement.setNull(index, type); } else { statement.setInt(index, value); }
+                return;
+            }
+            case BIGINT: {
+                long value = rs.getLong(index);
+                if (rs.wasNull()) { statement.setNull(index, type); } else { statement.setLong(index, value); }
+                return;
+            }
+            case REAL:
+            case FLOAT:
+            case DOUBLE: {
+                double value = rs.getDouble(index);
+                if (rs.wasNull()) { statement.setNull(index, type); } else { statement.setDouble(index, value); }
+                return;
+            }
+            case NUMERIC:
+            case DECIMAL: {
+                BigDecimal value = rs.getBigDecimal(index);
+                if (value == null) { statement.setNull(index, type); } else { statement.setBigDecimal(index, value); }
+                return;
+            }
+            case DATE: {
+                java.sql.Date value = rs.getDate(index);
+                if (value == null) { statement.setNull(index, type); } else { statement.setDate(index, value); }
+                return;
+            }
+            case TIME:
+            case TIME_WITH_TIMEZONE: {
+                Time value = rs.getTime(index);
+                if (value == null) { statement.setNull(index, type); } else { statement.setTime(index, value); }
+                return;
+            }
+            case TIMESTAMP:
+            case TIMESTAMP_WITH_TIMEZONE: {
+                Timestamp value = rs.getTimestamp(index);
+                if (value == null) { statement.setNull(index, type); } else { statement.setTimestamp(index, value); }
+                return;
+            }
+            case BINARY:
+            case VARBINARY:
+            case LONGVARBINARY:
+            case BLOB: {
+                byte[] value = rs.getBytes(index);
+                if (value == null) { statement.setNull(index, type); } else { statement.setBytes(index, value); }
+                return;
+            }
+            default: {
+                String value = rs.getString(index);
+                if (rs.wasNull()) { statement.setNull(index, VARCHAR); } else { statement.setString(index, value); }
+            }
+        }
+    }
 
-        return result;
+    /** sum of batch update counts; rows of unknown count ({@link Statement#SUCCESS_NO_INFO}) are counted as 1 */
+    private static int sumUpdateCounts(int[] counts) {
+        int sum = 0;
+        if (counts == null) { return sum; }
+        for (int count : counts) {
+            if (count > 0) {
+                sum += count;
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                sum++;
+            }
+        }
+        return sum;
     }
 
     protected void setAutoCommit(Boolean autoCommit) { this.autoCommit = autoCommit; }
@@ -527,7 +640,11 @@ public class SimpleExtractionDao extends JdbcDaoSupport {
     protected JdbcResult saveAsEXCEL(@NotNull String sql, @NotNull File output, String sheet, String startAddress) {
         long startTime = System.currentTimeMillis();
         JdbcResult result = new JdbcResult(sql);
-        ExcelExporter exporter = new ExcelExporter(treatNullAs, true, sheet, new ExcelAddress(startAddress));
+        int rowWindow = context == null ?
+                        getDefaultInt(EXCEL_EXPORT_ROW_WINDOW) :
+                        context.getIntData(EXCEL_EXPORT_ROW_WINDOW, getDefaultInt(EXCEL_EXPORT_ROW_WINDOW));
+        ExcelExporter exporter =
+            new ExcelExporter(treatNullAs, true, sheet, new ExcelAddress(startAddress), rowWindow);
         return executeAndExtract(sql, result, new JdbcResultExtractor(result, output, exporter)).setTiming(startTime);
     }
 
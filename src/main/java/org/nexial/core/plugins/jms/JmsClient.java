@@ -17,20 +17,27 @@
 
 package org.nexial.core.plugins.jms;
 
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import javax.jms.*;
+import javax.validation.constraints.NotNull;
 
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.plugins.jms.JmsConnectionPool.PooledSession;
+import org.nexial.core.plugins.jms.JmsConnectionPool.SessionCallback;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
-import static javax.jms.DeliveryMode.NON_PERSISTENT;
-import static javax.jms.Session.AUTO_ACKNOWLEDGE;
+import static org.nexial.core.NexialConst.Jms.JMS_RECEIVE_UNTIL_WAIT_MS;
 import static org.nexial.core.NexialConst.MS_UNDEFINED;
+import static org.nexial.core.SystemVariables.getDefaultInt;
 
 public class JmsClient implements ApplicationContextAware {
     protected ApplicationContext spring;
@@ -52,69 +59,141 @@ public class JmsClient implements ApplicationContextAware {
     public Object receive(JmsClientConfig config, long timeout) throws JMSException {
         if (config == null) { throw new IllegalArgumentException("config is null"); }
 
-        Connection connection = null;
-        Session session = null;
-
-        try {
-            connection = config.createConnection();
-            if (connection == null) { throw new IllegalArgumentException("Unable to resolve JMS connection"); }
-
-            session = connection.createSession(false, AUTO_ACKNOWLEDGE);
-            if (session == null) { throw new IllegalArgumentException("Unable to resolve JMS session"); }
+        return withSession(config, false, pooled -> {
+            MessageConsumer consumer = pooled.getSession().createConsumer(resolveDestination(config, pooled));
+            try {
+                Message msg = timeout == MS_UNDEFINED ? consumer.receive() : consumer.receive(timeout);
+                return msg == null ? null : toContent(msg);
+            } finally {
+                consumer.close();
+            }
+        });
+    }
 
-            Destination destination = config.resolveDestination(session);
-            if (destination == null) { throw new IllegalArgumentException("Unable to resolve JMS destination"); }
+    /**
+     * receive messages from the destination of {@code config} until {@code maxCount} messages are received (if
+     * {@code maxCount} is greater than 0), {@code until} is met (if specified) or no more message is received within
+     * {@code timeout}. {@code until} is evaluated after each message, against all the messages received thus far.
+     * <p>
+     * Without {@code timeout}, {@code nexial.jms.receiveUntilWaitMs} is used instead when {@code until} is specified
+     * or {@code maxCount} is not, since an unmet {@code until} would otherwise block indefinitely.
+     */
+    @NotNull
+    public List<Object> receiveUntil(JmsClientConfig config, int maxCount, long timeout, Predicate<List<Object>> until)
+        throws JMSException {
+        if (config == null) { throw new IllegalArgumentException("config is null"); }
 
-            MessageConsumer consumer = session.createConsumer(destination);
-            Message msg = timeout == MS_UNDEFINED ? consumer.receive() : consumer.receive(timeout);
-            if (msg == null) { return null; }
+        long waitMs = timeout == MS_UNDEFINED && (until != null || maxCount < 1) ?
+                      resolveReceiveUntilWaitMs() : timeout;
+        return withSession(config, false, pooled -> {
+            List<Object> received = new ArrayList<>();
+            MessageConsumer consumer = pooled.getSession().createConsumer(resolveDestination(config, pooled));
+            try {
+                while (maxCount < 1 || received.size() < maxCount) {
+                    Message msg = waitMs == MS_UNDEFINED ? consumer.receive() : consumer.receive(waitMs);
+                    if (msg == null) { break; }
+
+                    received.add(toContent(msg));
+                    if (until != null && until.test(received)) { break; }
+                }
+            } finally {
+                consumer.close();
+            }
+            return received;
+        });
+    }
 
-            if (msg instanceof TextMessage) { return handleTextMessage((TextMessage) msg); }
-            if (msg instanceof MapMessage) { return handleMapMessage((MapMessage) msg); }
+    private long resolveReceiveUntilWaitMs() {
+        return context == null ? getDefaultInt(JMS_RECEIVE_UNTIL_WAIT_MS) :
+               context.getIntData(JMS_RECEIVE_UNTIL_WAIT_MS, getDefaultInt(JMS_RECEIVE_UNTIL_WAIT_MS));
+    }
 
-            throw new UnsupportedOperationException("Unknown/unsupported message type: " + msg.getClass());
-        } finally {
-            if (session != null) { try { session.close(); } catch (JMSException e) { } }
-            if (connection != null) { try { connection.close(); } catch (JMSException e) { } }
-        }
+    /**
+     * send all {@code payloads} in one transacted session; either all or none of the messages are sent. Return the
+     * number of messages sent.
+     */
+    public int sendObjects(JmsClientConfig config, List<?> payloads) throws JMSException {
+        if (config == null) { throw new IllegalArgumentException("config is null"); }
+        if (CollectionUtils.isEmpty(payloads)) { throw new IllegalArgumentException("payload is missing"); }
+
+        return withSession(config, true, pooled -> {
+            Session session = pooled.getSession();
+            try {
+                Destination destination = resolveDestination(config, pooled);
+                MessageProducer producer = pooled.getProducer();
+                for (Object payload : payloads) {
+                    if (payload == null) { throw new IllegalArgumentException("payload is missing"); }
+                    producer.send(destination, toMessage(session, null, payload));
+                }
+                session.commit();
+                return payloads.size();
+            } catch (JMSException | RuntimeException e) {
+                try { session.rollback(); } catch (JMSException e1) { }
+                throw e;
+            }
+        });
     }
 
     protected void sendObject(JmsClientConfig config, String messageId, Object payload) throws JMSException {
         if (config == null) { throw new IllegalArgumentException("config is null"); }
         if (payload == null) { throw new IllegalArgumentException("payload is missing"); }
 
+        withSession(config, false, pooled -> {
+            Destination destination = resolveDestination(config, pooled);
+            pooled.getProducer().send(destination, toMessage(pooled.getSession(), messageId, payload));
+            return null;
+        });
+    }
+
+    /**
+     * invoke {@code callback} with a session from the connection pool, or with a new connection and session (closed
+     * afterwards) if connection pooling is disabled.
+     */
+    protected <T> T withSession(JmsClientConfig config, boolean transacted, SessionCallback<T> callback)
+        throws JMSException {
+        if (JmsConnectionPool.isEnabled(context)) {
+            return JmsConnectionPool.getInstance().execute(context, config, transacted, callback);
+        }
+
         Connection connection = null;
-        Session session = null;
+        PooledSession session = null;
 
         try {
             connection = config.createConnection();
             if (connection == null) { throw new IllegalArgumentException("Unable to resolve JMS connection"); }
 
-            session = connection.createSession(false, AUTO_ACKNOWLEDGE);
-            if (session == null) { throw new IllegalArgumentException("Unable to resolve JMS session"); }
-
-            Destination destination = config.resolveDestination(session);
-            if (destination == null) { throw new IllegalArgumentException("Unable to resolve JMS destination"); }
+            session = JmsConnectionPool.newSession(connection, transacted);
+            return callback.doInSession(session);
+        } finally {
+            if (session != null) { session.close(); }
+            if (connection != null) { try { connection.close(); } catch (JMSException e) { } }
+        }
+    }
 
-            MessageProducer producer = session.createProducer(destination);
-            producer.setDeliveryMode(NON_PERSISTENT);
+    private Destination resolveDestination(JmsClientConfig config, PooledSession pooled) throws JMSException {
+        Destination destination = config.resolveDestination(pooled.getSession());
+        if (destination == null) { throw new IllegalArgumentException("Unable to resolve JMS destination"); }
+        return destination;
+    }
 
-            Message msg;
-            if (payload instanceof Map) {
-                msg = session.createMapMessage();
-                Map<String, Object> map = (Map<String, Object>) payload;
-                for (String name : map.keySet()) { msg.setObjectProperty(name, map.get(name)); }
-            } else {
-                msg = session.createTextMessage(String.valueOf(payload));
-            }
+    private Message toMessage(Session session, String messageId, Object payload) throws JMSException {
+        Message msg;
+        if (payload instanceof Map) {
+            msg = session.createMapMessage();
+            Map<String, Object> map = (Map<String, Object>) payload;
+            for (String name : map.keySet()) { msg.setObjectProperty(name, map.get(name)); }
+        } else {
+            msg = session.createTextMessage(String.valueOf(payload));
+        }
 
-            if (StringUtils.isNotBlank(messageId)) { msg.setJMSMessageID(messageId); }
+        if (StringUtils.isNotBlank(messageId)) { msg.setJMSMessageID(messageId); }
+        return msg;
+    }
 
-            producer.send(msg);
-        } finally {
-            if (session != null) { try { session.close(); } catch (JMSException e) { } }
-            if (connection != null) { try { connection.close(); } catch (JMSException e) { } }
-        }
+    private Object toContent(Message msg) throws JMSException {
+        if (msg instanceof TextMessage) { return handleTextMessage((TextMessage) msg); }
+        if (msg instanceof MapMessage) { return handleMapMessage((MapMessage) msg); }
+        throw new UnsupportedOperationException("Unknown/unsupported message type: " + msg.getClass());
     }
 
     private Map<String, String> handleMapMessage(MapMessage msg) throws JMSException {
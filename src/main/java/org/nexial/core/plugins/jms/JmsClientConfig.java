@@ -19,6 +19,7 @@ package org.nexial.core.plugins.jms;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.TreeMap;
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
@@ -44,6 +45,8 @@ public abstract class JmsClientConfig implements Serializable {
     protected String destination;
     protected boolean isTopic;
     protected ThirdPartyDriverInfo driverInfo;
+    // all the settings that affect the connection (i.e. not destination); used to share connection
+    protected String connectionProfile;
 
     public String getUrl() { return url;}
 
@@ -73,6 +76,8 @@ public abstract class JmsClientConfig implements Serializable {
 
     public void setDriverInfo(ThirdPartyDriverInfo driverInfo) { this.driverInfo = driverInfo; }
 
+    public String getConnectionProfile() { return connectionProfile; }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37).append(url).append(destination).toHashCode();
@@ -114,6 +119,11 @@ public abstract class JmsClientConfig implements Serializable {
         username = config.get("username");
         password = config.get("password");
         isTopic = BooleanUtils.toBoolean(config.get("isTopic"));
+
+        Map<String, String> connectionSettings = new TreeMap<>(config);
+        connectionSettings.remove("destination");
+        connectionSettings.remove("isTopic");
+        connectionProfile = getClass().getName() + connectionSettings;
     }
 
     public abstract Connection createConnection() throws JMSException;
@@ -18,6 +18,7 @@
 package org.nexial.core.plugins.jms;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 import java.util.Map;
 import javax.validation.constraints.NotNull;
 
@@ -26,13 +27,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.nexial.commons.utils.TextUtils;
 import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.model.NexialFilterList;
 import org.nexial.core.model.StepResult;
 import org.nexial.core.plugins.ThirdPartyDriverInfo;
 import org.nexial.core.plugins.base.BaseCommand;
 
 import static org.nexial.core.NexialConst.MS_UNDEFINED;
-import static org.nexial.core.utils.CheckUtils.fail;
-import static org.nexial.core.utils.CheckUtils.requiresNotBlank;
+import static org.nexial.core.utils.CheckUtils.*;
 
 public class JmsCommand extends BaseCommand {
     private JmsClient jmsClient;
@@ -95,6 +96,58 @@ public class JmsCommand extends BaseCommand {
         }
     }
 
+    /**
+     * drain messages from the destination of {@code config} into {@code var} (as a list), until {@code maxCount}
+     * messages are received, {@code conditions} are met or no more message is received within {@code waitMs}.
+     * {@code conditions} are evaluated after each message is received, with {@code var} referencing all the messages
+     * received thus far. Without {@code waitMs}, {@code nexial.jms.receiveUntilWaitMs} applies when {@code conditions}
+     * are specified.
+     */
+    public StepResult receiveUntil(String var, String config, String maxCount, String waitMs, String conditions) {
+        requiresValidAndNotReadOnlyVariableName(var);
+        requiresNotBlank(config, "Invalid config", config);
+        if (StringUtils.isNotBlank(maxCount)) { requiresPositiveNumber(maxCount, "Invalid max count", maxCount); }
+        int max = NumberUtils.toInt(StringUtils.trim(maxCount), -1);
+        requires(max > 0 || StringUtils.isNotBlank(conditions), "max count or conditions must be specified", maxCount);
+        long timeout = NumberUtils.isDigits(waitMs) ? NumberUtils.toInt(waitMs) : MS_UNDEFINED;
+
+        NexialFilterList filters = null;
+        if (StringUtils.isNotBlank(conditions)) {
+            filters = new NexialFilterList(conditions);
+            if (filters.size() == 0) { return StepResult.fail("Invalid filter condition " + filters.getFilterText()); }
+        }
+
+        NexialFilterList until = filters;
+        try {
+            List<Object> received = jmsClient.receiveUntil(resolveJmsClientConfig(config), max, timeout, messages -> {
+                if (until == null) { return false; }
+                context.setData(var, messages);
+                return until.isMatched(context, null);
+            });
+
+            context.setData(var, received);
+            return StepResult.success(received.size() + " message(s) received and saved to variable '" + var + "'");
+        } catch (Throwable e) {
+            return StepResult.fail("messages FAILED to be received due to " + e.getMessage());
+        }
+    }
+
+    /**
+     * send all {@code payloads} (separated by {@code nexial.textDelim}) as text messages, in one transacted session.
+     */
+    public StepResult sendTexts(String config, String payloads) {
+        requiresNotBlank(config, "Invalid config", config);
+        requiresNotBlank(payloads, "Invalid payloads", payloads);
+
+        List<String> messages = TextUtils.toList(payloads, context.getTextDelim(), false);
+        try {
+            int sent = jmsClient.sendObjects(resolveJmsClientConfig(config), messages);
+            return StepResult.success(sent + " message(s) sent successfully");
+        } catch (Throwable e) {
+            return StepResult.fail("messages FAILED to sent due to " + e.getMessage());
+        }
+    }
+
     protected StepResult send(String config, String id, Object payload) {
         try {
             jmsClient.sendObject(resolveJmsClientConfig(config), id, payload);
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.jms;
+
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.ShutdownAdvisor;
+import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.plugins.ForcefulTerminate;
+import org.nexial.core.utils.ConsoleUtils;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.validation.constraints.NotNull;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+import static javax.jms.DeliveryMode.NON_PERSISTENT;
+import static javax.jms.Session.AUTO_ACKNOWLEDGE;
+import static javax.jms.Session.SESSION_TRANSACTED;
+import static org.nexial.core.NexialConst.Jms.JMS_POOL_ENABLED;
+import static org.nexial.core.NexialConst.Jms.JMS_POOL_MAX_IDLE_SESSIONS;
+import static org.nexial.core.NexialConst.NL;
+import static org.nexial.core.SystemVariables.getDefaultBool;
+import static org.nexial.core.SystemVariables.getDefaultInt;
+
+/**
+ * process-wide cache of JMS connections, one per "profile" (provider, url, credential and provider-specific
+ * settings). Each connection keeps its idle sessions, along with their producer, so that consecutive
+ * {@literal jms.*} steps against the same broker do not pay for connection and session setup on every message.
+ * All pooled connections are closed at the end of execution via {@link ShutdownAdvisor}.
+ * <p>
+ * JMS sessions are single-threaded; a session is only handed to one caller at a time.
+ */
+public final class JmsConnectionPool implements ForcefulTerminate {
+    private static final JmsConnectionPool INSTANCE = new JmsConnectionPool();
+
+    private final Map<String, PooledConnection> connections = new ConcurrentHashMap<>();
+
+    /** callback to work with a session borrowed from the pool */
+    @FunctionalInterface
+    public interface SessionCallback<T> {
+        T doInSession(PooledSession session) throws JMSException;
+    }
+
+    /** a JMS session along with its producer, which is not bound to any destination and created on demand */
+    public static final class PooledSession {
+        private final Session session;
+        private MessageProducer producer;
+
+        PooledSession(Session session) {
+            if (session == null) { throw new IllegalArgumentException("Unable to resolve JMS session"); }
+            this.session = session;
+        }
+
+        @NotNull
+        public Session getSession() { return session; }
+
+        @NotNull
+        public MessageProducer getProducer() throws JMSException {
+            if (producer == null) {
+                producer = session.createProducer(null);
+                producer.setDeliveryMode(NON_PERSISTENT);
+            }
+            return producer;
+        }
+
+        void close() {
+            // closing session also closes its producer
+            try { session.close(); } catch (JMSException e) { }
+        }
+    }
+
+    private static final class PooledConnection {
+        private final String label;
+        private final Connection connection;
+        private final Deque<PooledSession> idleSessions = new ConcurrentLinkedDeque<>();
+        private final Deque<PooledSession> idleTransactedSessions = new ConcurrentLinkedDeque<>();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder sessions = new LongAdder();
+        private volatile boolean broken;
+
+        private PooledConnection(String label, Connection connection) {
+            this.label = label;
+            this.connection = connection;
+        }
+
+        private Deque<PooledSession> idle(boolean transacted) {
+            return transacted ? idleTransactedSessions : idleSessions;
+        }
+
+        private void close() {
+            idleSessions.forEach(PooledSession::close);
+            idleSessions.clear();
+            idleTransactedSessions.forEach(PooledSession::close);
+            idleTransactedSessions.clear();
+            try { connection.close(); } catch (JMSException e) { }
+        }
+    }
+
+    private JmsConnectionPool() { }
+
+    @NotNull
+    public static JmsConnectionPool getInstance() { return INSTANCE; }
+
+    public static boolean isEnabled(ExecutionContext context) {
+        return context == null ? getDefaultBool(JMS_POOL_ENABLED) :
+               context.getBooleanData(JMS_POOL_ENABLED, getDefaultBool(JMS_POOL_ENABLED));
+    }
+
+    /**
+     * borrow a session (transacted or auto-acknowledged) from the connection associated with {@code config} and
+     * invoke {@code callback} with it. The session is returned to the pool afterwards, unless {@code callback} failed.
+     */
+    public <T> T execute(ExecutionContext context,
+                         JmsClientConfig config,
+                         boolean transacted,
+                         SessionCallback<T> callback) throws JMSException {
+        String profile = config.getConnectionProfile();
+        PooledConnection pooled = resolve(profile, config);
+        pooled.requests.increment();
+
+        PooledSession session = pooled.idle(transacted).pollFirst();
+        if (session == null) {
+            try {
+                session = newSession(pooled.connection, transacted);
+            } catch (JMSException | RuntimeException e) {
+                // connection might no longer be usable; next request will start anew
+                evict(profile, pooled);
+                throw e;
+            }
+            pooled.sessions.increment();
+        }
+
+        boolean reusable = false;
+        try {
+            T result = callback.doInSession(session);
+            reusable = true;
+            return result;
+        } finally {
+            int maxIdle = context == null ? getDefaultInt(JMS_POOL_MAX_IDLE_SESSIONS) :
+                          context.getIntData(JMS_POOL_MAX_IDLE_SESSIONS, getDefaultInt(JMS_POOL_MAX_IDLE_SESSIONS));
+            if (reusable && !pooled.broken && pooled.idle(transacted).size() < maxIdle) {
+                pooled.idle(transacted).offerFirst(session);
+            } else {
+                session.close();
+            }
+
+            if (pooled.broken) { evict(profile, pooled); }
+        }
+    }
+
+    /**
+     * summary of the connection pool usage, one line per profile. Empty string if no pooled connection was used.
+     */
+    @NotNull
+    public String summarize() {
+        if (connections.isEmpty()) { return ""; }
+
+        Map<String, String> lines = new TreeMap<>();
+        connections.values().forEach(pooled -> lines.put(pooled.label,
+                                                          pooled.label + ": " +
+                                                          pooled.requests.sum() + " request(s) over " +
+                                                          pooled.sessions.sum() + " session(s); idle " +
+                                                          (pooled.idleSessions.size() +
+                                                           pooled.idleTransactedSessions.size())));
+        return StringUtils.join(lines.values(), NL);
+    }
+
+    @Override
+    public boolean mustForcefullyTerminate() { return !connections.isEmpty(); }
+
+    @Override
+    public void forcefulTerminate() {
+        synchronized (connections) {
+            connections.values().forEach(PooledConnection::close);
+            connections.clear();
+        }
+    }
+
+    static PooledSession newSession(Connection connection, boolean transacted) throws JMSException {
+        return new PooledSession(connection.createSession(transacted,
+                                                          transacted ? SESSION_TRANSACTED : AUTO_ACKNOWLEDGE));
+    }
+
+    @NotNull
+    private PooledConnection resolve(String profile, JmsClientConfig config) throws JMSException {
+        PooledConnection pooled = connections.get(profile);
+        if (pooled != null && !pooled.broken) { return pooled; }
+
+        synchronized (connections) {
+            pooled = connections.get(profile);
+            if (pooled != null && pooled.broken) {
+                // reported as broken by its exception listener since last used; start anew
+                evict(profile, pooled);
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                Connection connection = config.createConnection();
+                if (connection == null) { throw new IllegalArgumentException("Unable to resolve JMS connection"); }
+
+                String label = config.getProvider() + " " + config.getUrl();
+                ConsoleUtils.log("creating pooled JMS connection for " + label);
+                PooledConnection newPooled = new PooledConnection(label, connection);
+                try {
+                    connection.setExceptionListener(e -> newPooled.broken = true);
+                } catch (JMSException | RuntimeException e) {
+                    // not all providers allow exception listener; failure would then surface via the next request
+                }
+
+                pooled = newPooled;
+                connections.put(profile, pooled);
+                ShutdownAdvisor.addAdvisor(this);
+            }
+        }
+
+        return pooled;
+    }
+
+    private void evict(String profile, PooledConnection pooled) {
+        if (connections.remove(profile, pooled)) {
+            ConsoleUtils.log("discarding pooled JMS connection for " + pooled.label);
+            pooled.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.json;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.utils.JSONPath;
+import org.nexial.core.utils.JSONPath.Compiled;
+import org.nexial.core.utils.LruCache;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * process-wide cache of parsed JSON payloads (keyed by content hash) and compiled {@link JSONPath} (keyed by path),
+ * as used by {@link JsonCommand}. A typical API test runs a series of {@literal json.*} assertions against the same
+ * response; with this cache the response is parsed once and each path is parsed once.
+ * <p>
+ * Cached payloads are shared, hence they must be treated as read-only. Both caches are bounded (least recently used
+ * entry is evicted first), and payload longer than {@link #MAX_PAYLOAD_LENGTH} is parsed but not cached.
+ */
+public final class JsonCache {
+    private static final int MAX_PAYLOADS = 16;
+    private static final int MAX_PAYLOAD_LENGTH = 16 * 1024 * 1024;
+    private static final int MAX_PATHS = 1024;
+    private static final JsonCache INSTANCE = new JsonCache();
+
+    private final LruCache<String, Object> payloads = new LruCache<>(MAX_PAYLOADS);
+    private final LruCache<String, Compiled> paths = new LruCache<>(MAX_PATHS);
+
+    private JsonCache() { }
+
+    @NotNull
+    public static JsonCache getInstance() { return INSTANCE; }
+
+    /**
+     * parse {@code json} via {@code parser}, or return the previously parsed payload of the same content. Do not
+     * modify the return.
+     */
+    public Object parse(String json, Function<String, Object> parser) {
+        if (json == null || json.length() > MAX_PAYLOAD_LENGTH) {
+            payloads.miss();
+            return parser.apply(json);
+        }
+
+        return payloads.resolve(DigestUtils.sha256Hex(json), () -> parser.apply(json));
+    }
+
+    @NotNull
+    public Compiled compile(String path) { return paths.resolve(path, () -> JSONPath.compile(path)); }
+
+    public void clear() {
+        payloads.clear();
+        paths.clear();
+    }
+
+    public long getPayloadHits() { return payloads.getHits(); }
+
+    public long getPayloadMisses() { return payloads.getMisses(); }
+
+    public long getPathHits() { return paths.getHits(); }
+
+    public long getPathMisses() { return paths.getMisses(); }
+
+    public String summarize() {
+        List<String> usages = new ArrayList<>();
+        String payloadUsage = payloads.summarize("payload parsed");
+        if (StringUtils.isNotBlank(payloadUsage)) { usages.add(payloadUsage); }
+        String pathUsage = paths.summarize("path parsed");
+        if (StringUtils.isNotBlank(pathUsage)) { usages.add(pathUsage); }
+        return String.join("; ", usages);
+    }
+}
@@ -476,7 +476,10 @@ public class JsonCommand extends BaseCommand {
         }
     }
 
-    protected Object toJSONObject(String json) { return resolveToJSONObject(retrieveJsonContent(json)); }
+    /** parsed JSON is shared with subsequent steps of the same content; not to be modified */
+    protected Object toJSONObject(String json) {
+        return JsonCache.getInstance().parse(retrieveJsonContent(json), JsonCommand::resolveToJSONObject);
+    }
 
     protected Object sanityCheck(String json, String jsonpath) {
         requiresNotBlank(jsonpath, "invalid jsonpath", jsonpath);
@@ -485,34 +488,18 @@ public class JsonCommand extends BaseCommand {
 
     protected String find(String json, String jsonpath) {
         Object obj = sanityCheck(json, jsonpath);
-        if (obj instanceof JSONArray) { return JSONPath.find((JSONArray) obj, jsonpath); }
-        if (obj instanceof JSONObject) { return JSONPath.find((JSONObject) obj, jsonpath); }
+        if (obj instanceof JSONArray || obj instanceof JSONObject) {
+            return JsonCache.getInstance().compile(jsonpath).find(obj);
+        }
         throw new IllegalArgumentException("Unsupported data type " + obj.getClass().getSimpleName());
     }
 
     protected int count(String json, String jsonpath) {
         Object obj = sanityCheck(json, jsonpath);
-
-        JSONPath jp = null;
-        if (obj instanceof JSONArray) { jp = new JSONPath((JSONArray) obj, jsonpath); }
-        if (obj instanceof JSONObject) { jp = new JSONPath((JSONObject) obj, jsonpath); }
-
-        if (jp == null) {throw new IllegalArgumentException("Unsupported data type " + obj.getClass().getSimpleName());}
-
-        String matches = jp.get();
-
-        int count = 0;
-        if (matches != null) {
-            // is this array?
-            if (StringUtils.startsWith(matches, "[") && StringUtils.endsWith(matches, "]")) {
-                JSONArray matchedArray = jp.getAs(JSONArray.class);
-                if (matchedArray != null) { count = matchedArray.length(); }
-            } else {
-                count = 1;
-            }
+        if (obj instanceof JSONArray || obj instanceof JSONObject) {
+            return JsonCache.getInstance().compile(jsonpath).count(obj);
         }
-
-        return count;
+        throw new IllegalArgumentException("Unsupported data type " + obj.getClass().getSimpleName());
     }
 
     protected static JsonArray toJsonArray(String array, String delimiter) {
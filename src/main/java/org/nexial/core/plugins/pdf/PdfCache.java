@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.pdf;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.pdfbox.text.TextPosition;
+import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.utils.LruCache;
+
+import javax.validation.constraints.NotNull;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.nexial.core.NexialConst.Pdf.PDF_CACHE_ENABLED;
+import static org.nexial.core.SystemVariables.getDefaultBool;
+
+/**
+ * process-wide cache of content extracted from PDF files, keyed by file path, last modified time and file size. A
+ * typical PDF test runs a series of {@literal pdf.*} assertions against the same file; with this cache the text of
+ * the file is extracted once and each subsequent assertion becomes a string search. The text positions of individual
+ * pages (as used by {@link PdfTableExtractor}) are cached likewise.
+ * <p>
+ * Rewriting a file changes its last modified time and/or size, hence a stale entry is never served; it simply ages
+ * out of the cache (least recently used file or page is evicted first). Cached text positions are shared, hence they
+ * must be treated as read-only.
+ */
+public final class PdfCache {
+    private static final int MAX_FILES = 8;
+    private static final int MAX_PAGES = 256;
+    private static final PdfCache INSTANCE = new PdfCache();
+
+    private final LruCache<String, String> texts = new LruCache<>(MAX_FILES);
+    private final LruCache<String, List<TextPosition>> pages = new LruCache<>(MAX_PAGES);
+
+    /** callback to extract content from a PDF file on cache miss */
+    @FunctionalInterface
+    public interface Extractor<T> {
+        T extract() throws IOException;
+    }
+
+    private PdfCache() { }
+
+    @NotNull
+    public static PdfCache getInstance() { return INSTANCE; }
+
+    public static boolean isEnabled(ExecutionContext context) {
+        return context == null ? getDefaultBool(PDF_CACHE_ENABLED) :
+               context.getBooleanData(PDF_CACHE_ENABLED, getDefaultBool(PDF_CACHE_ENABLED));
+    }
+
+    /** return the previously extracted text of {@code file}, or extract it via {@code extractor} */
+    public String resolveText(File file, Extractor<String> extractor) throws IOException {
+        return texts.resolve(toKey(file), extractor::extract);
+    }
+
+    /**
+     * return the previously extracted text positions of page {@code pageIdx} (zero-based) of {@code file}, or extract
+     * them via {@code extractor}. A {@code null} extraction (such as non-existent page) is not cached. Do not modify
+     * the return.
+     */
+    public List<TextPosition> resolvePage(File file, String password, int pageIdx,
+                                          Extractor<List<TextPosition>> extractor) throws IOException {
+        String key = toKey(file) + "|" + pageIdx + "|" + (password == null ? "" : DigestUtils.sha256Hex(password));
+        return pages.resolve(key, extractor::extract);
+    }
+
+    public void clear() {
+        texts.clear();
+        pages.clear();
+    }
+
+    public long getTextHits() { return texts.getHits(); }
+
+    public long getTextMisses() { return texts.getMisses(); }
+
+    public long getPageHits() { return pages.getHits(); }
+
+    public long getPageMisses() { return pages.getMisses(); }
+
+    public String summarize() {
+        List<String> usages = new ArrayList<>();
+        Arrays.asList(texts.summarize("text extracted"), pages.summarize("page extracted")).forEach(usage -> {
+            if (StringUtils.isNotBlank(usage)) { usages.add(usage); }
+        });
+        return String.join("; ", usages);
+    }
+
+    @NotNull
+    private static String toKey(File file) throws IOException {
+        return file.getCanonicalPath() + "|" + file.lastModified() + "|" + file.length();
+    }
+}
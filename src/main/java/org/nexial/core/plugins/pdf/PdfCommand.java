@@ -258,7 +258,8 @@ public class PdfCommand extends BaseCommand {
 
         try {
             LineRange lineRange = LineRange.newRange(pageNum, startsFrom, endsOn);
-            PdfTableExtractor extractor = new PdfTableExtractor().setSource(pdf);
+            PdfTableExtractor extractor = new PdfTableExtractor().setSource(pdf)
+                                                                 .setUseCache(PdfCache.isEnabled(context));
             if (joinKeyInHeaderRowMapping) { extractor.setExistingFormValues(formValues); }
 
             Map<String, Object> extracted = extractor.extractRangeFromMap(lineRange, identStrategy);
@@ -48,6 +48,7 @@ public class PdfTableExtractor {
     private PDDocument document;
     private String password;
     private Map<String, Object> existingFormValues;
+    private boolean useCache;
 
     public static class LineRange {
         private int pageIdx;
@@ -205,6 +206,15 @@ public class PdfTableExtractor {
         return setSource(new File(filePath), password);
     }
 
+    /**
+     * reuse (via {@link PdfCache}) the text positions previously extracted from the same page of the same file. Only
+     * applicable when the source is set as file.
+     */
+    public PdfTableExtractor setUseCache(boolean useCache) {
+        this.useCache = useCache;
+        return this;
+    }
+
     /**
      * only meaningful to keyInHeaderRowOnly mode where we want to continue collecting parsed values into existing
      * map - effectively joining previously parsed values with new ones.
@@ -280,13 +290,13 @@ public class PdfTableExtractor {
     public Map<String, Object> extractRangeFromMap(LineRange lineRange, KeyValueIdentStrategy keyValueIdentStrategy)
         throws IOException {
         try {
-            document = password != null ?
-                       PDDocument.load(new FileInputStream(input), password) :
-                       PDDocument.load(new FileInputStream(input));
-
-            int pageCount = document.getNumberOfPages();
             int pageId = lineRange.getPageIdx();
-            if (pageId < 0 || pageId >= pageCount) {
+            // on cache hit, the document is not even loaded
+            List<TextPosition> texts = useCache && input != null ?
+                                       PdfCache.getInstance().resolvePage(input, password, pageId,
+                                                                          () -> extractPageTextPositions(pageId)) :
+                                       extractPageTextPositions(pageId);
+            if (texts == null) {
                 ConsoleUtils.error("requested page > available page");
                 return new LinkedHashMap<>();
             }
@@ -294,7 +304,7 @@ public class PdfTableExtractor {
             // List<TextPosition> texts = extractTextPositions(pageId);    //sorted by .getY() ASC
             // List<Range<Integer>> lineRanges = getLineRanges(texts, lineRange);
 
-            Map<Range<Integer>, Set<TextPosition>> pageContent = sortContent(extractTextPositions(pageId));
+            Map<Range<Integer>, Set<TextPosition>> pageContent = sortContent(texts);
             List<Range<Integer>> lineRanges = getLineRanges(pageContent, lineRange);
 
             //extract line ranges
@@ -330,6 +340,7 @@ public class PdfTableExtractor {
                 } catch (IOException ex) {
                     logger.error(null, ex);
                 }
+                document = null;
             }
         }
     }
@@ -434,6 +445,19 @@ public class PdfTableExtractor {
         return extractor.extract();
     }
 
+    /**
+     * text positions of page {@code pageId}, or {@code null} if no such page exists. The document is loaded on first
+     * use and the return is read-only, so that it can be cached via {@link PdfCache}.
+     */
+    private List<TextPosition> extractPageTextPositions(int pageId) throws IOException {
+        if (document == null) {
+            document = password != null ? PDDocument.load(input, password) : PDDocument.load(input);
+        }
+
+        if (pageId < 0 || pageId >= document.getNumberOfPages()) { return null; }
+        return Collections.unmodifiableList(extractTextPositions(pageId));
+    }
+
     /**
      * Remove all texts in excepted lines
      *
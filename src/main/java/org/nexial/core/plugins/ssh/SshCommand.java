@@ -52,7 +52,7 @@ public class SshCommand extends BaseCommand {
         requiresValidVariableName(var);
         requiresNotBlank(profile, "Invalid profile", profile);
         RemoteFileActionOutcome outcome =
-            new SftpWorker(COPY_FROM, remote, local).doAction(resolveSshClientConnection(profile));
+            new SftpWorker(COPY_FROM, remote, local).doAction(resolveSshClientConnection(profile), context);
         context.setData(var, outcome);
 
         if (outcome.hasError()) {
@@ -68,7 +68,7 @@ public class SshCommand extends BaseCommand {
         requiresValidVariableName(var);
         requiresNotBlank(profile, "Invalid profile", profile);
         RemoteFileActionOutcome outcome =
-            new SftpWorker(COPY_TO, remote, local).doAction(resolveSshClientConnection(profile));
+            new SftpWorker(COPY_TO, remote, local).doAction(resolveSshClientConnection(profile), context);
         context.setData(var, outcome);
 
         if (outcome.hasError()) {
@@ -84,7 +84,7 @@ public class SshCommand extends BaseCommand {
         requiresValidVariableName(var);
         requiresNotBlank(profile, "Invalid profile", profile);
         RemoteFileActionOutcome outcome =
-            new SftpWorker(MOVE_FROM, remote, local).doAction(resolveSshClientConnection(profile));
+            new SftpWorker(MOVE_FROM, remote, local).doAction(resolveSshClientConnection(profile), context);
         context.setData(var, outcome);
 
         if (outcome.hasError()) {
@@ -100,7 +100,7 @@ public class SshCommand extends BaseCommand {
         requiresValidVariableName(var);
         requiresNotBlank(profile, "Invalid profile", profile);
         RemoteFileActionOutcome outcome =
-            new SftpWorker(MOVE_TO, remote, local).doAction(resolveSshClientConnection(profile));
+            new SftpWorker(MOVE_TO, remote, local).doAction(resolveSshClientConnection(profile), context);
         context.setData(var, outcome);
 
         if (outcome.hasError()) {
@@ -115,7 +115,7 @@ public class SshCommand extends BaseCommand {
         requiresValidVariableName(var);
         requiresNotBlank(profile, "Invalid profile", profile);
         RemoteFileActionOutcome outcome =
-            new SftpWorker(LIST, remote, null).doAction(resolveSshClientConnection(profile));
+            new SftpWorker(LIST, remote, null).doAction(resolveSshClientConnection(profile), context);
         context.setData(var, outcome);
 
         if (outcome.hasError()) {
@@ -130,7 +130,7 @@ public class SshCommand extends BaseCommand {
         requiresValidVariableName(var);
         requiresNotBlank(profile, "Invalid profile", profile);
         RemoteFileActionOutcome outcome =
-            new SftpWorker(DELETE, remote, null).doAction(resolveSshClientConnection(profile));
+            new SftpWorker(DELETE, remote, null).doAction(resolveSshClientConnection(profile), context);
         context.setData(var, outcome);
 
         if (outcome.hasError()) {
@@ -161,7 +161,7 @@ public class SshCommand extends BaseCommand {
         ChannelExec channel = null;
 
         try {
-            session = connect(connection);
+            session = openSession(connection);
             ScpHelper.doScpCopyFrom(session, remote, local);
             return succeedSingleFile(var, local, outcome, "copy from " + remote + " to " + local);
         } catch (JSchException | IOException e) {
@@ -192,7 +192,7 @@ public class SshCommand extends BaseCommand {
         ChannelExec channel = null;
 
         try {
-            session = connect(connection);
+            session = openSession(connection);
             ScpHelper.doScpCopyTo(session, local, remote);
             return succeedSingleFile(var, local, outcome, "copy from " + local + " to " + remote);
         } catch (JSchException | IOException e) {
@@ -328,13 +328,21 @@ public class SshCommand extends BaseCommand {
             channel.disconnect();
         }
 
-        if (session != null) { session.disconnect(); }
+        // pooled session stays connected for the subsequent steps
+        if (session != null && !SshSessionPool.getInstance().release(session)) { session.disconnect(); }
     }
 
     protected String resolveLogPrefix(RemoteFileActionOutcome outcome) {
         return outcome.getProtocol() + ":" + outcome.getAction() + " - ";
     }
 
+    /** connect via session pool (if enabled), so that an authenticated session can be reused across steps */
+    protected Session openSession(SshClientConnection connection) throws JSchException {
+        return SshSessionPool.isEnabled(context) ?
+               SshSessionPool.getInstance().resolve(context, connection, this::connect) :
+               connect(connection);
+    }
+
     protected Session connect(SshClientConnection connection) throws JSchException {
         JSch ssh = new JSch();
 
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.ssh;
+
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.ShutdownAdvisor;
+import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.plugins.ForcefulTerminate;
+import org.nexial.core.utils.ConsoleUtils;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.nexial.core.NexialConst.NL;
+import static org.nexial.core.NexialConst.Ssh.*;
+import static org.nexial.core.SystemVariables.getDefaultBool;
+import static org.nexial.core.SystemVariables.getDefaultInt;
+
+/**
+ * process-wide cache of authenticated SSH sessions, one per connection profile (user, host, port, password and host
+ * key settings). Consecutive {@literal ssh.*} steps against the same host open their channels over the pooled session
+ * instead of paying for the TCP handshake, key exchange and authentication on every step. Pooled sessions are kept
+ * alive via SSH keepalive messages, evicted once idle for too long, and closed at the end of execution via
+ * {@link ShutdownAdvisor}.
+ * <p>
+ * A JSch session supports multiple channels concurrently, so a pooled session may be shared by multiple threads.
+ */
+public final class SshSessionPool implements ForcefulTerminate {
+    private static final SshSessionPool INSTANCE = new SshSessionPool();
+    private static final int KEEP_ALIVE_COUNT_MAX = 3;
+
+    private final Map<String, PooledSession> sessions = new HashMap<>();
+    // invalidated sessions still in use by other threads; disconnected once released by all of them
+    private final List<PooledSession> retired = new ArrayList<>();
+
+    /** callback to connect a new session for {@code connection} */
+    @FunctionalInterface
+    public interface SessionFactory {
+        Session connect(SshClientConnection connection) throws JSchException;
+    }
+
+    private static final class PooledSession {
+        private final String label;
+        private final Session session;
+        private final LongAdder requests = new LongAdder();
+        private int inUse;
+        private long lastUsed;
+
+        private PooledSession(String label, Session session) {
+            this.label = label;
+            this.session = session;
+            this.lastUsed = System.currentTimeMillis();
+        }
+
+        private boolean isIdleFor(long idleMs) {
+            return inUse < 1 && System.currentTimeMillis() - lastUsed > idleMs;
+        }
+    }
+
+    private SshSessionPool() { }
+
+    @NotNull
+    public static SshSessionPool getInstance() { return INSTANCE; }
+
+    public static boolean isEnabled(ExecutionContext context) {
+        return context == null ? getDefaultBool(SSH_POOL_ENABLED) :
+               context.getBooleanData(SSH_POOL_ENABLED, getDefaultBool(SSH_POOL_ENABLED));
+    }
+
+    /**
+     * return the pooled session associated with {@code connection}, or connect one (via {@code factory}) if none
+     * exists or the pooled one is no longer connected. Each session returned must be handed back via
+     * {@link #release(Session)}.
+     */
+    @NotNull
+    public Session resolve(ExecutionContext context, SshClientConnection connection, SessionFactory factory)
+        throws JSchException {
+        long idleEvictMs = context == null ? getDefaultInt(SSH_POOL_IDLE_EVICT_MS) :
+                           context.getIntData(SSH_POOL_IDLE_EVICT_MS, getDefaultInt(SSH_POOL_IDLE_EVICT_MS));
+        int keepAliveMs = context == null ? getDefaultInt(SSH_POOL_KEEP_ALIVE_MS) :
+                          context.getIntData(SSH_POOL_KEEP_ALIVE_MS, getDefaultInt(SSH_POOL_KEEP_ALIVE_MS));
+
+        String profile = toProfile(connection);
+        synchronized (sessions) {
+            evictIdle(idleEvictMs);
+
+            PooledSession pooled = sessions.get(profile);
+            if (pooled != null && !pooled.session.isConnected()) {
+                ConsoleUtils.log("discarding disconnected SSH session for " + pooled.label);
+                sessions.remove(profile);
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                String label = connection.getUsername() + "@" + connection.getHost() + ":" + connection.getPort();
+                ConsoleUtils.log("creating pooled SSH session for " + label);
+
+                Session session = factory.connect(connection);
+                if (keepAliveMs > 0) {
+                    session.setServerAliveInterval(keepAliveMs);
+                    session.setServerAliveCountMax(KEEP_ALIVE_COUNT_MAX);
+                }
+
+                pooled = new PooledSession(label, session);
+                sessions.put(profile, pooled);
+                ShutdownAdvisor.addAdvisor(this);
+            }
+
+            pooled.requests.increment();
+            pooled.inUse++;
+            pooled.lastUsed = System.currentTimeMillis();
+            return pooled.session;
+        }
+    }
+
+    /** hand {@code session} back to the pool. Return {@code false} if {@code session} is not a pooled session. */
+    public boolean release(Session session) {
+        if (session == null) { return false; }
+
+        synchronized (sessions) {
+            for (PooledSession pooled : sessions.values()) {
+                if (pooled.session == session) {
+                    pooled.inUse = Math.max(pooled.inUse - 1, 0);
+                    pooled.lastUsed = System.currentTimeMillis();
+                    return true;
+                }
+            }
+
+            for (PooledSession pooled : retired) {
+                if (pooled.session == session) {
+                    pooled.inUse = Math.max(pooled.inUse - 1, 0);
+                    if (pooled.inUse < 1) {
+                        retired.remove(pooled);
+                        pooled.session.disconnect();
+                    }
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * hand {@code session} back to the pool and evict it from the pool, so that the next {@link #resolve} connects a
+     * new session. Since a pooled session may be shared, {@code session} is only disconnected once no other thread is
+     * using it. Return {@code false} if {@code session} is not a pooled session.
+     */
+    public boolean invalidate(Session session) {
+        if (session == null) { return false; }
+
+        synchronized (sessions) {
+            for (Map.Entry<String, PooledSession> entry : sessions.entrySet()) {
+                PooledSession pooled = entry.getValue();
+                if (pooled.session == session) {
+                    ConsoleUtils.log("discarding SSH session for " + pooled.label);
+                    sessions.remove(entry.getKey());
+                    retired.add(pooled);
+                    break;
+                }
+            }
+        }
+
+        return release(session);
+    }
+
+    /**
+     * summary of the session pool usage, one line per profile. Empty string if no pooled session was used.
+     */
+    @NotNull
+    public String summarize() {
+        synchronized (sessions) {
+            if (sessions.isEmpty()) { return ""; }
+
+            Map<String, String> lines = new TreeMap<>();
+            sessions.values().forEach(pooled -> lines.put(pooled.label,
+                                                          pooled.label + ": " + pooled.requests.sum() +
+                                                          " request(s) over 1 session" +
+                                                          (pooled.session.isConnected() ? "" : " (disconnected)")));
+            return StringUtils.join(lines.values(), NL);
+        }
+    }
+
+    @Override
+    public boolean mustForcefullyTerminate() {
+        synchronized (sessions) { return !sessions.isEmpty() || !retired.isEmpty(); }
+    }
+
+    @Override
+    public void forcefulTerminate() {
+        synchronized (sessions) {
+            sessions.values().forEach(pooled -> pooled.session.disconnect());
+            sessions.clear();
+            retired.forEach(pooled -> pooled.session.disconnect());
+            retired.clear();
+        }
+    }
+
+    private void evictIdle(long idleEvictMs) {
+        if (idleEvictMs < 1) { return; }
+
+        sessions.entrySet().removeIf(entry -> {
+            PooledSession pooled = entry.getValue();
+            if (!pooled.isIdleFor(idleEvictMs)) { return false; }
+
+            ConsoleUtils.log("evicting idle SSH session for " + pooled.label);
+            pooled.session.disconnect();
+            return true;
+        });
+    }
+
+    private static String toProfile(SshClientConnection connection) {
+        return connection.getUsername() + "@" + connection.getHost() + ":" + connection.getPort() + "|" +
+               connection.isStrictHostKeyChecking() + "|" + connection.getKnownHostsFile() + "|" +
+               (connection.getPassword() == null ? "" : DigestUtils.sha256Hex(connection.getPassword()));
+    }
+}
@@ -1263,18 +1263,16 @@ public class Browser implements ForcefulTerminate {
 
     private String resolveConfig(String propName, String defaultValue) {
         Map<String, String> config = context.getProfileConfig("web", profile);
-        return config.getOrDefault(
-            withProfile(profile, propName),
-            System.getProperty(propName, StringUtils.defaultString(context.getStringData(propName), defaultValue)));
+        // context data resolves System properties, along with their script-level overrides, first
+        return config.getOrDefault(withProfile(profile, propName),
+                                   StringUtils.defaultString(context.getStringData(propName), defaultValue));
     }
 
     private boolean resolveConfig(String propName, boolean defaultValue) {
         Map<String, String> config = context.getProfileConfig("web", profile);
         return BooleanUtils.toBoolean(
             config.getOrDefault(withProfile(profile, propName),
-                                System.getProperty(propName,
-                                                   StringUtils.defaultString(context.getStringData(propName),
-                                                                             defaultValue + ""))));
+                                StringUtils.defaultString(context.getStringData(propName), defaultValue + "")));
     }
 
     public String resolveConfig(String propName) { return resolveConfig(propName, null); }
@@ -72,6 +72,7 @@ import java.net.URL;
 import java.util.*;
 
 import static java.io.File.separator;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.http.HttpHeaders.AUTHORIZATION;
 import static org.nexial.core.NexialConst.DEF_CHARSET;
 import static org.nexial.core.NexialConst.Data.TEXT_DELIM;
@@ -86,6 +87,7 @@ public class WebServiceClient {
     protected static final String WS_DISABLE_CONTEXT = "__DISABLE_CONTEXT_AS_CONFIG__";
     protected static final String RETRY_COUNT = "__RETRY_COUNT__";
     protected static final long WAIT_BETWEEN_RETRIES = 10000;
+    protected static final String POOL_PROFILE_CREDENTIAL_SEP = "|";
 
     protected ExecutionContext context;
     protected boolean verbose = true;
@@ -415,6 +417,7 @@ public class WebServiceClient {
 
             StatusLine statusLine = httpResponse.getStatusLine();
             Response response = gatherResponseData(request, httpResponse, tickTock.getTime());
+            // closing the response releases the underlying connection back to pool (if any)
             try { httpResponse.close(); } catch (IOException e) { }
 
             tickTock.stop();
@@ -426,14 +429,26 @@ public class WebServiceClient {
         } catch (IOException e) {
             logResponse(requestStartTime, http, request, e);
             throw e;
+        } finally {
+            // pooled client lives on till the end of execution; the one-off client must be closed now
+            if (!isPooledClient(client)) { try { client.close(); } catch (IOException e) { } }
         }
     }
 
     private CloseableHttpResponse invokeRequest(Request request, CloseableHttpClient client, HttpUriRequest http)
         throws IOException {
-        if (isDigestAuth()) { return client.execute(http, newDigestEnabledHttpContext(request)); }
-        if (isBasicAuth()) { return client.execute(http, newBasicEnabledHttpContext(request)); }
-        return client.execute(http);
+        HttpClientContext httpContext;
+        if (isDigestAuth()) {
+            httpContext = newDigestEnabledHttpContext(request);
+        } else if (isBasicAuth()) {
+            httpContext = newBasicEnabledHttpContext(request);
+        } else {
+            httpContext = HttpClientContext.create();
+        }
+
+        // cookies are scoped per request (as if a new client is used each time), even when the client is shared
+        httpContext.setCookieStore(new BasicCookieStore());
+        return client.execute(http, httpContext);
     }
 
     protected Response gatherResponseData(Request request, HttpResponse httpResponse, long ttfb) throws IOException {
@@ -771,6 +786,28 @@ public class WebServiceClient {
                                                 .setSoTimeout(request.socketTimeout)
                                                 .setSoLinger(request.socketTimeout).build();
 
+        // proxy-bound clients are not pooled since the route planner is bound to the request in question
+        if (proxy == null && WebServiceClientPool.isEnabled(context)) {
+            String profile = resolvePoolProfile(request);
+            if (profile != null) {
+                long idleEvictMs = WebServiceClientPool.resolveIdleEvictMs(context);
+                return WebServiceClientPool.getInstance().resolve(
+                    context,
+                    profile,
+                    StringUtils.substringBefore(profile, POOL_PROFILE_CREDENTIAL_SEP),
+                    socketConfig,
+                    connManager -> {
+                        HttpClientBuilder builder = HttpClients.custom()
+                                                               .setRequestExecutor(new NexialHttpRequestExecutor())
+                                                               .setConnectionManager(connManager)
+                                                               .setDefaultRequestConfig(requestConfig)
+                                                               .evictExpiredConnections();
+                        if (idleEvictMs > 0) { builder.evictIdleConnections(idleEvictMs, MILLISECONDS); }
+                        return addDigestAuth(addBasicAuth(builder, request), request).build();
+                    });
+            }
+        }
+
         HttpClientBuilder httpClientBuilder = HttpClients.custom()
                                                          .setRequestExecutor(new NexialHttpRequestExecutor())
                                                          .setSSLSocketFactory(SSL_SF)
@@ -792,6 +829,44 @@ public class WebServiceClient {
         return httpClientBuilder.build();
     }
 
+    /**
+     * pool profile of a request: target scheme/host/port, authentication mode and socket settings. Requests of the
+     * same profile can safely share the same pooled http client. Credentials are kept after
+     * {@link #POOL_PROFILE_CREDENTIAL_SEP} so that they can be removed before the profile is displayed. Returns
+     * {@code null} if the request URL cannot be resolved, in which case a one-off client should be used instead.
+     */
+    @Nullable
+    protected String resolvePoolProfile(Request request) {
+        URL url;
+        try {
+            url = new URL(request.getUrl());
+        } catch (MalformedURLException e) {
+            return null;
+        }
+
+        // same precedence as `prepHttpClient()`: digest auth overrides basic auth
+        String authMode;
+        String credential;
+        if (isDigestAuth()) {
+            authMode = "digest";
+            credential = getConfiguration(WS_DIGEST_USER) + ":" + getConfiguration(WS_DIGEST_PWD);
+        } else if (isBasicAuth()) {
+            authMode = "basic";
+            credential = getBasicUsername() + ":" + getBasicPassword();
+        } else {
+            authMode = "none";
+            credential = "";
+        }
+
+        return url.getProtocol() + "://" + url.getHost() + ":" + url.getPort() +
+               " [auth=" + authMode + ", socketTimeout=" + request.socketTimeout + ", keepAlive=" + request.keepAlive +
+               "]" + POOL_PROFILE_CREDENTIAL_SEP + credential;
+    }
+
+    protected boolean isPooledClient(CloseableHttpClient client) {
+        return WebServiceClientPool.getInstance().isPooled(client);
+    }
+
     protected boolean isIntranet(String hostname) {
         return NumberUtils.isDigits(StringUtils.substringBefore(hostname, ".")) || !StringUtils.contains(hostname, ".");
     }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.ws;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.nexial.core.ShutdownAdvisor;
+import org.nexial.core.model.ExecutionContext;
+import org.nexial.core.plugins.ForcefulTerminate;
+import org.nexial.core.utils.ConsoleUtils;
+
+import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.nexial.core.NexialConst.NL;
+import static org.nexial.core.NexialConst.Ws.*;
+import static org.nexial.core.SystemVariables.getDefaultBool;
+import static org.nexial.core.SystemVariables.getDefaultInt;
+
+/**
+ * process-wide cache of pooled HTTP clients, one per "profile" (target host, authentication mode and socket
+ * settings). Each client is backed by its own {@link PoolingHttpClientConnectionManager} so that consecutive
+ * {@literal ws.*} steps against the same host reuse keep-alive connections instead of paying TCP and TLS handshake
+ * on every request. All pooled clients are closed at the end of execution via {@link ShutdownAdvisor}.
+ */
+public final class WebServiceClientPool implements ForcefulTerminate {
+    private static final WebServiceClientPool INSTANCE = new WebServiceClientPool();
+
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    /** callback to create a new http client on top of the provided (pooled) connection manager */
+    @FunctionalInterface
+    public interface ClientFactory {
+        CloseableHttpClient build(PoolingHttpClientConnectionManager connManager) throws IOException;
+    }
+
+    private static final class PooledClient {
+        private final String label;
+        private final CloseableHttpClient client;
+        private final PoolingHttpClientConnectionManager connManager;
+        private final LongAdder requests;
+        private final LongAdder connections;
+
+        private PooledClient(String label,
+                             CloseableHttpClient client,
+                             PoolingHttpClientConnectionManager connManager,
+                             LongAdder connections) {
+            this.label = label;
+            this.client = client;
+            this.connManager = connManager;
+            this.connections = connections;
+            this.requests = new LongAdder();
+        }
+    }
+
+    private WebServiceClientPool() { }
+
+    @NotNull
+    public static WebServiceClientPool getInstance() { return INSTANCE; }
+
+    public static boolean isEnabled(ExecutionContext context) {
+        return context == null ? getDefaultBool(WS_POOL_ENABLED) :
+               context.getBooleanData(WS_POOL_ENABLED, getDefaultBool(WS_POOL_ENABLED));
+    }
+
+    public static long resolveIdleEvictMs(ExecutionContext context) {
+        return context == null ? getDefaultInt(WS_POOL_IDLE_EVICT_MS) :
+               context.getIntData(WS_POOL_IDLE_EVICT_MS, getDefaultInt(WS_POOL_IDLE_EVICT_MS));
+    }
+
+    /**
+     * return the pooled client associated with {@code profile}, or create one (via {@code factory}) if none exists.
+     * {@code label} is the human-readable (and credential-free) form of {@code profile}, used for reporting.
+     */
+    @NotNull
+    public CloseableHttpClient resolve(ExecutionContext context,
+                                       String profile,
+                                       String label,
+                                       SocketConfig socketConfig,
+                                       ClientFactory factory) throws IOException {
+        PooledClient pooled = clients.get(profile);
+        if (pooled == null) {
+            synchronized (clients) {
+                pooled = clients.get(profile);
+                if (pooled == null) {
+                    pooled = newPooledClient(context, label, socketConfig, factory);
+                    clients.put(profile, pooled);
+                    ShutdownAdvisor.addAdvisor(this);
+                }
+            }
+        }
+
+        pooled.requests.increment();
+        return pooled.client;
+    }
+
+    public boolean isPooled(CloseableHttpClient client) {
+        return client != null && clients.values().stream().anyMatch(pooled -> pooled.client == client);
+    }
+
+    /**
+     * summary of the connection pool usage, one line per profile. Empty string if no pooled client was used.
+     */
+    @NotNull
+    public String summarize() {
+        if (clients.isEmpty()) { return ""; }
+
+        Map<String, String> lines = new TreeMap<>();
+        clients.values().forEach(pooled -> {
+            PoolStats stats = pooled.connManager.getTotalStats();
+            lines.put(pooled.label,
+                      pooled.label + ": " +
+                      pooled.requests.sum() + " request(s) over " + pooled.connections.sum() + " connection(s); " +
+                      "leased " + stats.getLeased() + ", idle " + stats.getAvailable() + ", " +
+                      "pending " + stats.getPending() + ", max " + stats.getMax());
+        });
+        return StringUtils.join(lines.values(), NL);
+    }
+
+    @Override
+    public boolean mustForcefullyTerminate() { return !clients.isEmpty(); }
+
+    @Override
+    public void forcefulTerminate() {
+        synchronized (clients) {
+            clients.values().forEach(pooled -> {
+                try {
+                    pooled.client.close();
+                } catch (IOException e) {
+                    ConsoleUtils.error("Unable to close pooled http client for " + pooled.label + ": " +
+                                       e.getMessage());
+                }
+            });
+            clients.clear();
+        }
+    }
+
+    @NotNull
+    private PooledClient newPooledClient(ExecutionContext context,
+                                         String label,
+                                         SocketConfig socketConfig,
+                                         ClientFactory factory) throws IOException {
+        int maxTotal = context == null ? getDefaultInt(WS_POOL_MAX_TOTAL) :
+                       context.getIntData(WS_POOL_MAX_TOTAL, getDefaultInt(WS_POOL_MAX_TOTAL));
+        int maxPerRoute = context == null ? getDefaultInt(WS_POOL_MAX_PER_ROUTE) :
+                          context.getIntData(WS_POOL_MAX_PER_ROUTE, getDefaultInt(WS_POOL_MAX_PER_ROUTE));
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry =
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                           .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                           .register("https", WebServiceClient.SSL_SF)
+                           .build();
+
+        // count the physical connections opened so that we can report on the reuse ratio
+        LongAdder connections = new LongAdder();
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connFactory = (route, config) -> {
+            connections.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+        };
+
+        PoolingHttpClientConnectionManager connManager =
+            new PoolingHttpClientConnectionManager(socketFactoryRegistry, connFactory);
+        connManager.setMaxTotal(Math.max(maxTotal, 1));
+        connManager.setDefaultMaxPerRoute(Math.max(maxPerRoute, 1));
+        connManager.setDefaultSocketConfig(socketConfig);
+
+        ConsoleUtils.log("creating pooled http client for " + label +
+                         " (max total " + connManager.getMaxTotal() + ", " +
+                         "max per route " + connManager.getDefaultMaxPerRoute() + ")");
+        return new PooledClient(label, factory.build(connManager), connManager, connections);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.xml;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jdom2.Document;
+import org.jdom2.JDOMException;
+import org.jdom2.input.sax.XMLReaderJDOMFactory;
+import org.jdom2.input.sax.XMLReaderXSDFactory;
+import org.jdom2.xpath.XPathExpression;
+import org.jdom2.xpath.XPathFactory;
+import org.nexial.commons.utils.XmlUtils;
+import org.nexial.core.utils.LruCache;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * process-wide cache of parsed XML documents (keyed by content hash), compiled XPath and compiled XSD schemas (keyed
+ * by schema content hash), as used by {@link XmlCommand}. A typical SOAP test runs a series of {@literal xml.*}
+ * assertions against the same response; with this cache the response is parsed once and each XPath compiled once.
+ * <p>
+ * Cached documents are shared, hence they must be treated as read-only. Operations that modify XML content parse
+ * their own copy. All caches are bounded (least recently used entry is evicted first), and XML content longer than
+ * {@link #MAX_DOC_LENGTH} is parsed but not cached.
+ */
+public final class XmlCache {
+    private static final int MAX_DOCS = 32;
+    private static final int MAX_DOC_LENGTH = 4 * 1024 * 1024;
+    private static final int MAX_XPATHS = 512;
+    private static final int MAX_SCHEMAS = 32;
+    private static final XmlCache INSTANCE = new XmlCache();
+
+    private final LruCache<String, Document> documents = new LruCache<>(MAX_DOCS);
+    private final LruCache<String, XPathExpression<Object>> xpaths = new LruCache<>(MAX_XPATHS);
+    private final LruCache<String, XMLReaderJDOMFactory> schemas = new LruCache<>(MAX_SCHEMAS);
+
+    private XmlCache() { }
+
+    @NotNull
+    public static XmlCache getInstance() { return INSTANCE; }
+
+    /** parse {@code xml} or return the previously parsed document of the same content. Do not modify the return. */
+    public Document parse(String xml) throws JDOMException, IOException {
+        if (StringUtils.length(xml) > MAX_DOC_LENGTH) {
+            documents.miss();
+            return XmlUtils.parse(xml);
+        }
+
+        // not via LruCache.resolve(), since parsing throws more than one type of checked exception
+        String key = DigestUtils.sha256Hex(xml);
+        Document doc = documents.get(key);
+        if (doc != null) {
+            documents.hit();
+            return doc;
+        }
+
+        documents.miss();
+        doc = XmlUtils.parse(xml);
+        documents.put(key, doc);
+        return doc;
+    }
+
+    public Object findNode(Document doc, String xpath) {
+        XPathExpression<Object> expression = compile(xpath);
+        // compiled xpath keeps its evaluation context, hence not to be shared between threads
+        synchronized (expression) { return expression.evaluateFirst(doc); }
+    }
+
+    public List<Object> findNodes(Document doc, String xpath) {
+        XPathExpression<Object> expression = compile(xpath);
+        synchronized (expression) { return expression.evaluate(doc); }
+    }
+
+    public int count(Document doc, String xpath) {
+        List<Object> matches = findNodes(doc, xpath);
+        return matches == null ? 0 : matches.size();
+    }
+
+    /** compile {@code schemaContent} as XSD, or return the previously compiled one of the same content */
+    public XMLReaderJDOMFactory resolveSchema(String schemaContent) throws JDOMException {
+        return schemas.resolve(DigestUtils.sha256Hex(schemaContent), () -> new XMLReaderXSDFactory(
+            new StreamSource(new ByteArrayInputStream(schemaContent.getBytes()))));
+    }
+
+    public void clear() {
+        documents.clear();
+        xpaths.clear();
+        schemas.clear();
+    }
+
+    public long getDocHits() { return documents.getHits(); }
+
+    public long getDocMisses() { return documents.getMisses(); }
+
+    public long getXPathHits() { return xpaths.getHits(); }
+
+    public long getXPathMisses() { return xpaths.getMisses(); }
+
+    public long getSchemaHits() { return schemas.getHits(); }
+
+    public long getSchemaMisses() { return schemas.getMisses(); }
+
+    public String summarize() {
+        List<String> usages = new ArrayList<>();
+        Arrays.asList(documents.summarize("document parsed"),
+                      xpaths.summarize("xpath parsed"),
+                      schemas.summarize("schema parsed")).forEach(usage -> {
+            if (StringUtils.isNotBlank(usage)) { usages.add(usage); }
+        });
+        return String.join("; ", usages);
+    }
+
+    @NotNull
+    private XPathExpression<Object> compile(String xpath) {
+        return xpaths.resolve(xpath, () -> XPathFactory.instance().compile(xpath));
+    }
+}
@@ -19,12 +19,10 @@ package org.nexial.core.plugins.xml;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.jdom2.*;
 import org.jdom2.input.SAXBuilder;
-import org.jdom2.input.sax.XMLReaderXSDFactory;
 import org.jdom2.output.XMLOutputter;
 import org.nexial.commons.utils.CollectionUtil;
 import org.nexial.commons.utils.TextUtils;
@@ -63,7 +61,7 @@ public class XmlCommand extends BaseCommand {
         Document doc = resolveDoc(xml, xpath);
 
         try {
-            Object match = XmlUtils.findNode(doc, xpath);
+            Object match = XmlCache.getInstance().findNode(doc, xpath);
             if (match == null) {
                 return StepResult.fail("XML does not contain structure as defined by '" + xpath + "'");
             }
@@ -77,7 +75,7 @@ public class XmlCommand extends BaseCommand {
         Document doc = resolveDoc(xml, xpath);
 
         try {
-            Object match = XmlUtils.findNode(doc, xpath);
+            Object match = XmlCache.getInstance().findNode(doc, xpath);
             if (match == null) {
                 return StepResult.success("XML does not match '" + xpath + "' as EXPECTED");
             }
@@ -300,7 +298,7 @@ public class XmlCommand extends BaseCommand {
 
     public List<String> getValuesListByXPath(String xml, String xpath) {
         Document doc = resolveDoc(xml, xpath);
-        List matches = XmlUtils.findNodes(doc, xpath);
+        List matches = XmlCache.getInstance().findNodes(doc, xpath);
         if (CollectionUtils.isEmpty(matches)) { return null; }
 
         List<String> buffer = new ArrayList<>();
@@ -322,7 +320,7 @@ public class XmlCommand extends BaseCommand {
     public String getValueByXPath(String xml, String xpath) { return getValueByXPath(resolveDoc(xml, xpath), xpath); }
 
     public static String getValueByXPath(Document doc, String xpath) {
-        Object match = XmlUtils.findNode(doc, xpath);
+        Object match = XmlCache.getInstance().findNode(doc, xpath);
         if (match == null) { return null; }
 
         if (match instanceof Element) { return StringUtils.trim(((Element) match).getTextNormalize()); }
@@ -367,23 +365,22 @@ public class XmlCommand extends BaseCommand {
         List<SAXBuilder> builders = new ArrayList<>();
 
         if (StringUtils.isNotBlank(schema) && !context.isNullValue(schema)) {
-            Source[] schemaSources;
+            List<String> schemaContents;
             try {
-                schemaSources = getSchemaSources(schema);
-                // XMLReaderJDOMFactory schemaFactory = new XMLReaderXSDFactory(schemaSources);
-                // builder = new SAXBuilder(schemaFactory);
+                schemaContents = getSchemaContents(schema);
             } catch (IOException e) {
                 ConsoleUtils.log("Error reading schema as file '" + schema + "': " + e.getMessage());
                 return StepResult.fail("Error reading as file '" + schema + "': " + e.getMessage());
             }
 
-            if (ArrayUtils.isEmpty(schemaSources)) {
+            if (CollectionUtils.isEmpty(schemaContents)) {
                 return StepResult.fail("Unable to retrieve any valid schema from '" + schema + "'");
             }
 
-            for (Source source : schemaSources) {
+            for (String schemaContent : schemaContents) {
                 try {
-                    builders.add(new SAXBuilder(new XMLReaderXSDFactory(source)));
+                    // compiled schema is reused across steps; SAXBuilder (and its error handler) is not
+                    builders.add(new SAXBuilder(XmlCache.getInstance().resolveSchema(schemaContent)));
                 } catch (JDOMException e) {
                     String error = "Error when loading schema: " + ExceptionUtils.getRootCauseMessage(e);
                     Throwable t = e.getCause();
@@ -396,6 +393,7 @@ public class XmlCommand extends BaseCommand {
         } else {
             builders.add(new SAXBuilder(XSDVALIDATING));
         }
+        logCacheUsage();
 
         SchemaErrorCollector lastErrorCollector = null;
         for (SAXBuilder builder : builders) {
@@ -447,7 +445,7 @@ public class XmlCommand extends BaseCommand {
         }
 
         Document doc = deriveWellformedXml(xml);
-        List matches = XmlUtils.findNodes(doc, xpath);
+        List matches = XmlCache.getInstance().findNodes(doc, xpath);
         if (CollectionUtils.isEmpty(matches)) {
             return StepResult.fail("No matches found on target XML using xpath '" + xpath + "'");
         }
@@ -496,24 +494,31 @@ public class XmlCommand extends BaseCommand {
 
     protected Source[] getSchemaSources(String schema) throws IOException {
         List<Source> sources = new ArrayList<>();
+        getSchemaContents(schema).forEach(schemaContent -> {
+            ByteArrayInputStream schemaStream = new ByteArrayInputStream(schemaContent.getBytes());
+            sources.add(new StreamSource(schemaStream));
+        });
+        return sources.toArray(new Source[sources.size()]);
+    }
+
+    protected List<String> getSchemaContents(String schema) throws IOException {
+        List<String> contents = new ArrayList<>();
         String[] schemas = StringUtils.splitByWholeSeparator(schema, context.getTextDelim());
         for (String schemaLocation : schemas) {
             String schemaContent = OutputFileUtils.resolveContent(schemaLocation, context, false);
             if (StringUtils.isNotBlank(schemaContent)) {
                 ConsoleUtils.log("resolving schema content via " + schemaLocation + "...");
-                ByteArrayInputStream schemaStream = new ByteArrayInputStream(schemaContent.getBytes());
-                sources.add(new StreamSource(schemaStream));
+                contents.add(schemaContent);
             }
         }
 
         // one last try..
-        if (CollectionUtils.isEmpty(sources)) {
+        if (CollectionUtils.isEmpty(contents)) {
             String schemaContent = OutputFileUtils.resolveContent(schema, context, false);
-            ByteArrayInputStream schemaStream = new ByteArrayInputStream(schemaContent.getBytes());
-            sources.add(new StreamSource(schemaStream));
+            if (StringUtils.isNotEmpty(schemaContent)) { contents.add(schemaContent); }
         }
 
-        return sources.toArray(new Source[sources.size()]);
+        return contents;
     }
 
     protected Document deriveWellformedXml(String xml) {
@@ -564,17 +569,25 @@ public class XmlCommand extends BaseCommand {
             xml = cleanXmlContent(OutputFileUtils.resolveContent(xml, context, false));
             requiresNotBlank(xml, "empty XML found");
 
-            doc = XmlUtils.parse(xml);
+            // parsed document is shared with subsequent steps of the same xml; not to be modified
+            doc = XmlCache.getInstance().parse(xml);
             requires(doc != null, "invalid/malformed xml", xml);
         } catch (JDOMException | IOException e) {
             ConsoleUtils.log("invalid/malformed xml: " + e.getMessage());
         }
 
+        logCacheUsage();
         return doc;
     }
 
     protected int count(String xml, String xpath) throws JDOMException {
-        return XmlUtils.count(resolveDoc(xml, xpath), xpath);
+        return XmlCache.getInstance().count(resolveDoc(xml, xpath), xpath);
+    }
+
+    protected void logCacheUsage() {
+        if (context != null && context.isVerbose()) {
+            ConsoleUtils.log("xml cache: " + XmlCache.getInstance().summarize());
+        }
     }
 
     /**
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.spi;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.nexial.core.NexialConst.Exec.*;
+import static org.nexial.core.SystemVariables.*;
+import static org.nexial.core.spi.NexialEventType.*;
+
+/**
+ * fan out {@link NexialExecutionEvent} to all the registered {@link NexialListener}. By default, events are queued
+ * (bounded, lock-free) and delivered by a dedicated dispatcher thread, so that a slow listener does not add latency to
+ * the execution itself. Events are delivered to each listener in the order they were fired.
+ * <p>
+ * When the queue is full, the {@link OverflowPolicy} decides how the firing thread should proceed. Note that events are
+ * delivered asynchronously, hence the execution objects referenced by an event (such as {@link
+ * org.nexial.core.model.ExecutionContext}) might have progressed by the time a listener receives the event.
+ */
+public class NexialEventBus {
+    private static final String DISPATCHER_NAME = "nexial-event-dispatcher";
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FLUSH_TIMEOUT_MS = 10000;
+
+    /** events that are fired in high volume and thus can be sampled under pressure */
+    private static final Set<NexialEventType> HIGH_FREQUENCY_EVENTS = Collections.unmodifiableSet(
+        EnumSet.of(StepStart, StepSucceed, StepFailed, StepSkipped, StepPaused, ScreenshotCaptured, OutputCaptured,
+                   UrlInvoked, LogInvoked));
+    /** events after which the execution might end; pending events should be delivered before moving on */
+    private static final Set<NexialEventType> TERMINAL_EVENTS =
+        Collections.unmodifiableSet(EnumSet.of(NexialEnd, CmdError));
+
+    public enum OverflowPolicy {
+        /** wait for the dispatcher to catch up; no event is lost */
+        block,
+        /** discard the event being fired */
+        drop,
+        /**
+         * when the queue is half-full, keep only 1 out of every {@code sampleRate} high-frequency events (such as
+         * step events); when the queue is full, discard high-frequency events and wait for all others
+         */
+        sample;
+
+        static OverflowPolicy toPolicy(String name) {
+            for (OverflowPolicy policy : values()) {
+                if (StringUtils.equalsIgnoreCase(policy.name(), StringUtils.trim(name))) { return policy; }
+            }
+            return block;
+        }
+    }
+
+    private final List<NexialListener> listeners;
+    private final boolean async;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+
+    private final Queue<NexialExecutionEvent> queue = new ConcurrentLinkedQueue<>();
+    // number of events reserved in queue (or being dispatched); used to bound the queue without locking
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger sampleCounter = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread dispatcher;
+
+    public NexialEventBus(List<NexialListener> listeners,
+                          boolean async,
+                          int capacity,
+                          OverflowPolicy overflowPolicy,
+                          int sampleRate) {
+        this.listeners = Collections.unmodifiableList(new ArrayList<>(listeners));
+        this.async = async;
+        this.capacity = Math.max(capacity, 1);
+        this.overflowPolicy = overflowPolicy == null ? OverflowPolicy.block : overflowPolicy;
+        this.sampleRate = Math.max(sampleRate, 1);
+
+        if (async && !this.listeners.isEmpty()) {
+            dispatcher = new Thread(this::dispatchLoop, DISPATCHER_NAME);
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+
+            // deliver whatever is left before JVM exits
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(FLUSH_TIMEOUT_MS)));
+        } else {
+            dispatcher = null;
+        }
+    }
+
+    /** create new event bus as configured via System properties */
+    @NotNull
+    public static NexialEventBus newInstance(List<NexialListener> listeners) {
+        return new NexialEventBus(
+            listeners,
+            BooleanUtils.toBoolean(System.getProperty(LISTENER_ASYNC, getDefault(LISTENER_ASYNC))),
+            NumberUtils.toInt(System.getProperty(LISTENER_QUEUE_SIZE), getDefaultInt(LISTENER_QUEUE_SIZE)),
+            OverflowPolicy.toPolicy(System.getProperty(LISTENER_OVERFLOW, getDefault(LISTENER_OVERFLOW))),
+            NumberUtils.toInt(System.getProperty(LISTENER_SAMPLE_RATE), getDefaultInt(LISTENER_SAMPLE_RATE)));
+    }
+
+    public void publish(NexialExecutionEvent event) {
+        if (event == null || listeners.isEmpty()) { return; }
+
+        // synchronous mode, or event fired by a listener (such as logging) during dispatch
+        if (!async || Thread.currentThread() == dispatcher) {
+            listeners.forEach(listener -> NexialListenerFactory.dispatch(listener, event));
+            dispatched.increment();
+            return;
+        }
+
+        if (!reserve(event)) {
+            dropped.increment();
+            return;
+        }
+
+        queue.offer(event);
+        LockSupport.unpark(dispatcher);
+
+        if (TERMINAL_EVENTS.contains(event.getEventType())) { flush(FLUSH_TIMEOUT_MS); }
+    }
+
+    /**
+     * wait up to {@code timeoutMs} for all queued events to be delivered. Return {@code true} if no more event is
+     * pending.
+     */
+    public boolean flush(long timeoutMs) {
+        if (dispatcher == null || Thread.currentThread() == dispatcher) { return true; }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) { return false; }
+            LockSupport.unpark(dispatcher);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    public int getListenerCount() { return listeners.size(); }
+
+    public long getDispatched() { return dispatched.sum(); }
+
+    public long getDropped() { return dropped.sum(); }
+
+    public long getDelayed() { return delayed.sum(); }
+
+    public long getFailed() { return failed.sum(); }
+
+    public String summarize() {
+        if (listeners.isEmpty()) { return ""; }
+        return "dispatched " + getDispatched() + " to " + listeners.size() + " listener(s)" +
+               (async ? ", dropped " + getDropped() + ", delayed " + getDelayed() + ", failed " + getFailed() : "");
+    }
+
+    /** reserve a spot in the queue for {@code event}, as per {@link #overflowPolicy} */
+    private boolean reserve(NexialExecutionEvent event) {
+        boolean sampleable = overflowPolicy == OverflowPolicy.sample &&
+                             HIGH_FREQUENCY_EVENTS.contains(event.getEventType());
+        if (sampleable && pending.get() >= capacity / 2 && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            return false;
+        }
+
+        boolean waited = false;
+        while (true) {
+            int current = pending.get();
+            if (current < capacity) {
+                if (pending.compareAndSet(current, current + 1)) {
+                    if (waited) { delayed.increment(); }
+                    return true;
+                }
+                continue;
+            }
+
+            // queue is full
+            if (overflowPolicy == OverflowPolicy.drop || sampleable) { return false; }
+
+            waited = true;
+            LockSupport.unpark(dispatcher);
+            LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+        }
+    }
+
+    private void dispatchLoop() {
+        while (true) {
+            NexialExecutionEvent event = queue.poll();
+            if (event == null) {
+                LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                continue;
+            }
+
+            for (NexialListener listener : listeners) {
+                try {
+                    NexialListenerFactory.dispatch(listener, event);
+                } catch (Throwable e) {
+                    // one failing listener should not affect the others, nor stop the dispatcher.
+                    // not using ConsoleUtils here since logging could fire yet another event
+                    failed.increment();
+                    System.err.println("Unable to deliver " + event.getEventType() + " event to " +
+                                       listener.getClass().getName() + ": " + e.getMessage());
+                }
+            }
+
+            dispatched.increment();
+            pending.decrementAndGet();
+        }
+    }
+}
@@ -140,6 +140,10 @@ public class NexialExecutionEvent {
     }
 
     public static NexialExecutionEvent newLogInvokedEvent(ILoggingEvent event) {
+        // listeners are notified on another thread; capture the message, MDC and thread name of the logging thread
+        // now, as logback does for asynchronous appenders
+        if (event != null) { event.prepareForDeferredProcessing(); }
+
         NexialExecutionEvent nexialExecutionEvent = new NexialExecutionEvent(LogInvoked);
         nexialExecutionEvent.loggingEvent = event;
         return nexialExecutionEvent;
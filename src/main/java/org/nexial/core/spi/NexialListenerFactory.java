@@ -17,143 +17,156 @@
 
 package org.nexial.core.spi;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ServiceLoader;
 
+/**
+ * load all the {@link NexialListenerProvider} found via {@link ServiceLoader}, and fan out execution events to the
+ * listeners they create via {@link NexialEventBus}.
+ */
 public class NexialListenerFactory {
 
     private static final ServiceLoader<NexialListenerProvider> LOADER =
         ServiceLoader.load(NexialListenerProvider.class);
-    private static final NexialListener LISTENER = initLoad(LOADER);
+    private static final List<NexialListener> LISTENERS = initLoad(LOADER);
+    private static final NexialEventBus EVENT_BUS = LISTENERS.isEmpty() ? null : NexialEventBus.newInstance(LISTENERS);
 
-    private static NexialListener initLoad(ServiceLoader<NexialListenerProvider> loader) {
-        Iterator<NexialListenerProvider> iterator = loader.iterator();
-        if (!iterator.hasNext()) { return null; }
+    private static List<NexialListener> initLoad(ServiceLoader<NexialListenerProvider> loader) {
+        List<NexialListener> listeners = new ArrayList<>();
+        for (NexialListenerProvider provider : loader) {
+            if (provider == null) { continue; }
 
-        NexialListenerProvider provider = iterator.next();
-        if (provider == null) { return null; }
+            NexialListener listener = provider.create();
+            if (listener != null) { listeners.add(listener); }
+        }
 
-        return provider.create();
+        return listeners;
     }
 
     public static void fireEvent(NexialExecutionEvent event) {
-        if (event == null || LISTENER == null) { return; }
+        if (event == null || EVENT_BUS == null) { return; }
+        EVENT_BUS.publish(event);
+    }
+
+    public static String summarize() { return EVENT_BUS == null ? "" : EVENT_BUS.summarize(); }
 
+    static void dispatch(NexialListener listener, NexialExecutionEvent event) {
         NexialEventType eventType = event.getEventType();
         switch (eventType) {
             case NexialPreStart:
-                LISTENER.onNexialPreStart(event);
+                listener.onNexialPreStart(event);
                 break;
             case NexialStart:
-                LISTENER.onNexialStart(event);
+                listener.onNexialStart(event);
                 break;
             case NexialEnd:
-                LISTENER.onNexialEnd(event);
+                listener.onNexialEnd(event);
                 break;
             case CmdError:
-                LISTENER.onNexialCmdError(event);
+                listener.onNexialCmdError(event);
                 break;
             case ExecutionStart:
-                LISTENER.onExecutionStart(event);
+                listener.onExecutionStart(event);
                 break;
             case ExecutionEnd:
-                LISTENER.onExecutionEnd(event);
+                listener.onExecutionEnd(event);
                 break;
             case CommandListing:
-                LISTENER.onCommandListing(event);
+                listener.onCommandListing(event);
                 break;
             case PlanStart:
-                LISTENER.onPlanStart(event);
+                listener.onPlanStart(event);
                 break;
             case PlanEnd:
-                LISTENER.onPlanEnd(event);
+                listener.onPlanEnd(event);
                 break;
             case SubPlanStart:
-                LISTENER.onSubPlanStart(event);
+                listener.onSubPlanStart(event);
                 break;
             case SubPlanEnd:
-                LISTENER.onSubPlanEnd(event);
+                listener.onSubPlanEnd(event);
                 break;
             case ScriptParsed:
-                LISTENER.onScriptParsed(event);
+                listener.onScriptParsed(event);
                 break;
             case DataFileParsed:
-                LISTENER.onDataFileParsed(event);
+                listener.onDataFileParsed(event);
                 break;
             case ProjectPropertiesParsed:
-                LISTENER.onProjectPropertiesParsed(event);
+                listener.onProjectPropertiesParsed(event);
                 break;
             case ScriptStart:
-                LISTENER.onScriptStart(event);
+                listener.onScriptStart(event);
                 break;
             case ScriptEnd:
-                LISTENER.onScriptEnd(event);
+                listener.onScriptEnd(event);
                 break;
             case IterationStart:
-                LISTENER.onIterationStart(event);
+                listener.onIterationStart(event);
                 break;
             case IterationEnd:
-                LISTENER.onIterationEnd(event);
+                listener.onIterationEnd(event);
                 break;
             case ScenarioStart:
-                LISTENER.onScenarioStart(event);
+                listener.onScenarioStart(event);
                 break;
             case ScenarioEnd:
-                LISTENER.onScenarioEnd(event);
+                listener.onScenarioEnd(event);
                 break;
             case ActivityStart:
-                LISTENER.onActivityStart(event);
+                listener.onActivityStart(event);
                 break;
             case ActivityEnd:
-                LISTENER.onActivityEnd(event);
+                listener.onActivityEnd(event);
                 break;
             case RepeatUntilStart:
-                LISTENER.onRepeatUntilStart(event);
+                listener.onRepeatUntilStart(event);
                 break;
             case RepeatUntilEnd:
-                LISTENER.onRepeatUntilEnd(event);
+                listener.onRepeatUntilEnd(event);
                 break;
             case StepStart:
-                LISTENER.onStepStart(event);
+                listener.onStepStart(event);
                 break;
             case StepSucceed:
-                LISTENER.onStepSucceed(event);
+                listener.onStepSucceed(event);
                 break;
             case StepFailed:
-                LISTENER.onStepFailed(event);
+                listener.onStepFailed(event);
                 break;
             case StepSkipped:
-                LISTENER.onStepSkipped(event);
+                listener.onStepSkipped(event);
                 break;
             case StepPaused:
-                LISTENER.onStepPaused(event);
+                listener.onStepPaused(event);
                 break;
             case ScreenshotCaptured:
-                LISTENER.onScreenshotCaptured(event);
+                listener.onScreenshotCaptured(event);
                 break;
             case RecordStart:
-                LISTENER.onRecordStart(event);
+                listener.onRecordStart(event);
                 break;
             case RecordEnd:
-                LISTENER.onRecordEnd(event);
+                listener.onRecordEnd(event);
                 break;
             case OutputCaptured:
-                LISTENER.onOutputCaptured(event);
+                listener.onOutputCaptured(event);
                 break;
             case EmailNotificationSent:
-                LISTENER.onEmailNotificationSent(event);
+                listener.onEmailNotificationSent(event);
                 break;
             case SmsNotificationSent:
-                LISTENER.onSmsNotificationSent(event);
+                listener.onSmsNotificationSent(event);
                 break;
             case BrowserEnd:
-                LISTENER.onBrowserEnd(event);
+                listener.onBrowserEnd(event);
                 break;
             case UrlInvoked:
-                LISTENER.onUrlInvoked(event);
+                listener.onUrlInvoked(event);
                 break;
             case LogInvoked:
-                LISTENER.onLogInvoked(event);
+                listener.onLogInvoked(event);
                 break;
 
             default:
@@ -35,6 +35,7 @@ import org.apache.poi.xssf.usermodel.XSSFCell;
 import org.nexial.core.excel.Excel;
 import org.nexial.core.excel.Excel.Worksheet;
 import org.nexial.core.excel.ExcelAddress;
+import org.nexial.core.excel.ExcelStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -214,6 +215,22 @@ public final class InputFileUtils {
         return true;
     }
 
+    /** same as {@link #isValidDataSheet(Worksheet)}, but for data sheet read via {@link ExcelStreamReader} */
+    public static boolean isValidDataSheet(ExcelStreamReader.Sheet sheet) {
+        if (sheet == null) { return false; }
+
+        // for every data sheet, at least 1 1x2 row
+        ExcelStreamReader.Row firstRow = sheet.getRow(0);
+        if (firstRow == null ||
+            StringUtils.isBlank(firstRow.getValue(0)) ||
+            StringUtils.isBlank(firstRow.getValue(1))) {
+            LOGGER.info("sheet (" + sheet.getName() + ") does not contain data or the expected format in A1:B1");
+            return false;
+        }
+
+        return true;
+    }
+
     public static boolean isMacroFile(Excel excel) {
         if (!hasValidSystemSheet(excel)) { return false; }
         final ExcelAddress ea = new ExcelAddress("" + COL_TEST_CASE + ADDR_MACRO_COMMAND_START.getRowStartIndex());
@@ -277,11 +277,76 @@ public class JSONPath {
         String nodeName;
         String nodeIndex;
         boolean isFilter;
+        JsonPathFilters filters;
+
+        JsonPathFilters getFilters() {
+            if (filters == null) { filters = new JsonPathFilters(nodeName); }
+            return filters;
+        }
 
         @Override
         public String toString() { return StringUtils.defaultString(nodeName, nodeIndex); }
     }
 
+    /**
+     * parsed form of a path, without any JSON data, so that the same path can be evaluated against any number of
+     * JSON documents without being parsed again. Evaluation yields the same outcome as {@link #get()} and
+     * {@link #count()}. Immutable, hence can be shared between threads.
+     */
+    public static final class Compiled {
+        private final String path;
+        private final List<JSONPathKey> keys;
+        private final List<String> functions;
+
+        private Compiled(String path, List<JSONPathKey> keys, List<String> functions) {
+            this.path = path;
+            this.keys = keys;
+            this.functions = functions;
+        }
+
+        public String getPath() { return path; }
+
+        public String find(Object json) { return find(json, false); }
+
+        public String find(Object json, boolean simplePrimitives) {
+            return handleFunctions(format(resolve(json), simplePrimitives), functions);
+        }
+
+        public int count(Object json) {
+            Object matched = resolve(json);
+            String matches = handleFunctions(format(matched, false), functions);
+            if (matches == null) { return 0; }
+
+            // is this array?
+            if (StringUtils.startsWith(matches, "[") && StringUtils.endsWith(matches, "]")) {
+                return matched instanceof JSONArray ? ((JSONArray) matched).length() : 0;
+            } else {
+                return 1;
+            }
+        }
+
+        /** same as the traversal via {@link #init()}: stop as soon as the matched value is no longer traversable */
+        private Object resolve(Object json) {
+            Object dataStruc = json;
+            Object parsedVal = null;
+            for (JSONPathKey key : keys) {
+                parsedVal = dataStruc == null || StringUtils.isBlank(key.nodeName) ?
+                            null : resolveValue(dataStruc, key);
+                if (!(parsedVal instanceof JSONArray || parsedVal instanceof JSONObject)) { break; }
+                dataStruc = parsedVal;
+            }
+            return parsedVal;
+        }
+
+        private static String format(Object parsedVal, boolean simplePrimitives) {
+            if (parsedVal == null || parsedVal == NULL) { return null; }
+            if (parsedVal instanceof JSONArray array) {
+                return array.length() < 1 ? "[]" : simplifyPrimitives(array, simplePrimitives);
+            }
+            return simplifyPrimitives(parsedVal, simplePrimitives);
+        }
+    }
+
     public JSONPath(JSONObject dataStruc, String key, boolean simplePrimitives) {
         this.dataStruc = dataStruc;
         this.simplePrimitives = simplePrimitives;
@@ -337,14 +402,15 @@ public class JSONPath {
     }
 
     public String get() {
-        if (child != null) { return handleFunctions(child.get()); }
+        if (child != null) { return handleFunctions(child.get(), functions); }
 
         if (parsedVal == null || parsedVal == NULL) { return null; }
 
         if (parsedVal instanceof JSONArray array) {
-            return handleFunctions(array.length() < 1 ? "[]" : simplifyPrimitives(array));
+            return handleFunctions(array.length() < 1 ? "[]" : simplifyPrimitives(array, simplePrimitives),
+                                   functions);
         } else {
-            return handleFunctions(simplifyPrimitives(parsedVal));
+            return handleFunctions(simplifyPrimitives(parsedVal, simplePrimitives), functions);
         }
     }
 
@@ -361,6 +427,36 @@ public class JSONPath {
         }
     }
 
+    /**
+     * parse {@code path} into its {@link Compiled} form, which can then be evaluated against multiple JSON documents.
+     */
+    @NotNull
+    public static Compiled compile(String path) {
+        String key = path;
+        List<String> functions = null;
+        if (StringUtils.contains(path, FUNCTION_PREFIX)) {
+            key = StringUtils.trim(StringUtils.substringBeforeLast(path, FUNCTION_PREFIX));
+            functions = TextUtils.toList(StringUtils.trim(StringUtils.substringAfterLast(path, FUNCTION_PREFIX)),
+                                         " ",
+                                         true);
+        }
+
+        // same chain of keys as the parent-child JSONPath instances would have derived
+        List<JSONPathKey> keys = new ArrayList<>();
+        while (StringUtils.isNotBlank(key)) {
+            Pair<JSONPathKey, String> keyPair = parseKey(preParseSubstitution(key));
+            JSONPathKey current = keyPair.getKey();
+            if (current.isFilter && StringUtils.isNotBlank(current.nodeName)) { current.getFilters(); }
+            keys.add(current);
+
+            String nextKey = keyPair.getValue();
+            if (StringUtils.isBlank(nextKey)) { break; }
+            key = postParseSubstitution(nextKey);
+        }
+
+        return new Compiled(path, Collections.unmodifiableList(keys), functions);
+    }
+
     public static String find(JSONObject json, String path, boolean simplePrimitives) {
         return new JSONPath(json, path, simplePrimitives).get();
     }
@@ -528,12 +624,12 @@ public class JSONPath {
         return parsedVal;
     }
 
-    protected void filterByNodeName(String nodeName, JSONArray array, JSONArray matches) {
+    protected static void filterByNodeName(String nodeName, JSONArray array, JSONArray matches) {
         // array.forEach(item -> filterByNodeName(nodeName, item, matches));
         for (int i = 0; i < array.length(); i++) { filterByNodeName(nodeName, array.opt(i), matches); }
     }
 
-    protected void filterByNodeName(String nodeName, Object obj, JSONArray matches) {
+    protected static void filterByNodeName(String nodeName, Object obj, JSONArray matches) {
         if (isSimpleType(obj) && obj.toString().equals(nodeName)) {
             matches.put(obj);
             return;
@@ -548,14 +644,14 @@ public class JSONPath {
         if (obj instanceof JSONArray) { filterByNodeName(nodeName, (JSONArray) obj, matches); }
     }
 
-    private String simplifyPrimitives(JSONArray array) {
+    private static String simplifyPrimitives(JSONArray array, boolean simplePrimitives) {
         if (!simplePrimitives) { return array.toString(); }
 
         String delim = ",";
         return "[" + TextUtils.toString(array, delim, null) + "]";
     }
 
-    private String simplifyPrimitives(Object parsedVal) {
+    private static String simplifyPrimitives(Object parsedVal, boolean simplePrimitives) {
         if (!simplePrimitives) { return parsedVal.toString(); }
 
         if (parsedVal instanceof String) { return StringUtils.unwrap(parsedVal.toString(), "\""); }
@@ -574,7 +670,7 @@ public class JSONPath {
         init();
     }
 
-    private String handleFunctions(String parsedVal) {
+    private static String handleFunctions(String parsedVal, List<String> functions) {
         if (CollectionUtils.isEmpty(functions)) { return parsedVal; }
 
         String[] parsed = new String[]{parsedVal};
@@ -712,8 +808,12 @@ public class JSONPath {
         // fail-fast to avoid NPE
         if (StringUtils.isBlank(key)) { return null; }
 
-        preParseSubstitution();
+        key = preParseSubstitution(key);
+        return parseKey(key);
+    }
 
+    /** {@code key} is expected to be substituted via {@link #preParseSubstitution(String)} */
+    private static Pair<JSONPathKey, String> parseKey(String key) {
         String current;
 
         // special case of index key, where the key contains only [...]
@@ -762,7 +862,7 @@ public class JSONPath {
         return new ImmutablePair<>(currentKey, cleanNextKey(StringUtils.substringAfter(key, current)));
     }
 
-    private String postParseSubstitution(String data) {
+    private static String postParseSubstitution(String data) {
         if (StringUtils.isEmpty(data)) { return data; }
         for (Map.Entry<String, String> subst : ESCAPED_CHARS_REPLACER.entrySet()) {
             String replaceWith = StringUtils.equals(subst.getKey(), "\\.") &&
@@ -774,10 +874,11 @@ public class JSONPath {
         return data;
     }
 
-    private void preParseSubstitution() {
+    private static String preParseSubstitution(String key) {
         for (Map.Entry<String, String> subst : ESCAPED_CHARS_REPLACER.entrySet()) {
             key = StringUtils.replace(key, subst.getKey(), subst.getValue());
         }
+        return key;
     }
 
     private static String cleanNextKey(String next) {
@@ -785,7 +886,7 @@ public class JSONPath {
         return next;
     }
 
-    private Object resolveArrayRef(JSONArray jsonArray, JSONPathKey jsonPathKey) {
+    private static Object resolveArrayRef(JSONArray jsonArray, JSONPathKey jsonPathKey) {
         if (jsonArray.length() < 1) { return null; }
 
         String key = jsonPathKey.nodeName;
@@ -797,7 +898,7 @@ public class JSONPath {
 
         boolean isFilter = jsonPathKey.isFilter;
         if (isFilter) {
-            JsonPathFilters filters = new JsonPathFilters(key);
+            JsonPathFilters filters = jsonPathKey.getFilters();
             // jsonArray.forEach(item -> filters.filter(item, matches));
             for (int i = 0; i < jsonArray.length(); i++) { filters.filter(jsonArray.opt(i), matches); }
         } else {
@@ -854,26 +955,23 @@ public class JSONPath {
         }
     }
 
-    private void resolveValue(JSONPathKey jsonPathKey) {
-        if (dataStruc instanceof JSONArray) {
-            parsedVal = resolveArrayRef((JSONArray) dataStruc, jsonPathKey);
-            return;
-        }
+    private void resolveValue(JSONPathKey jsonPathKey) { parsedVal = resolveValue(dataStruc, jsonPathKey); }
+
+    private static Object resolveValue(Object dataStruc, JSONPathKey jsonPathKey) {
+        if (dataStruc instanceof JSONArray) { return resolveArrayRef((JSONArray) dataStruc, jsonPathKey); }
 
         // not ordinal index, hence the node index can be
         //  (1) child structure,
         //  (2) index key of an array,
         //  (3) key of simple value
         if (dataStruc instanceof JSONObject json) {
-            parsedVal = jsonPathKey.isFilter ?
-                        new JsonPathFilters(jsonPathKey.nodeName).find(json) : json.opt(jsonPathKey.nodeName);
-            return;
+            return jsonPathKey.isFilter ? jsonPathKey.getFilters().find(json) : json.opt(jsonPathKey.nodeName);
         }
 
-        parsedVal = null;
+        return null;
     }
 
-    private String fromIndexToSimpleKey(String key) {
+    private static String fromIndexToSimpleKey(String key) {
         return cleanNodeName(StringUtils.substringBetween(key, "[", "]"));
     }
 
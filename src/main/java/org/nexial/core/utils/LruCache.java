@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * thread-safe, bounded cache which evicts the least recently used entry first, along with its hit/miss statistics.
+ * Values are loaded outside of the cache lock, so that a slow load does not hold up the other callers; two callers
+ * might therefore load the same value concurrently, in which case the latter one is kept. {@code null} is never cached.
+ * <p>
+ * Callers that validate cached entries on their own (such as against the last-modified time of a file) use
+ * {@link #get(Object)} and {@link #put(Object, Object)}, and record the outcome via {@link #hit()} or {@link #miss()}.
+ */
+public final class LruCache<K, V> {
+    private final Map<K, V> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** callback to load the value of a cache miss */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    public LruCache(int maxEntries) {
+        entries = new LinkedHashMap<K, V>(Math.min(maxEntries, 256), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) { return size() > maxEntries; }
+        };
+    }
+
+    /** return the cached value of {@code key}, or the one loaded via {@code loader} (cached unless {@code null}) */
+    public <E extends Exception> V resolve(K key, Loader<V, E> loader) throws E {
+        V value = get(key);
+        if (value != null) {
+            hit();
+            return value;
+        }
+
+        miss();
+        value = loader.load();
+        if (value != null) { put(key, value); }
+        return value;
+    }
+
+    /** cached value of {@code key}, if any. Not counted as hit or miss. */
+    public V get(K key) { synchronized (entries) { return entries.get(key); } }
+
+    public void put(K key, V value) {
+        if (value == null) { return; }
+        synchronized (entries) { entries.put(key, value); }
+    }
+
+    public void clear() { synchronized (entries) { entries.clear(); } }
+
+    public int size() { synchronized (entries) { return entries.size(); } }
+
+    public void hit() { hits.increment(); }
+
+    /** also used to account for value that is loaded but not meant to be cached (such as text too long) */
+    public void miss() { misses.increment(); }
+
+    public long getHits() { return hits.sum(); }
+
+    public long getMisses() { return misses.sum(); }
+
+    /**
+     * usage in the form of "{@code <loaded>} 3, reused 9 (75% hit rate)", where {@code loaded} describes what is done
+     * on cache miss (such as "parsed"). Empty string if this cache was never used.
+     */
+    public String summarize(String loaded) {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total < 1 ? "" : loaded + " " + (total - hitCount) + ", reused " + hitCount +
+                                " (" + Math.round(hitCount * 100.0 / total) + "% hit rate)";
+    }
+}
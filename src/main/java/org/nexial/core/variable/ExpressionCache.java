@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.variable;
+
+import org.apache.commons.lang3.StringUtils;
+import org.nexial.core.utils.LruCache;
+import org.nexial.core.variable.Expression.ExpressionFunction;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * process-wide cache of parsed expressions, as used by {@link ExpressionParser}. The result of parsing (data type
+ * name and value, function chain and the original expression fragment) is kept separately from the runtime data,
+ * so that the same expression text can be re-evaluated without going through the regex-heavy parsing again. Text
+ * that is not an expression is cached as well, since most of the text processed are plain text.
+ * <p>
+ * Cache is bounded (least recently used text is evicted first), and text longer than {@link #MAX_TEXT_LENGTH} is
+ * parsed but not cached.
+ */
+public final class ExpressionCache {
+    private static final int MAX_ENTRIES = 2048;
+    private static final int MAX_TEXT_LENGTH = 8 * 1024;
+    private static final ExpressionCache INSTANCE = new ExpressionCache();
+
+    /** cached outcome for text that does not constitute an expression */
+    static final CompiledExpression NOT_EXPRESSION = new CompiledExpression(null, null, Collections.emptyList(), null);
+
+    private final LruCache<String, CompiledExpression> expressions = new LruCache<>(MAX_ENTRIES);
+
+    /** parsed form of an expression, without any runtime data */
+    static final class CompiledExpression {
+        private final String dataType;
+        private final String dataValue;
+        private final List<ExpressionFunction> functions;
+        private final String originalExpression;
+
+        CompiledExpression(String dataType,
+                           String dataValue,
+                           List<ExpressionFunction> functions,
+                           String originalExpression) {
+            this.dataType = dataType;
+            this.dataValue = dataValue;
+            this.functions = functions;
+            this.originalExpression = originalExpression;
+        }
+
+        String getDataType() { return dataType; }
+
+        String getDataValue() { return dataValue; }
+
+        String getOriginalExpression() { return originalExpression; }
+
+        /**
+         * new copy of the function chain. Function parameters might be supplemented during evaluation (see
+         * {@link Transformer#isValidFunction(ExpressionFunction)}), hence each evaluation gets its own copy.
+         */
+        List<ExpressionFunction> newFunctions() {
+            List<ExpressionFunction> copy = new ArrayList<>(functions.size());
+            functions.forEach(f -> copy.add(new ExpressionFunction(f.getFunctionName(),
+                                                                   new ArrayList<>(f.getParams()))));
+            return copy;
+        }
+    }
+
+    private ExpressionCache() { }
+
+    @NotNull
+    public static ExpressionCache getInstance() { return INSTANCE; }
+
+    @NotNull
+    CompiledExpression resolve(String text, String delim, Function<String, CompiledExpression> compiler) {
+        if (StringUtils.length(text) > MAX_TEXT_LENGTH) {
+            expressions.miss();
+            return compiler.apply(text);
+        }
+
+        // parsing of function parameters depends on the text delimiter in effect
+        return expressions.resolve(delim + "\u0000" + text, () -> compiler.apply(text));
+    }
+
+    public void clear() { expressions.clear(); }
+
+    public long getHits() { return expressions.getHits(); }
+
+    public long getMisses() { return expressions.getMisses(); }
+
+    public String summarize() { return expressions.summarize("parsed"); }
+}
@@ -24,6 +24,7 @@ import org.nexial.commons.utils.TextUtils;
 import org.nexial.core.model.ExecutionContext;
 import org.nexial.core.utils.ConsoleUtils;
 import org.nexial.core.variable.Expression.ExpressionFunction;
+import org.nexial.core.variable.ExpressionCache.CompiledExpression;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +33,8 @@ import java.util.stream.Collectors;
 
 import static org.nexial.core.NexialConst.Data.NON_PRINTABLE_REPLACEMENTS;
 import static org.nexial.core.NexialConst.Data.NULL;
+import static org.nexial.core.NexialConst.Data.TEXT_DELIM;
+import static org.nexial.core.SystemVariables.getDefault;
 import static org.nexial.core.variable.ExpressionConst.*;
 
 public class ExpressionParser {
@@ -48,28 +51,43 @@ public class ExpressionParser {
 
     public Expression parse(String text, boolean syntaxOnly) throws TypeConversionException {
         if (StringUtils.isBlank(text)) { return null; }
-        if (!typeBuilder.isValidType(text)) { return null; }
 
-        List<String> typeGrouping = typeBuilder.parseExpressionGroups(text);
-        if (CollectionUtils.size(typeGrouping) != 4) { return null; }
+        String delim = context != null ? context.getTextDelim() : getDefault(TEXT_DELIM);
+        CompiledExpression compiled = ExpressionCache.getInstance().resolve(text, delim, t -> compile(t, delim));
+        if (compiled == ExpressionCache.NOT_EXPRESSION) { return null; }
 
         // create data type
-        String datatype = StringUtils.trim(typeGrouping.get(0));
-        String dataValue = StringUtils.trim(typeGrouping.get(1));
-        dataValue = StringUtils.removeStart(dataValue, DATATYPE_START);
-        dataValue = StringUtils.removeEnd(dataValue, DATATYPE_END);
-        if (StringUtils.equals(dataValue, "null")) { dataValue = null; }
         ExpressionDataType dataType = null;
         try {
-            dataType = typeBuilder.newDataType(datatype, dataValue);
+            dataType = typeBuilder.newDataType(compiled.getDataType(), compiled.getDataValue());
         } catch (TypeConversionException e) {
             if (!syntaxOnly) { throw e; }
         }
 
         Expression expr = new Expression();
         expr.setDataType(dataType);
+        expr.setFunctions(compiled.newFunctions());
+        expr.appendOriginalExpression(compiled.getOriginalExpression());
+        return expr;
+    }
+
+    /**
+     * parse {@code text} into its data type, function chain and original expression fragment. No runtime data is
+     * created here so that the outcome can be cached and reused.
+     */
+    CompiledExpression compile(String text, String delim) {
+        if (!typeBuilder.isValidType(text)) { return ExpressionCache.NOT_EXPRESSION; }
 
-        String delim = context.getTextDelim();
+        List<String> typeGrouping = typeBuilder.parseExpressionGroups(text);
+        if (CollectionUtils.size(typeGrouping) != 4) { return ExpressionCache.NOT_EXPRESSION; }
+
+        String datatype = StringUtils.trim(typeGrouping.get(0));
+        String dataValue = StringUtils.trim(typeGrouping.get(1));
+        dataValue = StringUtils.removeStart(dataValue, DATATYPE_START);
+        dataValue = StringUtils.removeEnd(dataValue, DATATYPE_END);
+        if (StringUtils.equals(dataValue, "null")) { dataValue = null; }
+
+        List<ExpressionFunction> functions = new ArrayList<>();
         String EXPR_PARAM_DELIM = " %% ";
 
         text = preFunctionParsingSubstitution(typeGrouping.get(3));
@@ -99,7 +117,7 @@ public class ExpressionParser {
                          .map(ExpressionParser::removeEscapes)
                          .collect(Collectors.toList());
 
-            expr.addFunction(new ExpressionFunction(functionName, params));
+            functions.add(new ExpressionFunction(functionName, params));
 
             // recollecting all the functions as for textual representation
 
@@ -159,8 +177,7 @@ public class ExpressionParser {
         // constructed original expression which will replaced after evaluation
         String fragment = typeGrouping.get(0) + typeGrouping.get(1) + typeGrouping.get(2) +
                           postFunctionParsingSubstitution(newText.toString(), false);
-        expr.appendOriginalExpression(fragment);
-        return expr;
+        return new CompiledExpression(datatype, dataValue, functions, fragment);
     }
 
     protected void collectFunctionGroups(String text, List<String> functionGroups) {
@@ -67,13 +67,12 @@ public class Syspath {
     static String getExecutionData(String varName) {
         if (StringUtils.isBlank(varName)) { return null; }
 
-        String value = System.getProperty(varName);
-        if (StringUtils.isNotBlank(value)) { return value; }
-
+        // System properties, along with their script-level overrides, are resolved by the context first
         ExecutionContext context = ExecutionThread.get();
-        if (context == null) { return null; }
+        if (context != null) { return context.getStringData(varName); }
 
-        return context.getStringData(varName);
+        String value = System.getProperty(varName);
+        return StringUtils.isNotBlank(value) ? value : null;
     }
 
     protected void init() { }
@@ -17,7 +17,6 @@
 package org.nexial.core.model
 
 import org.apache.commons.collections4.MapUtils
-import org.apache.commons.lang3.BooleanUtils
 import org.apache.commons.lang3.StringUtils
 import org.apache.commons.lang3.builder.ToStringBuilder
 import org.apache.commons.lang3.builder.ToStringStyle.SIMPLE_STYLE
@@ -87,7 +86,7 @@ class MacroExecutor(private val initialTestStep: TestStep, val macro: Macro,
 
         var i = 0
         while (i < size) {
-            if (BooleanUtils.toBoolean(System.getProperty(Data.END_SCRIPT_IMMEDIATE, "false"))) {
+            if (context.isEndScriptImmediate) {
                 trackTimeLogs.trackingDetails("Execution Interrupted")
                 break
             }
@@ -153,17 +153,16 @@ class VisionCommand : BaseCommand() {
     @Throws(IntegrationConfigException::class)
     private fun resolveProfile(context: ExecutionContext, profile: String): AwsSettings {
         val settings = if (profile == "system") {
-            val accessKey = System.getProperty("nexial.vision.accessKey")
+            val accessKey = context.getStringData("nexial.vision.accessKey")
             if (StringUtils.isBlank(accessKey))
                 throw IntegrationConfigException("'system' profile not available or not properly set up")
 
-            val secretKey = System.getProperty("nexial.vision.secretKey")
+            val secretKey = context.getStringData("nexial.vision.secretKey")
             if (StringUtils.isBlank(secretKey))
                 throw IntegrationConfigException("'system' profile not available or not properly set up")
 
-            AwsSettings(accessKey,
-                        secretKey,
-                        Regions.fromName(System.getProperty("nexial.vision.region", Regions.DEFAULT_REGION.getName())))
+            val region = context.getStringData("nexial.vision.region", Regions.DEFAULT_REGION.getName())
+            AwsSettings(accessKey, secretKey, Regions.fromName(region))
         } else {
             AwsUtils.resolveAwsSettings(context, profile)
         }
@@ -20,8 +20,11 @@ import com.google.gson.GsonBuilder
 import com.google.gson.JsonArray
 import com.google.gson.JsonObject
 import org.apache.commons.lang3.StringUtils
+import org.apache.poi.xssf.streaming.SXSSFSheet
+import org.apache.poi.xssf.streaming.SXSSFWorkbook
 import org.nexial.commons.utils.FileUtil
 import org.nexial.commons.utils.TextUtils
+import org.nexial.core.NexialConst.Rdbms.DEF_EXCEL_EXPORT_ROW_WINDOW
 import org.nexial.core.excel.Excel
 import org.nexial.core.excel.ExcelAddress
 import org.nexial.core.model.ExecutionContext
@@ -220,17 +223,23 @@ class XmlExporter(private val context: ExecutionContext,
     }
 }
 
+/**
+ * export query result to an Excel worksheet. When the target rows are beyond any existing content of the target
+ * worksheet (i.e. new file, new worksheet or appending after the last row), rows are streamed via SXSSF so that only
+ * [rowWindow] rows are kept in memory at any time and the file is saved only once. Otherwise (i.e. overwriting
+ * existing rows), rows are written in batches of [rowWindow] in memory and the file is still saved only once.
+ */
 class ExcelExporter(private val nullValue: String,
                     private val header: Boolean = true,
                     private val sheet: String = "Sheet1",
-                    private val startAddress: ExcelAddress = ExcelAddress("A1")) : QueryResultExporter {
+                    private val startAddress: ExcelAddress = ExcelAddress("A1"),
+                    private val rowWindow: Int = DEF_EXCEL_EXPORT_ROW_WINDOW) : QueryResultExporter {
 
     override fun export(rs: ResultSet, result: JdbcResult, output: File): JdbcResult {
         if (!rs.next()) return result
 
         val metaData = rs.metaData
         val columnCount = metaData.columnCount
-        var rowCount = 0
 
         val columns = ArrayList<String>()
         for (i in 1..columnCount) columns.add(metaData.getColumnLabel(i))
@@ -240,33 +249,90 @@ class ExcelExporter(private val nullValue: String,
 
         val excel = if (FileUtil.isFileReadable(output)) Excel(output, false, false) else Excel.newExcel(output)
         val worksheet = excel.worksheet(sheet, true)
-        val addr = startAddress
+        val window = rowWindow.coerceAtLeast(1)
+
+        val rowCount = try {
+            if (isStreamable(worksheet))
+                exportStreaming(rs, columns, excel, worksheet, output, window)
+            else
+                exportBuffered(rs, columns, worksheet, window)
+        } finally {
+            excel.close()
+        }
+
+        result.setRowCount(rowCount)
+        return result
+    }
+
+    /** streaming is only possible when no existing row of [worksheet] would be overwritten */
+    private fun isStreamable(worksheet: Excel.Worksheet): Boolean {
+        val xssfSheet = worksheet.sheet
+        return xssfSheet.physicalNumberOfRows == 0 || startAddress.rowStartIndex > xssfSheet.lastRowNum
+    }
+
+    private fun exportStreaming(rs: ResultSet,
+                                columns: List<String>,
+                                excel: Excel,
+                                worksheet: Excel.Worksheet,
+                                output: File,
+                                window: Int): Int {
+        val columnCount = columns.size
+        val streaming = SXSSFWorkbook(excel.workbook, window)
+        try {
+            val streamingSheet = streaming.getSheet(worksheet.name)
+            var rowIndex = startAddress.rowStartIndex
+            val columnIndex = startAddress.columnStartIndex
+
+            if (header) writeStreamingRow(streamingSheet, rowIndex++, columnIndex, columns)
+
+            var rowCount = 0
+            do {
+                writeStreamingRow(streamingSheet,
+                                  rowIndex++,
+                                  columnIndex,
+                                  (1..columnCount).map { rs.getString(it) ?: nullValue })
+                rowCount++
+            } while (rs.next())
+
+            BufferedOutputStream(FileOutputStream(output)).use { streaming.write(it) }
+            return rowCount
+        } finally {
+            // remove the temp files backing the flushed rows
+            streaming.dispose()
+        }
+    }
+
+    private fun writeStreamingRow(sheet: SXSSFSheet, rowIndex: Int, columnIndex: Int, values: List<String>) {
+        val row = sheet.createRow(rowIndex)
+        values.forEachIndexed { index, value -> row.createCell(columnIndex + index).setCellValue(value) }
+    }
+
+    private fun exportBuffered(rs: ResultSet, columns: List<String>, worksheet: Excel.Worksheet, window: Int): Int {
+        val columnCount = columns.size
+        val addr = ExcelAddress(startAddress.addr)
 
         // construct header
         if (header) {
-            worksheet.writeAcross(addr, listOf<List<String>>(columns))
+            worksheet.writeAcross(addr, listOf<List<String>>(columns), false)
             addr.advanceRow()
         }
 
-        // recycle through all rows
+        // recycle through all rows, write them in batches and save only once at the end
+        var rowCount = 0
+        val buffer = ArrayList<List<String>>(window)
         do {
-            val row = (1..columnCount).map { rs.getString(it) ?: nullValue }
-            // val row = mutableListOf<String>()
-            // for (i in 1..columnCount) row += rs.getString(i) ?: nullValue
-            // worksheet.writeAcross(addr, listOf<List<String>>(row))
-
-            worksheet.writeAcross(addr, listOf(row))
-            addr.advanceRow()
+            buffer.add((1..columnCount).map { rs.getString(it) ?: nullValue })
             rowCount++
+            if (buffer.size >= window) {
+                worksheet.writeAcross(addr, buffer, false)
+                addr.advanceRow(buffer.size)
+                buffer.clear()
+            }
         } while (rs.next())
 
-        // worksheet.save()
-        excel.save()
-        excel.close()
-
-        result.setRowCount(rowCount)
+        if (buffer.isNotEmpty()) worksheet.writeAcross(addr, buffer, false)
 
-        return result
+        worksheet.save()
+        return rowCount
     }
 }
-
@@ -20,21 +20,45 @@ import org.apache.commons.lang3.StringUtils
 import org.apache.pdfbox.pdmodel.PDDocument
 import org.apache.pdfbox.text.PDFTextStripper
 import org.nexial.core.NexialConst.Pdf.MIME_PDF
+import org.nexial.core.NexialConst.Pdf.PDF_PARALLEL_EXTRACT_PAGES
 import org.nexial.core.NexialConst.Pdf.PDF_USE_ASCII
 import org.nexial.core.SystemVariables.getDefaultBool
+import org.nexial.core.SystemVariables.getDefaultInt
 import org.nexial.core.model.ExecutionContext
 import org.nexial.core.utils.CheckUtils.requiresReadableFile
 import org.nexial.core.utils.ConsoleUtils
 import java.io.*
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import kotlin.math.ceil
+import kotlin.math.max
+import kotlin.math.min
 
 object PdfTextExtractor {
 
+    private const val MIN_PAGES_PER_CHUNK = 10
+
     @JvmStatic
     @Throws(IOException::class)
     fun extractText(file: String, context: ExecutionContext): String {
         requiresReadableFile(file)
 
+        // extracted text is cached as is, since normalization depends on the context at hand
         val pdfFile = File(file)
+        val text = if (PdfCache.isEnabled(context))
+            PdfCache.getInstance().resolveText(pdfFile) { extractRawText(pdfFile, context) }
+        else
+            extractRawText(pdfFile, context)
+
+        val content = normalizePdfText(text, context)
+        ConsoleUtils.log("extracted " + StringUtils.length(content) + " bytes from '" + file + "'")
+        return content
+    }
+
+    @Throws(IOException::class)
+    private fun extractRawText(pdfFile: File, context: ExecutionContext): String {
+        val parallelPages = context.getIntData(PDF_PARALLEL_EXTRACT_PAGES, getDefaultInt(PDF_PARALLEL_EXTRACT_PAGES))
         val out = ByteArrayOutputStream()
         val output = OutputStreamWriter(out)
 
@@ -43,13 +67,14 @@ object PdfTextExtractor {
             document = PDDocument.load(pdfFile)
 
             //use default encoding
-            val stripper = PDFTextStripper()
-            stripper.sortByPosition = true
-            //stripper.setShouldSeparateByBeads(true);
-            //stripper.setAddMoreFormatting(false);
+            val stripper = newStripper()
 
             // Extract text for main document:
-            stripper.writeText(document, output)
+            val pageCount = document.numberOfPages
+            if (parallelPages in 1..pageCount && Runtime.getRuntime().availableProcessors() > 1)
+                output.write(extractPagesInParallel(pdfFile, pageCount))
+            else
+                stripper.writeText(document, output)
 
             // ... also for any embedded PDFs:
             extractEmbeddedPDFs(document, stripper, output)
@@ -75,9 +100,50 @@ object PdfTextExtractor {
             }
         }
 
-        val content = normalizePdfText(out.toString(), context)
-        ConsoleUtils.log("extracted " + StringUtils.length(content) + " bytes from '" + file + "'")
-        return content
+        return out.toString()
+    }
+
+    private fun newStripper(): PDFTextStripper {
+        val stripper = PDFTextStripper()
+        stripper.sortByPosition = true
+        //stripper.setShouldSeparateByBeads(true);
+        //stripper.setAddMoreFormatting(false);
+        return stripper
+    }
+
+    /**
+     * extract the text of `pdfFile` in chunks of consecutive pages, one chunk per core, and join them in page order.
+     * [PDDocument] is not thread-safe, hence each chunk loads its own copy of the document.
+     */
+    @Throws(IOException::class)
+    private fun extractPagesInParallel(pdfFile: File, pageCount: Int): String {
+        val chunkCount = max(min(Runtime.getRuntime().availableProcessors(), pageCount / MIN_PAGES_PER_CHUNK), 2)
+        val chunkSize = ceil(pageCount.toDouble() / chunkCount).toInt()
+        ConsoleUtils.log("extracting $pageCount pages from '$pdfFile' in $chunkCount parallel chunks")
+
+        val executor = Executors.newFixedThreadPool(chunkCount) { r: Runnable? ->
+            val thread = Thread(r, "nexial-pdf-extract")
+            thread.isDaemon = true
+            thread
+        }
+
+        try {
+            val tasks = (1..pageCount step chunkSize).map { startPage ->
+                executor.submit(Callable {
+                    PDDocument.load(pdfFile).use { document ->
+                        val stripper = newStripper()
+                        stripper.startPage = startPage
+                        stripper.endPage = min(startPage + chunkSize - 1, pageCount)
+                        stripper.getText(document)
+                    }
+                })
+            }
+            return tasks.joinToString(separator = "") { it.get() }
+        } catch (e: ExecutionException) {
+            throw e.cause as? IOException ?: IOException("Unable to extract text from '$pdfFile': ${e.message}", e)
+        } finally {
+            executor.shutdownNow()
+        }
     }
 
     @JvmStatic
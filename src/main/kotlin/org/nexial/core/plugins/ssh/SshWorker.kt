@@ -19,6 +19,8 @@ package org.nexial.core.plugins.ssh
 
 import com.jcraft.jsch.*
 import com.jcraft.jsch.ChannelSftp.LsEntry
+import org.apache.commons.codec.binary.Hex
+import org.apache.commons.codec.digest.DigestUtils
 import org.apache.commons.collections4.CollectionUtils
 import org.apache.commons.io.FileUtils
 import org.apache.commons.io.filefilter.DirectoryFileFilter.DIRECTORY
@@ -26,6 +28,9 @@ import org.apache.commons.io.filefilter.FileFileFilter
 import org.apache.commons.io.filefilter.RegexFileFilter
 import org.apache.commons.lang3.StringUtils
 import org.nexial.commons.utils.FileUtil
+import org.nexial.core.NexialConst.Ssh.SFTP_PARALLEL_CHANNELS
+import org.nexial.core.SystemVariables.getDefaultInt
+import org.nexial.core.model.ExecutionContext
 import org.nexial.core.model.RemoteFileActionOutcome
 import org.nexial.core.model.RemoteFileActionOutcome.TransferAction
 import org.nexial.core.model.RemoteFileActionOutcome.TransferAction.*
@@ -33,7 +38,14 @@ import org.nexial.core.model.RemoteFileActionOutcome.TransferProtocol.SFTP
 import org.nexial.core.utils.ConsoleUtils
 import java.io.File
 import java.io.File.separator
+import java.io.FileInputStream
+import java.security.DigestInputStream
 import java.util.*
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import kotlin.math.min
 
 open class SshWorker(internal val action: TransferAction, val remote: String, val local: String?) {
     private val remoteMustBeFQ = listOf(COPY_FROM, COPY_TO, MOVE_FROM, MOVE_TO, LIST, DELETE)
@@ -123,6 +135,14 @@ open class SshWorker(internal val action: TransferAction, val remote: String, va
         return session
     }
 
+    /** connect via session pool (if enabled), so that an authenticated session can be reused across steps */
+    @Throws(JSchException::class)
+    internal fun openSession(connection: SshClientConnection, context: ExecutionContext?): Session =
+            if (SshSessionPool.isEnabled(context))
+                SshSessionPool.getInstance().resolve(context, connection) { connect(it) }
+            else
+                connect(connection)
+
     @Throws(JSchException::class)
     internal fun openSftpChannel(session: Session): ChannelSftp {
         if (!session.isConnected) throw JSchException("session is invalid or disconnected")
@@ -131,15 +151,51 @@ open class SshWorker(internal val action: TransferAction, val remote: String, va
         return channel
     }
 
-    internal fun closeSshClient(session: Session?, channel: Channel?) {
+    /**
+     * open a sftp channel for `connection`. A pooled session might have been dropped by the server while idle, in
+     * which case a new session is connected and tried once more.
+     */
+    @Throws(JSchException::class)
+    internal fun openSftpChannel(connection: SshClientConnection, context: ExecutionContext?):
+            Pair<Session, ChannelSftp> {
+        val session = openSession(connection, context)
+        try {
+            return Pair(session, openSftpChannel(session))
+        } catch (e: JSchException) {
+            // a pooled session might be shared by other threads; replace it in the pool rather than disconnecting it
+            if (!SshSessionPool.getInstance().invalidate(session)) {
+                session.disconnect()
+                throw e
+            }
+        }
+
+        val session2 = openSession(connection, context)
+        try {
+            return Pair(session2, openSftpChannel(session2))
+        } catch (e: JSchException) {
+            closeSshClient(session2, null)
+            throw e
+        }
+    }
+
+    internal fun closeChannel(channel: Channel?) {
         if (channel is ChannelSftp) channel.exit()
         channel?.disconnect()
-        session?.disconnect()
+    }
+
+    internal fun closeSshClient(session: Session?, channel: Channel?) {
+        closeChannel(channel)
+        // pooled session stays connected for the subsequent steps
+        if (session != null && !SshSessionPool.getInstance().release(session)) session.disconnect()
     }
 }
 
 class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWorker(action, remote, local) {
-    fun doAction(connection: SshClientConnection): RemoteFileActionOutcome {
+    private var session: Session? = null
+    private var parallelChannels = 1
+
+    @JvmOverloads
+    fun doAction(connection: SshClientConnection, context: ExecutionContext? = null): RemoteFileActionOutcome {
         // make sure arguments meet pre-connection requirement
         preActionChecks()
 
@@ -147,9 +203,12 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
         val outcome = RemoteFileActionOutcome()
             .setProtocol(SFTP).setAction(action).setRemotePath(remote).setLocalPath(local)
 
+        parallelChannels = context?.getIntData(SFTP_PARALLEL_CHANNELS, getDefaultInt(SFTP_PARALLEL_CHANNELS))
+                           ?: getDefaultInt(SFTP_PARALLEL_CHANNELS)
+
         // connect
-        val session = connect(connection)
-        val channel = openSftpChannel(session)
+        val (session, channel) = openSftpChannel(connection, context)
+        this.session = session
 
         // perform action
         return try {
@@ -167,6 +226,7 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
             addErrorOnRemote(outcome, e.message!!)
         } finally {
             closeSshClient(session, channel)
+            this.session = null
         }.end()
     }
 
@@ -235,9 +295,8 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
                 // if multiple files
                 val remotePath = StringUtils.substringBeforeLast(remote, "/") + "/"
                 val localPath = StringUtils.appendIfMissing(local, separator)
-                remoteFiles.forEach { file ->
-                    if (file is LsEntry && !file.attrs.isDir)
-                        copyRemoteToLocal(channel, file, remotePath + file.filename, localPath, outcome, move)
+                transfer(channel, remoteFiles.filterIsInstance<LsEntry>().filter { !it.attrs.isDir }) { ch, file ->
+                    copyRemoteToLocal(ch, file, remotePath + file.filename, localPath, outcome, move)
                 }
 
                 outcome
@@ -258,7 +317,7 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
         val localPath = if (FileUtil.isDirectoryReadable(local)) deriveFQN(local, filename) else local
 
         // 1. get remote file
-        channel.get(remote, localPath)
+        val checksum = download(channel, remote, localPath)
 
         // 2. check that transfer was successful
         if (!FileUtil.isFileReadable(localPath))
@@ -267,6 +326,7 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
         // 3. check local file matching remote file size
         val failed = testFileSize(outcome, remoteEntry, File(localPath))
         if (failed != null) return failed
+        outcome.addChecksum(remote, checksum)
 
         // 4. remove remote file
         return try {
@@ -301,7 +361,7 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
             if (!lstat.isDir)
                 addErrorOnRemote(outcome, "remote '${outcome.remotePath}' is NOT a directory as expected")
             else {
-                for (f in localFiles) copyLocalToRemote(channel, f, remotePath + f.name, outcome, move)
+                transfer(channel, localFiles) { ch, f -> copyLocalToRemote(ch, f, remotePath + f.name, outcome, move) }
                 outcome
             }
         }
@@ -313,19 +373,81 @@ class SftpWorker(action: TransferAction, remote: String, local: String?) : SshWo
                                   outcome: RemoteFileActionOutcome,
                                   move: Boolean): RemoteFileActionOutcome {
 
-        channel.put(local.absolutePath, remotePath)
+        val checksum = upload(channel, local, remotePath)
 
         val remoteFileListing = channel.ls(remotePath)
                                 ?: return addErrorOnRemote(outcome, "Unable to transfer to remote file $remotePath")
 
         val failed = testFileSize(outcome, remoteFileListing[0] as LsEntry, local)
         if (failed != null) return failed
+        outcome.addChecksum(remotePath, checksum)
 
         if (move && !FileUtils.deleteQuietly(local)) return addErrorOnLocal(outcome, "Cannot delete local file $local")
 
         return addSingleFileSuccess(outcome, remotePath, "$local moved to $remotePath")
     }
 
+    /**
+     * transfer `files` via `channel`, or spread them over multiple channels (of the same session) if parallel transfer
+     * is enabled via `nexial.ssh.sftp.parallelChannels`. The first failure stops all remaining transfers.
+     */
+    private fun <T> transfer(channel: ChannelSftp, files: List<T>, transferFile: (ChannelSftp, T) -> Unit) {
+        val session = this.session
+        val channelCount = min(parallelChannels, files.size)
+        if (channelCount <= 1 || session == null) {
+            files.forEach { transferFile(channel, it) }
+            return
+        }
+
+        ConsoleUtils.log("[$action] transferring ${files.size} files over $channelCount channels")
+        val pending = ConcurrentLinkedQueue(files)
+        val executor = Executors.newFixedThreadPool(channelCount) { r: Runnable? ->
+            val thread = Thread(r, "nexial-sftp-transfer")
+            thread.isDaemon = true
+            thread
+        }
+
+        try {
+            val tasks = (0 until channelCount).map { index ->
+                executor.submit(Callable {
+                    // first one uses the channel at hand, the others open their own over the same session
+                    val workChannel = if (index == 0) channel else openSftpChannel(session)
+                    try {
+                        var file = pending.poll()
+                        while (file != null) {
+                            transferFile(workChannel, file)
+                            file = pending.poll()
+                        }
+                    } catch (e: Exception) {
+                        pending.clear()
+                        throw e
+                    } finally {
+                        if (index != 0) closeChannel(workChannel)
+                    }
+                })
+            }
+            tasks.forEach { it.get() }
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    /** download `remote` to `local`; return the sha-256 checksum of the content transferred */
+    private fun download(channel: ChannelSftp, remote: String, local: String): String {
+        val digest = DigestUtils.getSha256Digest()
+        DigestInputStream(channel.get(remote), digest).use { FileUtils.copyInputStreamToFile(it, File(local)) }
+        return Hex.encodeHexString(digest.digest())
+    }
+
+    /** upload `local` to `remote`; return the sha-256 checksum of the content transferred */
+    private fun upload(channel: ChannelSftp, local: File, remote: String): String {
+        val digest = DigestUtils.getSha256Digest()
+        DigestInputStream(FileInputStream(local), digest).use { channel.put(it, remote) }
+        return Hex.encodeHexString(digest.digest())
+    }
+
     private fun testFileSize(outcome: RemoteFileActionOutcome, remote: LsEntry, local: File): RemoteFileActionOutcome? {
         val remoteSize = remote.attrs.size
         val localSize = local.length()
@@ -17,12 +17,15 @@
 package org.nexial.core.plugins.web
 
 import com.google.gson.JsonArray
+import com.google.gson.JsonElement
 import com.google.gson.JsonObject
 import org.apache.commons.lang3.BooleanUtils
 import org.apache.commons.lang3.StringUtils
 import org.nexial.commons.utils.FileUtil
 import org.nexial.commons.utils.ResourceUtils
+import org.nexial.core.NexialConst.DEF_FILE_ENCODING
 import org.nexial.core.NexialConst.GSON
+import org.nexial.core.NexialConst.GSON_COMPRESSED
 import org.nexial.core.NexialConst.Web.BROWSER_META
 import org.nexial.core.NexialConst.Web.NS_WEB_METRICS
 import org.nexial.core.model.BrowserMeta
@@ -32,16 +35,29 @@ import org.nexial.core.utils.ConsoleUtils
 import org.nexial.core.variable.Execution
 import org.openqa.selenium.WebDriverException
 import java.io.File
-import java.io.FileReader
-import java.io.FileWriter
 import java.io.IOException
-
+import java.nio.charset.Charset
+import java.util.*
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit.SECONDS
+import java.util.concurrent.TimeoutException
+
+/**
+ * collect browser performance metrics after each (qualifying) web step. Each step is appended as a single JSON record
+ * (one per line) to a record log, by a background writer so that the step execution is not held up by file I/O. The
+ * nested execution » script » scenario » activity » step JSON is assembled from the record log via [assemble], once
+ * a script is completed (or after each step in interactive mode).
+ */
 class ClientPerformanceCollector(val command: WebCommand, private val output: String) {
     private val resourceBase = "/org/nexial/core/plugins/web/metrics/"
     private val initScript = fetchScript("_init") + "\n"
     private val endScript = fetchScript("_return")
     private val commandRefBaseUrl = "http://nexiality.github.io/documentation/commands/"
 
+    // the collector lives as long as the script; so does the execution it describes
+    private val executionRecord by lazy { toRecord(newExecution(command.context)) }
+
     init {
         ConsoleUtils.log("web metrics collection enabled and will be saved to $output")
     }
@@ -64,19 +80,16 @@ class ClientPerformanceCollector(val command: WebCommand, private val output: St
             val result = command.jsExecutor.executeScript(js)
             val stepJson = newStep(context.currentTestStep, GSON.fromJson(result.toString(), JsonObject::class.java))
 
-            val jsonFile = File(output)
-            val execution = if (FileUtil.isFileReadable(output, 5)) {
-                GSON.fromJson(FileReader(jsonFile), JsonObject::class.java)
-            } else {
-                newExecution(context)
-            }
-
-            val script = findOrCreateScript(execution)
-            val scenario = findOrCreateChild(script, "scenarios", context.currentScenario, "activities")
-            val activity = findOrCreateChild(scenario, "activities", context.currentActivity, "steps")
-            activity.getAsJsonArray("steps").add(stepJson)
+            // everything that depends on the current execution state is resolved here; the rest is done in background
+            val record = JsonObject()
+            record.addProperty("script", resolveScriptName())
+            record.addProperty("scenario", context.currentScenario)
+            record.addProperty("activity", context.currentActivity)
+            record.add("step", stepJson)
+            append(toRecordLog(output), executionRecord, record)
 
-            FileWriter(jsonFile).use { GSON.toJson(execution, it) }
+            // no end of script to wait for
+            if (context.isInteractiveMode) assemble(output)
         } catch (e: WebDriverException) {
             ConsoleUtils.error("Error occurred while collecting browser performance metrics - " +
                                "${WebDriverExceptionHelper.analyzeError(context, context.currentTestStep, e)}; " +
@@ -84,28 +97,13 @@ class ClientPerformanceCollector(val command: WebCommand, private val output: St
         }
     }
 
-    private fun findOrCreateScript(node: JsonObject): JsonObject {
+    private fun resolveScriptName(): String {
         val execution = Execution()
         val planName = execution.plan("name")
         val planStep = execution.plan("index")
         val iteration = execution.iteration("index")
-        val scriptName =
-                (if (planName.isNotBlank()) "$planName.$planStep." else "") + execution.script("name") +
-                (if (iteration == "" || iteration == "0") "" else ".${StringUtils.leftPad(iteration + "", 3, "0")}")
-        return findOrCreateChild(node, "scripts", scriptName, "scenarios")
-    }
-
-    private fun findOrCreateChild(node: JsonObject, childNode: String, childName: String, childArray: String):
-            JsonObject {
-        val children = node.getAsJsonArray(childNode)
-        var child = children.firstOrNull { it.asJsonObject.get("name").asString == childName }?.asJsonObject
-        if (child == null) {
-            child = JsonObject()
-            child.addProperty("name", childName)
-            child.add(childArray, JsonArray())
-            children.add(child)
-        }
-        return child
+        return (if (planName.isNotBlank()) "$planName.$planStep." else "") + execution.script("name") +
+               (if (iteration == "" || iteration == "0") "" else ".${StringUtils.leftPad(iteration + "", 3, "0")}")
     }
 
     private fun newStep(step: TestStep, metrics: JsonObject): JsonObject {
@@ -136,4 +134,93 @@ class ClientPerformanceCollector(val command: WebCommand, private val output: St
 
     private fun fetchScript(key: String) = ResourceUtils.loadResource("$resourceBase$key.js")
                                            ?: throw IOException("Unable to fetch content from $resourceBase$key.js")
-}
\ No newline at end of file
+
+    companion object {
+        private val encoding = Charset.forName(DEF_FILE_ENCODING)
+        private const val flushTimeoutSeconds = 30L
+
+        /** single writer for all collectors, so that records from concurrent executions are not interleaved */
+        private val writer = Executors.newSingleThreadExecutor { r: Runnable? ->
+            val thread = Thread(r, "nexial-web-metrics-writer")
+            thread.isDaemon = true
+            thread
+        }
+
+        /** one record per line */
+        private fun toRecord(json: JsonObject) = GSON_COMPRESSED.toJson(json) + "\n"
+
+        private fun toRecordLog(output: String) = File(StringUtils.removeEnd(output, ".json") + ".jsonl")
+
+        private fun append(recordLog: File, executionRecord: String, record: JsonObject) {
+            writer.execute {
+                try {
+                    // first record describes the execution itself
+                    val header = if (FileUtil.isFileReadable(recordLog, 2)) "" else executionRecord
+                    recordLog.appendText(header + toRecord(record), encoding)
+                } catch (e: IOException) {
+                    ConsoleUtils.error("Unable to write browser performance metrics to $recordLog: ${e.message}")
+                }
+            }
+        }
+
+        /**
+         * assemble the nested metrics JSON `output` from the records collected so far, after all pending records are
+         * written. Do nothing if no metrics were collected.
+         */
+        @JvmStatic
+        @Throws(IOException::class)
+        fun assemble(output: String) {
+            val task = writer.submit<Unit> {
+                val recordLog = toRecordLog(output)
+                if (FileUtil.isFileReadable(recordLog, 2)) File(output).writeText(assemble(recordLog), encoding)
+            }
+
+            try {
+                task.get(flushTimeoutSeconds, SECONDS)
+            } catch (e: ExecutionException) {
+                throw IOException("Unable to assemble browser performance metrics: ${e.cause?.message}", e.cause)
+            } catch (e: TimeoutException) {
+                throw IOException("Unable to assemble browser performance metrics within ${flushTimeoutSeconds}s")
+            }
+        }
+
+        private fun assemble(recordLog: File): String {
+            var execution: JsonObject? = null
+            val nodes = IdentityHashMap<JsonObject, MutableMap<String, JsonObject>>()
+
+            recordLog.forEachLine(encoding) { line ->
+                if (line.isNotBlank()) {
+                    val record = GSON.fromJson(line, JsonObject::class.java)
+                    if (execution == null) {
+                        execution = record
+                        if (!record.has("scripts")) record.add("scripts", JsonArray())
+                    } else {
+                        val script = findOrCreateChild(nodes, execution!!, "scripts", record["script"], "scenarios")
+                        val scenario = findOrCreateChild(nodes, script, "scenarios", record["scenario"], "activities")
+                        val activity = findOrCreateChild(nodes, scenario, "activities", record["activity"], "steps")
+                        activity.getAsJsonArray("steps").add(record["step"])
+                    }
+                }
+            }
+
+            return GSON.toJson(execution)
+        }
+
+        /** `nodes` keeps track of the children created so far, so that no linear search is needed */
+        private fun findOrCreateChild(nodes: MutableMap<JsonObject, MutableMap<String, JsonObject>>,
+                                      node: JsonObject,
+                                      childNode: String,
+                                      childName: JsonElement?,
+                                      childArray: String): JsonObject =
+            nodes.getOrPut(node) { HashMap() }.getOrPut(toName(childName)) {
+                val child = JsonObject()
+                child.addProperty("name", toName(childName))
+                child.add(childArray, JsonArray())
+                node.getAsJsonArray(childNode).add(child)
+                child
+            }
+
+        /** scenario or activity might not be known, such as a step executed outside of any activity */
+        private fun toName(name: JsonElement?) = if (name == null || name.isJsonNull) "" else name.asString
+    }
+}
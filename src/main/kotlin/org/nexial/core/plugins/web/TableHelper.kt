@@ -66,7 +66,9 @@ class TableHelper(private val webCommand: WebCommand) {
 	                                                                     "\t " to " "))
 	private val gridDataMeta = ResourceUtils.loadResource("/org/nexial/core/plugins/web/GridDataMeta.js")
 	private val collectInfiniteGrid = ResourceUtils.loadResource("/org/nexial/core/plugins/web/CollectInfiniteGrid.js")
+	private val collectTableData = ResourceUtils.loadResource("/org/nexial/core/plugins/web/CollectTableData.js")
 	private val metaRecSep = "#$#"
+	private val tableCellLocator = "./*[name()='TD' or name()='td' or name()='TH' or name()='th']"
 
 	fun saveDivsAsCsv(
 		headerCellsLoc: String,
@@ -103,8 +105,11 @@ class TableHelper(private val webCommand: WebCommand) {
 			ConsoleUtils.log("$msgPrefix collecting data for page ${pageCount + 1}; ${rows.size} row(s) found")
 			var hasData = true
 
+			// all rows of current page in one go, if possible
+			val rowCells = collectRows(rows, cellLocator)
+
 			for (i in rows.indices) {
-				val cellContent = toCellContent(rows[i], cellLocator)
+				val cellContent = rowCells?.get(i) ?: toCellContent(rows[i], cellLocator)
 				if (CollectionUtils.isEmpty(cellContent)) {
 					writer.writeEmptyRow()
 					hasData = false
@@ -184,11 +189,14 @@ class TableHelper(private val webCommand: WebCommand) {
 			ConsoleUtils.log("$msgPrefix collecting data for page ${pageCount + 1}; ${rows.size} row(s) found")
 			var hasData = true
 
+			// all rows of current page in one go, if possible
+			val rowCells = collectRows(rows, tableCellLocator)
+
 			for (i in rows.indices) {
 				// ConsoleUtils.log("$msgPrefix scanning row $i...")
 
 				// cell can be TD or TH under TBODY
-				val cells = toCellContent(rows[i], "./*[name()='TD' or name()='td' or name()='TH' or name()='th']")
+				val cells = rowCells?.get(i) ?: toCellContent(rows[i], tableCellLocator)
 				if (CollectionUtils.isEmpty(cells)) {
 					writer.writeEmptyRow()
 					break
@@ -411,10 +419,15 @@ class TableHelper(private val webCommand: WebCommand) {
 			ConsoleUtils.log("$msgPrefix does not contain usable headers")
 		} else {
 			val headerNames = ArrayList<String>()
-			headers.forEach { header ->
-				webCommand.scrollIntoView(header)
-				if (header.isDisplayed) headerNames.add(if (deepScan) deepScan(header, true) else csvSafe(header.text))
-			}
+			val collected = collectCells(headers, "", "", deepScan, true)
+			if (collected != null)
+				headerNames.addAll(collected.firstOrNull() ?: listOf())
+			else
+				headers.forEach { header ->
+					webCommand.scrollIntoView(header)
+					if (header.isDisplayed)
+						headerNames.add(if (deepScan) deepScan(header, true) else csvSafe(header.text))
+				}
 			ConsoleUtils.log("$msgPrefix - collected headers: $headerNames")
 			writer.writeHeaders(headerNames)
 		}
@@ -455,19 +468,25 @@ class TableHelper(private val webCommand: WebCommand) {
 		val inputs = cell.findElements<WebElement>(By.xpath(formElementLocator))
 		if (inputs.isEmpty()) return csvSafe(cellText)
 
-		val jsExec = webCommand.jsExecutor
-		val context = webCommand.context
-		val headerImage = context.getStringData(HEADER_IMAGE, getDefault(HEADER_IMAGE))
-		val dataImage = context.getStringData(DATA_IMAGE, getDefault(DATA_IMAGE))
-		val headerInput = context.getStringData(HEADER_INPUT, getDefault(HEADER_INPUT))
-		val dataInput = context.getStringData(DATA_INPUT, getDefault(DATA_INPUT))
+		return deepScanText(cellText, jsElementMeta(webCommand.jsExecutor, gridDataMeta, inputs[0]), isHeader)
+	}
 
-		val metaMap = jsElementMeta(jsExec, gridDataMeta, inputs[0])
+	/**
+	 * determine the text of a cell based on its text and the meta data of its first form element or image (if any).
+	 * @see deepScan
+	 */
+	private fun deepScanText(cellText: String, metaMap: Map<String, String>, isHeader: Boolean): String {
 		// <SELECT> element will exhibit newline in its text representation. So if we are not dealing with
 		// <SELECT> then `cellText` should be returned as this point
 		if (metaMap.isEmpty() || (StringUtils.isNotEmpty(cellText) && metaMap["tag"] != "select"))
 			return csvSafe(cellText)
 
+		val context = webCommand.context
+		val headerImage = context.getStringData(HEADER_IMAGE, getDefault(HEADER_IMAGE))
+		val dataImage = context.getStringData(DATA_IMAGE, getDefault(DATA_IMAGE))
+		val headerInput = context.getStringData(HEADER_INPUT, getDefault(HEADER_INPUT))
+		val dataInput = context.getStringData(DATA_INPUT, getDefault(DATA_INPUT))
+
 		return csvSafe(
 			if (metaMap["tag"] == "img") {
 				extractImageData(metaMap, ImageOptions.valueOf(if (isHeader) headerImage else dataImage))
@@ -476,6 +495,56 @@ class TableHelper(private val webCommand: WebCommand) {
 			})
 	}
 
+	/**
+	 * collect the text of all the cells (via `cellLocator`) of all `rows` in one script execution, instead of
+	 * inspecting one cell at a time. Return `null` if the per-element approach should be used instead.
+	 */
+	private fun collectRows(rows: List<WebElement>, cellLocator: String): List<List<String>>? {
+		val deepScan = webCommand.context.getBooleanData(DEEP_SCAN, getDefaultBool(DEEP_SCAN))
+		return when (val by = webCommand.locatorHelper.findBy(cellLocator, true)) {
+			is By.ByXPath      -> collectCells(rows, "xpath", StringUtils.substringAfter(by.toString(), ": "), deepScan)
+			is By.ByCssSelector -> collectCells(rows, "css", StringUtils.substringAfter(by.toString(), ": "), deepScan)
+			else               -> null
+		}
+	}
+
+	/**
+	 * `elements` are either rows (when `locatorType` is specified) or the cells of a single row (when `locatorType`
+	 * is empty). Return `null` if fast extraction is disabled or not possible, so that each cell would be inspected
+	 * individually (which also allows each cell to be highlighted).
+	 */
+	private fun collectCells(elements: List<WebElement>, locatorType: String, locator: String, deepScan: Boolean,
+	                         isHeader: Boolean = false): List<List<String>>? {
+		val context = webCommand.context
+		if (webCommand.isHighlightEnabled || !context.getBooleanData(FAST_EXTRACT, getDefaultBool(FAST_EXTRACT)))
+			return null
+
+		val data = try {
+			webCommand.jsExecutor.executeScript(collectTableData, elements, locatorType, locator, deepScan)
+		} catch (e: WebDriverException) {
+			ConsoleUtils.log("Unable to collect table data via script; inspecting each cell instead: ${e.message}")
+			return null
+		}
+
+		if (data !is List<*> || data.size != (if (StringUtils.isEmpty(locatorType)) 1 else elements.size)) return null
+
+		return data.map { row ->
+			if (row !is List<*>) listOf()
+			else row.filterIsInstance<Map<*, *>>().map { cell ->
+				val cellText = Objects.toString(cell["text"], "")
+				if (!deepScan)
+					csvSafe(cellText)
+				else if (StringUtils.isNotEmpty(cellText) && !StringUtils.contains(cellText, "\n"))
+					csvSafe(cellText)
+				else
+					deepScanText(cellText,
+					             cell.filterKeys { it != "text" }
+						             .entries.associate { Objects.toString(it.key) to Objects.toString(it.value, "") },
+					             isHeader)
+			}
+		}
+	}
+
 	private fun extractImageData(metaMap: Map<String, String>, imageOption: ImageOptions) =
 		when (imageOption) {
 			ImageOptions.filename -> {
@@ -0,0 +1,79 @@
+if (!arguments || arguments.length < 1) { return null; }
+
+// either the rows (and each cell is found via cellLocator), or the cells of a single row (when cellLocatorType is '')
+var elements = arguments[0];
+if (!elements) { return null; }
+
+var cellLocatorType = arguments[1] || '';
+var cellLocator     = arguments[2] || '';
+var deepScan        = arguments[3] === true || arguments[3] === 'true';
+
+var formElementLocator = ".//*[name()='input' or name()='submit' or name()='button' or name()='textarea' or name()='select' or name()='img']";
+
+// same as WebElement.isDisplayed(), roughly
+function isDisplayed(elem) {
+  if (!elem) { return false; }
+  if (elem.offsetParent === null && window.getComputedStyle(elem).position !== 'fixed') { return false; }
+  if ((elem.offsetWidth || elem.offsetHeight || elem.getClientRects().length) === 0) { return false; }
+  return window.getComputedStyle(elem).visibility === 'visible';
+}
+
+// same as WebElement.getText(), roughly
+function getText(elem) { return (elem.innerText || '').replace(/\u00a0/g, ' ').trim(); }
+
+function getSelectedOptions(elem) {
+  if (!elem.selectedOptions || elem.selectedOptions.length < 1) { return ''; }
+  var text = '';
+  for (var i = 0; i < elem.selectedOptions.length; i++) { text += elem.selectedOptions[i].text + '\n'; }
+  return text;
+}
+
+function findAll(locatorType, locator, parent) {
+  var found = [];
+  if (locatorType === 'css') {
+    var matches = parent.querySelectorAll(locator);
+    for (var i = 0; i < matches.length; i++) { found.push(matches[i]); }
+  } else {
+    var result = document.evaluate(locator, parent, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+    for (var j = 0; j < result.snapshotLength; j++) { found.push(result.snapshotItem(j)); }
+  }
+  return found;
+}
+
+// same as GridDataMeta.js
+function toCellData(cell) {
+  var cellData = {text: getText(cell)};
+  if (!deepScan) { return cellData; }
+
+  // no newline means the cell probably doesn't contain <SELECT> or <TEXTAREA>
+  if (cellData.text !== '' && cellData.text.indexOf('\n') === -1) { return cellData; }
+
+  var inputs = findAll('xpath', formElementLocator, cell);
+  if (inputs.length < 1 || !isDisplayed(inputs[0])) { return cellData; }
+
+  var input         = inputs[0];
+  cellData.tag      = input.tagName.toLowerCase();
+  cellData.type     = input.getAttribute('type') || '';
+  cellData.id       = input.getAttribute('id') || '';
+  cellData.name     = input.getAttribute('name') || '';
+  cellData.value    = input.getAttribute('value') || '';
+  cellData.alt      = input.getAttribute('alt') || '';
+  cellData.src      = input.getAttribute('src') || '';
+  cellData.checked  = input.hasAttribute('checked') ? 'true' : 'false';
+  cellData.selected = getSelectedOptions(input);
+  return cellData;
+}
+
+function toRowData(cells) {
+  var rowData = [];
+  for (var i = 0; i < cells.length; i++) {
+    if (isDisplayed(cells[i])) { rowData.push(toCellData(cells[i])); }
+  }
+  return rowData;
+}
+
+if (cellLocatorType === '') { return [toRowData(elements)]; }
+
+var data = [];
+for (var i = 0; i < elements.length; i++) { data.push(toRowData(findAll(cellLocatorType, cellLocator, elements[i]))); }
+return data;
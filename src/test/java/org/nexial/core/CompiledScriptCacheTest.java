@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nexial.core.model.CompiledScript;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.nexial.core.NexialConst.Data.SHEET_SYSTEM;
+import static org.nexial.core.utils.ExecUtils.createUniqueTempDir;
+
+public class CompiledScriptCacheTest {
+    private File script;
+
+    @Before
+    public void setUp() throws Exception {
+        script = new File(createUniqueTempDir(), "CompiledScriptCacheTest.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(script)) {
+            workbook.createSheet(SHEET_SYSTEM);
+            workbook.createSheet("Scenario1");
+            workbook.createSheet("Scenario2");
+            workbook.createSheet("Scenario3");
+            workbook.write(out);
+        }
+        CompiledScriptCache.getInstance().clear();
+    }
+
+    @After
+    public void tearDown() {
+        CompiledScriptCache.getInstance().clear();
+        if (script != null) { FileUtils.deleteQuietly(script.getParentFile()); }
+    }
+
+    @Test
+    public void resolve() throws Exception {
+        CompiledScriptCache cache = CompiledScriptCache.getInstance();
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+
+        List<String> scenarios = Collections.singletonList("Scenario2");
+        CompiledScript compiled = cache.resolve(script, scenarios);
+        // scenarios are compiled by the first iteration that parses them
+        assertNull(compiled.getScenario("Scenario2"));
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(compiled.getContent()))) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            assertNotNull(workbook.getSheet(SHEET_SYSTEM));
+            assertNotNull(workbook.getSheet("Scenario2"));
+            assertNull(workbook.getSheet("Scenario1"));
+        }
+        assertEquals(misses + 1, cache.getMisses());
+
+        // same script, same scenarios
+        assertSame(compiled, cache.resolve(script, scenarios));
+        assertEquals(hits + 1, cache.getHits());
+        assertTrue(cache.summarize().contains("reused"));
+
+        // modified script is compiled again
+        assertTrue(script.setLastModified(script.lastModified() - 5000));
+        assertNotSame(compiled, cache.resolve(script, scenarios));
+        assertEquals(misses + 2, cache.getMisses());
+    }
+}
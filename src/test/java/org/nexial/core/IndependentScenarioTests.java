@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.nexial.core.model.ExecutionSummary;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.nexial.core.NexialConst.Data.FAIL_AFTER;
+import static org.nexial.core.NexialConst.Exec.INDEPENDENT_SCENARIOS;
+
+/**
+ * same script as {@link ExecutionInterruptTests#failfast_in_iteration()}, but with scenario1 executed as an
+ * independent scenario alongside scenario2.
+ */
+public class IndependentScenarioTests extends ExcelBasedTests {
+
+    @Override
+    @After
+    public void cleanup() {
+        super.cleanup();
+        System.clearProperty(INDEPENDENT_SCENARIOS);
+        System.clearProperty(FAIL_AFTER);
+    }
+
+    @Test
+    public void merged_in_order() throws Exception {
+        System.setProperty(INDEPENDENT_SCENARIOS, "scenario1");
+
+        ExecutionSummary executionSummary =
+            new ExcelBasedTestBuilder().setScript("unitTest_ExecInterrupt_iter.xlsx").execute();
+        List<ExecutionSummary> iterations = executionSummary.getNestedExecutions().get(0).getNestedExecutions();
+
+        // same outcome as that of serial execution
+        Assert.assertEquals(3, iterations.size());
+        iterations.forEach(iteration -> Assert.assertEquals(Arrays.asList("scenario1", "scenario2"),
+                                                            scenarioNames(iteration)));
+
+        ExecutionSummary iterationSummary = iterations.get(0);
+        assertPassFail(iterationSummary, "scenario1", TestOutcomeStats.allPassed());
+        assertPassFail(iterationSummary, "scenario2", TestOutcomeStats.allPassed());
+
+        iterationSummary = iterations.get(1);
+        assertPassFail(iterationSummary, "scenario1", new TestOutcomeStats(1, 2));
+        assertPassFail(iterationSummary, "scenario2", TestOutcomeStats.allPassed());
+
+        iterationSummary = iterations.get(2);
+        assertPassFail(iterationSummary, "scenario1", TestOutcomeStats.allPassed());
+        assertPassFail(iterationSummary, "scenario2", new TestOutcomeStats(1, 2));
+
+        assertScenarioThreadsReleased();
+    }
+
+    @Test
+    public void fail_immediate() throws Exception {
+        System.setProperty(INDEPENDENT_SCENARIOS, "scenario1");
+        // the failure of scenario1 in iteration 2 should end the execution, though it is executed on its own context
+        System.setProperty(FAIL_AFTER, "1");
+
+        ExecutionSummary executionSummary =
+            new ExcelBasedTestBuilder().setScript("unitTest_ExecInterrupt_iter.xlsx").execute();
+        List<ExecutionSummary> iterations = executionSummary.getNestedExecutions().get(0).getNestedExecutions();
+
+        Assert.assertEquals(2, iterations.size());
+        assertPassFail(iterations.get(0), "scenario1", TestOutcomeStats.allPassed());
+        assertPassFail(iterations.get(0), "scenario2", TestOutcomeStats.allPassed());
+        Assert.assertEquals(1, getActualStats(iterations.get(1), "scenario1").getFailCount());
+        assertPassFail(iterations.get(1), "scenario2", TestOutcomeStats.allPassed());
+    }
+
+    /** the scenario threads (and their forked contexts) are kept across iterations, but not beyond the script */
+    private void assertScenarioThreadsReleased() throws InterruptedException {
+        for (int i = 0; i < 50 && hasScenarioThread(); i++) { Thread.sleep(100); }
+        Assert.assertFalse("scenario threads still alive", hasScenarioThread());
+    }
+
+    private static boolean hasScenarioThread() {
+        return Thread.getAllStackTraces().keySet().stream()
+                     .anyMatch(thread -> thread.isAlive() && thread.getName().startsWith("nexial-scenario-"));
+    }
+
+    private static List<String> scenarioNames(ExecutionSummary iteration) {
+        return iteration.getNestedExecutions().stream().map(ExecutionSummary::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.apache.commons.cli.CommandLine;
+import org.junit.Assert;
+import org.junit.Test;
+import org.nexial.core.model.ExecutionDefinition;
+import org.nexial.core.model.ExecutionSummary;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+public class LoadTestRunnerTests extends ExcelBasedTests {
+
+    @Test
+    public void no_ramp_up_no_hold() throws Exception {
+        // same as a plan row marked as load test with spec "2,2"
+        nexial = new Nexial() {
+            @Override
+            protected List<ExecutionDefinition> parseScriptExecution(CommandLine cmd) throws IOException {
+                List<ExecutionDefinition> executions = super.parseScriptExecution(cmd);
+                executions.forEach(exec -> {
+                    exec.setLoadTestMode(true);
+                    exec.parseLoadTestSpec("2,2");
+                });
+                return executions;
+            }
+        };
+
+        ExecutionSummary executionSummary =
+            new ExcelBasedTestBuilder().setScript("unitTest_ExecInterrupt_iter.xlsx")
+                                       .setScenarios(Collections.singletonList("scenario2"))
+                                       .execute();
+
+        ExecutionSummary loadTest = executionSummary.getNestedExecutions().get(0);
+
+        // the test duration is over right away, yet each virtual user should complete one loop
+        Assert.assertTrue(loadTest.getIterationTotal() >= 2);
+        Assert.assertTrue(loadTest.getTotalSteps() > 0);
+        Assert.assertEquals(0, loadTest.getFailCount());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.nexial.core.model.ExecutionSummary;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.nexial.core.NexialConst.Iteration.PARALLEL_ITERATIONS;
+
+/**
+ * same as {@link ExecutionInterruptTests#failfast_in_iteration()}, but with iterations executed concurrently. The
+ * outcome should be the same as that of the serial execution.
+ */
+public class ParallelIterationTests extends ExcelBasedTests {
+
+    @Override
+    @After
+    public void cleanup() {
+        super.cleanup();
+        System.clearProperty(PARALLEL_ITERATIONS);
+    }
+
+    @Test
+    public void merged_in_order() throws Exception {
+        System.setProperty(PARALLEL_ITERATIONS, "3");
+
+        ExecutionSummary executionSummary =
+            new ExcelBasedTestBuilder().setScript("unitTest_ExecInterrupt_iter.xlsx").execute();
+        List<ExecutionSummary> iterations = executionSummary.getNestedExecutions().get(0).getNestedExecutions();
+
+        Assert.assertEquals(3, iterations.size());
+        for (int i = 0; i < iterations.size(); i++) {
+            Assert.assertEquals(i + 1, iterations.get(i).getIterationIndex());
+        }
+
+        ExecutionSummary iterationSummary = iterations.get(0);
+        assertPassFail(iterationSummary, "scenario1", TestOutcomeStats.allPassed());
+        assertPassFail(iterationSummary, "scenario2", TestOutcomeStats.allPassed());
+
+        iterationSummary = iterations.get(1);
+        assertPassFail(iterationSummary, "scenario1", new TestOutcomeStats(1, 2));
+        assertPassFail(iterationSummary, "scenario2", TestOutcomeStats.allPassed());
+
+        iterationSummary = iterations.get(2);
+        assertPassFail(iterationSummary, "scenario1", TestOutcomeStats.allPassed());
+        assertPassFail(iterationSummary, "scenario2", new TestOutcomeStats(1, 2));
+
+        assertIterationThreadsReleased();
+    }
+
+    @Test
+    public void failfast_stops_remaining_iterations() throws Exception {
+        System.setProperty(PARALLEL_ITERATIONS, "2");
+
+        // scenario2,scenario1 => nexial.failFast=false
+        // hence execution will fail when first error occurred (iteration 2); iteration 3 is not to be reported even
+        // if it was started before iteration 2 failed
+        ExecutionSummary executionSummary =
+            new ExcelBasedTestBuilder().setScript("unitTest_ExecInterrupt_iter.xlsx")
+                                       .setScenarios(Arrays.asList("scenario2", "scenario1"))
+                                       .execute();
+        List<ExecutionSummary> iterations = executionSummary.getNestedExecutions().get(0).getNestedExecutions();
+
+        Assert.assertEquals(2, iterations.size());
+
+        ExecutionSummary iterationSummary = iterations.get(0);
+        Assert.assertEquals(1, iterationSummary.getIterationIndex());
+        assertPassFail(iterationSummary, "scenario2", TestOutcomeStats.allPassed());
+        assertPassFail(iterationSummary, "scenario1", TestOutcomeStats.allPassed());
+
+        iterationSummary = iterations.get(1);
+        Assert.assertEquals(2, iterationSummary.getIterationIndex());
+        assertPassFail(iterationSummary, "scenario2", TestOutcomeStats.allPassed());
+        assertPassFail(iterationSummary, "scenario1", new TestOutcomeStats(1, 1));
+
+        assertIterationThreadsReleased();
+    }
+
+    /** the forked contexts are held by the iteration threads; none should outlive the execution */
+    private void assertIterationThreadsReleased() throws InterruptedException {
+        for (int i = 0; i < 50 && hasIterationThread(); i++) { Thread.sleep(100); }
+        Assert.assertFalse("iteration threads still alive", hasIterationThread());
+    }
+
+    private static boolean hasIterationThread() {
+        return Thread.getAllStackTraces().keySet().stream()
+                     .anyMatch(thread -> thread.isAlive() && thread.getName().startsWith("nexial-iteration-"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PlanRowExecutorTest {
+    private PlanRowExecutor<Integer> executor;
+
+    @After
+    public void tearDown() {
+        if (executor != null) { executor.shutdown(); }
+    }
+
+    @Test
+    public void serialRowsInOrder() throws Exception {
+        executor = new PlanRowExecutor<>(0);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        for (int row = 1; row <= 5; row++) {
+            int current = row;
+            // earlier rows take longer, yet each row completes before the next one is submitted
+            assertEquals(current, (int) executor.executeSerial(() -> {
+                Thread.sleep((6 - current) * 20L);
+                executed.add(current);
+                return current;
+            }));
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), executed);
+        assertEquals(0, executor.getInProgress());
+    }
+
+    @Test
+    public void parallelRowsInOrderOfCompletion() throws Exception {
+        executor = new PlanRowExecutor<>(0);
+        executor.executeParallel(row(1, 500, null, null));
+        executor.executeParallel(row(2, 10, null, null));
+        assertEquals(2, executor.getInProgress());
+
+        assertEquals(2, (int) executor.awaitParallel());
+        assertEquals(1, (int) executor.awaitParallel());
+        assertEquals(0, executor.getInProgress());
+    }
+
+    @Test
+    public void maxParallel() throws Exception {
+        executor = new PlanRowExecutor<>(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        for (int row = 1; row <= 6; row++) { executor.executeParallel(row(row, 100, running, peak)); }
+
+        List<Integer> completed = new ArrayList<>();
+        while (executor.getInProgress() > 0) { completed.add(executor.awaitParallel()); }
+        Collections.sort(completed);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), completed);
+        assertEquals(2, peak.get());
+    }
+
+    @Test
+    public void serialFallback() throws Exception {
+        // with at most 1 script at a time, parallel rows are executed one after another
+        executor = new PlanRowExecutor<>(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        for (int row = 1; row <= 3; row++) { executor.executeParallel(row(row, 50, running, peak)); }
+        // a serial row waits for the parallel rows submitted before it
+        assertEquals(4, (int) executor.executeSerial(row(4, 10, running, peak)));
+        assertEquals(0, running.get());
+
+        while (executor.getInProgress() > 0) { executor.awaitParallel(); }
+        assertEquals(1, peak.get());
+    }
+
+    @Test
+    public void unbounded() throws Exception {
+        executor = new PlanRowExecutor<>(0);
+        int rows = 4;
+        // each row waits for all the others to start, which is only possible if all of them run concurrently
+        CountDownLatch started = new CountDownLatch(rows);
+        List<Boolean> allStarted = Collections.synchronizedList(new ArrayList<>());
+
+        for (int row = 1; row <= rows; row++) {
+            int current = row;
+            executor.executeParallel(() -> {
+                started.countDown();
+                allStarted.add(started.await(5, TimeUnit.SECONDS));
+                return current;
+            });
+        }
+
+        while (executor.getInProgress() > 0) { executor.awaitParallel(); }
+        assertEquals(Collections.nCopies(rows, true), allStarted);
+    }
+
+    private static Callable<Integer> row(int row, long durationMs, AtomicInteger running, AtomicInteger peak) {
+        return () -> {
+            if (running != null) { peak.accumulateAndGet(running.incrementAndGet(), Math::max); }
+            try {
+                Thread.sleep(durationMs);
+            } finally {
+                if (running != null) { running.decrementAndGet(); }
+            }
+            return row;
+        };
+    }
+}
@@ -18,6 +18,8 @@
 package org.nexial.core.excel;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.poi.common.usermodel.HyperlinkType;
+import org.apache.poi.xssf.usermodel.XSSFHyperlink;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -82,4 +84,36 @@ public class ExcelSaveTest {
 		Assert.assertEquals("FAIL", scenario2.getSheet().getRow(5).getCell(13).getStringCellValue());
 		Assert.assertEquals("FAIL", scenario2.getSheet().getRow(6).getCell(13).getStringCellValue());
 	}
+
+	@Test
+	public void testReplaceSheetContent() throws Exception {
+		// as executed separately on its own copy of the same file
+		Excel copy = new Excel(fixture, true);
+		Worksheet executed = copy.worksheet("Scenario1");
+		executed.getSheet().getRow(4).getCell(13, CREATE_NULL_AS_BLANK).setCellValue("PASS");
+		executed.getSheet().getRow(5).getCell(13, CREATE_NULL_AS_BLANK).setCellValue("FAIL");
+		XSSFHyperlink link = copy.getWorkbook().getCreationHelper().createHyperlink(HyperlinkType.URL);
+		link.setAddress("https://nexiality.github.io/documentation/");
+		executed.getSheet().getRow(4).getCell(14, CREATE_NULL_AS_BLANK).setHyperlink(link);
+
+		Excel excel = new Excel(fixture);
+		Worksheet scenario1 = excel.worksheet("Scenario1");
+		int styleCount = excel.getWorkbook().getNumCellStyles();
+		Excel.replaceSheetContent(executed.getSheet(), scenario1.getSheet());
+		Excel.replaceSheetContent(executed.getSheet(), scenario1.getSheet());
+		// same styles as those of the copy; none to add
+		Assert.assertEquals(styleCount, excel.getWorkbook().getNumCellStyles());
+		scenario1.save();
+		FileUtils.deleteQuietly(copy.getFile());
+
+		excel = new Excel(fixture);
+		scenario1 = excel.worksheet("Scenario1");
+		Assert.assertEquals("PASS", scenario1.getSheet().getRow(4).getCell(13).getStringCellValue());
+		Assert.assertEquals("FAIL", scenario1.getSheet().getRow(5).getCell(13).getStringCellValue());
+		Assert.assertEquals(executed.getSheet().getLastRowNum(), scenario1.getSheet().getLastRowNum());
+		Assert.assertEquals(executed.getSheet().getNumMergedRegions(), scenario1.getSheet().getNumMergedRegions());
+		Assert.assertEquals(1, scenario1.getSheet().getHyperlinkList().size());
+		Assert.assertEquals("https://nexiality.github.io/documentation/",
+		                    scenario1.getSheet().getRow(4).getCell(14).getHyperlink().getAddress());
+	}
 }
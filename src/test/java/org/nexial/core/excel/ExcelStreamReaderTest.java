@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.excel;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.nexial.core.utils.ExecUtils.createUniqueTempDir;
+
+public class ExcelStreamReaderTest {
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = new File(createUniqueTempDir(), "ExcelStreamReaderTest.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            XSSFFont strikeOut = workbook.createFont();
+            strikeOut.setStrikeout(true);
+
+            XSSFSheet sheet = workbook.createSheet("data");
+            sheet.createRow(0).createCell(0).setCellValue("plain");
+            sheet.createRow(1).createCell(0).setCellValue("line1_x000D_");
+            sheet.createRow(2).createCell(0).setCellValue("_x0041_");
+
+            XSSFCellStyle disabledStyle = workbook.createCellStyle();
+            disabledStyle.setFont(strikeOut);
+            XSSFCell disabled = sheet.createRow(3).createCell(0);
+            disabled.setCellValue("disabled");
+            disabled.setCellStyle(disabledStyle);
+
+            // strikethrough text (rather than cell font) does not disable a cell
+            XSSFRichTextString struckText = new XSSFRichTextString("struck text");
+            struckText.applyFont(strikeOut);
+            sheet.createRow(4).createCell(0).setCellValue(struckText);
+
+            workbook.write(out);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (file != null) { FileUtils.deleteQuietly(file.getParentFile()); }
+    }
+
+    @Test
+    public void sameAsExcel() throws Exception {
+        List<ExcelStreamReader.Sheet> sheets = ExcelStreamReader.read(file, name -> true);
+        assertNotNull(sheets);
+        assertEquals(1, sheets.size());
+        ExcelStreamReader.Sheet streamed = sheets.get(0);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            XSSFSheet sheet = workbook.getSheet("data");
+            for (int i = 0; i <= sheet.getLastRowNum(); i++) {
+                XSSFCell cell = sheet.getRow(i).getCell(0);
+                ExcelStreamReader.Cell streamedCell = streamed.getRow(i).getCell(0);
+                assertEquals("ROW " + (i + 1), Excel.getCellValue(cell), streamedCell.getValue());
+                assertEquals("ROW " + (i + 1),
+                             cell.getCellStyle().getFont().getStrikeout(),
+                             streamedCell.isStrikeOut());
+            }
+        }
+
+        assertFalse(streamed.getRow(0).getCell(0).isStrikeOut());
+        assertTrue(streamed.getRow(3).getCell(0).isStrikeOut());
+        assertFalse(streamed.getRow(4).getCell(0).isStrikeOut());
+    }
+}
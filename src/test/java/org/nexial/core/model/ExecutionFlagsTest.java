@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.nexial.core.NexialConst.Data.*;
+
+public class ExecutionFlagsTest {
+    private MockExecutionContext context;
+
+    @Before
+    public void init() { context = new MockExecutionContext(); }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(FAIL_FAST);
+        if (context != null) { context.cleanProject(); }
+    }
+
+    @Test
+    public void invalidateOnWrite() {
+        context.setData(VERBOSE, "true");
+        assertTrue(context.isVerbose());
+        assertTrue(context.isVerbose());
+        assertTrue(context.flags.size() > 0);
+
+        context.setData(VERBOSE, "false");
+        assertFalse(context.isVerbose());
+
+        context.removeDataForcefully(VERBOSE);
+        assertFalse(context.isVerbose());
+
+        context.setData(TEXT_DELIM, "|");
+        assertEquals("|", context.getTextDelim());
+        context.setData(TEXT_DELIM, ";");
+        assertEquals(";", context.getTextDelim());
+    }
+
+    @Test
+    public void invalidateOnReferencedWrite() {
+        context.setData("myDelay", "100");
+        context.setData("delayRef", "${myDelay}");
+        context.setData(DELAY_BETWEEN_STEPS_MS, "${delayRef}");
+        assertEquals(100, context.getDelayBetweenStep());
+
+        // indirectly referenced
+        context.setData("myDelay", "250");
+        assertEquals(250, context.getDelayBetweenStep());
+
+        context.setData("delayRef", "75");
+        assertEquals(75, context.getDelayBetweenStep());
+    }
+
+    @Test
+    public void invalidateOnSystemWrite() {
+        assertFalse(context.isFailFast());
+
+        context.setData(FAIL_FAST, true);
+        assertTrue(context.isFailFast());
+
+        // System property takes precedence over data variable
+        VariableScope.setSystemProperty(FAIL_FAST, "false");
+        assertFalse(context.isFailFast());
+
+        // now overridden at script level
+        context.setData(FAIL_FAST, true);
+        assertTrue(context.isFailFast());
+        assertEquals("false", System.getProperty(FAIL_FAST));
+
+        context.removeDataForcefully(FAIL_FAST);
+        assertFalse(context.isFailFast());
+    }
+}
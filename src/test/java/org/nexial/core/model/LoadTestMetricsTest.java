@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.junit.Test;
+import org.nexial.core.model.LoadTestMetrics.StepLatency;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LoadTestMetricsTest {
+
+    @Test
+    public void percentiles() {
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        for (int i = 1; i <= 100; i++) { metrics.record("Scenario", "Activity", 5, "base.verbose(text)", i, i != 7); }
+        metrics.record("Scenario", "Activity", 6, "base.save(var,value)", 3, true);
+
+        List<StepLatency> steps = metrics.getSteps();
+        assertEquals(2, steps.size());
+
+        StepLatency step = steps.get(0);
+        assertEquals(5, step.getRow());
+        assertEquals(100, step.getCount());
+        assertEquals(1, step.getFailed());
+        assertEquals(1, step.min());
+        assertEquals(100, step.max());
+        assertEquals(50.5, step.average(), 0.001);
+        assertEquals(50, step.percentile(50));
+        assertEquals(95, step.percentile(95));
+        assertEquals(99, step.percentile(99));
+
+        assertEquals(101, metrics.getTotalCount());
+        assertEquals(1, metrics.getTotalFailed());
+    }
+
+    @Test
+    public void percentiles_of_long_latencies() {
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        // 1 to 10 sec, in 1 ms increments
+        for (int i = 1000; i <= 10000; i++) { metrics.record("Scenario", "Activity", 5, "web.click(locator)", i, true); }
+
+        StepLatency step = metrics.getSteps().get(0);
+        assertEquals(9001, step.getCount());
+        assertEquals(1000, step.min());
+        assertEquals(10000, step.max());
+        assertEquals(5500, step.average(), 0.001);
+        // within the precision of the histogram (about 3%)
+        assertEquals(5500, step.percentile(50), 5500 * 0.04);
+        assertEquals(9550, step.percentile(95), 9550 * 0.04);
+        assertEquals(10000, step.percentile(100));
+    }
+
+    @Test
+    public void bucketBounds() {
+        for (long latency : new long[]{0, 1, 63, 64, 65, 127, 128, 1000, 65535, 1_000_000, Integer.MAX_VALUE}) {
+            int index = StepLatency.bucketIndex(latency);
+            assertTrue(latency <= StepLatency.bucketUpperBound(index));
+            assertTrue(index == 0 || latency > StepLatency.bucketUpperBound(index - 1));
+        }
+    }
+
+    @Test
+    public void activeUsers() {
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        metrics.userStarted();
+        metrics.userStarted();
+        metrics.userStopped();
+        metrics.userStarted();
+        assertEquals(2, metrics.getActiveUsers());
+        assertEquals(2, metrics.getPeakUsers());
+    }
+
+    @Test
+    public void parseLoadTestSpec() {
+        ExecutionDefinition execDef = new ExecutionDefinition();
+        execDef.parseLoadTestSpec("2, 10, 30, 120");
+        assertEquals(2, execDef.getMinimumLoad());
+        assertEquals(10, execDef.getMaximumLoad());
+        assertEquals(30, execDef.getRampUpSec());
+        assertEquals(120, execDef.getHoldForSec());
+
+        execDef.parseLoadTestSpec("5,5");
+        assertEquals(5, execDef.getMinimumLoad());
+        assertEquals(5, execDef.getMaximumLoad());
+        assertEquals(0, execDef.getRampUpSec());
+        assertEquals(0, execDef.getHoldForSec());
+
+        try {
+            execDef.parseLoadTestSpec("10, 2");
+            fail("expected failure since max is less than min");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            execDef.parseLoadTestSpec("0, 2, 1, 1");
+            fail("expected failure since min is less than 1");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
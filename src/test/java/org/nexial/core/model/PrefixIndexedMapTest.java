@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.collections4.map.ListOrderedMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrefixIndexedMapTest {
+
+    @Test
+    public void keysWithPrefix() {
+        PrefixIndexedMap<Object> map = new PrefixIndexedMap<>();
+        map.put("web.b", 1);
+        map.put("ws.a", 2);
+        map.put("web.a", 3);
+        map.put("webhook", 4);
+        map.put(null, 5);
+        // update keeps position
+        map.put("web.b", 6);
+
+        assertEquals(Arrays.asList("web.b", "web.a"), map.keysWithPrefix("web."));
+        assertEquals(Arrays.asList("web.b", "web.a", "webhook"), map.keysWithPrefix("web"));
+        assertEquals(Arrays.asList("web.b", "ws.a", "web.a", "webhook"), map.keysWithPrefix(""));
+        assertEquals(Collections.emptyList(), map.keysWithPrefix(null));
+        assertEquals(Collections.emptyList(), map.keysWithPrefix("x"));
+        assertEquals(6, map.get("web.b"));
+        assertEquals(5, map.get(null));
+
+        // re-insert moves to the end
+        map.remove("web.b");
+        map.put("web.b", 7);
+        assertEquals(Arrays.asList("web.a", "web.b"), map.keysWithPrefix("web."));
+
+        assertEquals(Arrays.asList("web.a", "web.b", "webhook"), map.removeByPrefix("web"));
+        assertEquals(Collections.singletonList("ws.a"), map.keysWithPrefix("w"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void removeViaViews() {
+        PrefixIndexedMap<Object> map = new PrefixIndexedMap<>();
+        map.put("a.1", 1);
+        map.put("a.2", 2);
+        map.put("a.3", 3);
+
+        map.keySet().remove("a.1");
+        map.entrySet().removeIf(entry -> entry.getKey().equals("a.2"));
+        map.values().remove(3);
+        assertTrue(map.isEmpty());
+        assertEquals(Collections.emptyList(), map.keysWithPrefix("a."));
+
+        map.put("a.4", 4);
+        map.clear();
+        assertEquals(Collections.emptyList(), map.keysWithPrefix(""));
+    }
+
+    @Test
+    public void same_as_ListOrderedMap() {
+        Map<String, Object> expected = new ListOrderedMap<>();
+        PrefixIndexedMap<Object> actual = new PrefixIndexedMap<>();
+
+        Random random = new Random(20121231L);
+        String[] prefixes = {"nexial.", "nexial.web.", "nexial.ws.", "myData.", "my", ""};
+        for (int i = 0; i < 5000; i++) {
+            String key = prefixes[random.nextInt(prefixes.length)] + random.nextInt(500);
+            if (random.nextInt(5) == 0) {
+                expected.remove(key);
+                actual.remove(key);
+            } else {
+                expected.put(key, i);
+                actual.put(key, i);
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        for (String prefix : prefixes) {
+            List<String> matches = new ArrayList<>();
+            expected.keySet().forEach(key -> { if (key.startsWith(prefix)) { matches.add(key); } });
+            assertEquals(prefix, matches, actual.keysWithPrefix(prefix));
+        }
+    }
+}
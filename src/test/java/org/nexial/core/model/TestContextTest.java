@@ -536,6 +536,36 @@ public class TestContextTest {
         context.cleanProject();
     }
 
+    @Test
+    public void joinForkedData() {
+        MockExecutionContext context = new MockExecutionContext();
+        MockExecutionContext iteration1 = new MockExecutionContext();
+        MockExecutionContext iteration2 = new MockExecutionContext();
+
+        try {
+            context.setData("base", "parent");
+            iteration1.setData("result", "first");
+            iteration1.setData("onlyInFirst", "yes");
+            iteration2.setData("result", "second");
+
+            // merged in the order of iterations
+            for (ExecutionContext iteration : Arrays.asList(iteration1, iteration2)) {
+                Map<String, Object> forkData = new HashMap<>();
+                iteration.fillIntraExecutionData(forkData);
+                context.join(forkData);
+            }
+
+            Assert.assertEquals("second", context.getStringData("result"));
+            Assert.assertEquals("yes", context.getStringData("onlyInFirst"));
+            Assert.assertEquals("parent", context.getStringData("base"));
+            Assert.assertFalse(context.getDataNames("nexialInternal.").contains("nexialInternal.pluginManager"));
+        } finally {
+            context.cleanProject();
+            iteration1.cleanProject();
+            iteration2.cleanProject();
+        }
+    }
+
     private Map<String, String> newSinglePairMap(String name, String value) {
         Map<String, String> stateAL = new HashMap<>();
         stateAL.put(name, value);
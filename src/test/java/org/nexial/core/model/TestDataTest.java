@@ -21,13 +21,17 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Test;
 import org.nexial.core.excel.Excel;
+import org.nexial.core.excel.ExcelStreamReader;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
+import static org.nexial.core.NexialConst.Exec.POST_EXEC_MAIL_TO;
 import static org.nexial.core.NexialConst.Project.DEF_DATAFILE_SUFFIX;
 
 public class TestDataTest {
@@ -176,6 +180,89 @@ public class TestDataTest {
         Assert.assertEquals(testData.getAllValue("password").size(), 0);
     }
 
+    @Test
+    public void cachedDataSet() throws Exception {
+        File dataFile = File.createTempFile("TestDataTest", DEF_DATAFILE_SUFFIX);
+        dataFile.deleteOnExit();
+        FileUtils.copyFile(new File(getPath("TestScenarioTest1" + DEF_DATAFILE_SUFFIX)), dataFile);
+
+        TestDataCache cache = TestDataCache.getInstance();
+        cache.clear();
+        long misses = cache.getMisses();
+        long hits = cache.getHits();
+
+        TestData testData1 = cache.resolve(dataFile, Collections.singletonList("new_test1"));
+        TestData testData2 = cache.resolve(dataFile, Collections.singletonList("new_test1"));
+        Assert.assertEquals(misses + 1, cache.getMisses());
+        Assert.assertEquals(hits + 1, cache.getHits());
+
+        // each caller gets its own copy
+        Assert.assertNotSame(testData1, testData2);
+        Assert.assertArrayEquals(testData2.getAllValue("username").toArray(new String[3]),
+                                 new String[]{"jsmith", "ymansoor", "bjoghereus"});
+        testData1.getAllValue("username").set(0, "changed");
+        Assert.assertEquals(testData2.getValue(1, "username"), "jsmith");
+        Assert.assertEquals(cache.resolve(dataFile, Collections.singletonList("new_test1")).getValue(1, "username"),
+                            "jsmith");
+
+        // touched but not changed; no need to parse again
+        Assert.assertTrue(dataFile.setLastModified(dataFile.lastModified() - 60000));
+        cache.resolve(dataFile, Collections.singletonList("new_test1"));
+        Assert.assertEquals(misses + 1, cache.getMisses());
+
+        // different data sheets, different data set
+        TestData testData3 = cache.resolve(dataFile, Arrays.asList("new_test1", "new_test2"));
+        Assert.assertEquals(misses + 2, cache.getMisses());
+        Assert.assertEquals(testData3.getMailTo(), "johnny@bgood.com");
+
+        cache.clear();
+    }
+
+    @Test
+    public void cachedDataSetWithOverride() throws Exception {
+        File dataFile = File.createTempFile("TestDataTest", DEF_DATAFILE_SUFFIX);
+        dataFile.deleteOnExit();
+        FileUtils.copyFile(new File(getPath("TestScenarioTest1" + DEF_DATAFILE_SUFFIX)), dataFile);
+
+        TestDataCache cache = TestDataCache.getInstance();
+        cache.clear();
+
+        List<String> dataSheets = Arrays.asList("new_test1", "new_test2");
+        try {
+            System.setProperty(POST_EXEC_MAIL_TO, "override@bgood.com");
+            TestData testData = cache.resolve(dataFile, dataSheets);
+            Assert.assertEquals("override@bgood.com", testData.getMailTo());
+            Assert.assertEquals("override@bgood.com", testData.getAllSettings().get(POST_EXEC_MAIL_TO));
+
+            // override removed; neither this copy nor the cached one should hold on to it
+            System.clearProperty(POST_EXEC_MAIL_TO);
+            Assert.assertEquals("johnny@bgood.com", testData.getMailTo());
+            Assert.assertEquals("johnny@bgood.com", cache.resolve(dataFile, dataSheets).getMailTo());
+        } finally {
+            System.clearProperty(POST_EXEC_MAIL_TO);
+            cache.clear();
+        }
+    }
+
+    @Test
+    public void streamedDataSet() throws Exception {
+        assertStreamedSameAsParsed("TestScenarioTest1", Collections.singletonList("new_test1"));
+        assertStreamedSameAsParsed("TestScenarioTest1", Arrays.asList("new_test1", "new_test2"));
+        assertStreamedSameAsParsed("TestScenarioTest2", Collections.singletonList("skippedDataTest"));
+    }
+
+    private void assertStreamedSameAsParsed(String filename, List<String> dataSheets) throws Exception {
+        File dataFile = new File(getPath(filename + DEF_DATAFILE_SUFFIX));
+        TestData parsed = new TestData(new Excel(dataFile), dataSheets);
+
+        List<ExcelStreamReader.Sheet> sheets = ExcelStreamReader.read(dataFile, name -> true);
+        Assert.assertNotNull(sheets);
+        TestData streamed = new TestData(dataFile, dataSheets, sheets);
+
+        Assert.assertEquals(parsed.getAllSettings(), streamed.getAllSettings());
+        for (int i = 1; i <= 3; i++) { Assert.assertEquals(parsed.getAllValue(i), streamed.getAllValue(i)); }
+    }
+
     public String getPath(String filename) throws FileNotFoundException {
         return ResourceUtils.getFile("classpath:" +
                                      StringUtils.replace(this.getClass().getPackage().getName(), ".", "/") + "/" +
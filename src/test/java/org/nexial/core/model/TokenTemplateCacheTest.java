@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.nexial.core.model.TokenTemplateCache.Template;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class TokenTemplateCacheTest {
+
+    @Test
+    public void parse() {
+        Template template = TokenTemplateCache.parse("Hello ${name}, you have ${count} new ${name} messages");
+        assertTrue(template.isSimple());
+        assertFalse(template.isSingleToken());
+        assertEquals(7, template.getSegmentCount());
+        assertEquals("Hello ", template.getSegment(0));
+        assertEquals("name", template.getSegment(1));
+        assertEquals(", you have ", template.getSegment(2));
+        assertEquals("count", template.getSegment(3));
+        assertEquals(" messages", template.getSegment(6));
+        assertEquals(new HashSet<>(Arrays.asList("name", "count")), template.getTokens());
+
+        template = TokenTemplateCache.parse("${var}");
+        assertTrue(template.isSimple());
+        assertTrue(template.isSingleToken());
+
+        template = TokenTemplateCache.parse("no token here");
+        assertTrue(template.isSimple());
+        assertEquals(1, template.getSegmentCount());
+        assertTrue(template.getTokens().isEmpty());
+    }
+
+    @Test
+    public void parse_same_as_substringsBetween() {
+        String[] fixtures = {"${a}${b}", "$${a}{b}", "${a", "abc}${", "${x${a}}", "${}", "${a}[1] and ${b}"};
+        for (String fixture : fixtures) {
+            String[] expected = StringUtils.substringsBetween(fixture, "${", "}");
+            Template template = TokenTemplateCache.parse(fixture);
+            assertEquals(fixture, expected == null ? new HashSet<>() : new HashSet<>(Arrays.asList(expected)),
+                         template.getTokens());
+        }
+    }
+
+    @Test
+    public void parse_not_simple() {
+        assertFalse(TokenTemplateCache.parse("${list}[2]").isSimple());
+        assertFalse(TokenTemplateCache.parse("${x${a}}").isSimple());
+    }
+
+    @Test
+    public void resolve() {
+        TokenTemplateCache cache = TokenTemplateCache.getInstance();
+        long hits = cache.getHits();
+
+        Template template = cache.resolve("cache me ${if} you can");
+        assertSame(template, cache.resolve("cache me ${if} you can"));
+        assertEquals(hits + 1, cache.getHits());
+        assertTrue(StringUtils.contains(cache.summarize(), "hit rate"));
+    }
+}
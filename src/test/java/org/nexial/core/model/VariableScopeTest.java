@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class VariableScopeTest {
+    private static final String SYS_VAR = "nexial.test.variableScope";
+
+    private MockExecutionContext context1;
+    private MockExecutionContext context2;
+
+    @Before
+    public void init() {
+        System.setProperty(SYS_VAR, "7");
+        context1 = new MockExecutionContext();
+        context2 = new MockExecutionContext();
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(SYS_VAR);
+        if (context1 != null) { context1.cleanProject(); }
+        if (context2 != null) { context2.cleanProject(); }
+    }
+
+    @Test
+    public void override_without_leaking() {
+        // same variable defined as System property is overridden for `context1` only
+        context1.setData(SYS_VAR, 42);
+        assertEquals(42, context1.getIntData(SYS_VAR));
+        assertEquals(7, context2.getIntData(SYS_VAR));
+        assertEquals("7", System.getProperty(SYS_VAR));
+        assertEquals("42", context1.getDataByPrefix("nexial.test.").get("variableScope"));
+        assertEquals("7", context2.getDataByPrefix("nexial.test.").get("variableScope"));
+
+        // removal hides the System property for `context1` only
+        context1.removeDataForcefully(SYS_VAR);
+        assertFalse(context1.hasData(SYS_VAR));
+        assertFalse(context1.getDataNames("nexial.test.").contains(SYS_VAR));
+        assertTrue(context2.hasData(SYS_VAR));
+        assertTrue(context2.getDataNames("nexial.test.").contains(SYS_VAR));
+        assertEquals("7", System.getProperty(SYS_VAR));
+    }
+
+    @Test
+    public void override_text_without_leaking() {
+        // same as override_without_leaking(), but via the text variant of setData(), as used by most commands
+        context1.setData(SYS_VAR, "42");
+        assertEquals("42", context1.getStringData(SYS_VAR));
+        assertEquals("7", context2.getStringData(SYS_VAR));
+        assertEquals("7", System.getProperty(SYS_VAR));
+    }
+
+    @Test
+    public void carry_over_to_next_script() {
+        context1.setData(SYS_VAR, 42);
+
+        Map<String, String> exported = context1.scope.export();
+        VariableScope next = new VariableScope();
+        next.inherit(exported);
+        assertEquals("42", next.get(SYS_VAR));
+
+        context1.removeDataForcefully(SYS_VAR);
+        next = new VariableScope();
+        next.inherit(context1.scope.export());
+        assertNull(next.get(SYS_VAR));
+        assertEquals("7", new VariableScope().get(SYS_VAR));
+    }
+
+    @Test
+    public void parallel_scripts() throws Exception {
+        int threadCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        try {
+            Map<String, Future<String>> outcomes = new HashMap<>();
+            for (int i = 0; i < threadCount; i++) {
+                String value = "script" + i;
+                outcomes.put(value, executor.submit(() -> {
+                    // one scope per script thread, all overriding the same System property at the same time
+                    VariableScope scope = new VariableScope();
+                    scope.set(SYS_VAR, value);
+                    ready.countDown();
+                    ready.await();
+                    return scope.get(SYS_VAR);
+                }));
+            }
+
+            for (Map.Entry<String, Future<String>> outcome : outcomes.entrySet()) {
+                assertEquals(outcome.getKey(), outcome.getValue().get());
+            }
+            assertEquals("7", System.getProperty(SYS_VAR));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.base;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nexial.core.model.MockExecutionContext;
+import org.nexial.core.model.StepResult;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.*;
+
+public class CommandHandleTest {
+    private MockExecutionContext context;
+    private BaseCommand subject;
+
+    @Before
+    public void init() {
+        context = new MockExecutionContext();
+        subject = new BaseCommand();
+        subject.init(context);
+    }
+
+    @After
+    public void tearDown() {
+        if (context != null) { context.cleanProject(); }
+    }
+
+    @Test
+    public void execute() throws Exception {
+        context.setData("name", "Johnny");
+
+        StepResult result = subject.execute("save(var,value)", "greeting", "Hello ${name}");
+        assertTrue(result.isSuccess());
+        assertEquals("Hello Johnny", context.getStringData("greeting"));
+        assertArrayEquals(new Object[]{"greeting", "Hello Johnny"}, result.getParamValues());
+    }
+
+    @Test
+    public void execute_exception_wrapped() {
+        try {
+            subject.execute("save(var,value)", "", "value");
+            fail("expected failure due to invalid variable name");
+        } catch (InvocationTargetException e) {
+            // same as reflection: exception from command method is wrapped
+            assertNotNull(e.getCause());
+        } catch (IllegalAccessException e) {
+            fail("unexpected exception: " + e);
+        }
+    }
+
+    @Test
+    public void mismatched_params() {
+        try {
+            subject.execute("save(var,value)", "greeting");
+            fail("expected failure due to mismatched parameters");
+        } catch (AssertionError e) {
+            assertTrue(e.getMessage().contains("MISMATCHED parameters - base.save EXPECTS 2 but found 1"));
+        } catch (Exception e) {
+            fail("unexpected exception: " + e);
+        }
+    }
+
+    @Test
+    public void mismatched_arguments() throws Exception {
+        CommandHandle handle = new CommandHandle(subject, BaseCommand.class.getMethod("verbose", String.class));
+
+        // same as reflection: not reported as failure of the command method
+        try {
+            handle.invoke(new Object[]{42});
+            fail("expected failure due to argument type mismatch");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            handle.invoke(new Object[]{"hello", "world"});
+            fail("expected failure due to wrong number of arguments");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void dispatch_table() {
+        subject.prepareDispatch();
+        CommandHandle handle = subject.getCommandHandle("verbose(text)", "hello");
+        assertNotNull(handle);
+        assertEquals(1, handle.getParamCount());
+        assertTrue(handle.isCryptRestricted());
+        assertFalse(handle.isAutoFillParams());
+        assertEquals("verbose", handle.getMethod().getName());
+    }
+}
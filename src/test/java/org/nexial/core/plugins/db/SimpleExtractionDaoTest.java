@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.db;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/** copy of query result between 2 in-memory H2 databases via {@link SimpleExtractionDao#importRows} */
+public class SimpleExtractionDaoTest {
+    private static final String COLUMNS = "ID INTEGER, QTY BIGINT, PRICE DECIMAL(10,2), RATIO DOUBLE, " +
+                                          "ACTIVE BOOLEAN, NAME VARCHAR(50), BORN DATE, UPDATED TIMESTAMP, " +
+                                          "DATA VARBINARY(16)";
+    private static final int ROW_COUNT = 5;
+
+    private JdbcTemplate sourceJdbc;
+    private JdbcTemplate targetJdbc;
+    private SimpleExtractionDao target;
+
+    @Before
+    public void init() {
+        sourceJdbc = new JdbcTemplate(newDataSource("source"));
+        sourceJdbc.execute("CREATE TABLE SOURCE_DATA (" + COLUMNS + ")");
+        for (int i = 1; i <= ROW_COUNT; i++) {
+            if (i == 3) {
+                // all columns null, except ID
+                sourceJdbc.update("INSERT INTO SOURCE_DATA (ID) VALUES (?)", i);
+            } else {
+                sourceJdbc.update("INSERT INTO SOURCE_DATA VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                  i,
+                                  10_000_000_000L + i,
+                                  new BigDecimal(i + ".25"),
+                                  i / 8d,
+                                  i % 2 == 0,
+                                  "name " + i,
+                                  Date.valueOf("2020-01-0" + i),
+                                  Timestamp.valueOf("2021-02-0" + i + " 13:14:15.123"),
+                                  new byte[]{(byte) i, 0, (byte) 255});
+            }
+        }
+
+        target = new SimpleExtractionDao();
+        target.setDataSource(newDataSource("target"));
+        targetJdbc = target.getJdbcTemplate();
+    }
+
+    @After
+    public void cleanup() {
+        if (sourceJdbc != null) { sourceJdbc.execute("SHUTDOWN"); }
+        if (targetJdbc != null) { targetJdbc.execute("SHUTDOWN"); }
+    }
+
+    @Test
+    public void importRows_partial_last_batch() {
+        assertImported("COPY_BY_2", 2);
+    }
+
+    @Test
+    public void importRows_full_last_batch() {
+        assertImported("COPY_BY_5", ROW_COUNT);
+    }
+
+    @Test
+    public void importRows_single_batch() {
+        assertImported("COPY_BY_10", 10);
+    }
+
+    private void assertImported(String table, int batchSize) {
+        targetJdbc.execute("CREATE TABLE " + table + " (" + COLUMNS + ")");
+
+        JdbcResult result = new JdbcResult("SELECT * FROM SOURCE_DATA ORDER BY ID");
+        Integer imported = sourceJdbc.query(result.getSql(), rs -> {
+            Assert.assertTrue(rs.next());
+            return target.importRows(rs, target, new SqliteTableSqlGenerator(table), batchSize, result);
+        });
+
+        Assert.assertFalse(result.getError(), result.hasError());
+        Assert.assertEquals(Integer.valueOf(ROW_COUNT), imported);
+
+        List<Map<String, Object>> expected = sourceJdbc.queryForList("SELECT * FROM SOURCE_DATA ORDER BY ID");
+        List<Map<String, Object>> actual = targetJdbc.queryForList("SELECT * FROM " + table + " ORDER BY ID");
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Map<String, Object> expectedRow = expected.get(i);
+            Map<String, Object> actualRow = actual.get(i);
+            expectedRow.forEach((column, value) -> {
+                Object actualValue = actualRow.get(column);
+                if (value instanceof byte[]) {
+                    Assert.assertArrayEquals(column, (byte[]) value, (byte[]) actualValue);
+                } else {
+                    Assert.assertEquals(column, value, actualValue);
+                }
+            });
+        }
+    }
+
+    private static DriverManagerDataSource newDataSource(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.jms;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nexial.core.model.MockExecutionContext;
+
+import javax.jms.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.nexial.core.NexialConst.Jms.JMS_POOL_ENABLED;
+import static org.nexial.core.NexialConst.Jms.JMS_RECEIVE_UNTIL_WAIT_MS;
+import static org.nexial.core.NexialConst.MS_UNDEFINED;
+
+public class JmsClientTest {
+    // embedded, in-memory broker; started on first connection
+    private static final String BROKER_URL = "vm://nexial-test?broker.persistent=false&broker.useJmx=false";
+
+    private MockExecutionContext context;
+    private JmsClient client;
+
+    @Before
+    public void init() {
+        context = new MockExecutionContext();
+        client = new JmsClient();
+        client.setContext(context);
+    }
+
+    @After
+    public void tearDown() {
+        JmsConnectionPool.getInstance().forcefulTerminate();
+        if (context != null) { context.cleanProject(); }
+    }
+
+    @Test
+    public void sendAndReceive_reuse_connection() throws Exception {
+        JmsClientConfig config = newConfig("nexial.test.queue1");
+
+        assertEquals(3, client.sendObjects(config, Arrays.asList("one", "two", "three")));
+        client.send(config, null, "four");
+
+        assertEquals(Arrays.asList("one", "two", "three", "four"), client.receiveUntil(config, 10, 500, null));
+        assertNull(client.receive(config, 200));
+
+        // 1 transacted and 1 non-transacted session, each reused
+        String summary = JmsConnectionPool.getInstance().summarize();
+        assertTrue(summary,
+                   StringUtils.contains(summary, "activemq " + BROKER_URL + ": 4 request(s) over 2 session(s)"));
+        assertTrue(JmsConnectionPool.getInstance().mustForcefullyTerminate());
+    }
+
+    @Test
+    public void receiveUntil() throws Exception {
+        JmsClientConfig config = newConfig("nexial.test.queue2");
+        client.sendObjects(config, Arrays.asList("1", "2", "3", "4", "5"));
+
+        assertEquals(Arrays.asList("1", "2", "3"), client.receiveUntil(config, -1, 500, list -> list.contains("3")));
+        assertEquals(Collections.singletonList("4"), client.receiveUntil(config, 1, 500, null));
+        assertEquals(Collections.singletonList("5"), client.receiveUntil(config, 5, 200, null));
+        assertEquals(Collections.emptyList(), client.receiveUntil(config, 5, 200, null));
+    }
+
+    @Test
+    public void receiveUntil_default_wait() throws Exception {
+        context.setData(JMS_RECEIVE_UNTIL_WAIT_MS, 200);
+        JmsClientConfig config = newConfig("nexial.test.queue5");
+        client.sendObjects(config, Arrays.asList("1", "2"));
+
+        // condition never met and no wait time specified; should not block indefinitely
+        assertEquals(Arrays.asList("1", "2"),
+                     client.receiveUntil(config, -1, MS_UNDEFINED, list -> list.contains("3")));
+    }
+
+    @Test
+    public void sendObjects_all_or_none() throws Exception {
+        JmsClientConfig config = newConfig("nexial.test.queue3");
+
+        try {
+            client.sendObjects(config, Arrays.asList("a", null, "c"));
+            fail("expected failure not thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        assertNull(client.receive(config, 200));
+    }
+
+    @Test
+    public void without_pool() throws Exception {
+        context.setData(JMS_POOL_ENABLED, false);
+        JmsClientConfig config = newConfig("nexial.test.queue4");
+
+        // embedded broker stops when its last connection is closed; keep it alive in between steps
+        Connection keepAlive = config.createConnection();
+        try {
+            client.send(config, null, "hello");
+            assertEquals("hello", client.receive(config, 500));
+            assertEquals("", JmsConnectionPool.getInstance().summarize());
+        } finally {
+            keepAlive.close();
+        }
+    }
+
+    private static JmsClientConfig newConfig(String destination) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("provider", "activemq");
+        settings.put("url", BROKER_URL);
+        settings.put("destination", destination);
+
+        JmsClientConfig config = new ActiveMQJmsClientConfig();
+        config.init(settings);
+        return config;
+    }
+}
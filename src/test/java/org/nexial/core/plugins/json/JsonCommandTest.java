@@ -1084,4 +1084,35 @@ public class JsonCommandTest {
         Assert.assertTrue(compareResult.contains("\"actual\": \"value \\\"PWE Employee \\\" of type text\""));
     }
 
+    @Test
+    public void reuseParsedPayloadAndPath() {
+        JsonCommand fixture = new JsonCommand();
+        fixture.init(context);
+
+        String json = "{ \"orders\": [" +
+                      "  { \"id\": 1, \"status\": \"SHIPPED\", \"total\": 12.5 }," +
+                      "  { \"id\": 2, \"status\": \"PENDING\", \"total\": 7 }," +
+                      "  { \"id\": 3, \"status\": \"SHIPPED\", \"total\": 30 }" +
+                      "] }";
+
+        JsonCache cache = JsonCache.getInstance();
+        cache.clear();
+        long payloadMisses = cache.getPayloadMisses();
+        long payloadHits = cache.getPayloadHits();
+        long pathMisses = cache.getPathMisses();
+        long pathHits = cache.getPathHits();
+
+        Assert.assertTrue(fixture.assertValue(json, "orders[id=2].status", "PENDING").isSuccess());
+        Assert.assertTrue(fixture.assertElementCount(json, "orders[status=SHIPPED]", "2").isSuccess());
+        Assert.assertTrue(fixture.assertValue(json, "orders.total => sum", "49.5").isSuccess());
+        Assert.assertTrue(fixture.storeValue(json, "orders[id=2].status", "status").isSuccess());
+        Assert.assertEquals("PENDING", context.getStringData("status"));
+
+        // payload parsed once; 3 distinct paths
+        Assert.assertEquals(payloadMisses + 1, cache.getPayloadMisses());
+        Assert.assertEquals(payloadHits + 3, cache.getPayloadHits());
+        Assert.assertEquals(pathMisses + 3, cache.getPathMisses());
+        Assert.assertEquals(pathHits + 1, cache.getPathHits());
+    }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.pdf;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nexial.core.NexialTestUtils;
+import org.nexial.core.model.MockExecutionContext;
+
+import java.io.File;
+
+import static java.io.File.separator;
+import static org.junit.Assert.*;
+import static org.nexial.core.NexialConst.Pdf.PDF_CACHE_ENABLED;
+import static org.nexial.core.NexialConst.Pdf.PDF_PARALLEL_EXTRACT_PAGES;
+import static org.nexial.core.NexialConst.TEMP;
+
+public class PdfCommandTest {
+    private MockExecutionContext context;
+    private String pdf;
+
+    @Before
+    public void init() {
+        context = new MockExecutionContext();
+        pdf = NexialTestUtils.getResourceFile(getClass(), getClass().getSimpleName() + ".from.pdf").getAbsolutePath();
+        PdfCache.getInstance().clear();
+    }
+
+    @After
+    public void tearDown() {
+        PdfCache.getInstance().clear();
+        if (context != null) { context.cleanProject(); }
+    }
+
+    @Test
+    public void reuseExtractedText() throws Exception {
+        long misses = PdfCache.getInstance().getTextMisses();
+        long hits = PdfCache.getInstance().getTextHits();
+
+        String text = PdfTextExtractor.extractText(pdf, context);
+        assertNotNull(text);
+        assertEquals(text, PdfTextExtractor.extractText(pdf, context));
+        assertEquals(text, PdfTextExtractor.extractText(pdf, context));
+
+        assertEquals(misses + 1, PdfCache.getInstance().getTextMisses());
+        assertEquals(hits + 2, PdfCache.getInstance().getTextHits());
+    }
+
+    @Test
+    public void reextractModifiedFile() throws Exception {
+        File copy = new File(TEMP + "PdfCommandTest" + separator + "copy.pdf");
+        try {
+            FileUtils.copyFile(new File(pdf), copy);
+            String text = PdfTextExtractor.extractText(copy.getAbsolutePath(), context);
+
+            // same path, different content
+            String other = NexialTestUtils.getResourceFile(getClass(), getClass().getSimpleName() + ".to.pdf")
+                                          .getAbsolutePath();
+            FileUtils.copyFile(new File(other), copy);
+            assertTrue(copy.setLastModified(copy.lastModified() + 2000));
+
+            long misses = PdfCache.getInstance().getTextMisses();
+            assertEquals(PdfTextExtractor.extractText(other, context),
+                         PdfTextExtractor.extractText(copy.getAbsolutePath(), context));
+            assertEquals(misses + 2, PdfCache.getInstance().getTextMisses());
+            assertNotNull(text);
+        } finally {
+            FileUtils.deleteQuietly(copy.getParentFile());
+        }
+    }
+
+    @Test
+    public void parallelExtraction() throws Exception {
+        context.setData(PDF_CACHE_ENABLED, false);
+        long misses = PdfCache.getInstance().getTextMisses();
+        String sequential = PdfTextExtractor.extractText(pdf, context);
+
+        // pages split into multiple chunks, yet joined in page order
+        context.setData(PDF_PARALLEL_EXTRACT_PAGES, 1);
+        assertEquals(sequential, PdfTextExtractor.extractText(pdf, context));
+        assertEquals(misses, PdfCache.getInstance().getTextMisses());
+    }
+}
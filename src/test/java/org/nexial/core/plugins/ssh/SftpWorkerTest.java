@@ -0,0 +1,208 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.ssh;
+
+import com.jcraft.jsch.JSch;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.sshd.common.session.Session;
+import org.apache.sshd.common.session.SessionListener;
+import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.sftp.server.SftpSubsystemFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nexial.core.model.MockExecutionContext;
+import org.nexial.core.model.RemoteFileActionOutcome;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.io.File.separator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+import static org.nexial.core.NexialConst.Ssh.SFTP_PARALLEL_CHANNELS;
+import static org.nexial.core.NexialConst.Ssh.SSH_POOL_ENABLED;
+import static org.nexial.core.NexialConst.TEMP;
+import static org.nexial.core.model.RemoteFileActionOutcome.TransferAction.*;
+
+public class SftpWorkerTest {
+    private static final String PROFILE = "sftp1";
+
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private MockExecutionContext context;
+    private SshServer sshd;
+    private String testBase;
+    private File remoteRoot;
+    private File localDir;
+
+    @Before
+    public void init() throws Exception {
+        testBase = TEMP + "SftpWorkerTest" + separator;
+        remoteRoot = new File(testBase + "remote");
+        localDir = new File(testBase + "local");
+        FileUtils.forceMkdir(new File(remoteRoot, "upload"));
+        FileUtils.forceMkdir(localDir);
+
+        // in-process sftp server, serving files from `remoteRoot`
+        sshd = SshServer.setUpDefaultServer();
+        sshd.setPort(0);
+        sshd.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+        sshd.setPasswordAuthenticator((username, password, session) ->
+                                          "nexial".equals(username) && "s3cr3t".equals(password));
+        sshd.setSubsystemFactories(Collections.singletonList(new SftpSubsystemFactory()));
+        sshd.setFileSystemFactory(new VirtualFileSystemFactory(remoteRoot.toPath()));
+        sshd.addSessionListener(new SessionListener() {
+            @Override
+            public void sessionCreated(Session session) { sessionCount.incrementAndGet(); }
+        });
+        sshd.start();
+
+        context = new MockExecutionContext();
+        context.setData(PROFILE + ".username", "nexial");
+        context.setData(PROFILE + ".password", "s3cr3t");
+        context.setData(PROFILE + ".host", "localhost");
+        context.setData(PROFILE + ".port", sshd.getPort());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SshSessionPool.getInstance().forcefulTerminate();
+        if (sshd != null) { sshd.stop(true); }
+        if (testBase != null) { FileUtils.deleteQuietly(new File(testBase)); }
+        if (context != null) { context.cleanProject(); }
+    }
+
+    @Test
+    public void reuse_pooled_session() throws Exception {
+        File local = new File(localDir, "single.txt");
+        FileUtils.writeStringToFile(local, "hello sftp", UTF_8);
+
+        RemoteFileActionOutcome outcome = new SftpWorker(COPY_TO, "/upload", local.getAbsolutePath())
+                                              .doAction(resolveConnection(), context);
+        assertFalse(outcome.getErrors(), outcome.hasError());
+        assertEquals(DigestUtils.sha256Hex("hello sftp"), outcome.getChecksums().get("/upload/single.txt"));
+        assertEquals("hello sftp", FileUtils.readFileToString(new File(remoteRoot, "upload/single.txt"), UTF_8));
+
+        outcome = new SftpWorker(LIST, "/upload", null).doAction(resolveConnection(), context);
+        assertFalse(outcome.getErrors(), outcome.hasError());
+        assertTrue(outcome.getAffected().stream().anyMatch(file -> StringUtils.endsWith(file, "/single.txt")));
+
+        File downloaded = new File(localDir, "downloaded.txt");
+        outcome = new SftpWorker(COPY_FROM, "/upload/single.txt", downloaded.getAbsolutePath())
+                      .doAction(resolveConnection(), context);
+        assertFalse(outcome.getErrors(), outcome.hasError());
+        assertEquals("hello sftp", FileUtils.readFileToString(downloaded, UTF_8));
+
+        // all 3 actions over the same session
+        assertEquals(1, sessionCount.get());
+        assertTrue(StringUtils.contains(SshSessionPool.getInstance().summarize(), "3 request(s) over 1 session"));
+    }
+
+    @Test
+    public void without_pool() throws Exception {
+        context.setData(SSH_POOL_ENABLED, false);
+
+        assertFalse(new SftpWorker(LIST, "/upload", null).doAction(resolveConnection(), context).hasError());
+        assertFalse(new SftpWorker(LIST, "/upload", null).doAction(resolveConnection(), context).hasError());
+
+        assertEquals(2, sessionCount.get());
+        assertEquals("", SshSessionPool.getInstance().summarize());
+    }
+
+    @Test
+    public void parallel_transfers() throws Exception {
+        context.setData(SFTP_PARALLEL_CHANNELS, 3);
+
+        File uploadDir = new File(localDir, "toUpload");
+        for (int i = 1; i <= 7; i++) {
+            FileUtils.writeStringToFile(new File(uploadDir, "file" + i + ".txt"), StringUtils.repeat("data" + i, i * 1000),
+                                        UTF_8);
+        }
+
+        RemoteFileActionOutcome outcome =
+            new SftpWorker(COPY_TO, "/upload", uploadDir.getAbsolutePath() + separator + "*.txt")
+                .doAction(resolveConnection(), context);
+        assertFalse(outcome.getErrors(), outcome.hasError());
+        assertEquals(7, outcome.getAffected().size());
+        assertEquals(7, outcome.getChecksums().size());
+        for (int i = 1; i <= 7; i++) {
+            String content = StringUtils.repeat("data" + i, i * 1000);
+            assertEquals(content, FileUtils.readFileToString(new File(remoteRoot, "upload/file" + i + ".txt"), UTF_8));
+            assertEquals(DigestUtils.sha256Hex(content), outcome.getChecksums().get("/upload/file" + i + ".txt"));
+        }
+
+        File downloadDir = new File(localDir, "downloaded");
+        FileUtils.forceMkdir(downloadDir);
+        outcome = new SftpWorker(COPY_FROM, "/upload/*.txt", downloadDir.getAbsolutePath())
+                      .doAction(resolveConnection(), context);
+        assertFalse(outcome.getErrors(), outcome.hasError());
+        assertEquals(7, outcome.getChecksums().size());
+        for (int i = 1; i <= 7; i++) {
+            File file = new File(downloadDir, "file" + i + ".txt");
+            assertEquals(StringUtils.repeat("data" + i, i * 1000), FileUtils.readFileToString(file, UTF_8));
+            assertEquals(DigestUtils.sha256Hex(FileUtils.readFileToByteArray(file)),
+                         outcome.getChecksums().get("/upload/file" + i + ".txt"));
+        }
+
+        assertEquals(1, sessionCount.get());
+    }
+
+    @Test
+    public void invalidate_shared_session() throws Exception {
+        SshClientConnection connection = resolveConnection();
+        SshSessionPool pool = SshSessionPool.getInstance();
+        SshSessionPool.SessionFactory factory = profile -> {
+            com.jcraft.jsch.Session session = new JSch().getSession(profile.getUsername(),
+                                                                    profile.getHost(),
+                                                                    profile.getPort());
+            session.setConfig("StrictHostKeyChecking", "no");
+            session.setPassword(profile.getPassword());
+            session.connect();
+            return session;
+        };
+
+        // 2 steps sharing the same session
+        com.jcraft.jsch.Session session1 = pool.resolve(context, connection, factory);
+        com.jcraft.jsch.Session session2 = pool.resolve(context, connection, factory);
+        assertSame(session1, session2);
+
+        // first step gives up on the session; second step is not affected
+        assertTrue(pool.invalidate(session1));
+        assertTrue(session2.isConnected());
+
+        // subsequent step gets a new session
+        com.jcraft.jsch.Session session3 = pool.resolve(context, connection, factory);
+        assertNotSame(session1, session3);
+        assertEquals(2, sessionCount.get());
+
+        // invalidated session is disconnected once no longer in use
+        assertTrue(pool.release(session2));
+        assertFalse(session1.isConnected());
+        assertTrue(pool.release(session3));
+        assertTrue(session3.isConnected());
+    }
+
+    private SshClientConnection resolveConnection() throws Exception {
+        return SshClientConnection.resolveFrom(context, PROFILE);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.ws;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.nexial.core.model.MockExecutionContext;
+
+import static org.junit.Assert.*;
+import static org.nexial.core.NexialConst.Ws.WS_BASIC_PWD;
+import static org.nexial.core.NexialConst.Ws.WS_BASIC_USER;
+
+public class WebServiceClientPoolTest {
+    private MockExecutionContext context;
+
+    @Before
+    public void init() { context = new MockExecutionContext(); }
+
+    @After
+    public void tearDown() {
+        WebServiceClientPool.getInstance().forcefulTerminate();
+        if (context != null) { context.cleanProject(); }
+    }
+
+    @Test
+    public void resolvePoolProfile() {
+        GetRequest request = new GetRequest(context, "https://localhost:8443/api/v1", "a=b");
+
+        String profile = new WebServiceClient(context).resolvePoolProfile(request);
+        assertNotNull(profile);
+        assertTrue(StringUtils.startsWith(profile, "https://localhost:8443 [auth=none, "));
+        assertTrue(StringUtils.endsWith(profile, "]|"));
+
+        context.setData(WS_BASIC_USER, "johnny");
+        context.setData(WS_BASIC_PWD, "s3cr3t");
+        String profileWithAuth = new WebServiceClient(context).resolvePoolProfile(request);
+        assertNotNull(profileWithAuth);
+        assertNotEquals(profile, profileWithAuth);
+        assertTrue(StringUtils.startsWith(profileWithAuth, "https://localhost:8443 [auth=basic, "));
+        assertTrue(StringUtils.endsWith(profileWithAuth, "|johnny:s3cr3t"));
+
+        // different host, different profile
+        GetRequest request2 = new GetRequest(context, "https://localhost:9443/api/v1", "a=b");
+        assertNotEquals(profileWithAuth, new WebServiceClient(context).resolvePoolProfile(request2));
+    }
+
+    @Test
+    public void resolve_reuse_client() throws Exception {
+        WebServiceClientPool pool = WebServiceClientPool.getInstance();
+        SocketConfig socketConfig = SocketConfig.DEFAULT;
+
+        CloseableHttpClient client1 = pool.resolve(context, "http://localhost:80|", "http://localhost:80",
+                                                   socketConfig,
+                                                   connManager -> HttpClients.custom()
+                                                                             .setConnectionManager(connManager)
+                                                                             .build());
+        CloseableHttpClient client2 = pool.resolve(context, "http://localhost:80|", "http://localhost:80",
+                                                   socketConfig,
+                                                   connManager -> { throw new AssertionError("should reuse"); });
+        assertSame(client1, client2);
+        assertTrue(pool.isPooled(client1));
+        assertTrue(pool.mustForcefullyTerminate());
+
+        String summary = pool.summarize();
+        assertTrue(StringUtils.contains(summary, "http://localhost:80: 2 request(s) over 0 connection(s)"));
+
+        pool.forcefulTerminate();
+        assertFalse(pool.isPooled(client1));
+        assertEquals("", pool.summarize());
+    }
+}
@@ -1969,4 +1969,33 @@ public class XmlCommandTest {
         Assert.assertTrue(result.isSuccess());
     }
 
+    @Test
+    public void reuseParsedDocAndXPath() throws Exception {
+        XmlCommand fixture = new XmlCommand();
+        fixture.init(context);
+
+        XmlCache cache = XmlCache.getInstance();
+        cache.clear();
+        long docMisses = cache.getDocMisses();
+        long docHits = cache.getDocHits();
+        long xpathMisses = cache.getXPathMisses();
+
+        Assert.assertTrue(fixture.assertValue(xml, "/CATALOG/CD[1]/TITLE", "Empire Burlesque").isSuccess());
+        Assert.assertTrue(fixture.assertValue(xml, "/CATALOG/CD[2]/TITLE", "Eros").isSuccess());
+        Assert.assertTrue(fixture.assertElementCount(xml, "//CD", "2").isSuccess());
+        Assert.assertTrue(fixture.assertValue(xml, "/CATALOG/CD[1]/TITLE", "Empire Burlesque").isSuccess());
+
+        // parsed once, reused 3 times; 3 distinct xpath
+        Assert.assertEquals(docMisses + 1, cache.getDocMisses());
+        Assert.assertEquals(docHits + 3, cache.getDocHits());
+        Assert.assertEquals(xpathMisses + 3, cache.getXPathMisses());
+
+        // modification works on its own copy; cached document remains intact
+        Assert.assertTrue(fixture.replaceIn(xml, "/CATALOG/CD[1]/TITLE", "Highway 61", "modified").isSuccess());
+        Assert.assertTrue(StringUtils.contains(context.getStringData("modified"), "Highway 61"));
+        Assert.assertTrue(fixture.assertValue(xml, "/CATALOG/CD[1]/TITLE", "Empire Burlesque").isSuccess());
+        Assert.assertTrue(fixture.assertValue(context.getStringData("modified"), "/CATALOG/CD[1]/TITLE", "Highway 61")
+                                 .isSuccess());
+    }
+
 }
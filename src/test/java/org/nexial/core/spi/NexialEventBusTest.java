@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.spi;
+
+import org.junit.Test;
+import org.nexial.core.spi.NexialEventBus.OverflowPolicy;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.nexial.core.spi.NexialEventType.*;
+
+public class NexialEventBusTest {
+
+    @Test
+    public void fanOutToAllListeners() {
+        List<String> received1 = Collections.synchronizedList(new ArrayList<>());
+        List<String> received2 = Collections.synchronizedList(new ArrayList<>());
+        NexialEventBus bus = new NexialEventBus(Arrays.asList(newListener(received1, null),
+                                                              newListener(received2, null)),
+                                                true, 16, OverflowPolicy.block, 1);
+
+        bus.publish(new NexialExecutionEvent(StepStart));
+        bus.publish(new NexialExecutionEvent(StepSucceed));
+        bus.publish(new NexialExecutionEvent(ScriptEnd));
+        assertTrue(bus.flush(5000));
+
+        List<String> expected = Arrays.asList("onStepStart", "onStepSucceed", "onScriptEnd");
+        assertEquals(expected, received1);
+        assertEquals(expected, received2);
+        assertEquals(3, bus.getDispatched());
+        assertEquals(0, bus.getDropped());
+    }
+
+    @Test
+    public void synchronousDispatch() {
+        List<String> received = new ArrayList<>();
+        NexialEventBus bus = new NexialEventBus(Collections.singletonList(newListener(received, null)),
+                                                false, 16, OverflowPolicy.block, 1);
+
+        bus.publish(new NexialExecutionEvent(IterationEnd));
+        assertEquals(Collections.singletonList("onIterationEnd"), received);
+    }
+
+    @Test
+    public void dropWhenFull() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        NexialEventBus bus = new NexialEventBus(Collections.singletonList(newListener(received, release)),
+                                                true, 2, OverflowPolicy.drop, 1);
+
+        // first one is held by the listener, next 2 fill up the queue
+        for (int i = 0; i < 10; i++) { bus.publish(new NexialExecutionEvent(StepStart)); }
+        assertTrue(bus.getDropped() >= 7);
+
+        release.countDown();
+        assertTrue(bus.flush(5000));
+        assertEquals(10, bus.getDispatched() + bus.getDropped());
+    }
+
+    @Test
+    public void sampleHighFrequencyEventsOnly() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        NexialEventBus bus = new NexialEventBus(Collections.singletonList(newListener(received, release)),
+                                                true, 4, OverflowPolicy.sample, 1000);
+
+        for (int i = 0; i < 20; i++) { bus.publish(new NexialExecutionEvent(StepSucceed)); }
+        assertTrue(bus.getDropped() > 0);
+
+        // non-sampleable events are never sampled out
+        long dropped = bus.getDropped();
+        bus.publish(new NexialExecutionEvent(ScenarioEnd));
+        assertEquals(dropped, bus.getDropped());
+
+        release.countDown();
+        assertTrue(bus.flush(5000));
+        assertTrue(received.contains("onScenarioEnd"));
+    }
+
+    @Test
+    public void failingListener() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        NexialListener failing = (NexialListener) Proxy.newProxyInstance(
+            NexialListener.class.getClassLoader(),
+            new Class[]{NexialListener.class},
+            (proxy, method, args) -> { throw new IllegalStateException("bad listener"); });
+        NexialEventBus bus = new NexialEventBus(Arrays.asList(failing, newListener(received, null)),
+                                                true, 16, OverflowPolicy.block, 1);
+
+        bus.publish(new NexialExecutionEvent(StepFailed));
+        assertTrue(bus.flush(5000));
+        assertEquals(Collections.singletonList("onStepFailed"), received);
+        assertEquals(1, bus.getFailed());
+    }
+
+    /** listener that records the name of each callback; wait for {@code gate} (if any) before returning */
+    private static NexialListener newListener(List<String> received, CountDownLatch gate) {
+        return (NexialListener) Proxy.newProxyInstance(
+            NexialListener.class.getClassLoader(),
+            new Class[]{NexialListener.class},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) { return method.invoke(received, args); }
+                if (gate != null) { gate.await(5, TimeUnit.SECONDS); }
+                received.add(method.getName());
+                return null;
+            });
+    }
+}
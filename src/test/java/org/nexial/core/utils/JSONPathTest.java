@@ -989,12 +989,16 @@ public class JSONPathTest {
     private void testPathValue(JSONObject fixture, String path, String expected) {
         String testVal = JSONPath.find(fixture, path);
         Assert.assertEquals(expected, testVal);
+        // compiled form must yield the same outcome
+        Assert.assertEquals(expected, JSONPath.compile(path).find(fixture));
         System.out.println(StringUtils.rightPad("test passed - path:" + path + " =", 55) + testVal);
     }
 
     private void testPathValue(JSONArray fixture, String path, String expected) {
         String testVal = JSONPath.find(fixture, path);
         Assert.assertEquals(expected, testVal);
+        // compiled form must yield the same outcome
+        Assert.assertEquals(expected, JSONPath.compile(path).find(fixture));
         System.out.println(StringUtils.rightPad("test passed - path:" + path + " =", 55) + testVal);
     }
 
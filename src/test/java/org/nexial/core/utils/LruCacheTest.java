@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class LruCacheTest {
+
+    @Test
+    public void resolve() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        assertEquals("", cache.summarize("parsed"));
+
+        assertEquals("A", cache.resolve("a", () -> "A"));
+        assertEquals("B", cache.resolve("b", () -> "B"));
+        assertEquals("A", cache.resolve("a", () -> "not loaded"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        // least recently used one is evicted
+        assertEquals("C", cache.resolve("c", () -> "C"));
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals("A", cache.get("a"));
+
+        // null is never cached
+        assertNull(cache.resolve("d", () -> null));
+        assertNull(cache.get("d"));
+        assertEquals(2, cache.size());
+
+        assertEquals("parsed 4, reused 1 (20% hit rate)", cache.summarize("parsed"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void resolve_failed() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        try {
+            cache.resolve("a", () -> { throw new IOException("unable to load"); });
+            fail("expected exception not thrown");
+        } catch (IOException e) {
+            assertEquals("unable to load", e.getMessage());
+        }
+
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getMisses());
+    }
+}
@@ -73,6 +73,27 @@ public class ExpressionParserTest {
         assertEquals(fixture, expr.getOriginalExpression());
     }
 
+    @Test
+    public void parse_cached() throws Exception {
+        ExpressionParser subject = new ExpressionParser(context);
+        String fixture = "[LIST(a,b,c) => insert(1,x) join(-)]";
+
+        Expression expr1 = subject.parse(fixture);
+        long hits = ExpressionCache.getInstance().getHits();
+        Expression expr2 = subject.parse(fixture);
+        assertEquals(hits + 1, ExpressionCache.getInstance().getHits());
+
+        // same parsed structure, but separate runtime data and function chain
+        assertNotSame(expr1.getDataType(), expr2.getDataType());
+        assertNotSame(expr1.getFunctions().get(0).getParams(), expr2.getFunctions().get(0).getParams());
+        assertEquals(expr1.toString(), expr2.toString());
+        assertEquals(expr1.getOriginalExpression(), expr2.getOriginalExpression());
+
+        // non-expression is cached as such
+        assertNull(subject.parse("nothing to see here"));
+        assertNull(subject.parse("nothing to see here"));
+    }
+
     @Test
     public void parse_tight_space() throws Exception {
         ExpressionParser subject = new ExpressionParser(context);
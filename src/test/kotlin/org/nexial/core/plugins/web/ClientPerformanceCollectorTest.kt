@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * 	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.nexial.core.plugins.web
+
+import com.google.gson.JsonObject
+import org.apache.commons.io.FileUtils
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Before
+import org.junit.Test
+import org.nexial.core.NexialConst.GSON
+import org.nexial.core.utils.ExecUtils.createUniqueTempDir
+import java.io.File
+
+class ClientPerformanceCollectorTest {
+    private lateinit var outDir: File
+
+    @Before
+    fun setUp() {
+        outDir = createUniqueTempDir()
+    }
+
+    @After
+    fun tearDown() {
+        FileUtils.deleteQuietly(outDir)
+    }
+
+    @Test
+    fun assemble() {
+        val output = File(outDir, "browser-metrics.json")
+        File(outDir, "browser-metrics.jsonl").writeText(
+            """{"runID":"20210101_000000","project":"unittest","scripts":[],"browser":"chrome 90"}
+              |{"script":"script1","scenario":"Scenario1","activity":"login","step":{"row":"5"}}
+              |{"script":"script1","scenario":"Scenario1","activity":"login","step":{"row":"6"}}
+              |{"script":"script1","scenario":"Scenario2","activity":"search","step":{"row":"5"}}
+              |{"script":"script1","scenario":"Scenario1","activity":"logout","step":{"row":"9"}}
+              |
+              |{"script":"script2","step":{"row":"5"}}
+              |""".trimMargin())
+
+        ClientPerformanceCollector.assemble(output.absolutePath)
+
+        val execution = GSON.fromJson(output.readText(), JsonObject::class.java)
+        assertEquals("20210101_000000", execution["runID"].asString)
+        assertEquals("chrome 90", execution["browser"].asString)
+
+        val scripts = execution.getAsJsonArray("scripts")
+        assertEquals(2, scripts.size())
+
+        // children are kept in the order first seen, regardless of the order of records
+        val script1 = scripts[0].asJsonObject
+        assertEquals("script1", script1["name"].asString)
+        val scenarios = script1.getAsJsonArray("scenarios")
+        assertEquals(listOf("Scenario1", "Scenario2"), scenarios.map { it.asJsonObject["name"].asString })
+
+        val activities = scenarios[0].asJsonObject.getAsJsonArray("activities")
+        assertEquals(listOf("login", "logout"), activities.map { it.asJsonObject["name"].asString })
+        assertEquals(listOf("5", "6"),
+                     activities[0].asJsonObject.getAsJsonArray("steps").map { it.asJsonObject["row"].asString })
+
+        // no scenario or activity
+        val script2 = scripts[1].asJsonObject
+        val scenario = script2.getAsJsonArray("scenarios")[0].asJsonObject
+        assertEquals("", scenario["name"].asString)
+        val activity = scenario.getAsJsonArray("activities")[0].asJsonObject
+        assertEquals("", activity["name"].asString)
+        assertEquals(1, activity.getAsJsonArray("steps").size())
+    }
+
+    @Test
+    fun assemble_nothing_collected() {
+        val output = File(outDir, "browser-metrics.json")
+        ClientPerformanceCollector.assemble(output.absolutePath)
+        assertFalse(output.exists())
+    }
+}